@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -67,6 +70,11 @@ import java.util.List;
  */
 public class JSONStringer {
 
+  /**
+   * Number of characters after which the output data is flushed to the {@link #m_writer}, if any.
+   */
+  private static final int FLUSH_THRESHOLD = 8192;
+
   /** The output data, containing at most one top-level array or object. */
   @SuppressWarnings("squid:S00116")
   final StringBuilder out = new StringBuilder();
@@ -119,14 +127,35 @@ public class JSONStringer {
    */
   private final String m_indent;
 
+  /**
+   * The writer the output data is flushed to in chunks, or null to keep the whole output data in {@link #out}.
+   */
+  private final Writer m_writer;
+
+  /**
+   * Reusable buffer to copy the output data to the {@link #m_writer}.
+   */
+  private char[] m_flushBuffer;
+
   public JSONStringer() {
     m_indent = null;
+    m_writer = null;
   }
 
   JSONStringer(int indentSpaces) {
     char[] indentChars = new char[indentSpaces];
     Arrays.fill(indentChars, ' ');
     m_indent = new String(indentChars);
+    m_writer = null;
+  }
+
+  /**
+   * Creates a stringer which writes compact output data to the given writer, see {@link JSONObject#write(Writer)}.
+   * {@link IOException}s of the writer are thrown as {@link UncheckedIOException}.
+   */
+  JSONStringer(Writer writer) {
+    m_indent = null;
+    m_writer = writer;
   }
 
   /**
@@ -381,6 +410,7 @@ public class JSONStringer {
    * Inserts any necessary separators and whitespace before a name. Also adjusts the stack to expect the key's value.
    */
   private void beforeKey() {
+    flushIfNeeded();
     Scope context = peek();
     if (context == Scope.NONEMPTY_OBJECT) { // first in object
       out.append(',');
@@ -400,6 +430,7 @@ public class JSONStringer {
     if (m_stack.isEmpty()) {
       return;
     }
+    flushIfNeeded();
 
     Scope context = peek();
     if (context == Scope.EMPTY_ARRAY) { // first in array
@@ -419,6 +450,33 @@ public class JSONStringer {
     }
   }
 
+  private void flushIfNeeded() {
+    if (m_writer != null && out.length() >= FLUSH_THRESHOLD) {
+      flush();
+    }
+  }
+
+  /**
+   * Writes the output data collected so far to the writer, if any.
+   */
+  void flush() {
+    if (m_writer == null || out.length() == 0) {
+      return;
+    }
+    int length = out.length();
+    if (m_flushBuffer == null || m_flushBuffer.length < length) {
+      m_flushBuffer = new char[Math.max(length, FLUSH_THRESHOLD)];
+    }
+    out.getChars(0, length, m_flushBuffer, 0);
+    out.setLength(0);
+    try {
+      m_writer.write(m_flushBuffer, 0, length);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   /**
    * Returns the encoded JSON string.
    * <p>
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -957,6 +960,59 @@ public class JSONObjectTest extends TestCase {
     assertTrue(string, foobar.equals(string) || barfoo.equals(string));
   }
 
+  public void testWrite() throws IOException {
+    JSONObject object = new JSONObject();
+    object.put("foo", new JSONArray(Arrays.asList(5, "six\n")));
+    object.put("bar", new JSONObject());
+    StringWriter writer = new StringWriter();
+    object.write(writer);
+    assertEquals(object.toString(), writer.toString());
+  }
+
+  public void testWriteLarge() throws IOException {
+    JSONObject object = new JSONObject();
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 5000; i++) {
+      JSONObject row = new JSONObject();
+      row.put("id", i);
+      row.put("text", "row \"" + i + "\"");
+      row.put("cells", new JSONArray(Arrays.asList(i * 0.5, true, JSONObject.NULL)));
+      rows.put(row);
+    }
+    object.put("rows", rows);
+    StringWriter writer = new StringWriter();
+    object.write(writer);
+    assertEquals(object.toString(), writer.toString());
+    assertEquals(object.toString(), new JSONObject(writer.toString()).toString());
+  }
+
+  public void testWriteIOException() {
+    JSONObject object = new JSONObject();
+    object.put("foo", "bar");
+    final IOException exception = new IOException("closed");
+    Writer writer = new Writer() {
+      @Override
+      public void write(char[] cbuf, int off, int len) throws IOException {
+        throw exception;
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    try {
+      object.write(writer);
+      fail();
+    }
+    catch (IOException e) {
+      assertSame(exception, e);
+    }
+  }
+
   public void testNames() throws JSONException {
     JSONObject object = new JSONObject();
     object.put("foo", 5);
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractBooleanColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractIntegerColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractLongColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.ColumnarRowStore;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.ColumnarTableRow;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link AbstractTable} with {@link AbstractTable#getConfiguredColumnarRowStorage()}
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class ColumnarTableTest {
+
+  @Test
+  public void testValuesAreKeptInStore() {
+    P_Table table = createTable();
+    ITableRow row = table.getRow(1);
+    assertTrue(row instanceof ColumnarTableRow);
+    ColumnarRowStore store = ((ColumnarTableRow) row).getStore();
+    int slot = ((ColumnarTableRow) row).getSlot();
+    assertEquals(3, store.getRowCount());
+    assertTrue(store.isPrimitive(table.getIdColumn().getColumnIndex()));
+    assertTrue(store.isPrimitive(table.getAmountColumn().getColumnIndex()));
+
+    assertEquals(Long.valueOf(2), table.getIdColumn().getValue(row));
+    assertEquals(Integer.valueOf(5), table.getAmountColumn().getValue(row));
+    assertEquals(Boolean.FALSE, table.getActiveColumn().getValue(row));
+    assertEquals("b", table.getNameColumn().getValue(row));
+    assertEquals("b", row.getCell(table.getNameColumn()).getText());
+
+    table.getAmountColumn().setValue(row, 7);
+    assertEquals(Integer.valueOf(7), store.getValue(slot, table.getAmountColumn().getColumnIndex()));
+    assertEquals(Integer.valueOf(7), row.getCell(table.getAmountColumn()).getValue());
+    assertEquals(ITableRow.STATUS_UPDATED, row.getStatus());
+  }
+
+  @Test
+  public void testSort() {
+    P_Table table = createTable();
+    table.getColumnSet().setSortColumn(table.getAmountColumn(), true);
+    table.sort();
+    assertEquals(3L, table.getIdColumn().getValue(0).longValue());
+    assertEquals(2L, table.getIdColumn().getValue(1).longValue());
+    assertEquals(1L, table.getIdColumn().getValue(2).longValue());
+
+    table.getColumnSet().setSortColumn(table.getActiveColumn(), false);
+    table.sort();
+    assertEquals(Boolean.TRUE, table.getActiveColumn().getValue(0));
+    assertEquals(Boolean.FALSE, table.getActiveColumn().getValue(2));
+  }
+
+  @Test
+  public void testReplaceRows() {
+    P_Table table = createTable();
+    ITableRow row1 = table.getRowByKey(table.getRowKeys(table.getRow(0)));
+    ITableRow row2 = table.getRowByKey(table.getRowKeys(table.getRow(1)));
+
+    List<ITableRow> newRows = new ArrayList<>();
+    newRows.add(table.createRow(new Object[]{1L, 10, true, "a"}));
+    newRows.add(table.createRow(new Object[]{2L, 6, false, "b"}));
+    newRows.add(table.createRow(new Object[]{4L, 1, true, "d"}));
+    table.replaceRows(newRows);
+
+    assertEquals(3, table.getRowCount());
+    assertSame(row1, table.getRowByKey(newRows.get(0).getKeyValues()));
+    assertSame(row2, table.getRowByKey(newRows.get(1).getKeyValues()));
+    assertEquals(Integer.valueOf(10), table.getAmountColumn().getValue(row1));
+    assertEquals(Integer.valueOf(6), table.getAmountColumn().getValue(row2));
+    assertEquals("6", row2.getCell(table.getAmountColumn()).getText());
+    assertTrue(table.getRowByKey(newRows.get(2).getKeyValues()) instanceof ColumnarTableRow);
+    assertEquals(3, ((ColumnarTableRow) row1).getStore().getRowCount());
+  }
+
+  @Test
+  public void testRemovedRowKeepsValues() {
+    P_Table table = createTable();
+    ColumnarTableRow row = (ColumnarTableRow) table.getRow(2);
+    ColumnarRowStore store = row.getStore();
+    table.discardRow(row);
+
+    assertEquals(-1, row.getSlot());
+    assertEquals(2, store.getRowCount());
+    assertEquals(Long.valueOf(3), table.getIdColumn().getValue(row));
+    assertEquals(Integer.valueOf(1), row.getCell(table.getAmountColumn()).getValue());
+    assertEquals("c", row.getCellValue(table.getNameColumn().getColumnIndex()));
+  }
+
+  @Test
+  public void testRowFilter() {
+    P_Table table = createTable();
+    table.addRowFilter(row -> table.getActiveColumn().getValue(row).booleanValue());
+    List<ITableRow> rows = table.getFilteredRows();
+    assertEquals(2, rows.size());
+    assertEquals(Long.valueOf(1), table.getIdColumn().getValue(rows.get(0)));
+    assertEquals(Long.valueOf(3), table.getIdColumn().getValue(rows.get(1)));
+  }
+
+  @Test
+  public void testDisabledByDefault() {
+    TableSortLoadTest.P_Table table = new TableSortLoadTest.P_Table();
+    table.addRowsByMatrix(new Object[][]{{1L, "a"}});
+    assertFalse(table.getRow(0) instanceof ColumnarTableRow);
+  }
+
+  protected P_Table createTable() {
+    P_Table table = new P_Table();
+    table.init();
+    table.addRowsByMatrix(new Object[][]{
+        {1L, 10, true, "a"},
+        {2L, 5, false, "b"},
+        {3L, 1, true, "c"}}, ITableRow.STATUS_NON_CHANGED);
+    return table;
+  }
+
+  public static class P_Table extends AbstractTable {
+
+    @Override
+    protected boolean getConfiguredColumnarRowStorage() {
+      return true;
+    }
+
+    public IdColumn getIdColumn() {
+      return getColumnSet().getColumnByClass(IdColumn.class);
+    }
+
+    public AmountColumn getAmountColumn() {
+      return getColumnSet().getColumnByClass(AmountColumn.class);
+    }
+
+    public ActiveColumn getActiveColumn() {
+      return getColumnSet().getColumnByClass(ActiveColumn.class);
+    }
+
+    public NameColumn getNameColumn() {
+      return getColumnSet().getColumnByClass(NameColumn.class);
+    }
+
+    @Order(10)
+    public class IdColumn extends AbstractLongColumn {
+      @Override
+      protected boolean getConfiguredPrimaryKey() {
+        return true;
+      }
+    }
+
+    @Order(20)
+    public class AmountColumn extends AbstractIntegerColumn {
+    }
+
+    @Order(30)
+    public class ActiveColumn extends AbstractBooleanColumn {
+    }
+
+    @Order(40)
+    public class NameColumn extends AbstractStringColumn {
+    }
+  }
+}
@@ -25,6 +25,7 @@ import java.util.stream.Collectors;
 import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractIntegerColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.TableKeyIndex;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.classid.ClassId;
 import org.eclipse.scout.rt.platform.util.CompositeObject;
@@ -214,7 +215,7 @@ public class TableKeyTest {
     Field f = AbstractTable.class.getDeclaredField("m_rowsByKey");
     f.setAccessible(true);
     @SuppressWarnings("unchecked")
-    Map<CompositeObject, ITableRow> rows = (Map<CompositeObject, ITableRow>) f.get(table);
+    Map<CompositeObject, ITableRow> rows = ((TableKeyIndex<ITableRow>) f.get(table)).toMap();
     return rows.entrySet().stream().collect(Collectors.<Entry<CompositeObject, ITableRow>, CompositeObject, ITableRow> toMap(e -> e.getKey(), e -> e.getValue()));
   }
 
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractLongColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.TableRowSorter;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures sorting a large table by {@link TableRowComparator} and by {@link TableRowSorter}.
+ */
+@Category(ResourceIntensiveTest.class)
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class TableSortLoadTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TableSortLoadTest.class);
+
+  private static final int ROW_COUNT = 200_000;
+  private static final int RUN_COUNT = 5;
+
+  @Test
+  public void testSortByString() {
+    P_Table table = createTable();
+    table.getColumnSet().setSortColumn(table.getNameColumn(), true);
+    runLoad("string column", table);
+  }
+
+  @Test
+  public void testSortByLong() {
+    P_Table table = createTable();
+    table.getColumnSet().setSortColumn(table.getNumberColumn(), false);
+    runLoad("long column", table);
+  }
+
+  protected void runLoad(String name, P_Table table) {
+    Collection<IColumn<?>> columns = new LinkedHashSet<>(table.getColumnSet().getSortColumns());
+    columns.addAll(table.getColumnSet().getVisibleColumns());
+    List<ITableRow> rows = table.getRows();
+    for (int i = 0; i < RUN_COUNT; i++) {
+      List<ITableRow> list = new ArrayList<>(rows);
+      long t0 = System.nanoTime();
+      list.sort(new TableRowComparator(columns));
+      long t1 = System.nanoTime();
+
+      list = new ArrayList<>(rows);
+      long t2 = System.nanoTime();
+      new TableRowSorter(columns).sort(list);
+      long t3 = System.nanoTime();
+      LOG.info("Sort {} rows by {}: comparator {} ms, sorter {} ms", ROW_COUNT, name, TimeUnit.NANOSECONDS.toMillis(t1 - t0), TimeUnit.NANOSECONDS.toMillis(t3 - t2));
+    }
+  }
+
+  protected P_Table createTable() {
+    Random random = new Random(1);
+    Object[][] data = new Object[ROW_COUNT][];
+    for (int i = 0; i < ROW_COUNT; i++) {
+      data[i] = new Object[]{(long) random.nextInt(ROW_COUNT), "Name " + random.nextInt(ROW_COUNT)};
+    }
+    P_Table table = new P_Table();
+    table.addRowsByMatrix(data);
+    return table;
+  }
+
+  public static class P_Table extends AbstractTable {
+
+    public NumberColumn getNumberColumn() {
+      return getColumnSet().getColumnByClass(NumberColumn.class);
+    }
+
+    public NameColumn getNameColumn() {
+      return getColumnSet().getColumnByClass(NameColumn.class);
+    }
+
+    @Order(10)
+    public class NumberColumn extends AbstractLongColumn {
+    }
+
+    @Order(20)
+    public class NameColumn extends AbstractStringColumn {
+    }
+  }
+}
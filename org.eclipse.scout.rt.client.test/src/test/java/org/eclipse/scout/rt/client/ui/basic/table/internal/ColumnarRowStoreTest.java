@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ColumnarRowStore}
+ */
+public class ColumnarRowStoreTest {
+
+  @Test
+  public void testPrimitiveValues() {
+    ColumnarRowStore store = new ColumnarRowStore(Long.class, Integer.class, Double.class, Boolean.class, String.class);
+    int slot = store.allocateSlot();
+    store.setValue(slot, 0, 1L);
+    store.setValue(slot, 1, 2);
+    store.setValue(slot, 2, 3.5);
+    store.setValue(slot, 3, Boolean.TRUE);
+    store.setValue(slot, 4, "a");
+    assertEquals(1L, store.getValue(slot, 0));
+    assertEquals(2, store.getValue(slot, 1));
+    assertEquals(3.5, store.getValue(slot, 2));
+    assertEquals(Boolean.TRUE, store.getValue(slot, 3));
+    assertEquals("a", store.getValue(slot, 4));
+    for (int i = 0; i < 4; i++) {
+      assertTrue(store.isPrimitive(i));
+    }
+    assertFalse(store.isPrimitive(4));
+
+    assertTrue(store.isValueEqual(slot, 0, 1L));
+    assertFalse(store.isValueEqual(slot, 0, 1));
+    assertFalse(store.isValueEqual(slot, 0, null));
+    assertTrue(store.isValueEqual(slot, 2, 3.5));
+    assertFalse(store.isValueEqual(slot, 2, 3.25));
+
+    store.setValue(slot, 0, null);
+    assertNull(store.getValue(slot, 0));
+    assertTrue(store.isValueEqual(slot, 0, null));
+  }
+
+  @Test
+  public void testSlots() {
+    ColumnarRowStore store = new ColumnarRowStore(Long.class, String.class);
+    int[] slots = new int[100];
+    for (int i = 0; i < slots.length; i++) {
+      slots[i] = store.allocateSlot();
+      store.setValue(slots[i], 0, (long) i);
+      store.setValue(slots[i], 1, "v" + i);
+    }
+    assertEquals(100, store.getRowCount());
+    for (int i = 0; i < slots.length; i++) {
+      assertEquals((long) i, store.getValue(slots[i], 0));
+      assertEquals("v" + i, store.getValue(slots[i], 1));
+    }
+
+    store.releaseSlot(slots[10]);
+    assertEquals(99, store.getRowCount());
+    int slot = store.allocateSlot();
+    assertEquals(slots[10], slot);
+    assertNull(store.getValue(slot, 0));
+    assertNull(store.getValue(slot, 1));
+  }
+
+  @Test
+  public void testValueOfOtherType() {
+    ColumnarRowStore store = new ColumnarRowStore(Long.class);
+    int slot1 = store.allocateSlot();
+    int slot2 = store.allocateSlot();
+    store.setValue(slot1, 0, 1L);
+    store.setValue(slot2, 0, new BigDecimal("2"));
+    assertFalse(store.isPrimitive(0));
+    assertEquals(1L, store.getValue(slot1, 0));
+    assertEquals(new BigDecimal("2"), store.getValue(slot2, 0));
+    assertFalse(store.readLongKeys(0, new int[]{slot1, slot2}, new long[2], new boolean[2]));
+  }
+
+  @Test
+  public void testReadKeys() {
+    ColumnarRowStore store = new ColumnarRowStore(Long.class, Boolean.class, Double.class);
+    int[] slots = new int[3];
+    for (int i = 0; i < slots.length; i++) {
+      slots[i] = store.allocateSlot();
+    }
+    store.setValue(slots[0], 0, 5L);
+    store.setValue(slots[2], 0, -1L);
+    store.setValue(slots[0], 1, Boolean.TRUE);
+    store.setValue(slots[1], 1, Boolean.FALSE);
+    store.setValue(slots[1], 2, 0.5);
+
+    long[] keys = new long[3];
+    boolean[] nulls = new boolean[3];
+    assertTrue(store.readLongKeys(0, slots, keys, nulls));
+    assertEquals(5, keys[0]);
+    assertEquals(-1, keys[2]);
+    assertArrayEquals(new boolean[]{false, true, false}, nulls);
+
+    assertTrue(store.readLongKeys(1, slots, keys, nulls));
+    assertEquals(1, keys[0]);
+    assertEquals(0, keys[1]);
+    assertArrayEquals(new boolean[]{false, false, true}, nulls);
+
+    double[] doubleKeys = new double[3];
+    assertFalse(store.readLongKeys(2, slots, keys, nulls));
+    assertTrue(store.readDoubleKeys(2, slots, doubleKeys, nulls));
+    assertEquals(0.5, doubleKeys[1], 0);
+    assertArrayEquals(new boolean[]{true, false, true}, nulls);
+  }
+}
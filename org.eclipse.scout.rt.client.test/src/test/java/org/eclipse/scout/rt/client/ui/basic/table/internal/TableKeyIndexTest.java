@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.scout.rt.platform.util.CompositeObject;
+import org.junit.Test;
+
+/**
+ * Tests for {@link TableKeyIndex}
+ */
+public class TableKeyIndexTest {
+
+  @Test
+  public void testPrimitiveLongKeys() {
+    TableKeyIndex<String> index = new TableKeyIndex<>();
+    assertNull(index.put(Collections.singletonList(1L), "a"));
+    assertNull(index.put(Collections.singletonList(2L), "b"));
+    assertEquals("a", index.put(Collections.singletonList(1L), "c"));
+    assertTrue(index.isPrimitive());
+    assertEquals(2, index.size());
+    assertEquals("c", index.get(Collections.singletonList(1L)));
+    assertEquals("b", index.get(Collections.singletonList(2L)));
+    assertNull(index.get(Collections.singletonList(3L)));
+    assertNull(index.get(Collections.singletonList(1)));
+    assertNull(index.get(Collections.singletonList("1")));
+
+    assertEquals("c", index.remove(Collections.singletonList(1L)));
+    assertNull(index.remove(Collections.singletonList(1L)));
+    assertEquals(1, index.size());
+    assertTrue(index.isPrimitive());
+  }
+
+  @Test
+  public void testSwitchToMap() {
+    TableKeyIndex<String> index = new TableKeyIndex<>();
+    index.put(Collections.singletonList(1), "a");
+    index.put(Collections.singletonList(2), "b");
+    assertTrue(index.isPrimitive());
+
+    // integer and long keys are not equal as composite objects, hence they must not be mixed in the primitive table
+    index.put(Collections.singletonList(1L), "c");
+    assertFalse(index.isPrimitive());
+    assertEquals(3, index.size());
+    assertEquals("a", index.get(Collections.singletonList(1)));
+    assertEquals("b", index.get(Collections.singletonList(2)));
+    assertEquals("c", index.get(Collections.singletonList(1L)));
+
+    index.put(Arrays.asList(1, "x"), "d");
+    assertEquals("d", index.get(Arrays.asList(1, "x")));
+    assertEquals(4, index.size());
+
+    index.clear();
+    assertEquals(0, index.size());
+    assertTrue(index.isPrimitive());
+  }
+
+  @Test
+  public void testNullKeyAndValue() {
+    TableKeyIndex<String> index = new TableKeyIndex<>();
+    index.put(Collections.singletonList(1L), "a");
+    index.put(Collections.singletonList(2L), null);
+    assertFalse(index.isPrimitive());
+    assertEquals(2, index.size());
+    assertEquals("a", index.get(Collections.singletonList(1L)));
+
+    index.put(Collections.singletonList(null), "b");
+    assertEquals("b", index.get(Collections.singletonList(null)));
+  }
+
+  @Test
+  public void testRemoveValue() {
+    TableKeyIndex<String> index = new TableKeyIndex<>();
+    for (long i = 0; i < 100; i++) {
+      index.put(Collections.singletonList(i), "v" + i);
+    }
+    assertTrue(index.removeValue("v42"));
+    assertFalse(index.removeValue("v42"));
+    assertNull(index.get(Collections.singletonList(42L)));
+    assertEquals(99, index.size());
+    for (long i = 0; i < 100; i++) {
+      if (i != 42) {
+        assertEquals("v" + i, index.get(Collections.singletonList(i)));
+      }
+    }
+  }
+
+  @Test
+  public void testToMap() {
+    TableKeyIndex<String> index = new TableKeyIndex<>();
+    index.put(Collections.singletonList(1), "a");
+    index.put(Collections.singletonList(2), "b");
+    Map<CompositeObject, String> expected = new HashMap<>();
+    expected.put(new CompositeObject(1), "a");
+    expected.put(new CompositeObject(2), "b");
+    assertEquals(expected, index.toMap());
+  }
+
+  /**
+   * Compares random operations (with colliding keys) against a {@link HashMap}.
+   */
+  @Test
+  public void testRandomOperations() {
+    Random random = new Random(7);
+    TableKeyIndex<Long> index = new TableKeyIndex<>();
+    Map<CompositeObject, Long> reference = new HashMap<>();
+    for (int i = 0; i < 100_000; i++) {
+      long value = random.nextInt(1000) * (random.nextBoolean() ? 1L : 1L << 32);
+      List<?> keys = Collections.singletonList(value);
+      CompositeObject key = new CompositeObject(keys);
+      switch (random.nextInt(3)) {
+        case 0:
+          assertEquals(reference.put(key, value), index.put(keys, value));
+          break;
+        case 1:
+          assertEquals(reference.remove(key), index.remove(keys));
+          break;
+        default:
+          assertEquals(reference.get(key), index.get(keys));
+      }
+      assertEquals(reference.size(), index.size());
+    }
+    assertTrue(index.isPrimitive());
+    assertEquals(reference, index.toMap());
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.AbstractTable;
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.eclipse.scout.rt.client.ui.basic.table.TableRowComparator;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractBooleanColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractDateColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractIntegerColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractLongColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractObjectColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that {@link TableRowSorter} sorts in the same order as {@link TableRowComparator}.
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class TableRowSorterTest {
+
+  private static final String[] NAMES = {null, "", "anna", "Anna", "Ärger", "bob", "Bob", "zoe", "_x", " x", "-x"};
+
+  @Test
+  public void testSameOrderAsComparator() {
+    P_Table table = createTable(500, new Random(1));
+    List<ITableRow> rows = table.getRows();
+    for (IColumn<?> column : table.getColumns()) {
+      for (boolean ascending : new boolean[]{true, false}) {
+        table.getColumnSet().setSortColumn(column, ascending);
+        assertSameOrder(table, rows);
+      }
+    }
+  }
+
+  @Test
+  public void testMultipleSortColumns() {
+    P_Table table = createTable(500, new Random(2));
+    List<ITableRow> rows = table.getRows();
+    table.getColumnSet().setSortColumn(table.getBooleanColumn(), false);
+    table.getColumnSet().addSortColumn(table.getNameColumn(), true);
+    table.getColumnSet().addSortColumn(table.getCustomColumn(), false);
+    assertSameOrder(table, rows);
+
+    table.getColumnSet().setSortColumn(table.getCustomColumn(), true);
+    table.getColumnSet().addSortColumn(table.getDateColumn(), false);
+    assertSameOrder(table, rows);
+  }
+
+  @Test
+  public void testParallelSort() {
+    P_Table table = createTable(TableRowSorter.PARALLEL_THRESHOLD * 3, new Random(3));
+    List<ITableRow> rows = table.getRows();
+    table.getColumnSet().setSortColumn(table.getAmountColumn(), true);
+    assertSameOrder(table, rows);
+    table.getColumnSet().setSortColumn(table.getNameColumn(), false);
+    assertSameOrder(table, rows);
+  }
+
+  @Test
+  public void testTableSort() {
+    P_Table table = createTable(1000, new Random(4));
+    table.getColumnSet().setSortColumn(table.getIdColumn(), false);
+    table.sort();
+    List<ITableRow> rows = table.getRows();
+    for (int i = 0; i < rows.size(); i++) {
+      assertEquals(i, rows.get(i).getRowIndex());
+      if (i > 0) {
+        assertTrue(table.getIdColumn().getValue(rows.get(i - 1)) >= table.getIdColumn().getValue(rows.get(i)));
+      }
+    }
+  }
+
+  protected void assertSameOrder(P_Table table, List<ITableRow> rows) {
+    Collection<IColumn<?>> columns = new LinkedHashSet<>(table.getColumnSet().getSortColumns());
+    columns.addAll(table.getColumnSet().getVisibleColumns());
+
+    List<ITableRow> expected = new ArrayList<>(rows);
+    expected.sort(new TableRowComparator(columns));
+    List<ITableRow> actual = new ArrayList<>(rows);
+    new TableRowSorter(columns).sort(actual);
+    assertEquals(expected, actual);
+  }
+
+  protected P_Table createTable(int rowCount, Random random) {
+    P_Table table = new P_Table();
+    Object[][] data = new Object[rowCount][];
+    for (int i = 0; i < rowCount; i++) {
+      data[i] = new Object[]{
+          (long) random.nextInt(rowCount / 4 + 1),
+          NAMES[random.nextInt(NAMES.length)],
+          random.nextInt(10) == 0 ? null : random.nextInt(5) * 0.5,
+          random.nextInt(10) == 0 ? null : new Date(random.nextInt(20) * 1000L),
+          random.nextBoolean(),
+          random.nextInt(7)};
+    }
+    table.addRowsByMatrix(data);
+    return table;
+  }
+
+  public static class P_Table extends AbstractTable {
+
+    public IdColumn getIdColumn() {
+      return getColumnSet().getColumnByClass(IdColumn.class);
+    }
+
+    public NameColumn getNameColumn() {
+      return getColumnSet().getColumnByClass(NameColumn.class);
+    }
+
+    public AmountColumn getAmountColumn() {
+      return getColumnSet().getColumnByClass(AmountColumn.class);
+    }
+
+    public DateColumn getDateColumn() {
+      return getColumnSet().getColumnByClass(DateColumn.class);
+    }
+
+    public BooleanColumn getBooleanColumn() {
+      return getColumnSet().getColumnByClass(BooleanColumn.class);
+    }
+
+    public CustomColumn getCustomColumn() {
+      return getColumnSet().getColumnByClass(CustomColumn.class);
+    }
+
+    @Order(10)
+    public class IdColumn extends AbstractLongColumn {
+    }
+
+    @Order(20)
+    public class NameColumn extends AbstractStringColumn {
+    }
+
+    @Order(30)
+    public class AmountColumn extends AbstractObjectColumn {
+    }
+
+    @Order(40)
+    public class DateColumn extends AbstractDateColumn {
+    }
+
+    @Order(50)
+    public class BooleanColumn extends AbstractBooleanColumn {
+    }
+
+    @Order(60)
+    public class CustomColumn extends AbstractIntegerColumn {
+
+      @Override
+      public int compareTableRows(ITableRow r1, ITableRow r2) {
+        // odd values first
+        Integer v1 = getValue(r1);
+        Integer v2 = getValue(r2);
+        return Integer.compare(v2 % 2, v1 % 2);
+      }
+    }
+  }
+}
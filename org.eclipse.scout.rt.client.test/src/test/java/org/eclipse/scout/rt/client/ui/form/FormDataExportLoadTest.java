@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+
+package org.eclipse.scout.rt.client.ui.form;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.client.dto.FormData;
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
+import org.eclipse.scout.rt.platform.classid.ClassId;
+import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractFormFieldData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractValueFieldData;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.eclipse.scout.testing.client.form.DynamicCancelButton;
+import org.eclipse.scout.testing.client.form.DynamicForm;
+import org.eclipse.scout.testing.client.form.DynamicGroupBox;
+import org.eclipse.scout.testing.client.form.DynamicStringField;
+import org.eclipse.scout.testing.client.form.FormHandler;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures {@link AbstractForm#exportFormData(AbstractFormData)} of a form with 200 value fields, each having a
+ * {@link FormData} property. Besides the field values, the export reads and writes the bean properties of every field
+ * by {@link org.eclipse.scout.rt.platform.util.BeanUtility}.
+ */
+@Category(ResourceIntensiveTest.class)
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class FormDataExportLoadTest {
+  private static final Logger LOG = LoggerFactory.getLogger(FormDataExportLoadTest.class);
+
+  private static final int FIELD_COUNT = 200;
+  private static final int WARMUP_COUNT = 2_000;
+  private static final int COUNT = 10_000;
+
+  @Test
+  public void testExportFormData() {
+    IFormField[] fields = new IFormField[FIELD_COUNT + 1];
+    for (int i = 0; i < FIELD_COUNT; i++) {
+      fields[i] = new LoadTestField(fieldId(i));
+    }
+    fields[FIELD_COUNT] = new DynamicCancelButton();
+    DynamicForm form = new DynamicForm("Form", new DynamicGroupBox(fields));
+    form.start(new FormHandler());
+    try {
+      LoadTestField lastField = (LoadTestField) fields[FIELD_COUNT - 1];
+      lastField.setValue("value");
+      lastField.setCode("code");
+      for (int i = 0; i < WARMUP_COUNT; i++) {
+        form.exportFormData(new LoadTestFormData());
+      }
+      long t0 = System.nanoTime();
+      for (int i = 0; i < COUNT; i++) {
+        form.exportFormData(new LoadTestFormData());
+      }
+      long t1 = System.nanoTime();
+      LOG.info("Form.exportFormData: {} exports in {} ms ({} us/export)", COUNT, TimeUnit.NANOSECONDS.toMillis(t1 - t0), TimeUnit.NANOSECONDS.toMicros(t1 - t0) / COUNT);
+
+      LoadTestFormData formData = new LoadTestFormData();
+      form.exportFormData(formData);
+      LoadTestFieldData lastFieldData = formData.getField(fieldId(FIELD_COUNT - 1));
+      assertEquals("value", lastFieldData.getValue());
+      assertEquals("code", lastFieldData.getCode());
+    }
+    finally {
+      form.doClose();
+    }
+  }
+
+  private static String fieldId(int index) {
+    return String.format("Field%03d", index + 1);
+  }
+
+  @ClassId("9d0e5d3b-5b1f-4a57-9a43-6a3c2f1e8b24")
+  public static class LoadTestField extends DynamicStringField {
+    private String m_code;
+
+    public LoadTestField(String id) {
+      super(id, id);
+    }
+
+    @FormData
+    public String getCode() {
+      return m_code;
+    }
+
+    @FormData
+    public void setCode(String code) {
+      m_code = code;
+    }
+  }
+
+  public static class LoadTestFieldData extends AbstractValueFieldData<String> {
+    private static final long serialVersionUID = 1L;
+    private final String m_fieldId;
+    private String m_code;
+
+    public LoadTestFieldData(String fieldId) {
+      m_fieldId = fieldId;
+    }
+
+    @Override
+    public String getFieldId() {
+      return m_fieldId;
+    }
+
+    public String getCode() {
+      return m_code;
+    }
+
+    public void setCode(String code) {
+      m_code = code;
+    }
+  }
+
+  /**
+   * Form data whose field datas are created in a loop instead of being declared as inner classes.
+   */
+  public static class LoadTestFormData extends AbstractFormData {
+    private static final long serialVersionUID = 1L;
+    private final Map<String, AbstractFormFieldData> m_fields = new LinkedHashMap<>();
+
+    public LoadTestFormData() {
+      for (int i = 0; i < FIELD_COUNT; i++) {
+        String id = fieldId(i);
+        m_fields.put(id, new LoadTestFieldData(id));
+      }
+    }
+
+    public LoadTestFieldData getField(String id) {
+      return (LoadTestFieldData) m_fields.get(id);
+    }
+
+    @Override
+    public Map<Integer, Map<String, AbstractFormFieldData>> getAllFieldsRec() {
+      return Collections.singletonMap(0, m_fields);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.form;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CompactPropertyStorageProperty;
+import org.eclipse.scout.rt.platform.reflect.BasicPropertySupport;
+import org.eclipse.scout.rt.platform.reflect.CompactPropertyMap;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.eclipse.scout.testing.client.form.DynamicCancelButton;
+import org.eclipse.scout.testing.client.form.DynamicForm;
+import org.eclipse.scout.testing.client.form.DynamicGroupBox;
+import org.eclipse.scout.testing.client.form.DynamicStringField;
+import org.eclipse.scout.testing.client.form.FormHandler;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the heap used by the forms of a typical desktop session (20 open forms with 200 fields each) with and
+ * without {@link CompactPropertyMap}.
+ */
+@Category(ResourceIntensiveTest.class)
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class PropertyStorageMemoryLoadTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PropertyStorageMemoryLoadTest.class);
+
+  private static final int FORM_COUNT = 20;
+  private static final int FIELD_COUNT = 200;
+
+  @Test
+  public void testWithHashMap() {
+    runLoad("hash map");
+  }
+
+  @Test
+  public void testWithCompactPropertyMap() {
+    IBean<?> bean = BeanTestingHelper.get().mockConfigProperty(CompactPropertyStorageProperty.class, true);
+    BasicPropertySupport.resetCompactStorageEnabled();
+    try {
+      runLoad("compact property map");
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(bean);
+      BasicPropertySupport.resetCompactStorageEnabled();
+    }
+  }
+
+  protected void runLoad(String name) {
+    // warm up (class loading, layouts)
+    closeForms(createForms());
+
+    long before = usedHeap();
+    List<DynamicForm> forms = createForms();
+    long after = usedHeap();
+    LOG.info("Forms with {}: {} forms with {} fields use {} KB ({} bytes/field)", name, FORM_COUNT, FIELD_COUNT,
+        (after - before) / 1024, (after - before) / (FORM_COUNT * FIELD_COUNT));
+    closeForms(forms);
+  }
+
+  protected List<DynamicForm> createForms() {
+    List<DynamicForm> forms = new ArrayList<>();
+    for (int i = 0; i < FORM_COUNT; i++) {
+      IFormField[] fields = new IFormField[FIELD_COUNT + 1];
+      for (int j = 0; j < FIELD_COUNT; j++) {
+        fields[j] = new DynamicStringField("Field" + j, "Field " + j);
+      }
+      fields[FIELD_COUNT] = new DynamicCancelButton();
+      DynamicForm form = new DynamicForm("Form " + i, new DynamicGroupBox(fields));
+      form.start(new FormHandler());
+      forms.add(form);
+    }
+    return forms;
+  }
+
+  protected void closeForms(List<DynamicForm> forms) {
+    for (DynamicForm form : forms) {
+      form.doClose();
+    }
+  }
+
+  protected static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
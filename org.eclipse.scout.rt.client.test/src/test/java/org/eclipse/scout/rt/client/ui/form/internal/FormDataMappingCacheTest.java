@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.form.internal;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
+import org.eclipse.scout.rt.platform.classid.ClassId;
+import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
+import org.eclipse.scout.rt.shared.data.form.properties.AbstractPropertyData;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.testing.client.form.DynamicCancelButton;
+import org.eclipse.scout.testing.client.form.DynamicForm;
+import org.eclipse.scout.testing.client.form.DynamicGroupBox;
+import org.eclipse.scout.testing.client.form.DynamicStringField;
+import org.eclipse.scout.testing.client.form.FormHandler;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link FormDataMappingCache}
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class FormDataMappingCacheTest {
+
+  @Test
+  public void testFindFieldOnFormsOfSameClass() {
+    FormDataMappingCache cache = new FormDataMappingCache();
+    DynamicStringField firstField1 = new DynamicStringField("FirstField", "First");
+    DynamicStringField secondField1 = new DynamicStringField("SecondField", "Second");
+    DynamicForm form1 = createForm(firstField1, secondField1);
+    DynamicStringField secondField2 = new DynamicStringField("SecondField", "Second");
+    DynamicStringField firstField2 = new DynamicStringField("FirstField", "First");
+    DynamicForm form2 = createForm(secondField2, firstField2);
+    DynamicStringField secondField3 = new DynamicStringField("SecondField", "Second");
+    DynamicForm form3 = createForm(secondField3);
+    try {
+      assertSame(secondField1, cache.findField(form1, "Second"));
+      assertSame(secondField1, cache.findField(form1, "Second"));
+      // same class but other field tree
+      assertSame(secondField2, cache.findField(form2, "Second"));
+      assertSame(firstField2, cache.findField(form2, "First"));
+      assertSame(secondField3, cache.findField(form3, "Second"));
+      assertNull(cache.findField(form3, "First"));
+      assertSame(firstField1, cache.findField(form1, "First"));
+      assertSame(secondField1, cache.findField(form1, "Second"));
+    }
+    finally {
+      form1.doClose();
+      form2.doClose();
+      form3.doClose();
+    }
+  }
+
+  @Test
+  public void testFindFieldInOtherContainer() {
+    FormDataMappingCache cache = new FormDataMappingCache();
+    DynamicStringField field1 = new DynamicStringField("SecondField", "Second");
+    DynamicForm form1 = createForm(new FirstBox(field1));
+    // same class, same field path, but the field at that path is in another container
+    DynamicStringField otherField2 = new DynamicStringField("SecondField", "Second");
+    DynamicStringField field2 = new DynamicStringField("SecondField", "Second");
+    DynamicForm form2 = createForm(new SecondBox(otherField2), new FirstBox(field2));
+    try {
+      assertSame(field1, cache.findField(form1, "FirstBox/Second"));
+      assertSame(field2, cache.findField(form2, "FirstBox/Second"));
+      assertSame(field1, cache.findField(form1, "FirstBox/Second"));
+    }
+    finally {
+      form1.doClose();
+      form2.doClose();
+    }
+  }
+
+  @Test
+  public void testPropertyMapping() {
+    FormDataMappingCache cache = new FormDataMappingCache();
+    FormDataPropertyMapping mapping = cache.getPropertyMapping(Source.class, Object.class, Target.class, new FormDataPropertyFilter());
+    assertSame(mapping, cache.getPropertyMapping(Source.class, Object.class, Target.class, new FormDataPropertyFilter()));
+    assertNotSame(mapping, cache.getPropertyMapping(Source.class, Object.class, Target.class, descriptor -> true));
+
+    Source source = new Source();
+    source.setText("text");
+    source.setCount(3);
+    Target target = new Target();
+    mapping.copy(source, target);
+    assertEquals("text", target.getText());
+    assertEquals(Long.valueOf(3), target.getCount());
+  }
+
+  @Test
+  public void testPropertyMappingSkipsUnsetProperties() {
+    FormDataMappingCache cache = new FormDataMappingCache();
+    SourceFormData formData = new SourceFormData();
+    formData.setText("text");
+    Source target = new Source();
+    target.setCount(7);
+    cache.getPropertyMapping(SourceFormData.class, AbstractFormData.class, Source.class, new FormDataPropertyFilter()).copy(formData, target, formData);
+    assertEquals("text", target.getText());
+    assertEquals(7, target.getCount());
+  }
+
+  private static DynamicForm createForm(IFormField... fields) {
+    IFormField[] allFields = new IFormField[fields.length + 1];
+    System.arraycopy(fields, 0, allFields, 0, fields.length);
+    allFields[fields.length] = new DynamicCancelButton();
+    DynamicForm form = new DynamicForm("Form", new DynamicGroupBox(allFields));
+    form.start(new FormHandler());
+    return form;
+  }
+
+  @ClassId("50a46546-7b4a-47e7-ab67-057ab4795dfa")
+  public static class FirstBox extends DynamicGroupBox {
+    public FirstBox(IFormField... fields) {
+      super(fields);
+    }
+  }
+
+  @ClassId("3e5fdd63-b75e-4f02-ae30-029576624153")
+  public static class SecondBox extends DynamicGroupBox {
+    public SecondBox(IFormField... fields) {
+      super(fields);
+    }
+  }
+
+  public static class Source {
+    private String m_text;
+    private int m_count;
+
+    public String getText() {
+      return m_text;
+    }
+
+    public void setText(String text) {
+      m_text = text;
+    }
+
+    public int getCount() {
+      return m_count;
+    }
+
+    public void setCount(int count) {
+      m_count = count;
+    }
+  }
+
+  public static class Target {
+    private String m_text;
+    private Long m_count;
+
+    public String getText() {
+      return m_text;
+    }
+
+    public void setText(String text) {
+      m_text = text;
+    }
+
+    public Long getCount() {
+      return m_count;
+    }
+
+    public void setCount(Long count) {
+      m_count = count;
+    }
+  }
+
+  public static class SourceFormData extends AbstractFormData {
+    private static final long serialVersionUID = 1L;
+
+    public class TextProperty extends AbstractPropertyData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public class CountProperty extends AbstractPropertyData<Integer> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public TextProperty getTextProperty() {
+      return getPropertyByClass(TextProperty.class);
+    }
+
+    public CountProperty getCountProperty() {
+      return getPropertyByClass(CountProperty.class);
+    }
+
+    public String getText() {
+      return getTextProperty().getValue();
+    }
+
+    public void setText(String text) {
+      getTextProperty().setValue(text);
+    }
+
+    public int getCount() {
+      return getCountProperty().getValue() == null ? 0 : getCountProperty().getValue();
+    }
+
+    public void setCount(int count) {
+      getCountProperty().setValue(count);
+    }
+  }
+}
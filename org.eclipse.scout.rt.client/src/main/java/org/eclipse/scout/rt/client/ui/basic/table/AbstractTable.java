@@ -78,7 +78,10 @@ import org.eclipse.scout.rt.client.ui.basic.table.controls.ITableControl;
 import org.eclipse.scout.rt.client.ui.basic.table.customizer.ITableCustomizer;
 import org.eclipse.scout.rt.client.ui.basic.table.customizer.ITableCustomizerProvider;
 import org.eclipse.scout.rt.client.ui.basic.table.customizer.NullTableCustomizerProvider;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.ColumnarRowStore;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.ColumnarTableRow;
 import org.eclipse.scout.rt.client.ui.basic.table.internal.InternalTableRow;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.TableKeyIndex;
 import org.eclipse.scout.rt.client.ui.basic.table.menus.OrganizeColumnsMenu;
 import org.eclipse.scout.rt.client.ui.basic.table.organizer.ITableOrganizer;
 import org.eclipse.scout.rt.client.ui.basic.table.organizer.ITableOrganizerProvider;
@@ -164,7 +167,8 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   private List<ITableRow> m_rows; // synchronized list
   private List<ITableRow> m_rootRows; // synchronized list
   private final Object m_cachedRowsLock;
-  private final Map<CompositeObject, ITableRow> m_rowsByKey;
+  private final TableKeyIndex<ITableRow> m_rowsByKey; // synchronized on itself
+  private ColumnarRowStore m_columnarRowStore;
   private final Map<CompositeObject, ITableRow> m_deletedRows;
   private final List<ITableRowFilter> m_rowFilters;
   private final AttachmentSupport m_attachmentSupport;
@@ -217,7 +221,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     m_cachedFilteredRowsLock = new Object();
     m_rows = Collections.synchronizedList(new ArrayList<>(1));
     m_rootRows = Collections.synchronizedList(new ArrayList<>(1));
-    m_rowsByKey = Collections.synchronizedMap(new HashMap<>());
+    m_rowsByKey = new TableKeyIndex<>();
     m_deletedRows = new HashMap<>();
     m_rowFilters = new ArrayList<>(1);
     m_attachmentSupport = BEANS.get(AttachmentSupport.class);
@@ -551,6 +555,25 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     return null;
   }
 
+  /**
+   * Configures whether the cell values of the rows are kept column-wise in a {@link ColumnarRowStore} instead of in the
+   * cells of each row. {@link Long}, {@link Integer}, {@link Double} and {@link Boolean} values are then kept unboxed,
+   * sorting reads them directly from the column arrays and {@link #replaceRows(List)} does not parse values again which
+   * are equal to the current ones.
+   * <p>
+   * The rows remain regular {@link ITableRow} instances with a stable identity. Use this property for large tables
+   * with mainly numeric columns.
+   * <p>
+   * Subclasses can override this method. Default is {@code false}.
+   *
+   * @return {@code true} if the cell values are kept column-wise, {@code false} otherwise.
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(104)
+  protected boolean getConfiguredColumnarRowStorage() {
+    return false;
+  }
+
   /**
    * Configures the maximum size for a drop request (in bytes).
    * <p>
@@ -1263,6 +1286,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     ExtensionUtility.moveModelObjects(columns);
 
     m_columnSet = new ColumnSet(this, columns.getOrderedList());
+    m_columnarRowStore = getConfiguredColumnarRowStorage() ? new ColumnarRowStore(m_columnSet) : null;
     if (getConfiguredCheckableColumn() != null) {
       AbstractBooleanColumn checkableColumn = getColumnSet().getColumnByClass(getConfiguredCheckableColumn());
       setCheckableColumn(checkableColumn);
@@ -2321,14 +2345,14 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       int[] newToOld = new int[newRows.size()];
       Arrays.fill(oldToNew, -1);
       Arrays.fill(newToOld, -1);
-      Map<CompositeObject, Integer> newRowIndexMap = new HashMap<>();
+      TableKeyIndex<Integer> newRowIndexMap = new TableKeyIndex<>();
       for (int i = newRows.size() - 1; i >= 0; i--) {
-        newRowIndexMap.put(new CompositeObject(getRowKeys(newRows.get(i))), i);
+        newRowIndexMap.put(getRowKeys(newRows.get(i)), i);
       }
       int mappedCount = 0;
       for (int i = 0, ni = getRowCount(); i < ni; i++) {
         ITableRow existingRow = m_rows.get(i);
-        Integer newIndex = newRowIndexMap.remove(new CompositeObject(getRowKeys(existingRow)));
+        Integer newIndex = newRowIndexMap.remove(getRowKeys(existingRow));
         if (newIndex != null) {
           oldToNew[i] = newIndex.intValue();
           newToOld[newIndex.intValue()] = i;
@@ -2391,6 +2415,9 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
           newValue = newRow.getCellValue(columnIndex);
         }
 
+        if (isColumnarValueUnchanged(existingRow, columnIndex, newValue)) {
+          continue;
+        }
         col.parseValueAndSet(existingRow, newValue);
       }
     }
@@ -2400,6 +2427,17 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     }
   }
 
+  /**
+   * @return {@code true} if the row is kept in the columnar row store and the value of the cell is equal to the given
+   *         value and valid
+   */
+  private boolean isColumnarValueUnchanged(ITableRow row, int columnIndex, Object value) {
+    if (!(row instanceof ColumnarTableRow)) {
+      return false;
+    }
+    return ((ColumnarTableRow) row).isCellValueEqual(columnIndex, value) && row.getCell(columnIndex).getErrorStatus() == null;
+  }
+
   @Override
   public void updateRow(ITableRow row) {
     if (row != null) {
@@ -2466,8 +2504,10 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       Set<Integer> changedColumnValues = row.getUpdatedColumnIndexes(ICell.VALUE_BIT);
       if (CollectionUtility.containsAny(changedColumnValues, IntStream.of(getColumnSet().getKeyColumnIndexes()).boxed().toArray(Integer[]::new))) {
         // update primary key
-        m_rowsByKey.values().remove(row);
-        m_rowsByKey.put(new CompositeObject(row.getKeyValues()), row);
+        synchronized (m_rowsByKey) {
+          m_rowsByKey.removeValue(row);
+          m_rowsByKey.put(row.getKeyValues(), row);
+        }
       }
       if (CollectionUtility.containsAny(changedColumnValues, getColumnSet().getSortColumns().stream().map(IColumn::getColumnIndex).collect(Collectors.toSet()))) {
         // sort has to be updated
@@ -3211,11 +3251,18 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     // make sure rows InternalTableRows are in the same order as the given ITableRows, addRows(...) relies on this
     List<InternalTableRow> newIRows = new ArrayList<>(newRows.size());
     for (ITableRow newRow : newRows) {
-      newIRows.add(new InternalTableRow(this, newRow));
+      newIRows.add(createInternalRow(newRow));
     }
     return newIRows;
   }
 
+  private InternalTableRow createInternalRow(ITableRow newRow) {
+    if (m_columnarRowStore != null) {
+      return new ColumnarTableRow(this, newRow, m_columnarRowStore);
+    }
+    return new InternalTableRow(this, newRow);
+  }
+
   private ITableRow addInternalRow(InternalTableRow newIRow) {
     synchronized (m_cachedRowsLock) {
       m_cachedRows = null;
@@ -3223,7 +3270,9 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       newIRow.setRowIndex(newIndex);
       newIRow.setTableInternal(this);
       m_rows.add(newIRow);
-      m_rowsByKey.put(new CompositeObject(newIRow.getKeyValues()), newIRow);
+      synchronized (m_rowsByKey) {
+        m_rowsByKey.put(newIRow.getKeyValues(), newIRow);
+      }
     }
     rebuildTreeStructure();
 
@@ -3434,7 +3483,9 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
         synchronized (m_cachedRowsLock) {
           m_rows.clear();
           m_rootRows.clear();
-          m_rowsByKey.clear();
+          synchronized (m_rowsByKey) {
+            m_rowsByKey.clear();
+          }
           m_cachedRows = null;
         }
         for (int i = deletedRows.size() - 1; i >= 0; i--) {
@@ -3445,24 +3496,31 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
         }
       }
       else {
+        // delete regardless if index is right, in one pass over all rows
+        Set<ITableRow> candidateRows = new HashSet<>(deletedRows);
+        candidateRows.remove(null);
+        Set<ITableRow> removedRows = new HashSet<>(candidateRows.size());
+        synchronized (m_cachedRowsLock) {
+          m_rows.removeIf(row -> candidateRows.contains(row) && removedRows.add(row));
+          synchronized (m_rowsByKey) {
+            for (ITableRow candidateRow : candidateRows) {
+              m_rowsByKey.remove(candidateRow.getKeyValues());
+            }
+          }
+          if (!removedRows.isEmpty()) {
+            m_cachedRows = null;
+          }
+        }
+        boolean removed = !removedRows.isEmpty();
         for (int i = deletedRows.size() - 1; i >= 0; i--) {
           ITableRow candidateRow = deletedRows.get(i);
-          if (candidateRow != null) {
-            // delete regardless if index is right
-            boolean removed = false;
-            synchronized (m_cachedRowsLock) {
-              removed = m_rows.remove(candidateRow);
-              m_rowsByKey.remove(new CompositeObject(candidateRow.getKeyValues()));
-              if (removed) {
-                m_cachedRows = null;
-              }
-            }
-            if (removed) {
-              deleteRowImpl(candidateRow);
-              rebuildTreeStructure();
-            }
+          if (candidateRow != null && removedRows.remove(candidateRow)) {
+            deleteRowImpl(candidateRow);
           }
         }
+        if (removed) {
+          rebuildTreeStructure();
+        }
       }
       // update index of rows at the bottom of deleted rows
       int minAffectedIndex = Math.max(min - 1, 0);
@@ -3604,7 +3662,9 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     if (!CollectionUtility.hasElements(keys)) {
       return null;
     }
-    return m_rowsByKey.get(new CompositeObject(keys));
+    synchronized (m_rowsByKey) {
+      return m_rowsByKey.get(keys);
+    }
   }
 
   @Override
@@ -3767,18 +3827,28 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
 
     CollectingVisitor<ITableRow> collector = new CollectingVisitor<>();
     if (comparator != null) {
-      rootNodes.sort(comparator);
+      sortRowList(rootNodes, comparator);
     }
     rootNodes.forEach(root -> TreeTraversals.create(collector, node -> {
       List<ITableRow> childRows = parentToChildren.get(node);
       if (comparator != null && CollectionUtility.hasElements(childRows)) {
-        childRows.sort(comparator);
+        sortRowList(childRows, comparator);
       }
       return childRows;
     }).traverse(root));
     return collector.getCollection();
   }
 
+  private static void sortRowList(List<ITableRow> rows, Comparator<ITableRow> comparator) {
+    if (comparator instanceof TableRowComparator) {
+      // index based sort using the sort keys of the columns
+      ((TableRowComparator) comparator).sort(rows);
+    }
+    else {
+      rows.sort(comparator);
+    }
+  }
+
   @Override
   public void sort(List<? extends ITableRow> rowsInNewOrder) {
     List<ITableRow> resolvedRows = resolveRows(rowsInNewOrder);
@@ -36,7 +36,7 @@ public class TableRow implements ITableRow {
   protected static final NamedBitMaskHelper FLAGS_BIT_HELPER = new NamedBitMaskHelper(CHECKED, EXPANDED, IDimensions.ENABLED, ROW_PROPERTIES_CHANGED, REJECTED_BY_USER, FILTER_ACCEPTED);
 
   private final Object m_childRowListLock;
-  private List<ITableRow> m_childRowList;
+  private List<ITableRow> m_childRowList; // created lazily, most rows have no child rows
 
   private final ColumnSet m_columnSet;
   private final Map<String, Object> m_customValues;
@@ -62,7 +62,6 @@ public class TableRow implements ITableRow {
    */
   public TableRow(ColumnSet columnSet) {
     m_childRowListLock = new Object();
-    m_childRowList = new ArrayList<>();
     m_columnSet = columnSet;
     m_customValues = new HashMap<>(0);
 
@@ -74,7 +73,6 @@ public class TableRow implements ITableRow {
 
   public TableRow(ColumnSet columnSet, ITableRow row) {
     m_childRowListLock = new Object();
-    m_childRowList = new ArrayList<>();
     m_columnSet = columnSet;
     m_customValues = new HashMap<>(row.getCustomValues());
     m_compactValue = row.getCompactValue();
@@ -85,6 +83,22 @@ public class TableRow implements ITableRow {
     copyCells(row);
   }
 
+  /**
+   * Creates a row with the same custom values and cell properties as the given row, whose cells are held by the given
+   * list instead of a list created by this row. The list must contain a cell for each column of the column set.
+   */
+  protected TableRow(ColumnSet columnSet, ITableRow row, List<Cell> cells) {
+    m_childRowListLock = new Object();
+    m_columnSet = columnSet;
+    m_customValues = new HashMap<>(row.getCustomValues());
+    m_compactValue = row.getCompactValue();
+    m_cells = cells;
+    setEnabled(true);
+    for (int i = 0, n = Math.min(row.getCellCount(), cells.size()); i < n; i++) {
+      cells.get(i).updateFrom(row.getCell(i));
+    }
+  }
+
   public TableRow(ColumnSet columnSet, List<?> values) {
     this(columnSet);
     if (CollectionUtility.hasElements(values)) {
@@ -400,6 +414,9 @@ public class TableRow implements ITableRow {
    */
   public final void addChildRowInternal(ITableRow row) {
     synchronized (m_childRowListLock) {
+      if (m_childRowList == null) {
+        m_childRowList = new ArrayList<>();
+      }
       m_childRowList.add(row);
     }
   }
@@ -409,7 +426,9 @@ public class TableRow implements ITableRow {
    */
   public final void removeChildRowInternal(ITableRow childRow) {
     synchronized (m_childRowListLock) {
-      m_childRowList.remove(childRow);
+      if (m_childRowList != null) {
+        m_childRowList.remove(childRow);
+      }
     }
   }
 
@@ -12,8 +12,10 @@ package org.eclipse.scout.rt.client.ui.basic.table;
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.TableRowSorter;
 
 /**
  * compares two TableRow objects based on 1 ore more columns
@@ -43,6 +45,21 @@ public class TableRowComparator implements Comparator<ITableRow> {
     return 0;
   }
 
+  /**
+   * Sorts the given rows (stable) in the order of this comparator.
+   * <p>
+   * Unless {@link #compare(ITableRow, ITableRow)} is overridden, the rows are sorted by a {@link TableRowSorter}, which
+   * extracts the sort keys of each column once instead of comparing rows.
+   */
+  public void sort(List<ITableRow> rows) {
+    if (getClass() == TableRowComparator.class) {
+      new TableRowSorter(m_columns).sort(rows);
+    }
+    else {
+      rows.sort(this);
+    }
+  }
+
   @Override
   public boolean equals(Object obj) {
     return obj != null && obj.getClass() == this.getClass() && ((TableRowComparator) obj).m_columns == this.m_columns;
@@ -10,7 +10,6 @@
  */
 package org.eclipse.scout.rt.client.ui.basic.table;
 
-import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -166,9 +165,8 @@ public class TableRowDataMapper implements ITableRowDataMapper {
     FastPropertyDescriptor propertyDesc = m_propertyDescriptorByColumn.get(column);
     if (propertyDesc != null) {
       try {
-        Method columnReadMethod = propertyDesc.getReadMethod();
-        Object dto = getDataContainer(rowData, columnReadMethod.getDeclaringClass());
-        value = columnReadMethod.invoke(dto);
+        Object dto = getDataContainer(rowData, propertyDesc.getReadMethod().getDeclaringClass());
+        value = propertyDesc.readValue(dto);
       }
       catch (Exception e) {
         LOG.warn("Error reading row data property for column [{}]", column.getClass().getName(), e);
@@ -190,9 +188,8 @@ public class TableRowDataMapper implements ITableRowDataMapper {
       FastPropertyDescriptor propertyDesc = m_propertyDescriptorByColumn.get(column);
       if (propertyDesc != null) {
         try {
-          Method columnWriteMethod = propertyDesc.getWriteMethod();
-          Object dto = getDataContainer(rowData, columnWriteMethod.getDeclaringClass());
-          columnWriteMethod.invoke(dto, value);
+          Object dto = getDataContainer(rowData, propertyDesc.getWriteMethod().getDeclaringClass());
+          propertyDesc.writeValue(dto, value);
         }
         catch (Exception t) {
           LOG.warn("Error writing row data property for column [{}]", column.getClass().getName(), t);
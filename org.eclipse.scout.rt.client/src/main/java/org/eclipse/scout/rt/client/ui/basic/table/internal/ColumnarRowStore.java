@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.eclipse.scout.rt.client.ui.basic.table.ColumnSet;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+
+/**
+ * Column oriented storage of the cell values of table rows (see {@link ColumnarTableRow}).
+ * <p>
+ * Each column keeps its values in an array of the data type of the column: {@link Long}, {@link Integer},
+ * {@link Double} and {@link Boolean} values are kept unboxed, all other values in an object array. A row occupies a
+ * slot, i.e. the same index in the arrays of all columns. Slots of released rows are reused. If a value does not match
+ * the data type of its column, the values of the column are moved to an object array.
+ * <p>
+ * The store is not thread safe, it is accessed by the model thread of its table.
+ *
+ * @since 11.0
+ */
+public class ColumnarRowStore {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final P_Column[] m_columns;
+  private int m_capacity;
+  private int m_slotCount;
+  private int[] m_freeSlots;
+  private int m_freeSlotCount;
+
+  public ColumnarRowStore(ColumnSet columnSet) {
+    this(getDataTypes(columnSet));
+  }
+
+  /**
+   * @param dataTypes
+   *          data type of each column
+   */
+  public ColumnarRowStore(Class<?>... dataTypes) {
+    m_capacity = INITIAL_CAPACITY;
+    m_columns = new P_Column[dataTypes.length];
+    for (int i = 0; i < dataTypes.length; i++) {
+      m_columns[i] = createColumn(dataTypes[i], m_capacity);
+    }
+    m_freeSlots = new int[0];
+  }
+
+  private static Class<?>[] getDataTypes(ColumnSet columnSet) {
+    Class<?>[] dataTypes = new Class<?>[columnSet.getColumnCount()];
+    for (int i = 0; i < dataTypes.length; i++) {
+      dataTypes[i] = columnSet.getColumn(i).getDataType();
+    }
+    return dataTypes;
+  }
+
+  protected P_Column createColumn(Class<?> dataType, int capacity) {
+    if (dataType == Long.class) {
+      return new P_LongColumn(capacity);
+    }
+    if (dataType == Integer.class) {
+      return new P_IntegerColumn(capacity);
+    }
+    if (dataType == Double.class) {
+      return new P_DoubleColumn(capacity);
+    }
+    if (dataType == Boolean.class) {
+      return new P_BooleanColumn();
+    }
+    return new P_ObjectColumn(capacity);
+  }
+
+  public int getColumnCount() {
+    return m_columns.length;
+  }
+
+  /**
+   * @return number of allocated slots
+   */
+  public int getRowCount() {
+    return m_slotCount - m_freeSlotCount;
+  }
+
+  /**
+   * @return <code>true</code> if the values of the column are kept unboxed
+   */
+  public boolean isPrimitive(int columnIndex) {
+    return !(m_columns[columnIndex] instanceof P_ObjectColumn);
+  }
+
+  /**
+   * @return a slot with <code>null</code> values in all columns
+   */
+  public int allocateSlot() {
+    if (m_freeSlotCount > 0) {
+      m_freeSlotCount--;
+      return m_freeSlots[m_freeSlotCount];
+    }
+    if (m_slotCount == m_capacity) {
+      m_capacity = m_capacity + (m_capacity >> 1);
+      for (P_Column column : m_columns) {
+        column.grow(m_capacity);
+      }
+    }
+    return m_slotCount++;
+  }
+
+  /**
+   * Clears the values of the slot and makes it available for reuse.
+   */
+  public void releaseSlot(int slot) {
+    for (P_Column column : m_columns) {
+      column.clear(slot);
+    }
+    if (m_freeSlotCount == m_freeSlots.length) {
+      m_freeSlots = Arrays.copyOf(m_freeSlots, Math.max(INITIAL_CAPACITY, m_freeSlotCount * 2));
+    }
+    m_freeSlots[m_freeSlotCount] = slot;
+    m_freeSlotCount++;
+  }
+
+  public Object getValue(int slot, int columnIndex) {
+    return m_columns[columnIndex].get(slot);
+  }
+
+  public void setValue(int slot, int columnIndex, Object value) {
+    P_Column column = m_columns[columnIndex];
+    if (!column.set(slot, value)) {
+      P_ObjectColumn objectColumn = new P_ObjectColumn(m_capacity);
+      for (int i = 0; i < m_slotCount; i++) {
+        objectColumn.set(i, column.get(i));
+      }
+      objectColumn.set(slot, value);
+      m_columns[columnIndex] = objectColumn;
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the value of the slot is equal to the given value, without boxing primitive values
+   */
+  public boolean isValueEqual(int slot, int columnIndex, Object value) {
+    return m_columns[columnIndex].isEqual(slot, value);
+  }
+
+  /**
+   * Reads the values of the given slots as long sort keys. Boolean values are read as 0 (false) and 1 (true).
+   *
+   * @return <code>false</code> if the values of the column are not kept as {@link Long}, {@link Integer} or
+   *         {@link Boolean} values
+   */
+  public boolean readLongKeys(int columnIndex, int[] slots, long[] keys, boolean[] nulls) {
+    return m_columns[columnIndex].readLongKeys(slots, keys, nulls);
+  }
+
+  /**
+   * Reads the values of the given slots as double sort keys.
+   *
+   * @return <code>false</code> if the values of the column are not kept as {@link Double} values
+   */
+  public boolean readDoubleKeys(int columnIndex, int[] slots, double[] keys, boolean[] nulls) {
+    return m_columns[columnIndex].readDoubleKeys(slots, keys, nulls);
+  }
+
+  protected abstract static class P_Column {
+
+    public abstract Object get(int slot);
+
+    /**
+     * @return <code>false</code> if the value is not of the data type of this column
+     */
+    public abstract boolean set(int slot, Object value);
+
+    public abstract void clear(int slot);
+
+    public abstract void grow(int capacity);
+
+    public boolean isEqual(int slot, Object value) {
+      return ObjectUtility.equals(get(slot), value);
+    }
+
+    public boolean readLongKeys(int[] slots, long[] keys, boolean[] nulls) {
+      return false;
+    }
+
+    public boolean readDoubleKeys(int[] slots, double[] keys, boolean[] nulls) {
+      return false;
+    }
+  }
+
+  protected static class P_ObjectColumn extends P_Column {
+    private Object[] m_values;
+
+    protected P_ObjectColumn(int capacity) {
+      m_values = new Object[capacity];
+    }
+
+    @Override
+    public Object get(int slot) {
+      return m_values[slot];
+    }
+
+    @Override
+    public boolean set(int slot, Object value) {
+      m_values[slot] = value;
+      return true;
+    }
+
+    @Override
+    public void clear(int slot) {
+      m_values[slot] = null;
+    }
+
+    @Override
+    public void grow(int capacity) {
+      m_values = Arrays.copyOf(m_values, capacity);
+    }
+  }
+
+  protected static class P_LongColumn extends P_Column {
+    private final BitSet m_present = new BitSet();
+    private long[] m_values;
+
+    protected P_LongColumn(int capacity) {
+      m_values = new long[capacity];
+    }
+
+    @Override
+    public Object get(int slot) {
+      return m_present.get(slot) ? Long.valueOf(m_values[slot]) : null;
+    }
+
+    @Override
+    public boolean set(int slot, Object value) {
+      if (value == null) {
+        m_present.clear(slot);
+        return true;
+      }
+      if (!(value instanceof Long)) {
+        return false;
+      }
+      m_values[slot] = ((Long) value).longValue();
+      m_present.set(slot);
+      return true;
+    }
+
+    @Override
+    public void clear(int slot) {
+      m_present.clear(slot);
+    }
+
+    @Override
+    public void grow(int capacity) {
+      m_values = Arrays.copyOf(m_values, capacity);
+    }
+
+    @Override
+    public boolean isEqual(int slot, Object value) {
+      if (value == null || !m_present.get(slot)) {
+        return value == null && !m_present.get(slot);
+      }
+      return value instanceof Long && ((Long) value).longValue() == m_values[slot];
+    }
+
+    @Override
+    public boolean readLongKeys(int[] slots, long[] keys, boolean[] nulls) {
+      for (int i = 0; i < slots.length; i++) {
+        nulls[i] = !m_present.get(slots[i]);
+        keys[i] = m_values[slots[i]];
+      }
+      return true;
+    }
+  }
+
+  protected static class P_IntegerColumn extends P_Column {
+    private final BitSet m_present = new BitSet();
+    private int[] m_values;
+
+    protected P_IntegerColumn(int capacity) {
+      m_values = new int[capacity];
+    }
+
+    @Override
+    public Object get(int slot) {
+      return m_present.get(slot) ? Integer.valueOf(m_values[slot]) : null;
+    }
+
+    @Override
+    public boolean set(int slot, Object value) {
+      if (value == null) {
+        m_present.clear(slot);
+        return true;
+      }
+      if (!(value instanceof Integer)) {
+        return false;
+      }
+      m_values[slot] = ((Integer) value).intValue();
+      m_present.set(slot);
+      return true;
+    }
+
+    @Override
+    public void clear(int slot) {
+      m_present.clear(slot);
+    }
+
+    @Override
+    public void grow(int capacity) {
+      m_values = Arrays.copyOf(m_values, capacity);
+    }
+
+    @Override
+    public boolean isEqual(int slot, Object value) {
+      if (value == null || !m_present.get(slot)) {
+        return value == null && !m_present.get(slot);
+      }
+      return value instanceof Integer && ((Integer) value).intValue() == m_values[slot];
+    }
+
+    @Override
+    public boolean readLongKeys(int[] slots, long[] keys, boolean[] nulls) {
+      for (int i = 0; i < slots.length; i++) {
+        nulls[i] = !m_present.get(slots[i]);
+        keys[i] = m_values[slots[i]];
+      }
+      return true;
+    }
+  }
+
+  protected static class P_DoubleColumn extends P_Column {
+    private final BitSet m_present = new BitSet();
+    private double[] m_values;
+
+    protected P_DoubleColumn(int capacity) {
+      m_values = new double[capacity];
+    }
+
+    @Override
+    public Object get(int slot) {
+      return m_present.get(slot) ? Double.valueOf(m_values[slot]) : null;
+    }
+
+    @Override
+    public boolean set(int slot, Object value) {
+      if (value == null) {
+        m_present.clear(slot);
+        return true;
+      }
+      if (!(value instanceof Double)) {
+        return false;
+      }
+      m_values[slot] = ((Double) value).doubleValue();
+      m_present.set(slot);
+      return true;
+    }
+
+    @Override
+    public void clear(int slot) {
+      m_present.clear(slot);
+    }
+
+    @Override
+    public void grow(int capacity) {
+      m_values = Arrays.copyOf(m_values, capacity);
+    }
+
+    @Override
+    public boolean isEqual(int slot, Object value) {
+      if (value == null || !m_present.get(slot)) {
+        return value == null && !m_present.get(slot);
+      }
+      // same semantics as Double#equals
+      return value instanceof Double && Double.doubleToLongBits(((Double) value).doubleValue()) == Double.doubleToLongBits(m_values[slot]);
+    }
+
+    @Override
+    public boolean readDoubleKeys(int[] slots, double[] keys, boolean[] nulls) {
+      for (int i = 0; i < slots.length; i++) {
+        nulls[i] = !m_present.get(slots[i]);
+        keys[i] = m_values[slots[i]];
+      }
+      return true;
+    }
+  }
+
+  protected static class P_BooleanColumn extends P_Column {
+    private final BitSet m_present = new BitSet();
+    private final BitSet m_values = new BitSet();
+
+    @Override
+    public Object get(int slot) {
+      return m_present.get(slot) ? Boolean.valueOf(m_values.get(slot)) : null;
+    }
+
+    @Override
+    public boolean set(int slot, Object value) {
+      if (value == null) {
+        m_present.clear(slot);
+        return true;
+      }
+      if (!(value instanceof Boolean)) {
+        return false;
+      }
+      m_values.set(slot, ((Boolean) value).booleanValue());
+      m_present.set(slot);
+      return true;
+    }
+
+    @Override
+    public void clear(int slot) {
+      m_present.clear(slot);
+      m_values.clear(slot);
+    }
+
+    @Override
+    public void grow(int capacity) {
+      // bit sets grow on demand
+    }
+
+    @Override
+    public boolean readLongKeys(int[] slots, long[] keys, boolean[] nulls) {
+      for (int i = 0; i < slots.length; i++) {
+        nulls[i] = !m_present.get(slots[i]);
+        keys[i] = m_values.get(slots[i]) ? 1 : 0;
+      }
+      return true;
+    }
+  }
+}
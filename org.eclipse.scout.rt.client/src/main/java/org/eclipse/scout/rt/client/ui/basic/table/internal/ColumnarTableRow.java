@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
+import org.eclipse.scout.rt.client.ui.basic.cell.ICellObserver;
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.eclipse.scout.rt.client.ui.form.fields.ValidationFailedStatus;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+
+/**
+ * Table row whose cell values are kept in a {@link ColumnarRowStore} of its table. The row is a view of its slot in the
+ * store and is created once per added row, hence the identity of the row is retained like for any other
+ * {@link InternalTableRow}.
+ * <p>
+ * The cells of the row hold the display properties (text, style, error status) only, their values are read from and
+ * written to the store. When the row is removed from its table, the values are copied into the cells and the slot is
+ * released.
+ *
+ * @since 11.0
+ */
+public class ColumnarTableRow extends InternalTableRow {
+
+  private final P_CellList m_cellList;
+
+  public ColumnarTableRow(ITable table, ITableRow row, ColumnarRowStore store) {
+    this(table, row, new P_CellList(store, store.allocateSlot(), table.getColumnSet().getColumnCount()));
+  }
+
+  private ColumnarTableRow(ITable table, ITableRow row, P_CellList cellList) {
+    super(table, row, cellList);
+    m_cellList = cellList;
+  }
+
+  public ColumnarRowStore getStore() {
+    return m_cellList.m_store;
+  }
+
+  /**
+   * @return the slot of this row in the store or -1 if the row was removed from its table
+   */
+  public int getSlot() {
+    return m_cellList.m_slot;
+  }
+
+  @Override
+  public Object getCellValue(int columnIndex) {
+    if (m_cellList.m_slot >= 0 && columnIndex >= 0 && columnIndex < m_cellList.size()) {
+      return m_cellList.m_store.getValue(m_cellList.m_slot, columnIndex);
+    }
+    return super.getCellValue(columnIndex);
+  }
+
+  /**
+   * @return <code>true</code> if the value of the given column is equal to the given value
+   */
+  public boolean isCellValueEqual(int columnIndex, Object value) {
+    if (m_cellList.m_slot >= 0) {
+      return m_cellList.m_store.isValueEqual(m_cellList.m_slot, columnIndex, value);
+    }
+    return ObjectUtility.equals(getCellForUpdate(columnIndex).getValue(), value);
+  }
+
+  @Override
+  public void setTableInternal(ITable table) {
+    if (table == null) {
+      m_cellList.detach();
+    }
+    super.setTableInternal(table);
+  }
+
+  protected static class P_CellList extends AbstractList<Cell> implements RandomAccess {
+    private final ColumnarRowStore m_store;
+    private final P_StoreCell[] m_cells;
+    private int m_slot;
+
+    protected P_CellList(ColumnarRowStore store, int slot, int columnCount) {
+      m_store = store;
+      m_slot = slot;
+      m_cells = new P_StoreCell[columnCount];
+    }
+
+    @Override
+    public int size() {
+      return m_cells.length;
+    }
+
+    @Override
+    public Cell get(int index) {
+      P_StoreCell cell = m_cells[index];
+      if (cell == null) {
+        cell = new P_StoreCell(this, index);
+        m_cells[index] = cell;
+      }
+      return cell;
+    }
+
+    /**
+     * Copies the given cell into a cell backed by the store, including its observer.
+     */
+    @Override
+    public Cell set(int index, Cell element) {
+      Cell oldCell = get(index);
+      P_StoreCell cell = new P_StoreCell(this, index);
+      cell.updateFrom(element);
+      cell.setObserver(element.getObserver());
+      m_cells[index] = cell;
+      return oldCell;
+    }
+
+    protected void detach() {
+      if (m_slot < 0) {
+        return;
+      }
+      for (int i = 0; i < m_cells.length; i++) {
+        ((P_StoreCell) get(i)).detach(m_store.getValue(m_slot, i));
+      }
+      m_store.releaseSlot(m_slot);
+      m_slot = -1;
+    }
+  }
+
+  protected static class P_StoreCell extends Cell {
+    private final P_CellList m_cellList;
+    private final int m_columnIndex;
+
+    protected P_StoreCell(P_CellList cellList, int columnIndex) {
+      m_cellList = cellList;
+      m_columnIndex = columnIndex;
+    }
+
+    @Override
+    public Object getValue() {
+      if (m_cellList.m_slot >= 0) {
+        return m_cellList.m_store.getValue(m_cellList.m_slot, m_columnIndex);
+      }
+      return super.getValue();
+    }
+
+    @Override
+    public boolean setValue(Object value) {
+      if (m_cellList.m_slot < 0) {
+        return super.setValue(value);
+      }
+      ICellObserver observer = getObserver();
+      if (observer != null) {
+        try {
+          value = observer.validateValue(this, value);
+        }
+        catch (ProcessingException e) {
+          addErrorStatus(new ValidationFailedStatus<>(e, value));
+        }
+      }
+      if (m_cellList.m_store.isValueEqual(m_cellList.m_slot, m_columnIndex, value)) {
+        return false;
+      }
+      m_cellList.m_store.setValue(m_cellList.m_slot, m_columnIndex, value);
+      if (observer != null) {
+        observer.cellChanged(this, VALUE_BIT);
+      }
+      return true;
+    }
+
+    /**
+     * Keeps the given value in this cell, without validation and notification.
+     */
+    protected void detach(Object value) {
+      ICellObserver observer = getObserver();
+      setObserver(null);
+      try {
+        super.setValue(value);
+      }
+      finally {
+        setObserver(observer);
+      }
+    }
+  }
+}
@@ -55,6 +55,19 @@ public class InternalTableRow extends TableRow implements ICellObserver {
   public InternalTableRow(ITable table, ITableRow row) {
     super(table.getColumnSet(), row);
     m_updatedCells = new HashMap<>(table.getColumnSet().getColumnCount());
+    initFrom(table, row);
+  }
+
+  /**
+   * Creates a row whose cells are held by the given list (see the corresponding constructor of {@link TableRow}).
+   */
+  protected InternalTableRow(ITable table, ITableRow row, List<Cell> cells) {
+    super(table.getColumnSet(), row, cells);
+    m_updatedCells = new HashMap<>(table.getColumnSet().getColumnCount());
+    initFrom(table, row);
+  }
+
+  private void initFrom(ITable table, ITableRow row) {
     setFilterAcceptedInternal(true);
     setEnabled(row.isEnabled());
     m_rowIndex = row.getRowIndex();
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.platform.util.CompositeObject;
+
+/**
+ * Index of values (e.g. table rows) by their primary key values.
+ * <p>
+ * Behaves like a {@link HashMap} with {@link CompositeObject} keys, but as long as all keys consist of a single
+ * {@link Long} (or a single {@link Integer}), they are stored unboxed in an open addressing table. Thereby neither a
+ * {@link CompositeObject} nor a map entry is retained per key, which is the common case for tables with a numeric
+ * primary key column. As soon as another key is added, the index switches to a {@link HashMap}.
+ * <p>
+ * The cell values of the rows can be kept column-wise as well, see {@link ColumnarRowStore}.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @see ITable#getRowByKey(List)
+ * @since 11.0
+ */
+public class TableKeyIndex<V> {
+
+  private static final int MIN_CAPACITY = 16;
+
+  private Class<?> m_primitiveKeyType;
+  private long[] m_primitiveKeys;
+  private Object[] m_primitiveValues;
+  private int m_primitiveSize;
+  private Map<CompositeObject, V> m_map;
+
+  public int size() {
+    return m_map != null ? m_map.size() : m_primitiveSize;
+  }
+
+  public boolean isPrimitive() {
+    return m_map == null;
+  }
+
+  @SuppressWarnings("unchecked")
+  public V get(List<?> keys) {
+    if (m_map != null) {
+      return m_map.get(new CompositeObject(keys));
+    }
+    if (m_primitiveSize == 0 || !isPrimitiveKey(keys)) {
+      return null;
+    }
+    int i = indexOf(toLong(keys));
+    return i >= 0 ? (V) m_primitiveValues[i] : null;
+  }
+
+  /**
+   * @return the previous value associated with the keys
+   */
+  @SuppressWarnings("unchecked")
+  public V put(List<?> keys, V value) {
+    if (m_map == null && (value == null || !isPrimitiveKey(keys))) {
+      // null values cannot be stored in the primitive table, as null marks an empty slot
+      switchToMap();
+    }
+    if (m_map != null) {
+      return m_map.put(new CompositeObject(keys), value);
+    }
+    if (m_primitiveKeyType == null) {
+      m_primitiveKeyType = keys.get(0).getClass();
+    }
+    if (m_primitiveKeys == null || (m_primitiveSize + 1) * 2 > m_primitiveKeys.length) {
+      resize(m_primitiveKeys == null ? MIN_CAPACITY : m_primitiveKeys.length * 2);
+    }
+    long key = toLong(keys);
+    int mask = m_primitiveKeys.length - 1;
+    int i = hash(key) & mask;
+    while (m_primitiveValues[i] != null) {
+      if (m_primitiveKeys[i] == key) {
+        V oldValue = (V) m_primitiveValues[i];
+        m_primitiveValues[i] = value;
+        return oldValue;
+      }
+      i = (i + 1) & mask;
+    }
+    m_primitiveKeys[i] = key;
+    m_primitiveValues[i] = value;
+    m_primitiveSize++;
+    return null;
+  }
+
+  /**
+   * @return the value which was associated with the keys
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(List<?> keys) {
+    if (m_map != null) {
+      return m_map.remove(new CompositeObject(keys));
+    }
+    if (m_primitiveSize == 0 || !isPrimitiveKey(keys)) {
+      return null;
+    }
+    int i = indexOf(toLong(keys));
+    if (i < 0) {
+      return null;
+    }
+    V oldValue = (V) m_primitiveValues[i];
+    removeAt(i);
+    return oldValue;
+  }
+
+  /**
+   * Removes the first entry with the given value, regardless of its keys.
+   *
+   * @return <code>true</code> if an entry was removed
+   */
+  public boolean removeValue(V value) {
+    if (m_map != null) {
+      return m_map.values().remove(value);
+    }
+    if (m_primitiveSize == 0) {
+      return false;
+    }
+    for (int i = 0; i < m_primitiveValues.length; i++) {
+      if (m_primitiveValues[i] != null && Objects.equals(m_primitiveValues[i], value)) {
+        removeAt(i);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return a copy of this index as map
+   */
+  @SuppressWarnings("unchecked")
+  public Map<CompositeObject, V> toMap() {
+    if (m_map != null) {
+      return new HashMap<>(m_map);
+    }
+    Map<CompositeObject, V> map = new HashMap<>();
+    for (int i = 0; m_primitiveSize > 0 && i < m_primitiveKeys.length; i++) {
+      if (m_primitiveValues[i] != null) {
+        map.put(new CompositeObject(toKey(m_primitiveKeys[i])), (V) m_primitiveValues[i]);
+      }
+    }
+    return map;
+  }
+
+  public void clear() {
+    m_primitiveKeyType = null;
+    m_primitiveKeys = null;
+    m_primitiveValues = null;
+    m_primitiveSize = 0;
+    m_map = null;
+  }
+
+  private boolean isPrimitiveKey(List<?> keys) {
+    if (keys == null || keys.size() != 1) {
+      return false;
+    }
+    Object key = keys.get(0);
+    if (key == null) {
+      return false;
+    }
+    if (m_primitiveKeyType != null) {
+      return key.getClass() == m_primitiveKeyType;
+    }
+    return key.getClass() == Long.class || key.getClass() == Integer.class;
+  }
+
+  private static long toLong(List<?> keys) {
+    return ((Number) keys.get(0)).longValue();
+  }
+
+  private Object toKey(long key) {
+    if (m_primitiveKeyType == Integer.class) {
+      return Integer.valueOf((int) key);
+    }
+    return Long.valueOf(key);
+  }
+
+  private static int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private int indexOf(long key) {
+    int mask = m_primitiveKeys.length - 1;
+    int i = hash(key) & mask;
+    while (m_primitiveValues[i] != null) {
+      if (m_primitiveKeys[i] == key) {
+        return i;
+      }
+      i = (i + 1) & mask;
+    }
+    return -1;
+  }
+
+  /**
+   * Removes the entry at the given slot and shifts back the following entries of its probe sequence (linear probing
+   * without tombstones).
+   */
+  private void removeAt(int i) {
+    int mask = m_primitiveKeys.length - 1;
+    int hole = i;
+    int j = i;
+    while (true) {
+      j = (j + 1) & mask;
+      if (m_primitiveValues[j] == null) {
+        break;
+      }
+      int home = hash(m_primitiveKeys[j]) & mask;
+      // move entry j into the hole, unless its home slot lies cyclically in (hole, j]
+      boolean inRange = hole <= j ? (hole < home && home <= j) : (hole < home || home <= j);
+      if (!inRange) {
+        m_primitiveKeys[hole] = m_primitiveKeys[j];
+        m_primitiveValues[hole] = m_primitiveValues[j];
+        hole = j;
+      }
+    }
+    m_primitiveValues[hole] = null;
+    m_primitiveSize--;
+  }
+
+  private void resize(int capacity) {
+    long[] oldKeys = m_primitiveKeys;
+    Object[] oldValues = m_primitiveValues;
+    m_primitiveKeys = new long[capacity];
+    m_primitiveValues = new Object[capacity];
+    if (oldKeys == null) {
+      return;
+    }
+    int mask = capacity - 1;
+    for (int k = 0; k < oldKeys.length; k++) {
+      if (oldValues[k] != null) {
+        int i = hash(oldKeys[k]) & mask;
+        while (m_primitiveValues[i] != null) {
+          i = (i + 1) & mask;
+        }
+        m_primitiveKeys[i] = oldKeys[k];
+        m_primitiveValues[i] = oldValues[k];
+      }
+    }
+  }
+
+  private void switchToMap() {
+    m_map = toMap();
+    m_primitiveKeys = null;
+    m_primitiveValues = null;
+    m_primitiveSize = 0;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[size=" + size() + ", primitive=" + isPrimitive()
+        + (m_primitiveKeys != null ? ", capacity=" + m_primitiveKeys.length : "") + "]";
+  }
+}
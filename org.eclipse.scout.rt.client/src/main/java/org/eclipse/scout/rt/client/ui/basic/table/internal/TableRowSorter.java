@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.eclipse.scout.rt.client.ui.basic.table.TableRowComparator;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractObjectColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.nls.CollatorProvider;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
+
+/**
+ * Sorts table rows in the same order as a {@link TableRowComparator} with the same columns, but without comparing
+ * {@link ITableRow} objects.
+ * <p>
+ * The sort keys of a column are extracted once per row into primitive arrays ({@link Long}, {@link Integer},
+ * {@link Double}, {@link Boolean} and {@link Date} values), into {@link CollationKey}s ({@link AbstractStringColumn})
+ * or into arrays of the column values, and a permutation of row indexes is sorted by a stable merge sort. Sort keys of
+ * further columns are only extracted for rows which are equal in all previous columns. Columns with a custom
+ * {@link IColumn#compareTableRows(ITableRow, ITableRow)} implementation are compared by this method. The keys of rows
+ * kept in a {@link ColumnarRowStore} are read from its column arrays without boxing.
+ * <p>
+ * Large row sets are sorted in parallel using the common {@link ForkJoinPool}, if the sort keys of the column do not
+ * require the calling thread (i.e. no custom compare method is called).
+ *
+ * @since 11.0
+ */
+public class TableRowSorter {
+
+  /**
+   * Minimal number of rows to be sorted in parallel
+   */
+  public static final int PARALLEL_THRESHOLD = 8192;
+
+  private static final int INSERTION_SORT_THRESHOLD = 16;
+  private static final int PARALLEL_GRANULARITY = 2048;
+
+  private static final ClassValue<P_CompareStrategy> COMPARE_STRATEGIES = new ClassValue<P_CompareStrategy>() {
+    @Override
+    protected P_CompareStrategy computeValue(Class<?> columnClass) {
+      Class<?> declaringClass;
+      try {
+        declaringClass = columnClass.getMethod("compareTableRows", ITableRow.class, ITableRow.class).getDeclaringClass();
+      }
+      catch (NoSuchMethodException e) { // NOSONAR
+        return P_CompareStrategy.COLUMN;
+      }
+      if (declaringClass == AbstractColumn.class || declaringClass == AbstractObjectColumn.class) {
+        return P_CompareStrategy.VALUE;
+      }
+      if (declaringClass == AbstractStringColumn.class) {
+        return P_CompareStrategy.COLLATION;
+      }
+      return P_CompareStrategy.COLUMN;
+    }
+  };
+
+  private static final ClassValue<Boolean> CELL_VALUE_COLUMNS = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> columnClass) {
+      return !ConfigurationUtility.isMethodOverwrite(AbstractColumn.class, "getValue", new Class[]{ITableRow.class}, columnClass)
+          && !ConfigurationUtility.isMethodOverwrite(AbstractColumn.class, "getValueInternal", new Class[]{ITableRow.class}, columnClass);
+    }
+  };
+
+  private final List<IColumn<?>> m_columns;
+  private Collator m_collator;
+
+  public TableRowSorter(Collection<? extends IColumn<?>> columns) {
+    m_columns = new ArrayList<>(columns);
+  }
+
+  /**
+   * Sorts the given rows. The sort is stable, i.e. rows which are equal in all columns keep their order.
+   */
+  public void sort(List<ITableRow> rows) {
+    if (rows.size() < 2 || m_columns.isEmpty()) {
+      return;
+    }
+    ITableRow[] rowArray = rows.toArray(new ITableRow[0]);
+    int[] permutation = new int[rowArray.length];
+    for (int i = 0; i < permutation.length; i++) {
+      permutation[i] = i;
+    }
+    sortRange(rowArray, permutation, 0, permutation.length, 0);
+    for (int i = 0; i < permutation.length; i++) {
+      rows.set(i, rowArray[permutation[i]]);
+    }
+  }
+
+  /**
+   * Sorts the rows <code>permutation[from]</code> to <code>permutation[to - 1]</code> by the column with the given
+   * index and then sorts each range of equal rows by the next column.
+   */
+  protected void sortRange(ITableRow[] rowArray, int[] permutation, int from, int to, int columnIndex) {
+    int len = to - from;
+    if (len < 2 || columnIndex >= m_columns.size()) {
+      return;
+    }
+    ITableRow[] rangeRows = new ITableRow[len];
+    for (int i = 0; i < len; i++) {
+      rangeRows[i] = rowArray[permutation[from + i]];
+    }
+    P_SortKey key = createSortKey(m_columns.get(columnIndex), rangeRows);
+    int[] order = new int[len];
+    for (int i = 0; i < len; i++) {
+      order[i] = i;
+    }
+    sortIndexes(order, key, len >= PARALLEL_THRESHOLD && key.isParallelSafe());
+
+    int[] rangePermutation = new int[len];
+    for (int i = 0; i < len; i++) {
+      rangePermutation[i] = permutation[from + order[i]];
+    }
+    System.arraycopy(rangePermutation, 0, permutation, from, len);
+
+    int runStart = 0;
+    for (int i = 1; i <= len; i++) {
+      if (i == len || key.compare(order[i - 1], order[i]) != 0) {
+        if (i - runStart > 1) {
+          sortRange(rowArray, permutation, from + runStart, from + i, columnIndex + 1);
+        }
+        runStart = i;
+      }
+    }
+  }
+
+  protected P_SortKey createSortKey(IColumn<?> column, ITableRow[] rows) {
+    // only consider sortAscending flag when sort is active (see TableRowComparator)
+    boolean descending = column.isSortActive() && !column.getHeaderCell().isSortAscending();
+    P_CompareStrategy strategy = COMPARE_STRATEGIES.get(column.getClass());
+    if (strategy == P_CompareStrategy.COLLATION) {
+      return createCollationSortKey(column, rows, descending);
+    }
+    if (strategy == P_CompareStrategy.VALUE) {
+      P_SortKey columnarKey = createColumnarSortKey(column, rows, descending);
+      if (columnarKey != null) {
+        return columnarKey;
+      }
+      Object[] values = new Object[rows.length];
+      for (int i = 0; i < rows.length; i++) {
+        values[i] = column.getValue(rows[i]);
+      }
+      P_SortKey key = createValueSortKey(values, descending);
+      if (key != null) {
+        return key;
+      }
+    }
+    return new P_ColumnSortKey(column, rows, descending);
+  }
+
+  /**
+   * @return sort key read from the column arrays of the {@link ColumnarRowStore} of the rows or <code>null</code> if
+   *         not all rows are kept in the same store or the values of the column are not kept unboxed.
+   */
+  protected P_SortKey createColumnarSortKey(IColumn<?> column, ITableRow[] rows, boolean descending) {
+    if (!(rows[0] instanceof ColumnarTableRow) || !CELL_VALUE_COLUMNS.get(column.getClass())) {
+      return null;
+    }
+    ColumnarRowStore store = ((ColumnarTableRow) rows[0]).getStore();
+    int columnIndex = column.getColumnIndex();
+    if (columnIndex < 0 || columnIndex >= store.getColumnCount() || !store.isPrimitive(columnIndex)) {
+      return null;
+    }
+    int[] slots = new int[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      if (!(rows[i] instanceof ColumnarTableRow) || ((ColumnarTableRow) rows[i]).getStore() != store || ((ColumnarTableRow) rows[i]).getSlot() < 0) {
+        return null;
+      }
+      slots[i] = ((ColumnarTableRow) rows[i]).getSlot();
+    }
+    boolean[] nulls = new boolean[rows.length];
+    long[] longKeys = new long[rows.length];
+    if (store.readLongKeys(columnIndex, slots, longKeys, nulls)) {
+      return new P_LongSortKey(longKeys, nulls, descending);
+    }
+    double[] doubleKeys = new double[rows.length];
+    if (store.readDoubleKeys(columnIndex, slots, doubleKeys, nulls)) {
+      return new P_DoubleSortKey(doubleKeys, nulls, descending);
+    }
+    return null;
+  }
+
+  protected P_SortKey createCollationSortKey(IColumn<?> column, ITableRow[] rows, boolean descending) {
+    if (m_collator == null) {
+      // same collator as StringUtility#compareIgnoreCase
+      m_collator = BEANS.get(CollatorProvider.class).getInstance(NlsLocale.get());
+      m_collator.setStrength(Collator.SECONDARY);
+    }
+    CollationKey[] keys = new CollationKey[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      Object value = column.getValue(rows[i]);
+      if (value != null && !value.toString().isEmpty()) {
+        keys[i] = m_collator.getCollationKey(value.toString());
+      }
+    }
+    return new P_ComparableSortKey(keys, descending);
+  }
+
+  /**
+   * @return sort key with the same order as {@link AbstractColumn#compareTableRows(ITableRow, ITableRow)} or
+   *         <code>null</code> if the values are not all of the same {@link Comparable} type.
+   */
+  protected P_SortKey createValueSortKey(Object[] values, boolean descending) {
+    Class<?> type = null;
+    for (Object value : values) {
+      if (value == null) {
+        continue;
+      }
+      if (type == null) {
+        type = value.getClass();
+      }
+      else if (type != value.getClass()) {
+        return null;
+      }
+    }
+    if (type == null) {
+      // all values are null
+      return new P_ComparableSortKey(new Comparable<?>[values.length], descending);
+    }
+    if (!Comparable.class.isAssignableFrom(type)) {
+      return null;
+    }
+    if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class || type == Boolean.class || type == Date.class) {
+      long[] keys = new long[values.length];
+      boolean[] nulls = new boolean[values.length];
+      for (int i = 0; i < values.length; i++) {
+        Object value = values[i];
+        if (value == null) {
+          nulls[i] = true;
+        }
+        else if (value instanceof Boolean) {
+          keys[i] = ((Boolean) value).booleanValue() ? 1 : 0;
+        }
+        else if (value instanceof Date) {
+          keys[i] = ((Date) value).getTime();
+        }
+        else {
+          keys[i] = ((Number) value).longValue();
+        }
+      }
+      return new P_LongSortKey(keys, nulls, descending);
+    }
+    if (type == Double.class || type == Float.class) {
+      double[] keys = new double[values.length];
+      boolean[] nulls = new boolean[values.length];
+      for (int i = 0; i < values.length; i++) {
+        if (values[i] == null) {
+          nulls[i] = true;
+        }
+        else {
+          keys[i] = ((Number) values[i]).doubleValue();
+        }
+      }
+      return new P_DoubleSortKey(keys, nulls, descending);
+    }
+    Comparable<?>[] keys = new Comparable<?>[values.length];
+    for (int i = 0; i < values.length; i++) {
+      keys[i] = (Comparable<?>) values[i];
+    }
+    return new P_ComparableSortKey(keys, descending);
+  }
+
+  /**
+   * Stable merge sort of the given indexes.
+   */
+  protected static void sortIndexes(int[] indexes, P_SortKey key, boolean parallel) {
+    int[] buffer = indexes.clone();
+    if (parallel) {
+      ForkJoinPool.commonPool().invoke(new P_MergeSortTask(buffer, indexes, 0, indexes.length, key));
+    }
+    else {
+      mergeSort(buffer, indexes, 0, indexes.length, key);
+    }
+  }
+
+  /**
+   * Sorts <code>src[from..to)</code> into <code>dst[from..to)</code>. Both ranges must contain the same indexes on entry.
+   */
+  private static void mergeSort(int[] src, int[] dst, int from, int to, P_SortKey key) {
+    if (to - from < INSERTION_SORT_THRESHOLD) {
+      insertionSort(dst, from, to, key);
+      return;
+    }
+    int mid = (from + to) >>> 1;
+    mergeSort(dst, src, from, mid, key);
+    mergeSort(dst, src, mid, to, key);
+    merge(src, dst, from, mid, to, key);
+  }
+
+  private static void insertionSort(int[] a, int from, int to, P_SortKey key) {
+    for (int i = from + 1; i < to; i++) {
+      int value = a[i];
+      int j = i - 1;
+      while (j >= from && key.compare(a[j], value) > 0) {
+        a[j + 1] = a[j];
+        j--;
+      }
+      a[j + 1] = value;
+    }
+  }
+
+  private static void merge(int[] src, int[] dst, int from, int mid, int to, P_SortKey key) {
+    if (key.compare(src[mid - 1], src[mid]) <= 0) {
+      System.arraycopy(src, from, dst, from, to - from);
+      return;
+    }
+    int i = from;
+    int j = mid;
+    for (int k = from; k < to; k++) {
+      if (j >= to || (i < mid && key.compare(src[i], src[j]) <= 0)) {
+        dst[k] = src[i++];
+      }
+      else {
+        dst[k] = src[j++];
+      }
+    }
+  }
+
+  private enum P_CompareStrategy {
+    /**
+     * compare by the values of the column (see {@link AbstractColumn#compareTableRows(ITableRow, ITableRow)})
+     */
+    VALUE,
+    /**
+     * compare by the collation keys of the values (see {@link AbstractStringColumn#compareTableRows(ITableRow, ITableRow)})
+     */
+    COLLATION,
+    /**
+     * compare using {@link IColumn#compareTableRows(ITableRow, ITableRow)}
+     */
+    COLUMN
+  }
+
+  protected abstract static class P_SortKey {
+    private final boolean m_descending;
+
+    protected P_SortKey(boolean descending) {
+      m_descending = descending;
+    }
+
+    public int compare(int i, int j) {
+      int c = compareAscending(i, j);
+      return m_descending ? -c : c;
+    }
+
+    protected abstract int compareAscending(int i, int j);
+
+    /**
+     * @return <code>true</code> if {@link #compare(int, int)} may be called from other threads
+     */
+    public boolean isParallelSafe() {
+      return true;
+    }
+  }
+
+  protected static class P_LongSortKey extends P_SortKey {
+    private final long[] m_keys;
+    private final boolean[] m_nulls;
+
+    protected P_LongSortKey(long[] keys, boolean[] nulls, boolean descending) {
+      super(descending);
+      m_keys = keys;
+      m_nulls = nulls;
+    }
+
+    @Override
+    protected int compareAscending(int i, int j) {
+      if (m_nulls[i] || m_nulls[j]) {
+        return Boolean.compare(!m_nulls[i], !m_nulls[j]);
+      }
+      return Long.compare(m_keys[i], m_keys[j]);
+    }
+  }
+
+  protected static class P_DoubleSortKey extends P_SortKey {
+    private final double[] m_keys;
+    private final boolean[] m_nulls;
+
+    protected P_DoubleSortKey(double[] keys, boolean[] nulls, boolean descending) {
+      super(descending);
+      m_keys = keys;
+      m_nulls = nulls;
+    }
+
+    @Override
+    protected int compareAscending(int i, int j) {
+      if (m_nulls[i] || m_nulls[j]) {
+        return Boolean.compare(!m_nulls[i], !m_nulls[j]);
+      }
+      return Double.compare(m_keys[i], m_keys[j]);
+    }
+  }
+
+  protected static class P_ComparableSortKey extends P_SortKey {
+    private final Comparable<?>[] m_keys;
+
+    protected P_ComparableSortKey(Comparable<?>[] keys, boolean descending) {
+      super(descending);
+      m_keys = keys;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected int compareAscending(int i, int j) {
+      Comparable<Object> a = (Comparable<Object>) m_keys[i];
+      Comparable<Object> b = (Comparable<Object>) m_keys[j];
+      if (a == null || b == null) {
+        return Boolean.compare(a != null, b != null);
+      }
+      return a.compareTo(b);
+    }
+  }
+
+  protected static class P_ColumnSortKey extends P_SortKey {
+    private final IColumn<?> m_column;
+    private final ITableRow[] m_rows;
+
+    protected P_ColumnSortKey(IColumn<?> column, ITableRow[] rows, boolean descending) {
+      super(descending);
+      m_column = column;
+      m_rows = rows;
+    }
+
+    @Override
+    protected int compareAscending(int i, int j) {
+      return m_column.compareTableRows(m_rows[i], m_rows[j]);
+    }
+
+    @Override
+    public boolean isParallelSafe() {
+      // custom compare methods may depend on the calling thread (e.g. its session or locale)
+      return false;
+    }
+  }
+
+  protected static class P_MergeSortTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int[] m_src;
+    private final int[] m_dst;
+    private final int m_from;
+    private final int m_to;
+    private final transient P_SortKey m_key;
+
+    protected P_MergeSortTask(int[] src, int[] dst, int from, int to, P_SortKey key) {
+      m_src = src;
+      m_dst = dst;
+      m_from = from;
+      m_to = to;
+      m_key = key;
+    }
+
+    @Override
+    protected void compute() {
+      if (m_to - m_from <= PARALLEL_GRANULARITY) {
+        mergeSort(m_src, m_dst, m_from, m_to, m_key);
+        return;
+      }
+      int mid = (m_from + m_to) >>> 1;
+      invokeAll(new P_MergeSortTask(m_dst, m_src, m_from, mid, m_key), new P_MergeSortTask(m_dst, m_src, mid, m_to, m_key));
+      merge(m_src, m_dst, m_from, mid, m_to, m_key);
+    }
+  }
+}
@@ -90,8 +90,8 @@ import org.eclipse.scout.rt.client.ui.form.fields.composer.IComposerField;
 import org.eclipse.scout.rt.client.ui.form.fields.groupbox.IGroupBox;
 import org.eclipse.scout.rt.client.ui.form.fields.tabbox.ITabBox;
 import org.eclipse.scout.rt.client.ui.form.fields.wrappedform.IWrappedFormField;
-import org.eclipse.scout.rt.client.ui.form.internal.FindFieldByFormDataIdVisitor;
 import org.eclipse.scout.rt.client.ui.form.internal.FindFieldByXmlIdsVisitor;
+import org.eclipse.scout.rt.client.ui.form.internal.FormDataMappingCache;
 import org.eclipse.scout.rt.client.ui.form.internal.FormDataPropertyFilter;
 import org.eclipse.scout.rt.client.ui.messagebox.IMessageBox;
 import org.eclipse.scout.rt.client.ui.messagebox.MessageBoxes;
@@ -136,7 +136,6 @@ import org.eclipse.scout.rt.shared.data.basic.NamedBitMaskHelper;
 import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
 import org.eclipse.scout.rt.shared.data.form.IPropertyHolder;
 import org.eclipse.scout.rt.shared.data.form.fields.AbstractFormFieldData;
-import org.eclipse.scout.rt.shared.data.form.properties.AbstractPropertyData;
 import org.eclipse.scout.rt.shared.extension.AbstractExtension;
 import org.eclipse.scout.rt.shared.extension.ContributionComposite;
 import org.eclipse.scout.rt.shared.extension.IContributionOwner;
@@ -1058,12 +1057,17 @@ public abstract class AbstractForm extends AbstractWidget implements IForm, IExt
       Class<?> dto = getDataAnnotationValue(ex.getClass());
       if (dto != null && !Object.class.equals(dto)) {
         Object propertyTarget = target.getContribution(dto);
-        Map<String, Object> fieldProperties = BeanUtility.getProperties(ex, AbstractFormField.class, new FormDataPropertyFilter());
-        BeanUtility.setProperties(propertyTarget, fieldProperties, false, null);
+        exportProperties(ex, AbstractFormField.class, propertyTarget);
       }
     }
   }
 
+  private static void exportProperties(Object source, Class<?> stopClass, Object target) {
+    BEANS.get(FormDataMappingCache.class)
+        .getPropertyMapping(source.getClass(), stopClass, target.getClass(), new FormDataPropertyFilter())
+        .copy(source, target);
+  }
+
   @Override
   public AbstractFormData createFormData() {
     return interceptCreateFormData();
@@ -1071,9 +1075,9 @@ public abstract class AbstractForm extends AbstractWidget implements IForm, IExt
 
   @Override
   public void exportFormData(final AbstractFormData target) {
+    FormDataMappingCache mappingCache = BEANS.get(FormDataMappingCache.class);
     // locally declared form properties
-    Map<String, Object> properties = BeanUtility.getProperties(this, AbstractForm.class, new FormDataPropertyFilter());
-    BeanUtility.setProperties(target, properties, false, null);
+    exportProperties(this, AbstractForm.class, target);
     // properties in extensions of form
     exportExtensionProperties(this, target);
     final Set<IFormField> exportedFields = new HashSet<>();
@@ -1085,13 +1089,10 @@ public abstract class AbstractForm extends AbstractWidget implements IForm, IExt
         String fieldQId = e.getKey();
         AbstractFormFieldData data = e.getValue();
 
-        FindFieldByFormDataIdVisitor v = new FindFieldByFormDataIdVisitor(fieldQId, this);
-        visit(v, IFormField.class);
-        IFormField f = v.getField();
+        IFormField f = mappingCache.findField(this, fieldQId);
         if (f != null) {
           // field properties
-          properties = BeanUtility.getProperties(f, AbstractFormField.class, new FormDataPropertyFilter());
-          BeanUtility.setProperties(data, properties, false, null);
+          exportProperties(f, AbstractFormField.class, data);
           exportExtensionProperties(f, data);
 
           // field state
@@ -1144,23 +1145,10 @@ public abstract class AbstractForm extends AbstractWidget implements IForm, IExt
     importFormData(source, valueChangeTriggersEnabled, filter, null);
   }
 
-  private void removeNotSetProperties(IPropertyHolder dto, Map<String, Object> properties) {
-    for (Iterator<String> it = properties.keySet().iterator(); it.hasNext();) {
-      String propertyId = it.next();
-      AbstractPropertyData pd = dto.getPropertyById(propertyId);
-      if (pd != null && !pd.isValueSet()) {
-        it.remove();
-      }
-    }
-  }
-
   private void importProperties(IPropertyHolder source, Object target, Class<?> stopClass, IPropertyFilter filter) {
+    FormDataMappingCache mappingCache = BEANS.get(FormDataMappingCache.class);
     // local properties
-    Map<String, Object> properties = BeanUtility.getProperties(source, stopClass, filter);
-    if (!properties.isEmpty()) {
-      removeNotSetProperties(source, properties);
-      BeanUtility.setProperties(target, properties, false, null);
-    }
+    mappingCache.getPropertyMapping(source.getClass(), stopClass, target.getClass(), filter).copy(source, target, source);
 
     // properties of the extensions
     List<Object> allContributions = source.getAllContributions();
@@ -1168,12 +1156,10 @@ public abstract class AbstractForm extends AbstractWidget implements IForm, IExt
       for (Object con : allContributions) {
         if (con instanceof IPropertyHolder) {
           IPropertyHolder data = (IPropertyHolder) con;
-          Map<String, Object> extensionProperties = BeanUtility.getProperties(data, stopClass, filter);
-          if (!extensionProperties.isEmpty()) {
+          if (BeanUtility.getFastPropertyDescriptors(data.getClass(), stopClass, filter).length > 0) {
             Object clientPart = getClientPartOfExtensionOrContributionRec(data, target);
             if (clientPart != null) {
-              removeNotSetProperties(data, extensionProperties);
-              BeanUtility.setProperties(clientPart, extensionProperties, false, null);
+              mappingCache.getPropertyMapping(data.getClass(), stopClass, clientPart.getClass(), filter).copy(data, clientPart, data);
             }
             else {
               LOG.warn("cannot find extension for property data '{}' in form '{}'.", data.getClass().getName(), this.getClass().getName());
@@ -1240,6 +1226,7 @@ public abstract class AbstractForm extends AbstractWidget implements IForm, IExt
 
     // form properties
     importProperties(source, this, AbstractFormData.class, filter);
+    FormDataMappingCache mappingCache = BEANS.get(FormDataMappingCache.class);
 
     // sort fields, first non-slave fields, then slave fields in transitive order
     Deque<IFormField> masterList = new LinkedList<>();
@@ -1252,9 +1239,7 @@ public abstract class AbstractForm extends AbstractWidget implements IForm, IExt
       for (Entry<String, AbstractFormFieldData> e : sourceMap.entrySet()) {
         String fieldQId = e.getKey();
         AbstractFormFieldData data = e.getValue();
-        FindFieldByFormDataIdVisitor v = new FindFieldByFormDataIdVisitor(fieldQId, this);
-        visit(v, IFormField.class);
-        IFormField f = v.getField();
+        IFormField f = mappingCache.findField(this, fieldQId);
         if (f != null) {
           if (formFieldFilter == null || formFieldFilter.accept(f)) {
             dataMap.put(f, data);
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.form.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.scout.rt.client.ui.IWidget;
+import org.eclipse.scout.rt.client.ui.form.IForm;
+import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.reflect.IPropertyFilter;
+import org.eclipse.scout.rt.platform.util.CompositeObject;
+import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
+
+/**
+ * Caches the mapping between forms and their form data, so that {@link IForm#exportFormData(AbstractFormData)} and
+ * {@link IForm#importFormData(AbstractFormData)} neither search the field tree for every form field data nor resolve
+ * bean properties on every call.
+ * <ul>
+ * <li>Fields are cached per form class and qualified form data field id as path of child indices starting at the form.
+ * Since a form instance may have another field tree than the one the path was recorded on (e.g. injected or dynamic
+ * fields), a resolved field is only used if the classes of all widgets on the path and the field id match the recorded
+ * ones. Otherwise the field is searched using {@link FindFieldByFormDataIdVisitor} and the path is recorded again.</li>
+ * <li>Properties are cached as {@link FormDataPropertyMapping} per source class, stop class and target class, if the
+ * default {@link FormDataPropertyFilter} is used.</li>
+ * </ul>
+ *
+ * @since 11.0
+ */
+@ApplicationScoped
+public class FormDataMappingCache {
+
+  private final Map<CompositeObject/*form class, qualified field id*/, P_FieldPath> m_fieldPaths = new ConcurrentHashMap<>();
+  private final Map<CompositeObject/*source class, stop class, target class*/, FormDataPropertyMapping> m_propertyMappings = new ConcurrentHashMap<>();
+
+  /**
+   * @return the field of the given form that corresponds to the given qualified form data field id or
+   *         <code>null</code> if there is no such field
+   */
+  public IFormField findField(IForm form, String fieldQId) {
+    CompositeObject key = new CompositeObject(form.getClass(), fieldQId);
+    P_FieldPath path = m_fieldPaths.get(key);
+    if (path != null) {
+      IFormField field = path.resolve(form);
+      if (field != null) {
+        return field;
+      }
+    }
+
+    FindFieldByFormDataIdVisitor v = new FindFieldByFormDataIdVisitor(fieldQId, form);
+    form.visit(v, IFormField.class);
+    IFormField field = v.getField();
+    if (field != null) {
+      path = P_FieldPath.create(form, field);
+      if (path != null) {
+        m_fieldPaths.put(key, path);
+      }
+    }
+    return field;
+  }
+
+  /**
+   * @return the mapping of the properties of the source class up to (and excluding) the stop class to the properties
+   *         of the target class with the same name
+   */
+  public FormDataPropertyMapping getPropertyMapping(Class<?> sourceClass, Class<?> stopClass, Class<?> targetClass, IPropertyFilter filter) {
+    if (filter == null || filter.getClass() != FormDataPropertyFilter.class) {
+      // custom filters may be stateful, hence their mappings are not cached
+      return new FormDataPropertyMapping(sourceClass, stopClass, targetClass, filter);
+    }
+    return m_propertyMappings.computeIfAbsent(new CompositeObject(sourceClass, stopClass, targetClass),
+        k -> new FormDataPropertyMapping(sourceClass, stopClass, targetClass, filter));
+  }
+
+  /**
+   * Clears all cached mappings.
+   */
+  public void clear() {
+    m_fieldPaths.clear();
+    m_propertyMappings.clear();
+  }
+
+  protected static final class P_FieldPath {
+    private final int[] m_childIndices;
+    private final Class<?>[] m_widgetClasses; // class of the widget at each child index, the last one is the field
+    private final String m_fieldId;
+
+    private P_FieldPath(int[] childIndices, Class<?>[] widgetClasses, String fieldId) {
+      m_childIndices = childIndices;
+      m_widgetClasses = widgetClasses;
+      m_fieldId = fieldId;
+    }
+
+    /**
+     * @return the path from the form to the field or <code>null</code> if the field is not properly connected to its
+     *         parents
+     */
+    static P_FieldPath create(IForm form, IFormField field) {
+      List<Integer> indices = new ArrayList<>();
+      List<Class<?>> widgetClasses = new ArrayList<>();
+      IWidget w = field;
+      while (w != form) {
+        IWidget parent = w.getParent();
+        if (parent == null) {
+          return null;
+        }
+        int index = indexOf(parent.getChildren(), w);
+        if (index < 0) {
+          return null;
+        }
+        indices.add(index);
+        widgetClasses.add(w.getClass());
+        w = parent;
+      }
+      Collections.reverse(indices);
+      Collections.reverse(widgetClasses);
+      return new P_FieldPath(indices.stream().mapToInt(Integer::intValue).toArray(), widgetClasses.toArray(new Class<?>[0]), field.getFieldId());
+    }
+
+    private static int indexOf(List<? extends IWidget> children, IWidget w) {
+      for (int i = 0; i < children.size(); i++) {
+        if (children.get(i) == w) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * @return the field at this path or <code>null</code> if the form has no matching field at this path
+     */
+    IFormField resolve(IForm form) {
+      IWidget w = form;
+      for (int i = 0; i < m_childIndices.length; i++) {
+        List<? extends IWidget> children = w.getChildren();
+        int index = m_childIndices[i];
+        if (index >= children.size()) {
+          return null;
+        }
+        w = children.get(index);
+        if (w == null || w.getClass() != m_widgetClasses[i]) {
+          return null;
+        }
+      }
+      if (!(w instanceof IFormField) || !m_fieldId.equals(((IFormField) w).getFieldId())) {
+        return null;
+      }
+      return (IFormField) w;
+    }
+  }
+}
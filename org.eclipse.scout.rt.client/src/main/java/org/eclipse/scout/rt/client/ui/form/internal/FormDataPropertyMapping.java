@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.form.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.reflect.FastBeanInfo;
+import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
+import org.eclipse.scout.rt.platform.reflect.IPropertyFilter;
+import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
+import org.eclipse.scout.rt.shared.data.form.IPropertyHolder;
+import org.eclipse.scout.rt.shared.data.form.properties.AbstractPropertyData;
+
+/**
+ * Precomputed copy of the bean properties between a form (or form field) and its form data. Same as
+ * {@link BeanUtility#getProperties(Object, Class, IPropertyFilter)} followed by
+ * {@link BeanUtility#setProperties(Object, java.util.Map, boolean, IPropertyFilter)}, but the matching of read and
+ * write methods is only done once.
+ *
+ * @see FormDataMappingCache
+ * @since 11.0
+ */
+public class FormDataPropertyMapping {
+
+  private final Class<?> m_sourceClass;
+  private final Class<?> m_targetClass;
+  private final FastPropertyDescriptor[] m_readProperties;
+  private final FastPropertyDescriptor[] m_writeProperties;
+
+  public FormDataPropertyMapping(Class<?> sourceClass, Class<?> stopClass, Class<?> targetClass, IPropertyFilter filter) {
+    m_sourceClass = sourceClass;
+    m_targetClass = targetClass;
+    FastBeanInfo targetInfo = BeanUtility.getFastBeanInfo(targetClass, null);
+    List<FastPropertyDescriptor> readProperties = new ArrayList<>();
+    List<FastPropertyDescriptor> writeProperties = new ArrayList<>();
+    for (FastPropertyDescriptor readProperty : BeanUtility.getFastPropertyDescriptors(sourceClass, stopClass, filter)) {
+      if (readProperty.getReadMethod() == null) {
+        continue;
+      }
+      FastPropertyDescriptor writeProperty = targetInfo.getPropertyDescriptor(readProperty.getName());
+      if (writeProperty != null && writeProperty.getWriteMethod() != null) {
+        readProperties.add(readProperty);
+        writeProperties.add(writeProperty);
+      }
+    }
+    m_readProperties = readProperties.toArray(new FastPropertyDescriptor[0]);
+    m_writeProperties = writeProperties.toArray(new FastPropertyDescriptor[0]);
+  }
+
+  public Class<?> getSourceClass() {
+    return m_sourceClass;
+  }
+
+  public Class<?> getTargetClass() {
+    return m_targetClass;
+  }
+
+  public boolean isEmpty() {
+    return m_readProperties.length == 0;
+  }
+
+  /**
+   * Copies all mapped properties from source to target.
+   */
+  public void copy(Object source, Object target) {
+    copy(source, target, null);
+  }
+
+  /**
+   * Copies the mapped properties from source to target.
+   *
+   * @param valueSetHolder
+   *          if not <code>null</code>, properties having a property data in this holder are only copied if their value
+   *          is set (see {@link AbstractPropertyData#isValueSet()})
+   */
+  public void copy(Object source, Object target, IPropertyHolder valueSetHolder) {
+    for (int i = 0; i < m_readProperties.length; i++) {
+      FastPropertyDescriptor readProperty = m_readProperties[i];
+      if (valueSetHolder != null) {
+        AbstractPropertyData pd = valueSetHolder.getPropertyById(readProperty.getName());
+        if (pd != null && !pd.isValueSet()) {
+          continue;
+        }
+      }
+      Object value;
+      try {
+        value = readProperty.readValue(source);
+      }
+      catch (Exception e) {
+        throw new ProcessingException("object: " + source, e);
+      }
+      FastPropertyDescriptor writeProperty = m_writeProperties[i];
+      try {
+        writeProperty.writeValue(target, TypeCastUtility.castValue(value, writeProperty.getWriteMethod().getParameterTypes()[0]));
+      }
+      catch (Exception e) {
+        throw new ProcessingException("property " + writeProperty.getName() + " with value " + value, e);
+      }
+    }
+  }
+}
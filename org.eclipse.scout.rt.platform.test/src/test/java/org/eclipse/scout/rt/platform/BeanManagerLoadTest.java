@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.scout.rt.platform.internal.BeanManagerImplementor;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of contended bean lookups while beans are registered concurrently.
+ */
+@Category(ResourceIntensiveTest.class)
+public class BeanManagerLoadTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BeanManagerLoadTest.class);
+
+  /*
+   * Be careful when changing these constants.
+   * Performance testing based on execution time is not very accurate because it expects a minimal base performance of
+   * the system the test is executed on.
+   */
+  private static final int THREAD_COUNT = 4 * Runtime.getRuntime().availableProcessors();
+  private static final int LOOKUPS_PER_THREAD = 1_000_000;
+
+  @Test(timeout = 60_000)
+  public void testContendedLookup() throws InterruptedException {
+    final BeanManagerImplementor beanManager = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+    beanManager.registerBean(new BeanMetaData(TestService.class).withApplicationScoped(true));
+
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicLong hits = new AtomicLong();
+    List<Thread> threads = new ArrayList<>(THREAD_COUNT);
+    for (int i = 0; i < THREAD_COUNT; i++) {
+      Thread t = new Thread(() -> {
+        try {
+          start.await();
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        long count = 0;
+        for (int j = 0; j < LOOKUPS_PER_THREAD; j++) {
+          if (beanManager.getBean(ITestService.class).getInstance() != null) {
+            count++;
+          }
+        }
+        hits.addAndGet(count);
+      }, "bean-lookup-" + i);
+      threads.add(t);
+      t.start();
+    }
+
+    long t0 = System.nanoTime();
+    start.countDown();
+    // concurrent modifications invalidate the query cache
+    for (int i = 0; i < 100; i++) {
+      beanManager.unregisterBean(beanManager.registerClass(OtherBean.class));
+    }
+    for (Thread t : threads) {
+      t.join();
+    }
+    long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
+
+    assertEquals((long) THREAD_COUNT * LOOKUPS_PER_THREAD, hits.get());
+    LOG.info("{} threads performed {} bean lookups in {} ms ({} lookups/ms)", THREAD_COUNT, hits.get(), millis, hits.get() / Math.max(1, millis));
+  }
+
+  private interface ITestService {
+  }
+
+  private static class TestService implements ITestService {
+  }
+
+  private static class OtherBean {
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.internal.BeanManagerImplementor;
+import org.junit.Test;
+
+/**
+ * Tests that cached query results of {@link BeanManagerImplementor} are discarded on modifications.
+ */
+public class BeanManagerQueryCacheTest {
+
+  @Test
+  public void testRegisterInvalidatesCache() {
+    BeanManagerImplementor context = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+    assertNull(context.optBean(ITestObject.class));
+
+    context.registerClass(TestObject.class);
+    assertEquals(TestObject.class, context.optBean(ITestObject.class).getBeanClazz());
+
+    context.registerClass(TestObjectEx.class);
+    assertEquals(TestObjectEx.class, context.optBean(ITestObject.class).getBeanClazz());
+    assertSame(context.optBean(ITestObject.class), context.optBean(ITestObject.class));
+  }
+
+  @Test
+  public void testUnregisterInvalidatesCache() {
+    BeanManagerImplementor context = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+    IBean<TestObject> bean = context.registerClass(TestObject.class);
+    IBean<TestObjectEx> beanEx = context.registerClass(TestObjectEx.class);
+    assertEquals(TestObjectEx.class, context.optBean(ITestObject.class).getBeanClazz());
+
+    context.unregisterBean(beanEx);
+    assertEquals(TestObject.class, context.optBean(ITestObject.class).getBeanClazz());
+    assertEquals(1, context.getBeans(ITestObject.class).size());
+
+    context.unregisterBean(bean);
+    assertNull(context.optBean(ITestObject.class));
+    assertTrue(context.getBeans(ITestObject.class).isEmpty());
+  }
+
+  @Test
+  public void testGetBeansIsSnapshot() {
+    BeanManagerImplementor context = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+    context.registerClass(TestObject.class);
+    List<IBean<ITestObject>> beans = context.getBeans(ITestObject.class);
+    context.registerClass(OtherTestObject.class);
+
+    assertEquals(1, beans.size());
+    assertEquals(2, context.getBeans(ITestObject.class).size());
+  }
+
+  private interface ITestObject {
+  }
+
+  private static class TestObject implements ITestObject {
+  }
+
+  @Replace
+  private static class TestObjectEx extends TestObject {
+  }
+
+  private static class OtherTestObject implements ITestObject {
+  }
+}
@@ -47,6 +47,60 @@ public class CacheBuilderTest {
     assertTrue(cacheDelegate instanceof BasicCache);
   }
 
+  @Test
+  public void testTinyLfuEvictionPolicy() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(CACHE_ID + "TinyLfu")
+        .withValueResolver(key -> "v" + key)
+        .withSizeBound(10)
+        .withEvictionPolicy(CacheEvictionPolicy.TINY_LFU)
+        .withReplaceIfExists(true)
+        .build();
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals("v" + i, cache.get(i));
+    }
+    assertEquals(10, cache.getUnmodifiableMap().size());
+
+    ICacheStatistics statistics = cache.getAdapter(ICacheStatistics.class);
+    assertNotNull(statistics);
+    assertEquals(100, statistics.getMissCount());
+    assertEquals(90, statistics.getEvictionCount());
+  }
+
+  @Test
+  public void testMaximumWeight() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(CACHE_ID + "MaximumWeight")
+        .withValueResolver(key -> "value" + key)
+        .withMaximumWeight(60L, (key, value) -> value.length())
+        .withReplaceIfExists(true)
+        .build();
+
+    for (int i = 0; i < 10; i++) {
+      cache.get(i);
+    }
+    assertEquals(10, cache.getUnmodifiableMap().size());
+    assertNotNull(cache.getAdapter(ICacheStatistics.class));
+  }
+
+  @Test
+  public void testLruHasNoStatistics() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(CACHE_ID + "Lru")
+        .withValueResolver(key -> "v" + key)
+        .withSizeBound(10)
+        .withReplaceIfExists(true)
+        .build();
+    assertNull(cache.getAdapter(ICacheStatistics.class));
+  }
+
   protected static class TestCacheWrapper extends AbstractCacheWrapper<Integer, String> {
 
     public TestCacheWrapper(ICache<Integer, String> delegate) {
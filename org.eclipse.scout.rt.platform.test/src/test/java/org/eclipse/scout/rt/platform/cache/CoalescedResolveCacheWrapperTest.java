@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CoalescedResolveCacheWrapper}
+ *
+ * @since 11.0
+ */
+public class CoalescedResolveCacheWrapperTest {
+
+  private ExecutorService m_executor;
+
+  @Before
+  public void before() {
+    m_executor = Executors.newCachedThreadPool();
+  }
+
+  @After
+  public void after() {
+    m_executor.shutdownNow();
+  }
+
+  protected ICache<Integer, String> createCache(String id, ICacheValueResolver<Integer, String> resolver) {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(id)
+        .withValueResolver(resolver)
+        .withCoalescedResolve(true)
+        .withReplaceIfExists(true)
+        .build();
+    assertTrue(cache instanceof CoalescedResolveCacheWrapper);
+    return cache;
+  }
+
+  @Test
+  public void testConcurrentGetResolvesOnce() throws Exception {
+    AtomicInteger resolveCount = new AtomicInteger();
+    CountDownLatch resolveStarted = new CountDownLatch(1);
+    CountDownLatch resolveReleased = new CountDownLatch(1);
+    ICache<Integer, String> cache = createCache("CoalescedResolveCacheWrapperTest_testConcurrentGetResolvesOnce", key -> {
+      resolveCount.incrementAndGet();
+      resolveStarted.countDown();
+      await(resolveReleased);
+      return "v" + key;
+    });
+
+    List<Future<String>> futures = new ArrayList<>();
+    futures.add(m_executor.submit(() -> cache.get(1)));
+    assertTrue(resolveStarted.await(10, TimeUnit.SECONDS));
+    for (int i = 0; i < 10; i++) {
+      futures.add(m_executor.submit(() -> cache.get(1)));
+    }
+    resolveReleased.countDown();
+
+    for (Future<String> future : futures) {
+      assertEquals("v1", future.get(10, TimeUnit.SECONDS));
+    }
+    assertEquals(1, resolveCount.get());
+    assertEquals(0, ((CoalescedResolveCacheWrapper<Integer, String>) cache).getPendingResolveCount());
+  }
+
+  @Test
+  public void testGetAllResolvesOverlappingKeysOnce() throws Exception {
+    List<Set<Integer>> resolvedKeys = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch resolveStarted = new CountDownLatch(1);
+    CountDownLatch resolveReleased = new CountDownLatch(1);
+    ICache<Integer, String> cache = createCache("CoalescedResolveCacheWrapperTest_testGetAllResolvesOverlappingKeysOnce", new ICacheValueResolver<Integer, String>() {
+      @Override
+      public String resolve(Integer key) {
+        return "v" + key;
+      }
+
+      @Override
+      public Map<Integer, String> resolveAll(Set<Integer> keys) {
+        resolvedKeys.add(new HashSet<>(keys));
+        if (keys.contains(1)) {
+          resolveStarted.countDown();
+          await(resolveReleased);
+        }
+        return keys.stream().collect(Collectors.toMap(key -> key, key -> "v" + key));
+      }
+    });
+
+    Future<Map<Integer, String>> future1 = m_executor.submit(() -> cache.getAll(Arrays.asList(1, 2)));
+    assertTrue(resolveStarted.await(10, TimeUnit.SECONDS));
+    Future<Map<Integer, String>> future2 = m_executor.submit(() -> cache.getAll(Arrays.asList(2, 3)));
+    Thread.sleep(100); // let the second batch resolve key 3 and wait for key 2
+    resolveReleased.countDown();
+
+    assertEquals(Arrays.asList("v1", "v2"), new ArrayList<>(new TreeMap<>(future1.get(10, TimeUnit.SECONDS)).values()));
+    assertEquals(Arrays.asList("v2", "v3"), new ArrayList<>(new TreeMap<>(future2.get(10, TimeUnit.SECONDS)).values()));
+    assertEquals(Arrays.asList(new HashSet<>(Arrays.asList(1, 2)), Collections.singleton(3)), resolvedKeys);
+  }
+
+  @Test
+  public void testExceptionIsPropagated() {
+    ICache<Integer, String> cache = createCache("CoalescedResolveCacheWrapperTest_testExceptionIsPropagated", key -> {
+      throw new ProcessingException("Test exception - thrown");
+    });
+    try {
+      cache.get(1);
+      fail("exception expected");
+    }
+    catch (ProcessingException e) {
+      assertEquals(0, ((CoalescedResolveCacheWrapper<Integer, String>) cache).getPendingResolveCount());
+    }
+  }
+
+  @Test
+  public void testInvalidateDuringResolve() throws Exception {
+    CountDownLatch resolveStarted = new CountDownLatch(1);
+    CountDownLatch resolveReleased = new CountDownLatch(1);
+    ICache<Integer, String> cache = createCache("CoalescedResolveCacheWrapperTest_testInvalidateDuringResolve", key -> {
+      resolveStarted.countDown();
+      await(resolveReleased);
+      return "stale";
+    });
+
+    Future<String> future = m_executor.submit(() -> cache.get(1));
+    assertTrue(resolveStarted.await(10, TimeUnit.SECONDS));
+    cache.invalidate(new KeyCacheEntryFilter<>(Collections.singleton(1)), false);
+    resolveReleased.countDown();
+
+    assertEquals("stale", future.get(10, TimeUnit.SECONDS));
+    assertFalse(cache.getUnmodifiableMap().containsKey(1));
+  }
+
+  @Test
+  public void testWaitingCallerIsInterruptible() throws Exception {
+    CountDownLatch resolveStarted = new CountDownLatch(1);
+    CountDownLatch resolveReleased = new CountDownLatch(1);
+    ICache<Integer, String> cache = createCache("CoalescedResolveCacheWrapperTest_testWaitingCallerIsInterruptible", key -> {
+      resolveStarted.countDown();
+      await(resolveReleased);
+      return "v" + key;
+    });
+
+    Future<String> resolveFuture = m_executor.submit(() -> cache.get(1));
+    assertTrue(resolveStarted.await(10, TimeUnit.SECONDS));
+    AtomicReference<Thread> waitingThread = new AtomicReference<>();
+    Future<String> waitFuture = m_executor.submit(() -> {
+      waitingThread.set(Thread.currentThread());
+      return cache.get(1);
+    });
+    Thread.sleep(100); // let the second caller wait for the first one
+    waitingThread.get().interrupt();
+
+    assertWaitAborted(waitFuture, ThreadInterruptedError.class);
+    resolveReleased.countDown();
+    assertEquals("v1", resolveFuture.get(10, TimeUnit.SECONDS));
+    assertEquals(0, ((CoalescedResolveCacheWrapper<Integer, String>) cache).getPendingResolveCount());
+  }
+
+  @Test
+  public void testWaitingCallerIsCancellable() throws Exception {
+    CountDownLatch resolveStarted = new CountDownLatch(1);
+    CountDownLatch resolveReleased = new CountDownLatch(1);
+    ICache<Integer, String> cache = createCache("CoalescedResolveCacheWrapperTest_testWaitingCallerIsCancellable", key -> {
+      resolveStarted.countDown();
+      await(resolveReleased);
+      return "v" + key;
+    });
+
+    Future<String> resolveFuture = m_executor.submit(() -> cache.get(1));
+    assertTrue(resolveStarted.await(10, TimeUnit.SECONDS));
+    RunMonitor monitor = new RunMonitor();
+    Future<String> waitFuture = m_executor.submit(() -> {
+      RunMonitor.CURRENT.set(monitor);
+      try {
+        return cache.get(1);
+      }
+      finally {
+        RunMonitor.CURRENT.remove();
+      }
+    });
+    Thread.sleep(100); // let the second caller wait for the first one
+    monitor.cancel(false);
+
+    assertWaitAborted(waitFuture, FutureCancelledError.class);
+    resolveReleased.countDown();
+    assertEquals("v1", resolveFuture.get(10, TimeUnit.SECONDS));
+    assertEquals("v1", cache.get(1));
+  }
+
+  protected static void assertWaitAborted(Future<?> future, Class<? extends Throwable> expectedType) throws Exception {
+    try {
+      future.get(10, TimeUnit.SECONDS);
+      fail("waiting caller must be aborted");
+    }
+    catch (ExecutionException e) {
+      assertTrue(String.valueOf(e.getCause()), expectedType.isInstance(e.getCause()));
+    }
+  }
+
+  protected static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+    catch (InterruptedException e) {
+      throw new AssertionError(e);
+    }
+  }
+}
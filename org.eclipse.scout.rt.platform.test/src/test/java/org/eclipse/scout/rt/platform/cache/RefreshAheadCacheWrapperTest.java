@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link RefreshAheadCacheWrapper}
+ *
+ * @since 11.0
+ */
+@RunWith(PlatformTestRunner.class)
+public class RefreshAheadCacheWrapperTest {
+
+  private static final long REFRESH_AFTER_WRITE_MILLIS = 50;
+
+  protected RefreshAheadCacheWrapper<Integer, String> createCache(String id, ICacheValueResolver<Integer, String> resolver) {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(id)
+        .withValueResolver(resolver)
+        .withRefreshAfterWrite(REFRESH_AFTER_WRITE_MILLIS, TimeUnit.MILLISECONDS)
+        .withMaxConcurrentRefresh(2)
+        .withReplaceIfExists(true)
+        .build();
+    assertTrue(cache instanceof RefreshAheadCacheWrapper);
+    return (RefreshAheadCacheWrapper<Integer, String>) cache;
+  }
+
+  @Test
+  public void testStaleValueServedWhileRefreshing() throws InterruptedException {
+    AtomicInteger counter = new AtomicInteger();
+    RefreshAheadCacheWrapper<Integer, String> cache = createCache("RefreshAheadCacheWrapperTest_testStaleValueServedWhileRefreshing", key -> key + "." + counter.incrementAndGet());
+
+    assertEquals("1.1", cache.get(1));
+    assertEquals("1.1", cache.get(1));
+
+    Thread.sleep(2 * REFRESH_AFTER_WRITE_MILLIS);
+    assertEquals("1.1", cache.get(1)); // stale value, refresh is triggered
+    JobTestUtil.waitForCondition(() -> cache.getPendingRefreshCount() == 0);
+    assertEquals("1.2", cache.get(1));
+    assertEquals(2, counter.get());
+  }
+
+  @Test
+  public void testFailedRefreshKeepsValue() throws InterruptedException {
+    AtomicInteger counter = new AtomicInteger();
+    RefreshAheadCacheWrapper<Integer, String> cache = createCache("RefreshAheadCacheWrapperTest_testFailedRefreshKeepsValue", key -> {
+      if (counter.incrementAndGet() > 1) {
+        throw new ProcessingException("Test exception - thrown");
+      }
+      return "v" + key;
+    });
+
+    assertEquals("v1", cache.get(1));
+    Thread.sleep(2 * REFRESH_AFTER_WRITE_MILLIS);
+    assertEquals("v1", cache.get(1));
+    JobTestUtil.waitForCondition(() -> cache.getPendingRefreshCount() == 0);
+    assertEquals("v1", cache.get(1));
+    assertEquals(2, counter.get());
+  }
+
+  @Test
+  public void testRefresh() {
+    AtomicInteger counter = new AtomicInteger();
+    RefreshAheadCacheWrapper<Integer, String> cache = createCache("RefreshAheadCacheWrapperTest_testRefresh", key -> key + "." + counter.incrementAndGet());
+
+    assertEquals("1.1", cache.get(1));
+    assertEquals("1.2", cache.refresh(1));
+    assertEquals("1.2", cache.get(1));
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link TinyLfuCacheMap}
+ *
+ * @since 11.0
+ */
+public class TinyLfuCacheMapTest {
+
+  @Test
+  public void testPutGetRemove() {
+    TinyLfuCacheMap<Integer, String> map = new TinyLfuCacheMap<>(10);
+    assertNull(map.put(1, "a"));
+    assertEquals("a", map.put(1, "b"));
+    assertEquals("b", map.get(1));
+    assertEquals("b", map.putIfAbsent(1, "c"));
+    assertTrue(map.replace(1, "b", "d"));
+    assertFalse(map.remove(1, "b"));
+    assertEquals("d", map.remove(1));
+    assertTrue(map.isEmpty());
+    assertEquals(0, map.getWeightedSize());
+  }
+
+  @Test
+  public void testSizeBoundEnforced() {
+    TinyLfuCacheMap<Integer, String> map = new TinyLfuCacheMap<>(100);
+    for (int i = 0; i < 1000; i++) {
+      map.put(i, "v" + i);
+      assertTrue(map.size() <= 100);
+    }
+    assertEquals(100, map.size());
+    assertEquals(100, map.getWeightedSize());
+    assertEquals(900, map.getEvictionCount());
+  }
+
+  @Test
+  public void testFrequentlyUsedKeysSurviveScan() {
+    TinyLfuCacheMap<Integer, String> map = new TinyLfuCacheMap<>(100);
+    for (int round = 0; round < 10; round++) {
+      for (int i = 0; i < 50; i++) {
+        map.put(i, "hot" + i);
+        map.get(i);
+      }
+      map.cleanUp();
+    }
+    // scan over keys used only once
+    for (int i = 1000; i < 2000; i++) {
+      map.put(i, "cold" + i);
+    }
+    for (int i = 0; i < 50; i++) {
+      assertEquals("hot" + i, map.get(i));
+    }
+  }
+
+  @Test
+  public void testWeightBoundEnforced() {
+    TinyLfuCacheMap<Integer, String> map = new TinyLfuCacheMap<>(1000, (key, value) -> value.length(), -1L);
+    for (int i = 0; i < 200; i++) {
+      map.put(i, "0123456789");
+      assertTrue(map.getWeightedSize() <= 1000);
+    }
+    assertEquals(100, map.size());
+    assertEquals(100, map.getEvictionCount());
+    assertEquals(1000, map.getEvictionWeight());
+
+    // value heavier than the maximum weight is evicted immediately
+    map.put(1000, new String(new char[1001]));
+    assertNull(map.get(1000));
+  }
+
+  @Test
+  public void testTimeToLive() throws InterruptedException {
+    TinyLfuCacheMap<Integer, String> map = new TinyLfuCacheMap<>(10, null, 1L);
+    map.put(1, "a");
+    Thread.sleep(10);
+    assertNull(map.get(1));
+    assertFalse(map.containsKey(1));
+    assertEquals(0, map.size());
+    assertEquals(1, map.getEvictionCount());
+  }
+
+  @Test
+  public void testStatistics() {
+    TinyLfuCacheMap<Integer, String> map = new TinyLfuCacheMap<>(10);
+    assertEquals(1.0, map.getHitRate(), 0.0);
+    map.put(1, "a");
+    map.get(1);
+    map.get(1);
+    map.get(2);
+    assertEquals(2, map.getHitCount());
+    assertEquals(1, map.getMissCount());
+    assertEquals(2.0 / 3.0, map.getHitRate(), 0.0001);
+  }
+
+  @Test
+  public void testEntrySetRemoveIf() {
+    TinyLfuCacheMap<Integer, String> map = new TinyLfuCacheMap<>(10);
+    for (int i = 0; i < 6; i++) {
+      map.put(i, "v" + i);
+    }
+    map.entrySet().removeIf(entry -> entry.getKey() % 2 == 0);
+
+    Map<Integer, String> expected = new HashMap<>();
+    expected.put(1, "v1");
+    expected.put(3, "v3");
+    expected.put(5, "v5");
+    assertEquals(expected, new HashMap<>(map));
+    assertEquals(3, map.getWeightedSize());
+  }
+}
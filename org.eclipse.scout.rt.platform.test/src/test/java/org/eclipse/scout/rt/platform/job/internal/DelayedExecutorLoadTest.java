@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.scout.rt.platform.job.internal.DelayedExecutor.DelayQueueTaskQueue;
+import org.eclipse.scout.rt.platform.job.internal.DelayedExecutor.IDelayedTaskQueue;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the {@link DelayQueueTaskQueue} with the {@link TimingWheelTaskQueue} for 10k, 100k and 1M pending
+ * triggers. Every second trigger is cancelled before it fires.
+ */
+@Category(ResourceIntensiveTest.class)
+public class DelayedExecutorLoadTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(DelayedExecutorLoadTest.class);
+
+  /*
+   * Be careful when changing this constant.
+   * Performance testing based on execution time is not very accurate because it expects a minimal base performance of
+   * the system the test is executed on.
+   */
+  private static final long SPREAD_MILLIS = 2_000;
+
+  @Test(timeout = 120_000)
+  public void testDelayQueue() throws InterruptedException {
+    runLoad("DelayQueue", DelayQueueTaskQueue::new);
+  }
+
+  @Test(timeout = 120_000)
+  public void testTimingWheel() throws InterruptedException {
+    runLoad("TimingWheel", () -> new TimingWheelTaskQueue(10, 512));
+  }
+
+  protected void runLoad(String name, Supplier<IDelayedTaskQueue> queueSupplier) throws InterruptedException {
+    for (int count : new int[]{10_000, 100_000, 1_000_000}) {
+      ExecutorService executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("delayed-executor-load"));
+      try {
+        DelayedExecutor delayedExecutor = new DelayedExecutor(executor, "delayed-executor-load", queueSupplier.get());
+        CountDownLatch latch = new CountDownLatch(count / 2);
+        IRegistrationHandle[] handles = new IRegistrationHandle[count];
+
+        long now = System.currentTimeMillis();
+        long t0 = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+          handles[i] = delayedExecutor.schedule(latch::countDown, new Date(now + 500 + (i % SPREAD_MILLIS)));
+        }
+        long t1 = System.nanoTime();
+        for (int i = 1; i < count; i += 2) {
+          handles[i].dispose();
+        }
+        long t2 = System.nanoTime();
+
+        assertTrue(latch.await(60, TimeUnit.SECONDS));
+        long t3 = System.nanoTime();
+
+        LOG.info("{}: {} triggers, schedule={} ms, cancel={} ms, fired={} ms after last cancel", name, count,
+            TimeUnit.NANOSECONDS.toMillis(t1 - t0), TimeUnit.NANOSECONDS.toMillis(t2 - t1), TimeUnit.NANOSECONDS.toMillis(t3 - t2));
+      }
+      finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.util.BlockingCountDownLatch;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class FutureSetTest {
+
+  @Test
+  public void testAwaitDoneWithUnrelatedJobs() throws InterruptedException {
+    final String hint = UUID.randomUUID().toString();
+    final BlockingCountDownLatch latch = new BlockingCountDownLatch(1);
+
+    IFuture<Void> future = Jobs.schedule(() -> {
+      latch.countDownAndBlock();
+    }, Jobs.newInput()
+        .withExecutionHint(hint));
+    assertTrue(latch.await());
+
+    // unrelated jobs must not fulfill the wait condition
+    for (int i = 0; i < 10; i++) {
+      Jobs.schedule(() -> {
+      }, Jobs.newInput()).awaitDone();
+    }
+    try {
+      Jobs.getJobManager().awaitDone(Jobs.newFutureFilterBuilder()
+          .andMatchExecutionHint(hint)
+          .toFilter(), 100, TimeUnit.MILLISECONDS);
+      fail("timeout expected");
+    }
+    catch (TimedOutError e) {
+      // NOOP
+    }
+
+    latch.unblock();
+    Jobs.getJobManager().awaitDone(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(hint)
+        .toFilter(), 10, TimeUnit.SECONDS);
+    assertTrue(future.isDone());
+  }
+
+  @Test
+  public void testAwaitDoneOnExecutionHintRemoved() throws InterruptedException {
+    final String hint = UUID.randomUUID().toString();
+    final BlockingCountDownLatch latch = new BlockingCountDownLatch(1);
+
+    IFuture<Void> future = Jobs.schedule(() -> {
+      latch.countDownAndBlock();
+    }, Jobs.newInput()
+        .withExecutionHint(hint));
+    assertTrue(latch.await());
+
+    IFuture<Void> waiter = Jobs.schedule(() -> {
+      Jobs.getJobManager().awaitDone(Jobs.newFutureFilterBuilder()
+          .andMatchExecutionHint(hint)
+          .toFilter(), 10, TimeUnit.SECONDS);
+    }, Jobs.newInput());
+
+    future.removeExecutionHint(hint);
+    waiter.awaitDoneAndGet(10, TimeUnit.SECONDS);
+    assertFalse(future.isDone());
+    latch.unblock();
+  }
+
+  @Test
+  public void testMetrics() {
+    FutureSet futureSet = BEANS.get(JobManager.class).getFutureSet();
+    long awaitCount = futureSet.getAwaitCount();
+
+    Jobs.getJobManager().awaitDone(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(UUID.randomUUID().toString())
+        .toFilter(), 1, TimeUnit.SECONDS);
+
+    assertEquals(awaitCount + 1, futureSet.getAwaitCount());
+    assertEquals(0, futureSet.getWaiterCount());
+    assertTrue(futureSet.getMaxAwaitTime(TimeUnit.NANOSECONDS) > 0);
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.job.internal.DelayedExecutor.DelayedTask;
+import org.junit.Test;
+
+public class TimingWheelTaskQueueTest {
+
+  private long m_sequence;
+
+  @Test
+  public void testExpiredTask() throws InterruptedException {
+    TimingWheelTaskQueue queue = new TimingWheelTaskQueue(10, 8);
+    DelayedTask task = newTask(System.currentTimeMillis() - 1000);
+    queue.put(task);
+    assertEquals(1, queue.size());
+
+    List<DelayedTask> expired = new ArrayList<>();
+    queue.takeExpired(expired);
+    assertEquals(1, expired.size());
+    assertSame(task, expired.get(0));
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  public void testOrderAndNotEarly() throws InterruptedException {
+    // small wheel, so that the tasks are distributed among overflow wheels
+    TimingWheelTaskQueue queue = new TimingWheelTaskQueue(5, 4);
+    long now = System.currentTimeMillis();
+    DelayedTask task3 = newTask(now + 300);
+    DelayedTask task1 = newTask(now + 50);
+    DelayedTask task2 = newTask(now + 120);
+    queue.put(task3);
+    queue.put(task1);
+    queue.put(task2);
+
+    List<DelayedTask> expired = new ArrayList<>();
+    while (expired.size() < 3) {
+      List<DelayedTask> batch = new ArrayList<>();
+      queue.takeExpired(batch);
+      for (DelayedTask task : batch) {
+        assertTrue("task fired too early", System.currentTimeMillis() >= task.getExecutionTime());
+      }
+      expired.addAll(batch);
+    }
+    assertEquals(task1, expired.get(0));
+    assertEquals(task2, expired.get(1));
+    assertEquals(task3, expired.get(2));
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  public void testRemove() throws InterruptedException {
+    TimingWheelTaskQueue queue = new TimingWheelTaskQueue(10, 8);
+    long now = System.currentTimeMillis();
+    DelayedTask cancelled = newTask(now + 20);
+    DelayedTask task = newTask(now + 40);
+    queue.put(cancelled);
+    queue.put(task);
+
+    assertTrue(cancelled.cancel());
+    queue.remove(cancelled);
+    assertEquals(1, queue.size());
+
+    List<DelayedTask> expired = new ArrayList<>();
+    queue.takeExpired(expired);
+    assertEquals(1, expired.size());
+    assertSame(task, expired.get(0));
+  }
+
+  @Test
+  public void testFarFutureTask() throws InterruptedException {
+    TimingWheelTaskQueue queue = new TimingWheelTaskQueue(10, 8);
+    long now = System.currentTimeMillis();
+    DelayedTask farTask1 = newTask(Long.MAX_VALUE);
+    DelayedTask farTask2 = newTask(Long.MAX_VALUE - 5);
+    DelayedTask task = newTask(now + 20);
+    queue.put(farTask1);
+    queue.put(farTask2);
+    queue.put(task);
+    assertEquals(3, queue.size());
+
+    List<DelayedTask> expired = new ArrayList<>();
+    queue.takeExpired(expired);
+    assertEquals(1, expired.size());
+    assertSame(task, expired.get(0));
+    assertEquals(2, queue.size());
+
+    assertTrue(farTask1.cancel());
+    queue.remove(farTask1);
+    assertEquals(1, queue.size());
+  }
+
+  private DelayedTask newTask(long executionTime) {
+    return new DelayedTask(() -> {
+    }, executionTime, m_sequence++);
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class VirtualThreadFactoryTest {
+
+  @Before
+  public void before() {
+    Assume.assumeTrue("virtual threads not supported by this JVM", VirtualThreadFactory.isSupported());
+  }
+
+  @Test
+  public void testThreadInfo() throws InterruptedException {
+    final AtomicReference<String> threadName = new AtomicReference<>();
+    final AtomicReference<ThreadInfo> threadInfo = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+    Thread thread = new VirtualThreadFactory("virtual-test-thread").newThread(() -> {
+      threadInfo.set(ThreadInfo.CURRENT.get());
+      ThreadInfo.CURRENT.get().updateThreadName("job", "info");
+      threadName.set(Thread.currentThread().getName());
+      latch.countDown();
+    });
+    assertTrue(thread.isDaemon());
+    assertEquals("virtual-test-thread-1", thread.getName());
+    thread.start();
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertNotNull(threadInfo.get());
+    assertEquals("job-1 info", threadName.get());
+  }
+}
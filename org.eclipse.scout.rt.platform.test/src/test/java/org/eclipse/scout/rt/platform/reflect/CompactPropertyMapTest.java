@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.reflect;
+
+import static org.junit.Assert.*;
+
+import java.beans.PropertyChangeEvent;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link CompactPropertyMap}
+ */
+public class CompactPropertyMapTest {
+
+  @Test
+  public void testPutGet() {
+    CompactPropertyMap map = new CompactPropertyMap(P_Owner.class);
+    assertTrue(map.isEmpty());
+    assertNull(map.put("string", "a"));
+    assertNull(map.put("int", 1000));
+    assertNull(map.put("long", 5L));
+    assertNull(map.put("double", 2.5));
+    assertNull(map.put("bool", Boolean.TRUE));
+    assertNull(map.put("null", null));
+
+    assertEquals(6, map.size());
+    assertEquals("a", map.get("string"));
+    assertEquals(Integer.valueOf(1000), map.get("int"));
+    assertEquals(Long.valueOf(5L), map.get("long"));
+    assertEquals(Double.valueOf(2.5), map.get("double"));
+    assertEquals(Boolean.TRUE, map.get("bool"));
+    assertNull(map.get("null"));
+    assertTrue(map.containsKey("null"));
+    assertFalse(map.containsKey("unknown"));
+    assertNull(map.get("unknown"));
+
+    assertEquals(Integer.valueOf(1000), map.put("int", "b"));
+    assertEquals("b", map.get("int"));
+    assertEquals("a", map.remove("string"));
+    assertFalse(map.containsKey("string"));
+    assertEquals(5, map.size());
+  }
+
+  @Test
+  public void testPrimitives() {
+    CompactPropertyMap map = new CompactPropertyMap(P_Owner.class);
+    map.put("int", 1000);
+    map.put("long", 5L);
+    map.put("double", 2.5);
+
+    assertEquals(1000, map.getInt("int", -1));
+    assertEquals(1000L, map.getLong("int", -1));
+    assertEquals(5L, map.getLong("long", -1));
+    assertEquals(5, map.getInt("long", -1));
+    assertEquals(2.5, map.getDouble("double", -1), 0);
+    assertEquals(-1, map.getInt("unknown", -1));
+
+    assertTrue(map.containsInt("int", 1000));
+    assertFalse(map.containsInt("int", 1));
+    assertFalse(map.containsLong("int", 1000));
+    assertTrue(map.containsLong("long", 5));
+    assertTrue(map.containsDouble("double", 2.5));
+    assertFalse(map.containsDouble("unknown", 0));
+  }
+
+  @Test
+  public void testLayoutIsSharedPerOwnerClass() {
+    CompactPropertyMap map1 = new CompactPropertyMap(P_Owner.class);
+    map1.put("a", "1");
+    map1.put("b", 2);
+    CompactPropertyMap map2 = new CompactPropertyMap(P_Owner.class);
+    map2.put("b", "x");
+    map2.put("c", 3.0);
+
+    assertEquals(2, map1.size());
+    assertNull(map1.get("c"));
+    assertEquals(Integer.valueOf(2), map1.get("b"));
+    assertEquals(2, map2.size());
+    assertNull(map2.get("a"));
+    assertEquals("x", map2.get("b"));
+  }
+
+  @Test
+  public void testOverflow() {
+    CompactPropertyMap map = new CompactPropertyMap(P_OverflowOwner.class);
+    Map<String, Object> expected = new HashMap<>();
+    for (int i = 0; i < CompactPropertyMap.MAX_SLOTS + 10; i++) {
+      map.put("p" + i, i);
+      expected.put("p" + i, i);
+    }
+    assertEquals(expected, new HashMap<>(map));
+    assertEquals(Integer.valueOf(CompactPropertyMap.MAX_SLOTS + 5), map.remove("p" + (CompactPropertyMap.MAX_SLOTS + 5)));
+    assertEquals(CompactPropertyMap.MAX_SLOTS + 9, map.size());
+  }
+
+  @Test
+  public void testIterator() {
+    CompactPropertyMap map = new CompactPropertyMap(P_Owner.class);
+    map.put("a", "1");
+    map.put("b", 2);
+    map.put("c", null);
+    Map<String, Object> copy = new HashMap<>();
+    for (Entry<String, Object> e : map.entrySet()) {
+      copy.put(e.getKey(), e.getValue());
+    }
+    Map<String, Object> expected = new HashMap<>();
+    expected.put("a", "1");
+    expected.put("b", 2);
+    expected.put("c", null);
+    assertEquals(expected, copy);
+
+    for (Iterator<Entry<String, Object>> it = map.entrySet().iterator(); it.hasNext();) {
+      if ("b".equals(it.next().getKey())) {
+        it.remove();
+      }
+    }
+    assertEquals(2, map.size());
+    assertFalse(map.containsKey("b"));
+
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertFalse(map.entrySet().iterator().hasNext());
+  }
+
+  @Test
+  public void testIteratorIsFailFast() {
+    CompactPropertyMap map = new CompactPropertyMap(P_Owner.class);
+    map.put("a", "1");
+    map.put("b", 2);
+    assertIteratorFails(map, () -> map.put("c", "3"));
+    assertIteratorFails(map, () -> map.put("a", "2"));
+    assertIteratorFails(map, () -> map.put("b", 3));
+    assertIteratorFails(map, () -> map.remove("a"));
+    assertIteratorFails(map, map::clear);
+  }
+
+  private static void assertIteratorFails(CompactPropertyMap map, Runnable modification) {
+    map.put("a", "1");
+    Iterator<Entry<String, Object>> it = map.entrySet().iterator();
+    it.next();
+    modification.run();
+    try {
+      it.next();
+      fail("ConcurrentModificationException expected");
+    }
+    catch (ConcurrentModificationException expected) { // NOSONAR
+      // expected
+    }
+  }
+
+  @Test
+  public void testBasicPropertySupport() {
+    BasicPropertySupport support = new BasicPropertySupport(new P_Owner(), true);
+    assertTrue(support.isCompactStorage());
+    List<PropertyChangeEvent> events = new ArrayList<>();
+    support.addPropertyChangeListener(events::add);
+
+    assertFalse(support.setPropertyInt("int", 0));
+    assertTrue(support.hasProperty("int"));
+    assertTrue(support.setPropertyInt("int", 1000));
+    assertFalse(support.setPropertyInt("int", 1000));
+    assertEquals(1000, support.getPropertyInt("int"));
+    assertTrue(support.setPropertyDouble("double", 1.5));
+    assertEquals(1.5, support.getPropertyDouble("double"), 0);
+    assertTrue(support.setPropertyLong("long", 7L));
+    assertEquals(7L, support.getPropertyLong("long"));
+    assertTrue(support.setPropertyBool("bool", true));
+    assertTrue(support.getPropertyBool("bool"));
+    assertTrue(support.setPropertyString("string", "a"));
+    assertEquals("a", support.getPropertyString("string"));
+
+    assertEquals(5, events.size());
+    assertEquals(Integer.valueOf(0), events.get(0).getOldValue());
+    assertEquals(Integer.valueOf(1000), events.get(0).getNewValue());
+
+    Map<String, Object> props = support.getPropertiesMap();
+    assertEquals(5, props.size());
+    assertEquals(Long.valueOf(7L), props.get("long"));
+  }
+
+  private static class P_Owner {
+  }
+
+  private static class P_OverflowOwner {
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.reflect;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.Test;
+
+/**
+ * JUnit tests for {@link FastPropertyDescriptor#readValue(Object)} and
+ * {@link FastPropertyDescriptor#writeValue(Object, Object)}
+ */
+public class FastPropertyDescriptorTest {
+
+  public static class MyBean {
+    private String m_name;
+    private boolean m_active;
+    private long m_count;
+
+    public String getName() {
+      return m_name;
+    }
+
+    public void setName(String name) {
+      m_name = name;
+    }
+
+    public boolean isActive() {
+      return m_active;
+    }
+
+    public void setActive(boolean active) {
+      m_active = active;
+    }
+
+    public long getCount() {
+      return m_count;
+    }
+
+    public void setCount(long count) {
+      m_count = count;
+    }
+
+    public String getFailing() {
+      throw new IllegalStateException("read");
+    }
+
+    public void setFailing(String s) {
+      throw new IllegalStateException("write");
+    }
+  }
+
+  public static class MySubBean extends MyBean {
+  }
+
+  private static class PrivateBean {
+    private int m_value;
+
+    public int getValue() {
+      return m_value;
+    }
+
+    public void setValue(int value) {
+      m_value = value;
+    }
+  }
+
+  private static FastPropertyDescriptor getDescriptor(Class<?> beanClass, String name) {
+    return new FastBeanInfo(beanClass, Object.class).getPropertyDescriptor(name);
+  }
+
+  @Test
+  public void testReadWriteValue() throws Exception {
+    MyBean bean = new MySubBean();
+    FastPropertyDescriptor name = getDescriptor(MySubBean.class, "name");
+    FastPropertyDescriptor active = getDescriptor(MySubBean.class, "active");
+    FastPropertyDescriptor count = getDescriptor(MySubBean.class, "count");
+
+    name.writeValue(bean, "foo");
+    active.writeValue(bean, Boolean.TRUE);
+    count.writeValue(bean, 42L);
+    assertEquals("foo", bean.getName());
+    assertTrue(bean.isActive());
+    assertEquals(42L, bean.getCount());
+
+    assertEquals("foo", name.readValue(bean));
+    assertEquals(Boolean.TRUE, active.readValue(bean));
+    assertEquals(Long.valueOf(42L), count.readValue(bean));
+
+    name.writeValue(bean, null);
+    assertNull(name.readValue(bean));
+  }
+
+  @Test
+  public void testWriteValueWideningConversion() throws Exception {
+    MyBean bean = new MyBean();
+    getDescriptor(MyBean.class, "count").writeValue(bean, Integer.valueOf(7));
+    assertEquals(7L, bean.getCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWriteValueNullPrimitive() throws Exception {
+    getDescriptor(MyBean.class, "active").writeValue(new MyBean(), null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWriteValueWrongType() throws Exception {
+    getDescriptor(MyBean.class, "name").writeValue(new MyBean(), Long.valueOf(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReadValueWrongBean() throws Exception {
+    getDescriptor(MyBean.class, "name").readValue(new Object());
+  }
+
+  @Test
+  public void testExceptionsAreWrapped() throws Exception {
+    MyBean bean = new MyBean();
+    FastPropertyDescriptor failing = getDescriptor(MyBean.class, "failing");
+    try {
+      failing.readValue(bean);
+      fail("InvocationTargetException expected");
+    }
+    catch (InvocationTargetException e) {
+      assertEquals("read", e.getCause().getMessage());
+    }
+    try {
+      failing.writeValue(bean, "foo");
+      fail("InvocationTargetException expected");
+    }
+    catch (InvocationTargetException e) {
+      assertEquals("write", e.getCause().getMessage());
+    }
+  }
+
+  @Test
+  public void testPrivateBeanClass() throws Exception {
+    PrivateBean bean = new PrivateBean();
+    FastPropertyDescriptor value = getDescriptor(PrivateBean.class, "value");
+    value.writeValue(bean, 5);
+    assertEquals(5, bean.getValue());
+    assertEquals(Integer.valueOf(5), value.readValue(bean));
+  }
+
+  @Test
+  public void testCreateAccessor() throws Exception {
+    assertNotNull(FastBeanUtility.createReadAccessor(MyBean.class.getMethod("getName")));
+    assertNotNull(FastBeanUtility.createWriteAccessor(MyBean.class.getMethod("setCount", long.class)));
+    assertNull(FastBeanUtility.createReadAccessor(Integer.class.getMethod("valueOf", int.class)));
+  }
+}
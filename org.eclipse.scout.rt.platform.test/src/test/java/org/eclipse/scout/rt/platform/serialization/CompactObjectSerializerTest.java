@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.serialization;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.holders.LongHolder;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link CompactObjectSerializer}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CompactObjectSerializerTest {
+
+  @Test
+  public void testRoundTrip() throws IOException, ClassNotFoundException {
+    List<Object> data = createData();
+    CompactObjectSerializer serializer = new CompactObjectSerializer(null);
+    @SuppressWarnings("unchecked")
+    List<Object> actual = serializer.deserialize(serializer.serialize(data), List.class);
+    assertEquals(data.size(), actual.size());
+    assertEquals(data.get(0), actual.get(0));
+    assertArrayEquals((int[]) data.get(1), (int[]) actual.get(1));
+    assertSame(int.class, actual.get(2));
+    assertSame(TimeUnit.SECONDS, actual.get(3));
+    assertEquals(data.get(4), actual.get(4));
+    assertEquals(data.get(5), actual.get(5));
+    assertEquals(Long.valueOf(42), ((LongHolder) actual.get(6)).getValue());
+    assertEquals(data.get(7), actual.get(7));
+  }
+
+  @Test
+  public void testSmallerThanBasicSerializer() throws IOException {
+    List<Object> data = createData();
+    int compactSize = new CompactObjectSerializer(null).serialize(data).length;
+    int basicSize = new BasicObjectSerializer(null).serialize(data).length;
+    assertTrue("compact size " + compactSize + " must be less than " + basicSize, compactSize < basicSize);
+  }
+
+  @Test
+  public void testClassDescriptorsAreCached() throws IOException, ClassNotFoundException {
+    CompactObjectSerializer serializer = new CompactObjectSerializer(null);
+    byte[] bytes = serializer.serialize(createData());
+    serializer.deserialize(bytes, List.class);
+    int cacheSize = serializer.getClassDescriptorCacheSize();
+    assertTrue(cacheSize > 0);
+    serializer.deserialize(bytes, List.class);
+    assertEquals(cacheSize, serializer.getClassDescriptorCacheSize());
+
+    serializer.withWhitelist(SerializationUtility.createDefaultScoutWhitelistPolicy());
+    assertEquals(0, serializer.getClassDescriptorCacheSize());
+  }
+
+  @Test(expected = ProcessingException.class)
+  public void testBlacklist() throws IOException, ClassNotFoundException {
+    Predicate<String> blacklist = SerializationUtility.createBlacklistPolicy(Pattern.quote(AtomicLong.class.getName()));
+    CompactObjectSerializer serializer = new CompactObjectSerializer(null);
+    byte[] bytes = serializer.serialize(Arrays.asList(Long.valueOf(123), new AtomicLong(123)));
+    serializer.withBlacklist(blacklist).deserialize(bytes, List.class);
+  }
+
+  @Test(expected = ProcessingException.class)
+  public void testWhitelist() throws IOException, ClassNotFoundException {
+    Predicate<String> whitelist = SerializationUtility.createWhitelistPolicy(Pattern.quote(ArrayList.class.getName()), "java\\.lang\\..*");
+    CompactObjectSerializer serializer = new CompactObjectSerializer(null);
+    byte[] bytes = serializer.serialize(new ArrayList<>(Arrays.asList(Long.valueOf(123), new AtomicLong(123))));
+    serializer.withWhitelist(whitelist).deserialize(bytes, List.class);
+  }
+
+  protected List<Object> createData() {
+    Map<String, Object> map = new HashMap<>();
+    map.put("amount", new BigDecimal("12.50"));
+    map.put("date", new Date(1_600_000_000_000L));
+    return new ArrayList<>(Arrays.asList(
+        "text",
+        new int[]{1, 2, 3},
+        int.class,
+        TimeUnit.SECONDS,
+        map,
+        new Fixture("name", 7),
+        new LongHolder(42L),
+        Arrays.asList(new Fixture("a", 1), new Fixture("b", 2))));
+  }
+
+  public static class Fixture implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String m_name;
+    private final int m_count;
+
+    public Fixture(String name, int count) {
+      m_name = name;
+      m_count = count;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof Fixture)) {
+        return false;
+      }
+      Fixture other = (Fixture) obj;
+      return m_name.equals(other.m_name) && m_count == other.m_count;
+    }
+
+    @Override
+    public int hashCode() {
+      return m_name.hashCode() ^ m_count;
+    }
+  }
+}
@@ -49,6 +49,11 @@ public abstract class AbstractCacheWrapper<K, V> implements ICache<K, V> {
     return m_delegate.getAll(keys);
   }
 
+  @Override
+  public V refresh(K key) {
+    return m_delegate.refresh(key);
+  }
+
   @Override
   public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
     m_delegate.invalidate(filter, propagate);
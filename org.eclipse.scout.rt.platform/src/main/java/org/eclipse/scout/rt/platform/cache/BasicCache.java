@@ -130,6 +130,21 @@ public class BasicCache<K, V> implements ICache<K, V> {
     return result;
   }
 
+  @Override
+  public V refresh(K key) {
+    if (key == null) {
+      return null;
+    }
+    V value = m_resolver.resolve(key);
+    if (value != null) {
+      m_cacheMap.put(key, value);
+    }
+    else {
+      m_cacheMap.remove(key);
+    }
+    return value;
+  }
+
   @Override
   public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
     if (filter instanceof AllCacheEntryFilter) {
@@ -148,6 +163,9 @@ public class BasicCache<K, V> implements ICache<K, V> {
 
   @Override
   public <T> T getAdapter(Class<T> clazz) {
+    if (clazz == ICacheStatistics.class && m_cacheMap instanceof ICacheStatistics) {
+      return clazz.cast(m_cacheMap);
+    }
     return null;
   }
 }
@@ -48,7 +48,13 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   private Long m_timeToLive;
   private boolean m_touchOnGet;
   private Integer m_sizeBound;
+  private CacheEvictionPolicy m_evictionPolicy;
+  private Long m_maximumWeight;
+  private ICacheWeigher<K, V> m_weigher;
   private Integer m_maxConcurrentResolve;
+  private boolean m_coalescedResolve;
+  private Long m_refreshAfterWrite;
+  private int m_maxConcurrentRefresh;
   private boolean m_throwIfExists;
   private boolean m_replaceIfExists;
 
@@ -58,6 +64,8 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     m_threadSafe = true;
     m_throwIfExists = true;
     m_replaceIfExists = false;
+    m_evictionPolicy = CacheEvictionPolicy.LRU;
+    m_maxConcurrentRefresh = 1;
   }
 
   @Override
@@ -94,7 +102,13 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   }
 
   protected Map<K, V> createCacheMap() {
-    if (!isCreateExpiringMap() && isTransactional() && !isAtomicInsertion() && (isSingleton() || !isTransactionalFastForward())) {
+    if (isCreateTinyLfuMap()) {
+      if (isTransactional()) {
+        throw new IllegalStateException("Eviction policy " + CacheEvictionPolicy.TINY_LFU + " is not supported by transactional caches");
+      }
+      return createTinyLfuMap();
+    }
+    else if (!isCreateExpiringMap() && isTransactional() && !isAtomicInsertion() && (isSingleton() || !isTransactionalFastForward())) {
       return new CopyOnWriteTransactionalMap<>(getCacheId(), isTransactionalFastForward());
     }
     else if (isCreateExpiringMap()) {
@@ -118,6 +132,18 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     }
   }
 
+  protected Map<K, V> createTinyLfuMap() {
+    long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
+    if (getMaximumWeight() != null) {
+      return new TinyLfuCacheMap<>(getMaximumWeight(), getWeigher(), timeToLive);
+    }
+    return new TinyLfuCacheMap<>(getSizeBound(), null, timeToLive);
+  }
+
+  protected boolean isCreateTinyLfuMap() {
+    return getMaximumWeight() != null || (getSizeBound() != null && getEvictionPolicy() == CacheEvictionPolicy.TINY_LFU);
+  }
+
   protected boolean isCreateExpiringMap() {
     return getTimeToLive() != null || getSizeBound() != null;
   }
@@ -130,6 +156,13 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     if (getMaxConcurrentResolve() != null) {
       cache = new BoundedResolveCacheWrapper<>(cache, getMaxConcurrentResolve());
     }
+    if (isCoalescedResolve()) {
+      // added after the bounded resolve wrapper, so that threads waiting for a coalesced resolve do not hold a permit
+      cache = new CoalescedResolveCacheWrapper<>(cache);
+    }
+    if (getRefreshAfterWrite() != null) {
+      cache = new RefreshAheadCacheWrapper<>(cache, getRefreshAfterWrite(), getMaxConcurrentRefresh());
+    }
     return cache;
   }
 
@@ -303,6 +336,40 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_touchOnGet;
   }
 
+  @Override
+  public CacheBuilder<K, V> withRefreshAfterWrite(Long refreshAfterWriteDuration, TimeUnit refreshAfterWriteUnit) {
+    if (refreshAfterWriteDuration == null || refreshAfterWriteUnit == null) {
+      m_refreshAfterWrite = null;
+    }
+    else {
+      if (refreshAfterWriteDuration < 0L) {
+        throw new IllegalArgumentException("refreshAfterWriteDuration cannot be negative");
+      }
+      m_refreshAfterWrite = refreshAfterWriteUnit.toMillis(refreshAfterWriteDuration);
+    }
+    return this;
+  }
+
+  /**
+   * @return refresh after write duration in milliseconds
+   */
+  public Long getRefreshAfterWrite() {
+    return m_refreshAfterWrite;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withMaxConcurrentRefresh(int maxConcurrentRefresh) {
+    if (maxConcurrentRefresh <= 0) {
+      throw new IllegalArgumentException("maxConcurrentRefresh must be greater than zero");
+    }
+    m_maxConcurrentRefresh = maxConcurrentRefresh;
+    return this;
+  }
+
+  public int getMaxConcurrentRefresh() {
+    return m_maxConcurrentRefresh;
+  }
+
   @Override
   public CacheBuilder<K, V> withSizeBound(Integer sizeBound) {
     m_sizeBound = sizeBound;
@@ -313,6 +380,50 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_sizeBound;
   }
 
+  @Override
+  public CacheBuilder<K, V> withEvictionPolicy(CacheEvictionPolicy evictionPolicy) {
+    m_evictionPolicy = evictionPolicy != null ? evictionPolicy : CacheEvictionPolicy.LRU;
+    return this;
+  }
+
+  public CacheEvictionPolicy getEvictionPolicy() {
+    return m_evictionPolicy;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withMaximumWeight(Long maximumWeight, ICacheWeigher<K, V> weigher) {
+    if (maximumWeight == null || weigher == null) {
+      m_maximumWeight = null;
+      m_weigher = null;
+    }
+    else {
+      if (maximumWeight <= 0L) {
+        throw new IllegalArgumentException("maximumWeight must be greater than zero");
+      }
+      m_maximumWeight = maximumWeight;
+      m_weigher = weigher;
+    }
+    return this;
+  }
+
+  public Long getMaximumWeight() {
+    return m_maximumWeight;
+  }
+
+  public ICacheWeigher<K, V> getWeigher() {
+    return m_weigher;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withCoalescedResolve(boolean coalescedResolve) {
+    m_coalescedResolve = coalescedResolve;
+    return this;
+  }
+
+  public boolean isCoalescedResolve() {
+    return m_coalescedResolve && m_threadSafe;
+  }
+
   @Override
   public CacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve) {
     if (maxConcurrentResolve != null && maxConcurrentResolve < 0) {
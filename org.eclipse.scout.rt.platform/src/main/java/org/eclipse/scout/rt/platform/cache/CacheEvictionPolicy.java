@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+/**
+ * Policies to evict values of a bounded cache.
+ *
+ * @see ICacheBuilder#withEvictionPolicy(CacheEvictionPolicy)
+ * @since 11.0
+ */
+public enum CacheEvictionPolicy {
+
+  /**
+   * Least recently used values are evicted in bulk once the cache grew beyond 1.5 times its size bound (Default).
+   */
+  LRU,
+
+  /**
+   * Window TinyLFU: new values are admitted into the main space of the cache only if they are used more frequently
+   * than the value they would replace. Access frequencies are estimated by a compact frequency sketch. Values are
+   * evicted one by one in amortized constant time. Supports weighted values.
+   *
+   * @see TinyLfuCacheMap
+   */
+  TINY_LFU
+}
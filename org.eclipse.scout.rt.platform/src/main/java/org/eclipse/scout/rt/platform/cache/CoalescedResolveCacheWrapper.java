@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
+import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+
+/**
+ * This wrapper coalesces concurrent resolve operations of the same key (single-flight): on a cache miss, only the first
+ * caller resolves the value, while concurrent callers of the same key wait for and share its result, including a
+ * thrown exception. {@link #getAll(Collection)} only resolves keys which are not already being resolved, and does so in
+ * a single batch. This prevents a thundering herd of resolve operations after an invalidation of a frequently used key.
+ * <p>
+ * If a key is invalidated while being resolved, the resolved value is still returned to the callers waiting for it, but
+ * not kept in the cache, as it may be stale. Callers arriving after the invalidation start a new resolve operation.
+ * <p>
+ * A value resolver may get keys of the same cache (re-entrance). However, if two threads resolve different keys which
+ * require each other, they wait for each other forever.
+ * <p>
+ * A waiting caller stops waiting if its thread is interrupted ({@link ThreadInterruptedError}) or its current
+ * {@link RunMonitor} is cancelled ({@link FutureCancelledError}). The resolve operation itself is not affected.
+ * <p>
+ * <b>The cache implementation on which this wrapper is based on must be still thread safe.</b>
+ *
+ * @since 11.0
+ */
+public class CoalescedResolveCacheWrapper<K, V> extends AbstractCacheWrapper<K, V> {
+  private final ConcurrentMap<K, P_Resolve<V>> m_pendingResolves = new ConcurrentHashMap<>();
+
+  public CoalescedResolveCacheWrapper(ICache<K, V> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  public V get(K key) {
+    if (key == null) {
+      return null;
+    }
+    V value = getUnmodifiableMap().get(key);
+    if (value != null) {
+      return value;
+    }
+
+    P_Resolve<V> resolve = new P_Resolve<>();
+    P_Resolve<V> pendingResolve = m_pendingResolves.putIfAbsent(key, resolve);
+    if (pendingResolve != null) {
+      if (pendingResolve.isOwnedByCurrentThread()) {
+        return super.get(key); // re-entrant resolve of the same key
+      }
+      return pendingResolve.await();
+    }
+
+    try {
+      value = super.get(key);
+      if (value != null && resolve.isInvalidated()) {
+        super.invalidate(new KeyCacheEntryFilter<>(Collections.singleton(key)), false);
+      }
+      resolve.complete(value);
+      return value;
+    }
+    catch (RuntimeException | Error e) { // NOSONAR
+      resolve.fail(e);
+      throw e;
+    }
+    finally {
+      m_pendingResolves.remove(key, resolve);
+    }
+  }
+
+  @Override
+  public Map<K, V> getAll(Collection<? extends K> keys0) {
+    Set<K> keys = CollectionUtility.hashSetWithoutNullElements(keys0);
+    Map<K, V> cacheMap = getUnmodifiableMap();
+    Map<K, V> result = new HashMap<>();
+    Map<K, P_Resolve<V>> ownResolves = new HashMap<>();
+    Map<K, P_Resolve<V>> pendingResolves = new HashMap<>();
+    Set<K> keysToResolve = new HashSet<>();
+    for (K key : keys) {
+      V value = cacheMap.get(key);
+      if (value != null) {
+        result.put(key, value);
+        continue;
+      }
+      P_Resolve<V> resolve = new P_Resolve<>();
+      P_Resolve<V> pendingResolve = m_pendingResolves.putIfAbsent(key, resolve);
+      if (pendingResolve == null) {
+        ownResolves.put(key, resolve);
+        keysToResolve.add(key);
+      }
+      else if (pendingResolve.isOwnedByCurrentThread()) {
+        keysToResolve.add(key); // re-entrant resolve of the same key
+      }
+      else {
+        pendingResolves.put(key, pendingResolve);
+      }
+    }
+
+    if (!keysToResolve.isEmpty()) {
+      try {
+        Map<K, V> resolvedValues = super.getAll(keysToResolve);
+        result.putAll(resolvedValues);
+        Set<K> staleKeys = new HashSet<>();
+        for (Entry<K, P_Resolve<V>> entry : ownResolves.entrySet()) {
+          if (entry.getValue().isInvalidated()) {
+            staleKeys.add(entry.getKey());
+          }
+        }
+        if (!staleKeys.isEmpty()) {
+          super.invalidate(new KeyCacheEntryFilter<>(staleKeys), false);
+        }
+        for (Entry<K, P_Resolve<V>> entry : ownResolves.entrySet()) {
+          entry.getValue().complete(resolvedValues.get(entry.getKey()));
+        }
+      }
+      catch (RuntimeException | Error e) { // NOSONAR
+        for (P_Resolve<V> resolve : ownResolves.values()) {
+          resolve.fail(e);
+        }
+        throw e;
+      }
+      finally {
+        ownResolves.forEach(m_pendingResolves::remove);
+      }
+    }
+
+    // wait for keys resolved by other threads
+    for (Entry<K, P_Resolve<V>> entry : pendingResolves.entrySet()) {
+      V value = entry.getValue().await();
+      if (value != null) {
+        result.put(entry.getKey(), value);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
+    if (filter instanceof KeyCacheEntryFilter) {
+      for (K key : ((KeyCacheEntryFilter<K, V>) filter).getKeys()) {
+        P_Resolve<V> resolve = m_pendingResolves.remove(key);
+        if (resolve != null) {
+          resolve.invalidate();
+        }
+      }
+    }
+    else if (filter != null) {
+      // values of pending resolves are not known yet, hence invalidate all of them
+      for (K key : m_pendingResolves.keySet()) {
+        P_Resolve<V> resolve = m_pendingResolves.remove(key);
+        if (resolve != null) {
+          resolve.invalidate();
+        }
+      }
+    }
+    super.invalidate(filter, propagate);
+  }
+
+  /**
+   * @return number of keys currently being resolved
+   */
+  public int getPendingResolveCount() {
+    return m_pendingResolves.size();
+  }
+
+  /**
+   * Resolve operation of a key, owned by the thread which started it.
+   */
+  private static final class P_Resolve<V> {
+    private final Thread m_owner = Thread.currentThread();
+    private final CompletableFuture<V> m_future = new CompletableFuture<>();
+    private volatile boolean m_invalidated;
+
+    private boolean isOwnedByCurrentThread() {
+      return m_owner == Thread.currentThread();
+    }
+
+    private void invalidate() {
+      m_invalidated = true;
+    }
+
+    private boolean isInvalidated() {
+      return m_invalidated;
+    }
+
+    private void complete(V value) {
+      m_future.complete(value);
+    }
+
+    private void fail(Throwable t) {
+      m_future.completeExceptionally(t);
+    }
+
+    private V await() {
+      if (!m_future.isDone()) {
+        awaitDoneOrCancelled();
+      }
+      try {
+        return m_future.join();
+      }
+      catch (CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw (RuntimeException) cause;
+      }
+    }
+
+    /**
+     * Waits until the resolve operation completed, or the current thread is interrupted or its {@link RunMonitor}
+     * cancelled.
+     */
+    private void awaitDoneOrCancelled() {
+      CompletableFuture<Void> cancellation = new CompletableFuture<>();
+      ICancellable cancellable = new ICancellable() {
+        @Override
+        public boolean cancel(boolean interruptIfRunning) {
+          return cancellation.complete(null);
+        }
+
+        @Override
+        public boolean isCancelled() {
+          return cancellation.isDone();
+        }
+      };
+      RunMonitor monitor = RunMonitor.CURRENT.get();
+      if (monitor != null) {
+        monitor.registerCancellable(cancellable);
+      }
+      try {
+        CompletableFuture.anyOf(m_future, cancellation).get();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt(); // restore interruption status
+        throw new ThreadInterruptedError("Interrupted while waiting for a concurrent resolve operation", e);
+      }
+      catch (ExecutionException e) { // NOSONAR
+        // the resolve operation failed, which is propagated by the caller
+      }
+      finally {
+        if (monitor != null) {
+          monitor.unregisterCancellable(cancellable);
+        }
+      }
+      if (!m_future.isDone()) {
+        throw new FutureCancelledError("Cancelled while waiting for a concurrent resolve operation");
+      }
+    }
+  }
+}
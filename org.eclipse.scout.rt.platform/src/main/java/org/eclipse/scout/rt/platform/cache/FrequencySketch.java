@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+/**
+ * Count-Min sketch estimating the access frequency of keys with four 4-bit counters per key, i.e. frequencies are
+ * capped at 15. To keep the estimation current, all counters are halved once the number of recorded accesses reaches
+ * ten times the capacity (aging).
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @since 11.0
+ */
+final class FrequencySketch {
+
+  private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final int MAX_TABLE_LENGTH = 1 << 24;
+
+  private long[] m_table = new long[0];
+  private int m_tableMask;
+  private int m_sampleSize;
+  private int m_size;
+
+  /**
+   * Grows the sketch to accurately estimate the frequencies of the given number of keys. Counts are preserved, because
+   * the counters of a key are found in the slot of the grown table whose low bits select the slot of the old table.
+   */
+  void ensureCapacity(long maximumSize) {
+    int length = (int) Math.min(Long.highestOneBit(Math.max(maximumSize, 1L) * 2 - 1), MAX_TABLE_LENGTH);
+    if (m_table.length >= length) {
+      return;
+    }
+    long[] table = new long[length];
+    for (int i = 0; i < m_table.length; i++) {
+      for (int j = i; j < length; j += m_table.length) {
+        table[j] = m_table[i];
+      }
+    }
+    m_table = table;
+    m_tableMask = length - 1;
+    m_sampleSize = 10 * length;
+  }
+
+  /**
+   * @return estimated number of accesses of the key with the given hash, between 0 and 15.
+   */
+  int frequency(int hash) {
+    if (m_table.length == 0) {
+      return 0;
+    }
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < SEEDS.length; i++) {
+      long h = indexHash(hash, i);
+      frequency = Math.min(frequency, (int) ((m_table[(int) h & m_tableMask] >>> counterOffset(h)) & 0xfL));
+    }
+    return frequency;
+  }
+
+  /**
+   * Records an access of the key with the given hash.
+   */
+  void increment(int hash) {
+    if (m_table.length == 0) {
+      return;
+    }
+    boolean added = false;
+    for (int i = 0; i < SEEDS.length; i++) {
+      long h = indexHash(hash, i);
+      int index = (int) h & m_tableMask;
+      int offset = counterOffset(h);
+      if (((m_table[index] >>> offset) & 0xfL) != 0xfL) {
+        m_table[index] += 1L << offset;
+        added = true;
+      }
+    }
+    if (added && ++m_size >= m_sampleSize) {
+      reset();
+    }
+  }
+
+  /**
+   * Halves all counters.
+   */
+  private void reset() {
+    for (int i = 0; i < m_table.length; i++) {
+      m_table[i] = (m_table[i] >>> 1) & RESET_MASK;
+    }
+    m_size >>>= 1;
+  }
+
+  private static long indexHash(int hash, int i) {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    return h ^ (h >>> 29);
+  }
+
+  /**
+   * @return bit offset of one of the sixteen 4-bit counters of a table slot
+   */
+  private static int counterOffset(long h) {
+    return (int) (h >>> 60) << 2;
+  }
+}
@@ -11,6 +11,7 @@
 package org.eclipse.scout.rt.platform.cache;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
@@ -65,6 +66,22 @@ public interface ICache<K, V> extends IAdaptable {
    */
   Map<K, V> getAll(Collection<? extends K> keys);
 
+  /**
+   * Resolves the value of the given key again and replaces the cached value. In contrast to an invalidation followed by
+   * {@link #get(Object)}, the previous value remains visible to concurrent readers until the new value is resolved.
+   * <p>
+   * The default implementation invalidates the key locally and gets it again.
+   *
+   * @param key
+   *          if null, null is returned.
+   * @return the resolved value
+   * @since 11.0
+   */
+  default V refresh(K key) {
+    invalidate(new KeyCacheEntryFilter<>(Collections.singleton(key)), false);
+    return get(key);
+  }
+
   /**
    * Invalidate cache entries corresponding to the given {@link ICacheEntryFilter}.
    *
@@ -169,11 +169,42 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withTimeToLive(Long timeToLiveDuration, TimeUnit timeToLiveUnit, boolean touchOnGet);
 
+  /**
+   * If booth arguments are not null, a cached value is refreshed in the background upon its first read access after
+   * the given duration since it was resolved. Until the refreshed value is resolved, the current value is returned. This
+   * takes the resolve of values off the calling thread. Typically, the refresh duration is shorter than the time to
+   * live set by {@link #withTimeToLive(Long, TimeUnit, boolean)}, which still forces values to be resolved on the calling
+   * thread once they expired.
+   *
+   * @param refreshAfterWriteDuration
+   *          refresh duration
+   * @param refreshAfterWriteUnit
+   *          refresh unit
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if refreshAfterWriteDuration is negative
+   * @see RefreshAheadCacheWrapper
+   * @since 11.0
+   */
+  ICacheBuilder<K, V> withRefreshAfterWrite(Long refreshAfterWriteDuration, TimeUnit refreshAfterWriteUnit);
+
+  /**
+   * @param maxConcurrentRefresh
+   *          maximum number of values refreshed concurrently in the background. Only has an effect if
+   *          {@link #withRefreshAfterWrite(Long, TimeUnit)} is set. (Default 1)
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if maxConcurrentRefresh is not greater than zero
+   * @since 11.0
+   */
+  ICacheBuilder<K, V> withMaxConcurrentRefresh(int maxConcurrentRefresh);
+
   /**
    * If set to a non null value, the maximum number of cached values is bounded. The provided size bound is <em>not</em>
    * enforced and is just a guidance value.
    * <p>
-   * The current policy that is used to evict elements is least recently used (LRU).
+   * The policy that is used to evict elements is set by {@link #withEvictionPolicy(CacheEvictionPolicy)}, which is
+   * least recently used (LRU) by default.
    *
    * @param sizeBound
    *          the target size that map should have approximately.
@@ -181,6 +212,49 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withSizeBound(Integer sizeBound);
 
+  /**
+   * Sets the policy used to evict values of a cache bounded by {@link #withSizeBound(Integer)} or
+   * {@link #withMaximumWeight(Long, ICacheWeigher)}.
+   * <p>
+   * With {@link CacheEvictionPolicy#TINY_LFU}, the size bound is enforced, {@link ICacheStatistics} are available
+   * through {@link ICache#getAdapter(Class)}, and a time to live is always measured from the last write of a value.
+   * This policy is not supported by transactional caches.
+   *
+   * @param evictionPolicy
+   *          eviction policy; if null, the default policy is used. (Default {@link CacheEvictionPolicy#LRU})
+   * @return this builder
+   * @since 11.0
+   */
+  ICacheBuilder<K, V> withEvictionPolicy(CacheEvictionPolicy evictionPolicy);
+
+  /**
+   * If booth arguments are not null, the sum of the weights of all cached values is bounded. Values are evicted
+   * according to {@link CacheEvictionPolicy#TINY_LFU}, which is implied by this option. If set, this option overrules
+   * {@link #withSizeBound(Integer)}.
+   *
+   * @param maximumWeight
+   *          maximum sum of the weights of all cached values
+   * @param weigher
+   *          calculates the weight of a value
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if maximumWeight is not greater than zero
+   * @since 11.0
+   */
+  ICacheBuilder<K, V> withMaximumWeight(Long maximumWeight, ICacheWeigher<K, V> weigher);
+
+  /**
+   * @param coalescedResolve
+   *          if set to true, concurrent resolve operations of the same key are coalesced into one and overlapping
+   *          batch resolves only resolve the keys not already being resolved. This option is only valid if threadSafe
+   *          is set to true. Typically set this option to true if a value is expensive to resolve and frequently used
+   *          concurrently. (Default false)
+   * @return this builder
+   * @see CoalescedResolveCacheWrapper
+   * @since 11.0
+   */
+  ICacheBuilder<K, V> withCoalescedResolve(boolean coalescedResolve);
+
   /**
    * <b>Warning: Potential deadlock</b>
    * <p>
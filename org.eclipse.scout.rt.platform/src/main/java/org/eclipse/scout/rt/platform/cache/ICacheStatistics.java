@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+/**
+ * Statistics of a cache. Available through {@link ICache#getAdapter(Class)} for caches which record statistics, such
+ * as caches with eviction policy {@link CacheEvictionPolicy#TINY_LFU}.
+ *
+ * @since 11.0
+ */
+public interface ICacheStatistics {
+
+  /**
+   * @return number of lookups which found a cached value.
+   */
+  long getHitCount();
+
+  /**
+   * @return number of lookups which did not find a cached value.
+   */
+  long getMissCount();
+
+  /**
+   * @return ratio of hits to lookups, or 1.0 if there were no lookups yet.
+   */
+  default double getHitRate() {
+    long hits = getHitCount();
+    long lookups = hits + getMissCount();
+    return lookups == 0 ? 1.0 : (double) hits / lookups;
+  }
+
+  /**
+   * @return number of values evicted due to the size or weight bound, or due to expiration.
+   */
+  long getEvictionCount();
+
+  /**
+   * @return sum of the weights of all evicted values.
+   */
+  long getEvictionWeight();
+
+  /**
+   * @return sum of the weights of all cached values.
+   */
+  long getWeightedSize();
+}
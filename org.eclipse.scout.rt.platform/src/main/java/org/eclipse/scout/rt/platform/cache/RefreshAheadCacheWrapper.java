@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This wrapper refreshes cache values in the background once they are older than a given duration (refresh-ahead,
+ * stale-while-revalidate). Until the refreshed value is resolved, the current value is still returned. Thereby, cache
+ * reloads are taken off the latency critical path, while a time to live of the cache still forces values to be resolved
+ * on the calling thread once they expired.
+ * <p>
+ * A refresh is triggered by a read access of a value older than the refresh duration, and is done by a job calling
+ * {@link ICache#refresh(Object)} in a copy of the current {@link RunContext} with a new transaction. The number of
+ * concurrent refresh jobs is bounded by an {@link IExecutionSemaphore}. If a refresh fails, the current value is kept
+ * and the refresh is retried after another refresh duration.
+ * <p>
+ * If a key is invalidated while being refreshed, the refreshed value is not kept in the cache, as it may be stale.
+ * <p>
+ * <b>The cache implementation on which this wrapper is based on must be still thread safe.</b>
+ *
+ * @since 11.0
+ */
+public class RefreshAheadCacheWrapper<K, V> extends AbstractCacheWrapper<K, V> {
+  private static final Logger LOG = LoggerFactory.getLogger(RefreshAheadCacheWrapper.class);
+
+  private final long m_refreshAfterWrite;
+  private final IExecutionSemaphore m_refreshSemaphore;
+  private final ConcurrentMap<K, Long> m_writeTimes = new ConcurrentHashMap<>();
+  private final ConcurrentMap<K, P_Refresh> m_pendingRefreshes = new ConcurrentHashMap<>();
+
+  /**
+   * @param refreshAfterWriteMillis
+   *          duration after which a value is refreshed upon its next read access
+   * @param maxConcurrentRefresh
+   *          maximum number of concurrent refresh jobs
+   */
+  public RefreshAheadCacheWrapper(ICache<K, V> delegate, long refreshAfterWriteMillis, int maxConcurrentRefresh) {
+    super(delegate);
+    m_refreshAfterWrite = refreshAfterWriteMillis;
+    m_refreshSemaphore = Jobs.newExecutionSemaphore(maxConcurrentRefresh);
+  }
+
+  @Override
+  public V get(K key) {
+    if (key == null) {
+      return null;
+    }
+    V value = getUnmodifiableMap().get(key);
+    if (value == null) {
+      value = super.get(key);
+      if (value != null) {
+        recordWrite(key);
+      }
+      return value;
+    }
+    refreshIfStale(key);
+    return value;
+  }
+
+  @Override
+  public Map<K, V> getAll(Collection<? extends K> keys0) {
+    Set<K> keys = CollectionUtility.hashSetWithoutNullElements(keys0);
+    Map<K, V> cacheMap = getUnmodifiableMap();
+    Set<K> missingKeys = new HashSet<>();
+    for (K key : keys) {
+      if (cacheMap.containsKey(key)) {
+        refreshIfStale(key);
+      }
+      else {
+        missingKeys.add(key);
+      }
+    }
+    Map<K, V> result = super.getAll(keys);
+    for (K key : missingKeys) {
+      if (result.containsKey(key)) {
+        recordWrite(key);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public V refresh(K key) {
+    V value = super.refresh(key);
+    if (value != null) {
+      recordWrite(key);
+    }
+    return value;
+  }
+
+  @Override
+  public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
+    if (filter instanceof KeyCacheEntryFilter) {
+      for (K key : ((KeyCacheEntryFilter<K, V>) filter).getKeys()) {
+        m_writeTimes.remove(key);
+        P_Refresh refresh = m_pendingRefreshes.get(key);
+        if (refresh != null) {
+          refresh.m_invalidated = true;
+        }
+      }
+    }
+    else if (filter != null) {
+      if (filter instanceof AllCacheEntryFilter) {
+        m_writeTimes.clear();
+      }
+      // values of other keys are not known here, hence all pending refreshes are considered invalidated
+      for (P_Refresh refresh : m_pendingRefreshes.values()) {
+        refresh.m_invalidated = true;
+      }
+    }
+    super.invalidate(filter, propagate);
+  }
+
+  /**
+   * @return number of scheduled or running refresh jobs
+   */
+  public int getPendingRefreshCount() {
+    return m_pendingRefreshes.size();
+  }
+
+  protected void refreshIfStale(K key) {
+    Long writeTime = m_writeTimes.get(key);
+    if (writeTime == null) {
+      // age unknown, e.g. value was put before this wrapper observed it; start measuring now
+      recordWrite(key);
+      return;
+    }
+    if (System.currentTimeMillis() - writeTime < m_refreshAfterWrite) {
+      return;
+    }
+    P_Refresh refresh = new P_Refresh();
+    if (m_pendingRefreshes.putIfAbsent(key, refresh) != null) {
+      return; // refresh already pending
+    }
+    try {
+      scheduleRefresh(key, refresh);
+    }
+    catch (RuntimeException e) {
+      m_pendingRefreshes.remove(key, refresh);
+      LOG.warn("Failed to schedule refresh of cache entry [cacheId={}, key={}]", getCacheId(), key, e);
+    }
+  }
+
+  protected void scheduleRefresh(K key, P_Refresh refresh) {
+    Jobs.schedule(() -> runRefresh(key, refresh), Jobs.newInput()
+        .withName("Refreshing cache entry [cacheId={}, key={}]", getCacheId(), key)
+        .withRunContext(RunContexts.copyCurrent(true).withTransactionScope(TransactionScope.REQUIRES_NEW))
+        .withExecutionSemaphore(m_refreshSemaphore));
+  }
+
+  protected void runRefresh(K key, P_Refresh refresh) {
+    try {
+      super.refresh(key);
+      if (refresh.m_invalidated) {
+        super.invalidate(new KeyCacheEntryFilter<>(Collections.singleton(key)), false);
+      }
+    }
+    catch (RuntimeException e) {
+      LOG.warn("Failed to refresh cache entry; keeping current value [cacheId={}, key={}]", getCacheId(), key, e);
+    }
+    finally {
+      if (!refresh.m_invalidated) {
+        recordWrite(key); // also on failure, so that the refresh is retried after another refresh duration
+      }
+      m_pendingRefreshes.remove(key, refresh);
+    }
+  }
+
+  protected void recordWrite(K key) {
+    m_writeTimes.put(key, System.currentTimeMillis());
+    // prune keys evicted by the underlying cache
+    Map<K, V> cacheMap = getUnmodifiableMap();
+    if (m_writeTimes.size() > 2 * cacheMap.size() + 16) {
+      m_writeTimes.keySet().removeIf(k -> !cacheMap.containsKey(k));
+    }
+  }
+
+  protected static final class P_Refresh {
+    private volatile boolean m_invalidated;
+  }
+}
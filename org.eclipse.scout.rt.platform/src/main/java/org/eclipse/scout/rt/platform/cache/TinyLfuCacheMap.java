@@ -0,0 +1,615 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * A thread-safe concurrent map bounded by a maximum weight, which evicts entries according to the Window TinyLFU
+ * policy.
+ * <p>
+ * New entries are added to a small admission window (1% of the maximum weight) which is ordered by least recent use.
+ * Entries leaving the window are candidates for the main space, which is a segmented LRU with a probation and a
+ * protected segment (80% of the main space). A candidate is only admitted into the main space if its estimated access
+ * frequency is higher than the one of the entry it would replace, which is the least recently used entry of the
+ * probation segment. Access frequencies are estimated by a {@link FrequencySketch}. Entries accessed while in the
+ * probation segment are promoted into the protected segment. Therefore, frequently used entries are not flushed by a
+ * scan over rarely used keys, and entries are evicted one by one in amortized constant time.
+ * <p>
+ * Read accesses do not block: they are recorded in a lossy buffer which is replayed on the policy once the eviction
+ * lock is available. Write accesses update the policy while holding the eviction lock.
+ * <p>
+ * If a time to live is set, entries expire after the given duration since they were written.
+ * <p>
+ * This map records {@link ICacheStatistics}. Lookups through {@link #get(Object)} count as hit or miss.
+ * <p>
+ * This class does <em>not</em> allow <tt>null</tt> as a key or value.
+ *
+ * @param <K>
+ *          the type of keys maintained by this map
+ * @param <V>
+ *          the type of mapped values
+ * @since 11.0
+ */
+@SuppressWarnings("squid:S2160")
+public class TinyLfuCacheMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V>, ICacheStatistics {
+
+  private static final int READ_BUFFER_SIZE = 128; // power of two
+  private static final int READ_BUFFER_DRAIN_INTERVAL = 32; // power of two
+  private static final int ADMIT_HASHDOS_THRESHOLD = 6;
+
+  private static final int QUEUE_NONE = 0;
+  private static final int QUEUE_WINDOW = 1;
+  private static final int QUEUE_PROBATION = 2;
+  private static final int QUEUE_PROTECTED = 3;
+
+  private final ConcurrentMap<K, P_Node<K, V>> m_data = new ConcurrentHashMap<>();
+  private final ICacheWeigher<? super K, ? super V> m_weigher;
+  private final long m_timeToLive;
+  private final long m_maximumWeight;
+  private final long m_windowMaximum;
+  private final long m_mainMaximum;
+  private final long m_protectedMaximum;
+
+  private final ReentrantLock m_evictionLock = new ReentrantLock();
+  // guarded by m_evictionLock
+  private final FrequencySketch m_sketch = new FrequencySketch();
+  private final P_Deque<K, V> m_window = new P_Deque<>();
+  private final P_Deque<K, V> m_probation = new P_Deque<>();
+  private final P_Deque<K, V> m_protected = new P_Deque<>();
+  private long m_weightedSize;
+  private long m_windowWeight;
+  private long m_protectedWeight;
+
+  private final AtomicReferenceArray<P_Node<K, V>> m_readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+  private final AtomicLong m_readCounter = new AtomicLong();
+
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_evictionCount = new LongAdder();
+  private final LongAdder m_evictionWeight = new LongAdder();
+
+  /**
+   * Creates a new map which holds at most the given number of entries.
+   *
+   * @param maximumSize
+   *          maximum number of entries; must be greater than zero
+   */
+  public TinyLfuCacheMap(long maximumSize) {
+    this(maximumSize, null, -1L);
+  }
+
+  /**
+   * @param maximumWeight
+   *          maximum sum of the weights of all entries; must be greater than zero
+   * @param weigher
+   *          calculates the weight of an entry. If null, each entry has weight 1.
+   * @param timeToLiveDurationMillis
+   *          if greater than zero, entries expire after the given duration since they were written
+   */
+  public TinyLfuCacheMap(long maximumWeight, ICacheWeigher<? super K, ? super V> weigher, long timeToLiveDurationMillis) {
+    Assertions.assertGreater(maximumWeight, 0L, "Invalid maximum weight; must be > 0 [maximumWeight={}]", maximumWeight);
+    m_maximumWeight = maximumWeight;
+    m_weigher = weigher;
+    m_timeToLive = timeToLiveDurationMillis;
+    m_windowMaximum = Math.max(1L, maximumWeight / 100);
+    m_mainMaximum = Math.max(0L, maximumWeight - m_windowMaximum);
+    m_protectedMaximum = m_mainMaximum * 4 / 5;
+    m_sketch.ensureCapacity(16);
+  }
+
+  public long getMaximumWeight() {
+    return m_maximumWeight;
+  }
+
+  public long getTimeToLive() {
+    return m_timeToLive;
+  }
+
+  @Override
+  public int size() {
+    return m_data.size();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return getNode(key) != null;
+  }
+
+  @Override
+  public V get(Object key) {
+    P_Node<K, V> node = getNode(key);
+    if (node == null) {
+      m_missCount.increment();
+      return null;
+    }
+    m_hitCount.increment();
+    recordRead(node);
+    return node.m_value;
+  }
+
+  @Override
+  public V put(K key, V value) {
+    P_Node<K, V> node = newNode(key, value);
+    P_Node<K, V> oldNode = m_data.put(key, node);
+    afterWrite(oldNode, node);
+    return oldNode != null && !isExpired(oldNode) ? oldNode.m_value : null;
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    P_Node<K, V> node = newNode(key, value);
+    while (true) {
+      P_Node<K, V> existingNode = m_data.putIfAbsent(key, node);
+      if (existingNode == null) {
+        afterWrite(null, node);
+        return null;
+      }
+      if (!isExpired(existingNode)) {
+        recordRead(existingNode);
+        return existingNode.m_value;
+      }
+      if (m_data.replace(key, existingNode, node)) {
+        afterWrite(existingNode, node);
+        return null;
+      }
+    }
+  }
+
+  @Override
+  public V remove(Object key) {
+    P_Node<K, V> node = m_data.remove(key);
+    if (node == null) {
+      return null;
+    }
+    afterRemove(node);
+    return isExpired(node) ? null : node.m_value;
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    P_Node<K, V> node = getNode(key);
+    if (node == null || !node.m_value.equals(value) || !m_data.remove(key, node)) {
+      return false;
+    }
+    afterRemove(node);
+    return true;
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    P_Node<K, V> node = getNode(key);
+    if (node == null || !node.m_value.equals(oldValue)) {
+      return false;
+    }
+    P_Node<K, V> newNode = newNode(key, newValue);
+    if (!m_data.replace(key, node, newNode)) {
+      return false;
+    }
+    afterWrite(node, newNode);
+    return true;
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    P_Node<K, V> newNode = newNode(key, value);
+    while (true) {
+      P_Node<K, V> node = getNode(key);
+      if (node == null) {
+        return null;
+      }
+      if (m_data.replace(key, node, newNode)) {
+        afterWrite(node, newNode);
+        return node.m_value;
+      }
+    }
+  }
+
+  @Override
+  public void clear() {
+    for (K key : m_data.keySet()) {
+      remove(key);
+    }
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new P_EntrySet();
+  }
+
+  @Override
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  @Override
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  @Override
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
+  @Override
+  public long getEvictionWeight() {
+    return m_evictionWeight.sum();
+  }
+
+  @Override
+  public long getWeightedSize() {
+    m_evictionLock.lock();
+    try {
+      return m_weightedSize;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Replays all buffered read accesses on the eviction policy. Is done periodically and on every write access; useful
+   * for tests.
+   */
+  public void cleanUp() {
+    m_evictionLock.lock();
+    try {
+      drainReadBuffer();
+      evict();
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  protected P_Node<K, V> newNode(K key, V value) {
+    Assertions.assertNotNull(key, "key must not be null");
+    Assertions.assertNotNull(value, "value must not be null");
+    int weight = m_weigher == null ? 1 : m_weigher.weigh(key, value);
+    Assertions.assertGreaterOrEqual(weight, 0, "Invalid weight; must be >= 0 [key={}, weight={}]", key, weight);
+    return new P_Node<>(key, value, weight, System.currentTimeMillis());
+  }
+
+  protected boolean isExpired(P_Node<K, V> node) {
+    return m_timeToLive > 0L && System.currentTimeMillis() - node.m_writeTime >= m_timeToLive;
+  }
+
+  /**
+   * @return the node of the given key, or <code>null</code> if not contained or expired. Expired nodes are removed.
+   */
+  protected P_Node<K, V> getNode(Object key) {
+    P_Node<K, V> node = m_data.get(key);
+    if (node == null) {
+      return null;
+    }
+    if (isExpired(node)) {
+      if (m_data.remove(key, node)) {
+        m_evictionCount.increment();
+        m_evictionWeight.add(node.m_weight);
+        afterRemove(node);
+      }
+      return null;
+    }
+    return node;
+  }
+
+  /**
+   * Records a read access without blocking. Accesses may be lost if the buffer is full.
+   */
+  protected void recordRead(P_Node<K, V> node) {
+    long count = m_readCounter.getAndIncrement();
+    m_readBuffer.lazySet((int) count & (READ_BUFFER_SIZE - 1), node);
+    if ((count & (READ_BUFFER_DRAIN_INTERVAL - 1)) == READ_BUFFER_DRAIN_INTERVAL - 1 && m_evictionLock.tryLock()) {
+      try {
+        drainReadBuffer();
+      }
+      finally {
+        m_evictionLock.unlock();
+      }
+    }
+  }
+
+  protected void afterWrite(P_Node<K, V> oldNode, P_Node<K, V> node) {
+    if (oldNode != null) {
+      oldNode.m_alive = false;
+    }
+    m_evictionLock.lock();
+    try {
+      if (oldNode != null) {
+        unlinkNode(oldNode);
+      }
+      drainReadBuffer();
+      if (node.m_alive) {
+        m_sketch.ensureCapacity(m_data.size());
+        m_sketch.increment(node.m_hash);
+        linkNode(m_window, node, QUEUE_WINDOW);
+        m_windowWeight += node.m_weight;
+        m_weightedSize += node.m_weight;
+      }
+      evict();
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  protected void afterRemove(P_Node<K, V> node) {
+    node.m_alive = false;
+    m_evictionLock.lock();
+    try {
+      unlinkNode(node);
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Must be called while holding the eviction lock.
+   */
+  private void drainReadBuffer() {
+    for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+      P_Node<K, V> node = m_readBuffer.getAndSet(i, null);
+      if (node != null) {
+        onAccess(node);
+      }
+    }
+  }
+
+  /**
+   * Must be called while holding the eviction lock.
+   */
+  private void onAccess(P_Node<K, V> node) {
+    switch (node.m_queue) {
+      case QUEUE_WINDOW:
+        m_window.moveToLast(node);
+        break;
+      case QUEUE_PROBATION:
+        // promote into protected segment
+        m_probation.unlink(node);
+        linkNode(m_protected, node, QUEUE_PROTECTED);
+        m_protectedWeight += node.m_weight;
+        while (m_protectedWeight > m_protectedMaximum) {
+          P_Node<K, V> demoted = m_protected.first();
+          m_protected.unlink(demoted);
+          m_protectedWeight -= demoted.m_weight;
+          linkNode(m_probation, demoted, QUEUE_PROBATION);
+        }
+        break;
+      case QUEUE_PROTECTED:
+        m_protected.moveToLast(node);
+        break;
+      default:
+        return; // removed or not linked yet
+    }
+    m_sketch.increment(node.m_hash);
+  }
+
+  /**
+   * Moves candidates from the admission window into the main space and evicts entries until the maximum weight is
+   * respected. Must be called while holding the eviction lock.
+   */
+  private void evict() {
+    while (m_windowWeight > m_windowMaximum) {
+      P_Node<K, V> candidate = m_window.first();
+      m_window.unlink(candidate);
+      m_windowWeight -= candidate.m_weight;
+
+      P_Node<K, V> victim = m_probation.first();
+      if (victim == null) {
+        victim = m_protected.first();
+      }
+      linkNode(m_probation, candidate, QUEUE_PROBATION);
+      if (victim == null || m_weightedSize - m_windowWeight <= m_mainMaximum) {
+        continue;
+      }
+      evictNode(admit(candidate, victim) ? victim : candidate);
+    }
+
+    while (m_weightedSize > m_maximumWeight) {
+      P_Node<K, V> victim = m_probation.first();
+      if (victim == null) {
+        victim = m_protected.first();
+      }
+      if (victim == null) {
+        victim = m_window.first();
+      }
+      if (victim == null) {
+        break;
+      }
+      evictNode(victim);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the candidate is used more frequently than the victim. Candidates with a high
+   *         frequency are admitted randomly to protect against hash flooding.
+   */
+  private boolean admit(P_Node<K, V> candidate, P_Node<K, V> victim) {
+    int candidateFrequency = m_sketch.frequency(candidate.m_hash);
+    int victimFrequency = m_sketch.frequency(victim.m_hash);
+    if (candidateFrequency > victimFrequency) {
+      return true;
+    }
+    if (candidateFrequency < ADMIT_HASHDOS_THRESHOLD) {
+      return false;
+    }
+    return (ThreadLocalRandom.current().nextInt() & 127) == 0;
+  }
+
+  /**
+   * Must be called while holding the eviction lock.
+   */
+  private void evictNode(P_Node<K, V> node) {
+    unlinkNode(node);
+    if (m_data.remove(node.m_key, node)) {
+      node.m_alive = false;
+      m_evictionCount.increment();
+      m_evictionWeight.add(node.m_weight);
+    }
+  }
+
+  private void linkNode(P_Deque<K, V> deque, P_Node<K, V> node, int queue) {
+    deque.addLast(node);
+    node.m_queue = queue;
+  }
+
+  /**
+   * Must be called while holding the eviction lock.
+   */
+  private void unlinkNode(P_Node<K, V> node) {
+    switch (node.m_queue) {
+      case QUEUE_WINDOW:
+        m_window.unlink(node);
+        m_windowWeight -= node.m_weight;
+        break;
+      case QUEUE_PROBATION:
+        m_probation.unlink(node);
+        break;
+      case QUEUE_PROTECTED:
+        m_protected.unlink(node);
+        m_protectedWeight -= node.m_weight;
+        break;
+      default:
+        return;
+    }
+    m_weightedSize -= node.m_weight;
+    node.m_queue = QUEUE_NONE;
+  }
+
+  protected static final class P_Node<K, V> {
+    private final K m_key;
+    private final V m_value;
+    private final int m_hash;
+    private final int m_weight;
+    private final long m_writeTime;
+    private volatile boolean m_alive = true;
+
+    // guarded by the eviction lock
+    private int m_queue = QUEUE_NONE;
+    private P_Node<K, V> m_prev;
+    private P_Node<K, V> m_next;
+
+    private P_Node(K key, V value, int weight, long writeTime) {
+      m_key = key;
+      m_value = value;
+      m_hash = key == null ? 0 : key.hashCode();
+      m_weight = weight;
+      m_writeTime = writeTime;
+    }
+  }
+
+  /**
+   * Doubly linked list of nodes ordered by least recent use.
+   */
+  private static final class P_Deque<K, V> {
+    private final P_Node<K, V> m_root = new P_Node<>(null, null, 0, 0L); // sentinel
+
+    private P_Deque() {
+      m_root.m_prev = m_root;
+      m_root.m_next = m_root;
+    }
+
+    private P_Node<K, V> first() {
+      return m_root.m_next == m_root ? null : m_root.m_next;
+    }
+
+    private void addLast(P_Node<K, V> node) {
+      P_Node<K, V> tail = m_root.m_prev;
+      node.m_prev = tail;
+      node.m_next = m_root;
+      tail.m_next = node;
+      m_root.m_prev = node;
+    }
+
+    private void unlink(P_Node<K, V> node) {
+      node.m_prev.m_next = node.m_next;
+      node.m_next.m_prev = node.m_prev;
+      node.m_prev = null;
+      node.m_next = null;
+    }
+
+    private void moveToLast(P_Node<K, V> node) {
+      unlink(node);
+      addLast(node);
+    }
+  }
+
+  private class P_EntrySet extends AbstractSet<Entry<K, V>> {
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+      return new P_EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return TinyLfuCacheMap.this.size();
+    }
+
+    @Override
+    public void clear() {
+      TinyLfuCacheMap.this.clear();
+    }
+  }
+
+  private class P_EntryIterator implements Iterator<Entry<K, V>> {
+    private final Iterator<P_Node<K, V>> m_delegate = m_data.values().iterator();
+    private P_Node<K, V> m_next;
+    private P_Node<K, V> m_last;
+
+    @Override
+    public boolean hasNext() {
+      while (m_next == null && m_delegate.hasNext()) {
+        P_Node<K, V> node = m_delegate.next();
+        if (!isExpired(node)) {
+          m_next = node;
+        }
+      }
+      return m_next != null;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      m_last = m_next;
+      m_next = null;
+      return new AbstractMap.SimpleImmutableEntry<>(m_last.m_key, m_last.m_value);
+    }
+
+    @Override
+    public void remove() {
+      if (m_last == null) {
+        throw new IllegalStateException();
+      }
+      if (m_data.remove(m_last.m_key, m_last)) {
+        afterRemove(m_last);
+      }
+      m_last = null;
+    }
+  }
+}
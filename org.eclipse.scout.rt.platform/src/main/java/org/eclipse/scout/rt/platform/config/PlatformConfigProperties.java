@@ -241,6 +241,86 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JobManagerVirtualThreadsProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.virtualThreads";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Specifies whether jobs should be executed in virtual threads instead of a pool of platform threads. "
+          + "Requires a JVM supporting virtual threads, otherwise the pool of platform threads is used. "
+          + "If enabled, the properties '%s' and '%s' have no effect. The default value is false.",
+          BEANS.get(JobManagerCorePoolSizeProperty.class).getKey(), BEANS.get(JobManagerMaximumPoolSizeProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
+  public static class JobManagerTimingWheelProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.timingWheel";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Specifies whether delayed and periodic jobs should be scheduled by a hierarchical timing wheel instead of a priority queue. "
+          + "A timing wheel provides constant time scheduling and cancellation, but fires jobs with the precision given by the property '%s'. "
+          + "The default value is false.",
+          BEANS.get(JobManagerTimingWheelTickProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
+  public static class JobManagerTimingWheelTickProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.timingWheelTick";
+    }
+
+    @Override
+    public String description() {
+      return String.format("The duration of a tick in milliseconds of the timing wheel used if the property '%s' is enabled. Jobs may fire up to one tick later than scheduled. The default value is 10 milliseconds.",
+          BEANS.get(JobManagerTimingWheelProperty.class).getKey());
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 10L;
+    }
+  }
+
+  public static class CompactPropertyStorageProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.compactPropertyStorage";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies whether the properties of model objects (e.g. form fields and table columns) should be stored in a compact array based layout shared per class instead of a hash map per object. "
+          + "This reduces the heap used by a UI session with many model objects. The default value is false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
   public static class DevelopmentTextsFileWatcherEnabledProperty extends AbstractBooleanConfigProperty {
 
     @Override
@@ -20,8 +20,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.Order;
@@ -30,21 +28,20 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 
 /**
- * This class is not thread safe
+ * Beans of a hierarchy are held in an immutable copy-on-write list. Queries are therefore wait-free and may run
+ * concurrently to modifications. Modifications ({@link #addBean(IBean)}, {@link #removeBean(IBean)}) must be
+ * serialized by the caller.
  */
 public class BeanHierarchy<T> {
 
   private final Class<T> m_clazz;
-  private final List<IBean<T>> m_beans;
-  private final ReadWriteLock m_queryCacheLock;
 
-  private List<IBean<T>> m_single;
-  private List<IBean<T>> m_all;
+  private volatile List<IBean<T>> m_beans;
+  private volatile P_QueryResult<T> m_queryResult;
 
   public BeanHierarchy(Class<T> clazz) {
     m_clazz = clazz;
-    m_beans = new ArrayList<>();
-    m_queryCacheLock = new ReentrantReadWriteLock();
+    m_beans = Collections.emptyList();
   }
 
   public Class<T> getClazz() {
@@ -52,7 +49,8 @@ public class BeanHierarchy<T> {
   }
 
   /**
-   * @return all beans in this hierarchy regardless of {@link Order} and {@link Replace}
+   * @return all beans in this hierarchy regardless of {@link Order} and {@link Replace}. The returned list is an
+   *         unmodifiable snapshot.
    */
   public List<IBean<T>> getBeans() {
     return m_beans;
@@ -71,13 +69,17 @@ public class BeanHierarchy<T> {
   }
 
   public void addBean(IBean<T> bean) {
-    invalidate();
-    m_beans.add(bean);
+    List<IBean<T>> beans = new ArrayList<>(m_beans.size() + 1);
+    beans.addAll(m_beans);
+    beans.add(bean);
+    m_beans = Collections.unmodifiableList(beans);
   }
 
   public void removeBean(IBean<T> bean) {
-    invalidate();
-    m_beans.remove(bean);
+    List<IBean<T>> beans = new ArrayList<>(m_beans);
+    if (beans.remove(bean)) {
+      m_beans = Collections.unmodifiableList(beans);
+    }
   }
 
   /**
@@ -99,14 +101,7 @@ public class BeanHierarchy<T> {
   }
 
   protected void invalidate() {
-    m_queryCacheLock.writeLock().lock();
-    try {
-      m_single = null;
-      m_all = null;
-    }
-    finally {
-      m_queryCacheLock.writeLock().unlock();
-    }
+    m_queryResult = null;
   }
 
   /**
@@ -114,7 +109,11 @@ public class BeanHierarchy<T> {
    *         bean-insertion-order.
    */
   protected List<IBean<T>> sortedBeanCopy() {
-    ArrayList<IBean<T>> sorted = new ArrayList<>(m_beans);
+    return sortedBeanCopy(m_beans);
+  }
+
+  protected List<IBean<T>> sortedBeanCopy(List<IBean<T>> beans) {
+    ArrayList<IBean<T>> sorted = new ArrayList<>(beans);
 
     // m_beans contains the beans in insertion order.
     // In case there are duplicates (with the same order) the one last added should win.
@@ -132,104 +131,90 @@ public class BeanHierarchy<T> {
     return sorted;
   }
 
-  @SuppressWarnings({"unchecked", "squid:S1244" /* Floating point numbers should not be tested for equality */})
   protected List<IBean<T>> query(boolean querySingle) {
-    boolean isInitialized = false;
-    m_queryCacheLock.readLock().lock();
-    try {
-      isInitialized = m_single != null && m_all != null;
+    List<IBean<T>> beans = m_beans;
+    P_QueryResult<T> result = m_queryResult;
+    if (result == null || result.m_beans != beans) {
+      // the result is bound to the bean snapshot it was computed from. Concurrent computations are idempotent.
+      result = computeQueryResult(beans);
+      m_queryResult = result;
     }
-    finally {
-      m_queryCacheLock.readLock().unlock();
+
+    if (querySingle) {
+      return result.m_single;
     }
+    return result.m_all;
+  }
 
-    if (!isInitialized) {
-      m_queryCacheLock.writeLock().lock();
-      try {
-        isInitialized = m_single != null && m_all != null;
-        if (!isInitialized) {
-          List<IBean<T>> list = sortedBeanCopy();
-          //manage replaced beans
-          final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
-          for (IBean<T> bean : list) {
-            if (bean.hasAnnotation(Replace.class)) {
-              Assertions.assertFalse(bean.getBeanClazz().isInterface(), "@{} annotation not supported on interface: {}.", Replace.class.getSimpleName(), bean);
-              Class<?> superClazz = bean.getBeanClazz().getSuperclass();
-              Assertions.assertNotNull(superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
-              Assertions.assertNotEquals(Object.class, superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
-              Assertions.assertFalse(Modifier.isAbstract(superClazz.getModifiers()), "Cannot replace an abstract super class: {}. Delete this @{} annotation.", bean, Replace.class.getSimpleName());
-
-              IBean<?> existingBean = extendsMap.get(superClazz);
-              if (existingBean == null) {
-                //only add if first to override, respects @Order annotation
-                extendsMap.put(superClazz, bean);
-              }
-              else {
-                // there is no calculation performed on bean orders (typically these are literals).
-                // therefore we accept direct equality check without epsilon.
-                Assertions.assertFalse(orderOf(existingBean) == orderOf(bean),
-                    "Bean '{}' and '{}' replace the same super class and have identical orders. No unique result possible.",
-                    existingBean.getBeanClazz().getName(), bean.getBeanClazz().getName());
-              }
-            }
-          }
-
-          //find most specific version of @Replaced class
-          Class<T> refClazz = m_clazz;
-          while (extendsMap.containsKey(refClazz)) {
-            refClazz = (Class<T>) extendsMap.get(refClazz).getBeanClazz();
-          }
-
-          //remove replaced beans
-          list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
-
-          if (list.isEmpty()) {
-            m_all = Collections.emptyList();
-            m_single = Collections.emptyList();
-          }
-          else {
-            m_all = Collections.unmodifiableList(new ArrayList<>(list));
-
-            IBean<T> exactBean = getExactBean(list, refClazz);
-            if (exactBean != null) {
-              // we have an exact match: use it
-              m_single = Collections.singletonList(exactBean);
-            }
-            else if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
-              // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
-              m_single = Collections.emptyList();
-            }
-            else if (list.size() == 1) {
-              m_single = Collections.singletonList(list.get(0));
-            }
-            else {
-              //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
-              List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
-              Iterator<IBean<T>> iterator = list.iterator();
-
-              // first bean
-              IBean<T> curBean = iterator.next();
-              double lowestOrder = orderOf(curBean);
-              lowestOrderBeans.add(curBean);
-
-              // all others having the same order
-              while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
-                lowestOrderBeans.add(curBean);
-              }
-              m_single = Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans));
-            }
-          }
+  @SuppressWarnings({"unchecked", "squid:S1244" /* Floating point numbers should not be tested for equality */})
+  protected P_QueryResult<T> computeQueryResult(List<IBean<T>> beans) {
+    List<IBean<T>> list = sortedBeanCopy(beans);
+    //manage replaced beans
+    final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
+    for (IBean<T> bean : list) {
+      if (bean.hasAnnotation(Replace.class)) {
+        Assertions.assertFalse(bean.getBeanClazz().isInterface(), "@{} annotation not supported on interface: {}.", Replace.class.getSimpleName(), bean);
+        Class<?> superClazz = bean.getBeanClazz().getSuperclass();
+        Assertions.assertNotNull(superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
+        Assertions.assertNotEquals(Object.class, superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
+        Assertions.assertFalse(Modifier.isAbstract(superClazz.getModifiers()), "Cannot replace an abstract super class: {}. Delete this @{} annotation.", bean, Replace.class.getSimpleName());
+
+        IBean<?> existingBean = extendsMap.get(superClazz);
+        if (existingBean == null) {
+          //only add if first to override, respects @Order annotation
+          extendsMap.put(superClazz, bean);
+        }
+        else {
+          // there is no calculation performed on bean orders (typically these are literals).
+          // therefore we accept direct equality check without epsilon.
+          Assertions.assertFalse(orderOf(existingBean) == orderOf(bean),
+              "Bean '{}' and '{}' replace the same super class and have identical orders. No unique result possible.",
+              existingBean.getBeanClazz().getName(), bean.getBeanClazz().getName());
         }
-      }
-      finally {
-        m_queryCacheLock.writeLock().unlock();
       }
     }
 
-    if (querySingle) {
-      return m_single;
+    //find most specific version of @Replaced class
+    Class<T> refClazz = m_clazz;
+    while (extendsMap.containsKey(refClazz)) {
+      refClazz = (Class<T>) extendsMap.get(refClazz).getBeanClazz();
+    }
+
+    //remove replaced beans
+    list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
+
+    if (list.isEmpty()) {
+      return new P_QueryResult<>(beans, Collections.emptyList(), Collections.emptyList());
+    }
+
+    List<IBean<T>> all = Collections.unmodifiableList(new ArrayList<>(list));
+    IBean<T> exactBean = getExactBean(list, refClazz);
+    if (exactBean != null) {
+      // we have an exact match: use it
+      return new P_QueryResult<>(beans, Collections.singletonList(exactBean), all);
     }
-    return m_all;
+    if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
+      // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
+      return new P_QueryResult<>(beans, Collections.emptyList(), all);
+    }
+    if (list.size() == 1) {
+      return new P_QueryResult<>(beans, Collections.singletonList(list.get(0)), all);
+    }
+
+    //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
+    List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
+    Iterator<IBean<T>> iterator = list.iterator();
+
+    // first bean
+    IBean<T> curBean = iterator.next();
+    double lowestOrder = orderOf(curBean);
+    lowestOrderBeans.add(curBean);
+
+    // all others having the same order
+    while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
+      lowestOrderBeans.add(curBean);
+    }
+    return new P_QueryResult<>(beans, Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans)), all);
   }
 
   /**
@@ -260,4 +245,19 @@ public class BeanHierarchy<T> {
     }
     return IBean.DEFAULT_BEAN_ORDER;
   }
+
+  /**
+   * Immutable result of a query, bound to the bean snapshot it was computed from.
+   */
+  protected static final class P_QueryResult<T> {
+    private final List<IBean<T>> m_beans;
+    private final List<IBean<T>> m_single;
+    private final List<IBean<T>> m_all;
+
+    private P_QueryResult(List<IBean<T>> beans, List<IBean<T>> single, List<IBean<T>> all) {
+      m_beans = beans;
+      m_single = single;
+      m_all = all;
+    }
+  }
 }
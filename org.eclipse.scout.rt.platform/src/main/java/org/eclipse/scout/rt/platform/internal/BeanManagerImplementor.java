@@ -14,12 +14,13 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
@@ -37,13 +38,20 @@ import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Modifications of the bean manager are serialized by the write lock of {@link #getReadWriteLock()}. Queries do not
+ * acquire any lock: the {@link BeanHierarchy} instances publish copy-on-write snapshots of their beans and resolved
+ * (decorated) single-bean results are cached per queried class. This cache is replaced as a whole on every
+ * modification.
+ */
 public class BeanManagerImplementor implements IBeanManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(BeanManagerImplementor.class);
 
   private final ReentrantReadWriteLock m_lock;
   private final Map<Class<?>, BeanHierarchy> m_beanHierarchies;
-  private IBeanDecorationFactory m_beanDecorationFactory;
+  private volatile ConcurrentMap<Class<?>, List<IBean<?>>> m_querySingleCache;
+  private volatile IBeanDecorationFactory m_beanDecorationFactory;
 
   public BeanManagerImplementor() {
     this(null);
@@ -51,10 +59,14 @@ public class BeanManagerImplementor implements IBeanManager {
 
   public BeanManagerImplementor(IBeanDecorationFactory f) {
     m_lock = new ReentrantReadWriteLock(true);
-    m_beanHierarchies = new HashMap<>();
+    m_beanHierarchies = new ConcurrentHashMap<>();
+    m_querySingleCache = new ConcurrentHashMap<>();
     m_beanDecorationFactory = f;
   }
 
+  /**
+   * @return the lock guarding modifications of this bean manager. Queries do not acquire the read lock.
+   */
   public ReentrantReadWriteLock getReadWriteLock() {
     return m_lock;
   }
@@ -63,40 +75,44 @@ public class BeanManagerImplementor implements IBeanManager {
     //subclasses may limit access
   }
 
+  /**
+   * Discards all cached query results. Must be called after every modification of the bean hierarchies.
+   */
+  protected void invalidateQueryCache() {
+    m_querySingleCache = new ConcurrentHashMap<>();
+  }
+
+  @SuppressWarnings("unchecked")
   protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      else {
-        List<IBean<T>> singleBean = h.querySingle();
-        return getDecoratedBeans(singleBean, beanClazz);
-      }
+    checkAccess();
+    // read the cache reference before the hierarchy: a result computed from an outdated hierarchy is only stored in an already discarded cache
+    ConcurrentMap<Class<?>, List<IBean<?>>> cache = m_querySingleCache;
+    List<IBean<?>> cached = cache.get(beanClazz);
+    if (cached != null) {
+      return (List) cached;
     }
-    finally {
-      m_lock.readLock().unlock();
+
+    List<IBean<T>> result;
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      result = Collections.emptyList();
     }
+    else {
+      result = Collections.unmodifiableList(getDecoratedBeans(h.querySingle(), beanClazz));
+    }
+    cache.put(beanClazz, (List) result);
+    return result;
   }
 
   protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      List<IBean<T>> allBeans = h.queryAll();
-      return getDecoratedBeans(allBeans, beanClazz);
-    }
-    finally {
-      m_lock.readLock().unlock();
+    checkAccess();
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
     }
+    List<IBean<T>> allBeans = h.queryAll();
+    return getDecoratedBeans(allBeans, beanClazz);
   }
 
   protected Collection<Class<?>> listImplementedTypes(IBean<?> bean) {
@@ -162,6 +178,7 @@ public class BeanManagerImplementor implements IBeanManager {
         BeanHierarchy h = m_beanHierarchies.computeIfAbsent(type, k -> new BeanHierarchy(type));
         h.addBean(bean);
       }
+      invalidateQueryCache();
       return bean;
     }
     finally {
@@ -181,6 +198,7 @@ public class BeanManagerImplementor implements IBeanManager {
           h.removeBean(bean);
         }
       }
+      invalidateQueryCache();
       if (bean instanceof BeanImplementor) {
         ((BeanImplementor) bean).dispose();
       }
@@ -193,33 +211,21 @@ public class BeanManagerImplementor implements IBeanManager {
   @Override
   @SuppressWarnings("unchecked")
   public <T> List<IBean<T>> getRegisteredBeans(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return CollectionUtility.emptyArrayList();
-      }
-      return new ArrayList<>(h.getBeans());
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return CollectionUtility.emptyArrayList();
     }
+    return new ArrayList<>(h.getBeans());
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public <T> IBean<T> getRegisteredBean(Class<?> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(beanClazz);
-      if (h != null) {
-        return h.getExactBean(beanClazz);
-      }
-      return null;
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy h = m_beanHierarchies.get(beanClazz);
+    if (h != null) {
+      return h.getExactBean(beanClazz);
     }
+    return null;
   }
 
   @Override
@@ -269,14 +275,8 @@ public class BeanManagerImplementor implements IBeanManager {
 
   @Override
   public <T> boolean isBean(Class<T> clazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(clazz);
-      return h != null && !h.getBeans().isEmpty();
-    }
-    finally {
-      m_lock.readLock().unlock();
-    }
+    BeanHierarchy h = m_beanHierarchies.get(clazz);
+    return h != null && !h.getBeans().isEmpty();
   }
 
   protected void callPreDestroyOnBeans() {
@@ -318,6 +318,7 @@ public class BeanManagerImplementor implements IBeanManager {
 
   protected void setBeanDecorationFactory(IBeanDecorationFactory f) {
     m_beanDecorationFactory = f;
+    invalidateQueryCache();
   }
 
   protected IBeanDecorationFactory getBeanDecorationFactory() {
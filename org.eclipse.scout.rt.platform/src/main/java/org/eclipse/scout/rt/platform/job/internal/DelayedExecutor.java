@@ -10,17 +10,22 @@
  */
 package org.eclipse.scout.rt.platform.job.internal;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.DelayQueue;
 import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +40,9 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Also, this executor is used over Quartz Scheduler because of its better performance when having more than 10'000 jobs
  * running simultaneously.
+ * <p>
+ * The delayed Runnables are held by a {@link IDelayedTaskQueue}, which is either based on a {@link DelayQueue} (see
+ * {@link DelayQueueTaskQueue}), or on a hierarchical timing wheel (see {@link TimingWheelTaskQueue}).
  *
  * @since 5.1
  */
@@ -45,7 +53,7 @@ class DelayedExecutor {
   private final ExecutorService m_executor;
   private final String m_threadName;
   private final AtomicLong m_sequencer = new AtomicLong(-Long.MAX_VALUE);
-  private final DelayQueue<P_DelayedTask> m_delayedTaskQueue = new DelayQueue<>();
+  private final IDelayedTaskQueue m_delayedTaskQueue;
 
   /**
    * @param executor
@@ -54,8 +62,21 @@ class DelayedExecutor {
    *          the thread-name of the 'Dispatch-Loop-Runnable'.
    */
   DelayedExecutor(final ExecutorService executor, final String threadName) {
+    this(executor, threadName, new DelayQueueTaskQueue());
+  }
+
+  /**
+   * @param executor
+   *          executor to run the 'Dispatch-Loop-Runnable' and execute offered Runnables.
+   * @param threadName
+   *          the thread-name of the 'Dispatch-Loop-Runnable'.
+   * @param delayedTaskQueue
+   *          the queue to hold the Runnables until their fire time elapses.
+   */
+  DelayedExecutor(final ExecutorService executor, final String threadName, final IDelayedTaskQueue delayedTaskQueue) {
     m_executor = executor;
     m_threadName = threadName;
+    m_delayedTaskQueue = delayedTaskQueue;
     m_executor.execute(new P_DispatchLoop());
   }
 
@@ -70,20 +91,25 @@ class DelayedExecutor {
    *          the Runnable to be executed some time in the future.
    * @param fireTime
    *          the time the Runnable should commence execution. Must not be <code>null</code>.
+   * @return handle to cancel the execution of the Runnable, unless already commenced.
    */
-  public void schedule(final Runnable runnable, final Date fireTime) {
+  public IRegistrationHandle schedule(final Runnable runnable, final Date fireTime) {
     Assertions.assertNotNull(fireTime, "FireTime must not be null");
-    m_delayedTaskQueue.put(new P_DelayedTask(runnable, fireTime));
+    final DelayedTask task = new DelayedTask(runnable, fireTime.getTime(), m_sequencer.incrementAndGet());
+    m_delayedTaskQueue.put(task);
+    return () -> {
+      if (task.cancel()) {
+        m_delayedTaskQueue.remove(task);
+      }
+    };
   }
 
   /**
-   * Returns <code>-1</code> if <code>value1</code> is less than <code>value2</code>, or <code>+1</code> if
-   * <code>value1</code> is greater than <code>value2</code>, or <code>0</code> if the two values are equals.
+   * @return the number of Runnables waiting for their fire time to elapse (including cancelled Runnables not yet
+   *         evicted).
    */
-  private int signum(final long value1, final long value2) {
-    // do not subtract because of potential overflow.
-    // do not subtract because of potential overflow.
-    return Long.compare(value1, value2);
+  public int size() {
+    return m_delayedTaskQueue.size();
   }
 
   /**
@@ -95,10 +121,14 @@ class DelayedExecutor {
     @Override
     public void run() {
       ThreadInfo.CURRENT.get().updateThreadName(m_threadName, null);
+      final List<DelayedTask> expiredTasks = new ArrayList<>();
       try {
         while (!m_executor.isShutdown()) {
           try {
-            m_delayedTaskQueue.take().run(); // 'DelayQueue#take' blocks until a Runnable's delay expired to be executed.
+            m_delayedTaskQueue.takeExpired(expiredTasks); // blocks until at least one Runnable's delay expired to be executed.
+            for (final DelayedTask expiredTask : expiredTasks) {
+              runSafe(expiredTask);
+            }
           }
           catch (final InterruptedException e) {
             Thread.interrupted(); // ensure the interrupted status to be cleared.
@@ -106,27 +136,130 @@ class DelayedExecutor {
           catch (final RuntimeException | Error t) { // NOSONAR
             LOG.error("Unexpected exception while waiting for expired runnables to be executed.", t);
           }
+          finally {
+            expiredTasks.clear();
+          }
         }
       }
       finally {
         ThreadInfo.CURRENT.get().reset();
       }
     }
+
+    private void runSafe(final DelayedTask task) {
+      try {
+        if (task.expire()) {
+          task.run();
+        }
+      }
+      catch (final RuntimeException | Error t) { // NOSONAR
+        LOG.error("Unexpected exception while executing expired runnable.", t);
+      }
+    }
+  }
+
+  /**
+   * Strategy to hold delayed tasks until their fire time elapses.
+   */
+  interface IDelayedTaskQueue {
+
+    /**
+     * Adds the given task.
+     */
+    void put(DelayedTask task);
+
+    /**
+     * Removes the given cancelled task. Implementations may also evict cancelled tasks lazily.
+     */
+    void remove(DelayedTask task);
+
+    /**
+     * Waits until at least one task expired, and adds all expired tasks to the given collection in the order of their
+     * fire time.
+     */
+    void takeExpired(Collection<DelayedTask> expiredTasks) throws InterruptedException;
+
+    /**
+     * @return the number of tasks held.
+     */
+    int size();
+  }
+
+  /**
+   * {@link IDelayedTaskQueue} based on a {@link DelayQueue}, which is a binary heap with <code>O(log n)</code> insertion.
+   * Cancelled tasks are evicted once their fire time elapses.
+   */
+  static class DelayQueueTaskQueue implements IDelayedTaskQueue {
+
+    private final DelayQueue<DelayedTask> m_queue = new DelayQueue<>();
+
+    @Override
+    public void put(final DelayedTask task) {
+      m_queue.put(task);
+    }
+
+    @Override
+    public void remove(final DelayedTask task) {
+      // NOOP: removing from the heap is O(n), so cancelled tasks are skipped upon expiry.
+    }
+
+    @Override
+    public void takeExpired(final Collection<DelayedTask> expiredTasks) throws InterruptedException {
+      expiredTasks.add(m_queue.take()); // 'DelayQueue#take' blocks until a Runnable's delay expired to be executed.
+      m_queue.drainTo(expiredTasks); // only drains expired tasks
+    }
+
+    @Override
+    public int size() {
+      return m_queue.size();
+    }
   }
 
   /**
    * Represents a task to be executed some time in the future.
    */
-  private class P_DelayedTask implements Delayed, Runnable {
+  static class DelayedTask implements Delayed, Runnable {
+
+    private static final int STATE_SCHEDULED = 0;
+    private static final int STATE_CANCELLED = 1;
+    private static final int STATE_EXPIRED = 2;
 
     private final Runnable m_runnable;
     private final long m_executionTime;
     private final long m_sequenceNumber;
+    private final AtomicInteger m_state = new AtomicInteger(STATE_SCHEDULED);
 
-    P_DelayedTask(final Runnable runnable, final Date fireTime) {
+    // links used by TimingWheelTaskQueue, guarded by its lock
+    TimingWheelTaskQueue.P_Bucket m_bucket;
+    DelayedTask m_prev;
+    DelayedTask m_next;
+
+    DelayedTask(final Runnable runnable, final long executionTime, final long sequenceNumber) {
       m_runnable = runnable;
-      m_executionTime = fireTime.getTime();
-      m_sequenceNumber = m_sequencer.incrementAndGet();
+      m_executionTime = executionTime;
+      m_sequenceNumber = sequenceNumber;
+    }
+
+    long getExecutionTime() {
+      return m_executionTime;
+    }
+
+    /**
+     * @return <code>true</code> if this task was cancelled by this call.
+     */
+    boolean cancel() {
+      return m_state.compareAndSet(STATE_SCHEDULED, STATE_CANCELLED);
+    }
+
+    /**
+     * @return <code>true</code> if this task was expired by this call, meaning that it is not cancelled and must be run.
+     */
+    boolean expire() {
+      return m_state.compareAndSet(STATE_SCHEDULED, STATE_EXPIRED);
+    }
+
+    boolean isCancelled() {
+      return m_state.get() == STATE_CANCELLED;
     }
 
     @Override
@@ -145,13 +278,14 @@ class DelayedExecutor {
         return 0;
       }
 
-      final P_DelayedTask otherDelayedTask = (P_DelayedTask) other;
-      final int signum = signum(m_executionTime, otherDelayedTask.m_executionTime);
+      // do not subtract because of potential overflow.
+      final DelayedTask otherDelayedTask = (DelayedTask) other;
+      final int signum = Long.compare(m_executionTime, otherDelayedTask.m_executionTime);
       if (signum != 0) {
         return signum;
       }
       else {
-        return signum(m_sequenceNumber, otherDelayedTask.m_sequenceNumber);
+        return Long.compare(m_sequenceNumber, otherDelayedTask.m_sequenceNumber);
       }
     }
   }
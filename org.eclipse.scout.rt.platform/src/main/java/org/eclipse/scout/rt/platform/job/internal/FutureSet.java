@@ -15,12 +15,13 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 
 import org.eclipse.scout.rt.platform.Bean;
@@ -34,6 +35,10 @@ import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 
 /**
  * Thread-safe implementation of a {@link Set} to contain {@link IFuture}s.
+ * <p>
+ * Futures are held in a concurrent set, so that adding and removing Futures does not require a global lock. Threads
+ * waiting for Futures to complete only wait for a single Future which currently prevents their wait condition from
+ * being fulfilled (the 'blocker'), and are only woken up upon a change of that Future.
  *
  * @since 5.1
  */
@@ -41,35 +46,24 @@ import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 public class FutureSet {
 
   private final Set<JobFutureTask<?>> m_futures;
+  private final Set<P_Waiter> m_waiters;
 
-  private final ReadLock m_readLock;
-  private final WriteLock m_writeLock;
-  private final Condition m_changedCondition;
+  private final LongAdder m_awaitCount = new LongAdder();
+  private final LongAdder m_awaitNanos = new LongAdder();
+  private final AtomicLong m_maxAwaitNanos = new AtomicLong();
 
   private IRegistrationHandle m_jobListenerRegistration;
 
   public FutureSet() {
-    m_futures = new HashSet<>(CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class));
-
-    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    m_readLock = lock.readLock();
-    m_writeLock = lock.writeLock();
-    m_changedCondition = m_writeLock.newCondition();
+    m_futures = ConcurrentHashMap.newKeySet(CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class));
+    m_waiters = ConcurrentHashMap.newKeySet();
   }
 
   /**
    * Invoke to initialize this {@link FutureSet}.
    */
   public void init(final IJobManager jobManager) {
-    m_jobListenerRegistration = jobManager.addListener(newSignalingFilter(), event -> {
-      m_writeLock.lock();
-      try {
-        m_changedCondition.signalAll();
-      }
-      finally {
-        m_writeLock.unlock();
-      }
-    });
+    m_jobListenerRegistration = jobManager.addListener(newSignalingFilter(), event -> signal((JobFutureTask<?>) event.getData().getFuture()));
   }
 
   /**
@@ -79,16 +73,9 @@ public class FutureSet {
     m_jobListenerRegistration.dispose();
 
     // Clear and cancel all futures.
-    final List<JobFutureTask<?>> runningFutures;
-    m_writeLock.lock();
-    try {
-      runningFutures = copyFutures();
-      m_futures.clear();
-      m_changedCondition.signalAll();
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    final List<JobFutureTask<?>> runningFutures = copyFutures();
+    m_futures.removeAll(runningFutures);
+    signal(null);
 
     for (final JobFutureTask<?> runningFuture : runningFutures) {
       runningFuture.cancel(true);
@@ -99,28 +86,52 @@ public class FutureSet {
    * Adds the given Future to this {@link FutureSet}.
    */
   public void add(final JobFutureTask<?> future) {
-    m_writeLock.lock();
-    try {
-      m_futures.add(future);
-      m_changedCondition.signalAll();
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    // No signaling required: an additional Future cannot fulfill the condition of a waiting thread.
+    m_futures.add(future);
   }
 
   /**
    * Removes the given Future from this {@link FutureSet}.
    */
   public void remove(final JobFutureTask<?> future) {
-    m_writeLock.lock();
-    try {
-      m_futures.remove(future);
-      m_changedCondition.signalAll();
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    m_futures.remove(future);
+    signal(future);
+  }
+
+  /**
+   * @return the number of Futures contained in this {@link FutureSet}.
+   */
+  public int size() {
+    return m_futures.size();
+  }
+
+  /**
+   * @return the number of threads currently waiting for Futures of this {@link FutureSet}.
+   */
+  public int getWaiterCount() {
+    return m_waiters.size();
+  }
+
+  /**
+   * @return the number of completed waits via {@link #awaitDone(Predicate, long, TimeUnit)} and
+   *         {@link #awaitFinished(Predicate, long, TimeUnit)}, regardless of whether they timed out.
+   */
+  public long getAwaitCount() {
+    return m_awaitCount.sum();
+  }
+
+  /**
+   * @return the accumulated time of all completed waits.
+   */
+  public long getAwaitTime(final TimeUnit unit) {
+    return unit.convert(m_awaitNanos.sum(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @return the longest time of a single completed wait.
+   */
+  public long getMaxAwaitTime(final TimeUnit unit) {
+    return unit.convert(m_maxAwaitNanos.get(), TimeUnit.NANOSECONDS);
   }
 
   /**
@@ -175,20 +186,7 @@ public class FutureSet {
     Assertions.assertGreater(timeout, 0L, "Invalid timeout; must be > 0 [timeout={}]", timeout);
 
     // Wait until all Futures matching the filter are done, or the deadline elapsed.
-    m_writeLock.lockInterruptibly();
-    try {
-      long nanos = unit.toNanos(timeout);
-      while (!matchesEvery(filter, CompletionPromise.PROMISE_DONE_MATCHER) && nanos > 0L) {
-        nanos = m_changedCondition.awaitNanos(nanos);
-      }
-
-      if (nanos <= 0L) {
-        throw new TimeoutException();
-      }
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    await(() -> findFirst(filter, future -> !CompletionPromise.PROMISE_DONE_MATCHER.test(future)), timeout, unit);
   }
 
   /**
@@ -211,22 +209,66 @@ public class FutureSet {
     Assertions.assertGreater(timeout, 0L, "Invalid timeout; must be > 0 [timeout={}]", timeout);
 
     // Wait until all Futures matching the filter are removed, or the deadline elapsed.
-    m_writeLock.lockInterruptibly();
+    await(() -> findFirst(filter, future -> true), timeout, unit);
+  }
+
+  /**
+   * Waits until the given blocker supplier does not return a Future anymore, or the timeout elapses. The waiting
+   * thread is only woken up upon a change of the Future it is currently blocked by.
+   */
+  protected void await(final IBlockerSupplier blockerSupplier, final long timeout, final TimeUnit unit) throws InterruptedException, TimeoutException {
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+
+    final long startNanos = System.nanoTime();
+    final P_Waiter waiter = new P_Waiter();
+    m_waiters.add(waiter);
     try {
       long nanos = unit.toNanos(timeout);
-      while (containsSome(filter) && nanos > 0L) {
-        nanos = m_changedCondition.awaitNanos(nanos);
-      }
-
-      if (nanos <= 0L) {
-        throw new TimeoutException();
+      while (true) {
+        waiter.reset();
+        final JobFutureTask<?> blocker = blockerSupplier.get();
+        if (blocker == null) {
+          return;
+        }
+        if (nanos <= 0L) {
+          throw new TimeoutException();
+        }
+        nanos = waiter.await(blocker, nanos);
       }
     }
     finally {
-      m_writeLock.unlock();
+      m_waiters.remove(waiter);
+
+      final long waitNanos = System.nanoTime() - startNanos;
+      m_awaitCount.increment();
+      m_awaitNanos.add(waitNanos);
+      m_maxAwaitNanos.accumulateAndGet(waitNanos, Math::max);
     }
   }
 
+  /**
+   * Wakes up the threads waiting for the given Future, or all waiting threads if <code>null</code>.
+   */
+  protected void signal(final JobFutureTask<?> future) {
+    for (final P_Waiter waiter : m_waiters) {
+      waiter.signal(future);
+    }
+  }
+
+  /**
+   * @return the first Future accepted by the given filter and matcher, or <code>null</code> if none.
+   */
+  protected JobFutureTask<?> findFirst(final Predicate<IFuture<?>> filter, final Predicate<JobFutureTask<?>> matcher) {
+    for (final JobFutureTask<?> future : m_futures) {
+      if ((filter == null || filter.test(future)) && matcher.test(future)) {
+        return future;
+      }
+    }
+    return null;
+  }
+
   /**
    * Returns all Futures accepted by the given {@link Predicate}.
    * <p>
@@ -269,13 +311,7 @@ public class FutureSet {
   }
 
   protected List<JobFutureTask<?>> copyFutures() {
-    m_readLock.lock();
-    try {
-      return new ArrayList<>(m_futures); // performance hint: creating an ArrayList has much better performance than creating a HashSet.
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return new ArrayList<>(m_futures); // performance hint: creating an ArrayList has much better performance than creating a HashSet.
   }
 
   /**
@@ -303,4 +339,70 @@ public class FutureSet {
       }
     };
   }
+
+  /**
+   * Supplies the Future which currently prevents the wait condition from being fulfilled.
+   */
+  @FunctionalInterface
+  protected interface IBlockerSupplier {
+
+    /**
+     * @return the blocking Future, or <code>null</code> if the wait condition is fulfilled.
+     */
+    JobFutureTask<?> get();
+  }
+
+  /**
+   * Represents a thread waiting for a blocking Future to change.
+   */
+  protected static class P_Waiter {
+
+    private final ReentrantLock m_lock = new ReentrantLock();
+    private final Condition m_signaledCondition = m_lock.newCondition();
+
+    private volatile JobFutureTask<?> m_blocker; // null while evaluating the wait condition, so that any change is signaled
+    private boolean m_signaled; // guarded by m_lock
+
+    protected void reset() {
+      m_lock.lock();
+      try {
+        m_blocker = null;
+        m_signaled = false;
+      }
+      finally {
+        m_lock.unlock();
+      }
+    }
+
+    protected long await(final JobFutureTask<?> blocker, final long timeoutNanos) throws InterruptedException {
+      long nanos = timeoutNanos;
+      m_lock.lockInterruptibly();
+      try {
+        m_blocker = blocker;
+        while (!m_signaled && nanos > 0L) {
+          nanos = m_signaledCondition.awaitNanos(nanos);
+        }
+        return nanos;
+      }
+      finally {
+        m_lock.unlock();
+      }
+    }
+
+    protected void signal(final JobFutureTask<?> future) {
+      final JobFutureTask<?> blocker = m_blocker;
+      if (future != null && blocker != null && blocker != future) {
+        return;
+      }
+
+      m_lock.lock();
+      try {
+        m_signaled = true;
+        m_signaledCondition.signalAll();
+      }
+      finally {
+        m_lock.unlock();
+      }
+    }
+  }
 }
@@ -102,6 +102,11 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
   protected volatile Thread m_runner;
   protected final Object m_runnerLock = new Object();
 
+  /**
+   * Handle to cancel the pending delayed execution of this task, if any.
+   */
+  protected final AtomicReference<IRegistrationHandle> m_delayedExecutionHandle = new AtomicReference<>(IRegistrationHandle.NULL_HANDLE);
+
   public JobFutureTask(final JobManager jobManager, final RunMonitor runMonitor, final JobInput input, final CallableChain<RESULT> callableChain, final Callable<RESULT> callable) {
     super(() -> callableChain.call(callable) /* run all processors as contained in the chain before invoking the callable */ );
 
@@ -203,10 +208,33 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     // IMPORTANT: do not release permit here because also invoked upon cancellation.
   }
 
+  /**
+   * Sets the handle to cancel the pending delayed execution of this task. The delayed execution is cancelled
+   * immediately if this task is already cancelled.
+   */
+  protected void setDelayedExecutionHandle(final IRegistrationHandle delayedExecutionHandle) {
+    m_delayedExecutionHandle.set(delayedExecutionHandle);
+    if (isCancelled()) {
+      delayedExecutionHandle.dispose();
+    }
+  }
+
+  /**
+   * Sets the handle to cancel the first delayed execution of this task, unless a handle is already set. The first
+   * execution may start before its handle is returned by the {@link DelayedExecutor}, and a periodic task then already
+   * set the handle of its next execution, which must not be replaced.
+   */
+  protected void setFirstDelayedExecutionHandle(final IRegistrationHandle delayedExecutionHandle) {
+    if (m_delayedExecutionHandle.compareAndSet(IRegistrationHandle.NULL_HANDLE, delayedExecutionHandle) && isCancelled()) {
+      delayedExecutionHandle.dispose();
+    }
+  }
+
   /**
    * Method invoked once this task gets cancelled, and is invoked only once.
    */
   protected void cancelled(final boolean interruptIfRunning) {
+    m_delayedExecutionHandle.get().dispose();
     m_runMonitor.cancel(interruptIfRunning);
 
     // Interrupt a possible runner, but only if not running on behalf of a RunContext. Otherwise, interruption was already done by RunContext.
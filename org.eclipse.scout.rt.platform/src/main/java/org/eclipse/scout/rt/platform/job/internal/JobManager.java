@@ -34,6 +34,9 @@ import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerC
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerKeepAliveTimeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaximumPoolSizeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerPrestartCoreThreadsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerTimingWheelProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerTimingWheelTickProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsProperty;
 import org.eclipse.scout.rt.platform.context.RunContextRunner;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IBlockingCondition;
@@ -86,7 +89,7 @@ public class JobManager implements IJobManager {
 
   public JobManager() {
     m_executor = createExecutor();
-    m_delayedExecutor = new DelayedExecutor(m_executor, "scout-scheduler-thread");
+    m_delayedExecutor = createDelayedExecutor(m_executor);
     m_listeners = BEANS.get(JobListeners.class);
     m_futures = BEANS.get(FutureSet.class);
     m_futures.init(this);
@@ -127,7 +130,7 @@ public class JobManager implements IJobManager {
           futureTask.changeState(JobState.PENDING);
         }
 
-        m_delayedExecutor.schedule(() -> competeForPermitAndExecute(futureTask, new FutureRunner<>(JobManager.this, futureTask)), futureTask.getFirstFireTime());
+        futureTask.setFirstDelayedExecutionHandle(m_delayedExecutor.schedule(() -> competeForPermitAndExecute(futureTask, new FutureRunner<>(JobManager.this, futureTask)), futureTask.getFirstFireTime()));
       }
     }
     catch (final RuntimeException | Error e) { // NOSONAR
@@ -252,14 +255,43 @@ public class JobManager implements IJobManager {
    * Creates the executor to run jobs.
    */
   protected ExecutorService createExecutor() {
+    if (CONFIG.getPropertyValue(JobManagerVirtualThreadsProperty.class)) {
+      if (VirtualThreadFactory.isSupported()) {
+        return createVirtualThreadExecutor();
+      }
+      LOG.warn("Virtual threads are not supported by this JVM, using platform threads instead. [property={}, java.version={}]",
+          BEANS.get(JobManagerVirtualThreadsProperty.class).getKey(), System.getProperty("java.version"));
+    }
+
     final int corePoolSize = CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class);
     final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
     final long keepAliveTime = CONFIG.getPropertyValue(JobManagerKeepAliveTimeProperty.class);
     final boolean allowCoreThreadTimeOut = CONFIG.getPropertyValue(JobManagerAllowCoreThreadTimeoutProperty.class);
     final boolean prestartCoreThreads = CONFIG.getPropertyValue(JobManagerPrestartCoreThreadsProperty.class);
 
-    // Create the rejection handler.
-    final RejectedExecutionHandler rejectHandler = (runnable, executor) -> {
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), createRejectedExecutionHandler());
+    executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
+    if (prestartCoreThreads) {
+      executor.prestartAllCoreThreads();
+    }
+
+    return executor;
+  }
+
+  /**
+   * Creates an executor which runs every job in a new virtual thread. Virtual threads are cheap to create and do not
+   * occupy a platform thread while blocked, so they are not pooled and the number of concurrent jobs is not bounded.
+   */
+  protected ExecutorService createVirtualThreadExecutor() {
+    // no core threads and no keep-alive: every worker terminates after having run its job
+    return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.SECONDS, new SynchronousQueue<>(), new VirtualThreadFactory("scout-thread"), createRejectedExecutionHandler());
+  }
+
+  /**
+   * Creates the handler invoked for jobs which cannot be executed by the executor.
+   */
+  protected RejectedExecutionHandler createRejectedExecutionHandler() {
+    return (runnable, executor) -> {
       if (isShutdown()) {
         LOG.debug("Job rejected because the job manager is shutdown.");
       }
@@ -272,14 +304,17 @@ public class JobManager implements IJobManager {
         ((IRejectableRunnable) runnable).reject();
       }
     };
+  }
 
-    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), rejectHandler);
-    executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
-    if (prestartCoreThreads) {
-      executor.prestartAllCoreThreads();
+  /**
+   * Creates the executor to run delayed and periodic jobs once their fire time elapses.
+   */
+  protected DelayedExecutor createDelayedExecutor(final ExecutorService executor) {
+    if (CONFIG.getPropertyValue(JobManagerTimingWheelProperty.class)) {
+      final long tickMillis = CONFIG.getPropertyValue(JobManagerTimingWheelTickProperty.class);
+      return new DelayedExecutor(executor, "scout-scheduler-thread", new TimingWheelTaskQueue(tickMillis, 512));
     }
-
-    return executor;
+    return new DelayedExecutor(executor, "scout-scheduler-thread");
   }
 
   /**
@@ -289,6 +324,13 @@ public class JobManager implements IJobManager {
     return m_executor;
   }
 
+  /**
+   * Returns the internal registry of all Futures which are not finished yet.
+   */
+  public FutureSet getFutureSet() {
+    return m_futures;
+  }
+
   /**
    * Returns the internal delayed Executor Service.
    */
@@ -47,33 +47,46 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
   @Override
   public Thread newThread(final Runnable runnable) {
     final AtomicReference<ThreadInfo> threadInfoRef = new AtomicReference<>();
-    final Thread thread = new Thread(m_group, runnable, m_threadName, 0) {
-
-      @Override
-      public void run() {
-        /*
-         * Workaround to clear inherited Mapped Diagnostic Context (MDC) which would otherwise preserve
-         * and log MDC entries which were valid when the new worker thread was created.
-         * Logback < 1.1.5 is affected (see https://jira.qos.ch/browse/LOGBACK-422)
-         */
-        MDC.clear();
-
-        ThreadInfo.CURRENT.set(threadInfoRef.get());
-        try {
-          super.run();
-        }
-        finally {
-          ThreadInfo.CURRENT.remove();
-        }
+    final Thread thread = createThread(() -> {
+      /*
+       * Workaround to clear inherited Mapped Diagnostic Context (MDC) which would otherwise preserve
+       * and log MDC entries which were valid when the new worker thread was created.
+       * Logback < 1.1.5 is affected (see https://jira.qos.ch/browse/LOGBACK-422)
+       */
+      MDC.clear();
+
+      ThreadInfo.CURRENT.set(threadInfoRef.get());
+      try {
+        runnable.run();
       }
-    };
+      finally {
+        ThreadInfo.CURRENT.remove();
+      }
+    });
     threadInfoRef.set(new ThreadInfo(thread, m_threadName, m_sequence.incrementAndGet()));
 
+    configureThread(thread);
+    return thread;
+  }
+
+  /**
+   * Creates the (unstarted) worker thread to execute the given {@link Runnable}.
+   */
+  protected Thread createThread(final Runnable runnable) {
+    return new Thread(m_group, runnable, m_threadName, 0);
+  }
+
+  /**
+   * Configures the worker thread before it is returned to the executor.
+   */
+  protected void configureThread(final Thread thread) {
     thread.setDaemon(false);
     thread.setPriority(Thread.NORM_PRIORITY);
     thread.setUncaughtExceptionHandler(this);
+  }
 
-    return thread;
+  public String getThreadName() {
+    return m_threadName;
   }
 
   // === UncaughtExceptionHandler ===
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.scout.rt.platform.job.internal.DelayedExecutor.DelayedTask;
+import org.eclipse.scout.rt.platform.job.internal.DelayedExecutor.IDelayedTaskQueue;
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * {@link IDelayedTaskQueue} based on a hierarchical timing wheel with <code>O(1)</code> insertion and cancellation.
+ * <p>
+ * Tasks are put into buckets according to their fire time, with each bucket covering one tick of its wheel. If a fire
+ * time exceeds the interval of a wheel, the task is put into an overflow wheel whose tick is the interval of the
+ * underlying wheel. Once a bucket of an overflow wheel expires, its tasks are distributed among the buckets of the
+ * underlying wheels. Only non-empty buckets are queued in a {@link DelayQueue}, so that the dispatcher does not need to
+ * tick through empty buckets. All tasks of an expired bucket are dispatched in one batch.
+ * <p>
+ * Tasks never fire before their fire time, but may fire up to one tick later.
+ *
+ * @since 11.0
+ */
+class TimingWheelTaskQueue implements IDelayedTaskQueue {
+
+  private final ReentrantLock m_lock = new ReentrantLock();
+  private final DelayQueue<P_Bucket> m_bucketQueue = new DelayQueue<>();
+  private final P_Bucket m_expiredBucket = new P_Bucket(); // bucket for tasks whose fire time already elapsed
+  private final long m_tickMillis;
+  private final P_Wheel m_wheel;
+  private int m_size; // guarded by m_lock
+
+  /**
+   * @param tickMillis
+   *          the duration of a tick of the lowest wheel, which is the precision of the fire times.
+   * @param wheelSize
+   *          the number of buckets per wheel.
+   */
+  TimingWheelTaskQueue(final long tickMillis, final int wheelSize) {
+    Assertions.assertGreater(tickMillis, 0L, "Invalid tick duration; must be > 0 [tickMillis={}]", tickMillis);
+    Assertions.assertGreater(wheelSize, 1, "Invalid wheel size; must be > 1 [wheelSize={}]", wheelSize);
+    m_tickMillis = tickMillis;
+    m_wheel = new P_Wheel(tickMillis, wheelSize, System.currentTimeMillis());
+  }
+
+  @Override
+  public void put(final DelayedTask task) {
+    m_lock.lock();
+    try {
+      if (!m_wheel.add(task, deadlineOf(task))) {
+        addToBucket(m_expiredBucket, task, 0L);
+      }
+      m_size++;
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  @Override
+  public void remove(final DelayedTask task) {
+    m_lock.lock();
+    try {
+      final P_Bucket bucket = task.m_bucket;
+      if (bucket != null) {
+        bucket.remove(task);
+        m_size--;
+      }
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  @Override
+  public void takeExpired(final Collection<DelayedTask> expiredTasks) throws InterruptedException {
+    final List<DelayedTask> batch = new ArrayList<>();
+    while (batch.isEmpty()) { // buckets may expire without expired tasks, e.g. if their tasks were removed
+      P_Bucket bucket = m_bucketQueue.take(); // blocks until a bucket expired
+
+      m_lock.lock();
+      try {
+        while (bucket != null) {
+          m_wheel.advanceClock(bucket.m_expiration);
+          // re-insert the tasks: expired tasks are collected, others are put into a bucket of an underlying wheel
+          for (final DelayedTask task : bucket.flush()) {
+            if (!m_wheel.add(task, deadlineOf(task))) {
+              batch.add(task);
+              m_size--;
+            }
+          }
+          bucket = m_bucketQueue.poll(); // collect all buckets expired in the meantime
+        }
+      }
+      finally {
+        m_lock.unlock();
+      }
+    }
+
+    Collections.sort(batch);
+    expiredTasks.addAll(batch);
+  }
+
+  @Override
+  public int size() {
+    m_lock.lock();
+    try {
+      return m_size;
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  /**
+   * Buckets expire at the beginning of their tick. To never fire a task before its fire time, the fire time is rounded
+   * up to the next tick, saturating at {@link Long#MAX_VALUE}.
+   */
+  protected long deadlineOf(final DelayedTask task) {
+    final long executionTime = task.getExecutionTime();
+    if (executionTime > Long.MAX_VALUE - (m_tickMillis - 1)) {
+      return Long.MAX_VALUE;
+    }
+    return executionTime + m_tickMillis - 1;
+  }
+
+  /**
+   * Adds the given task to the given bucket, and queues the bucket if its expiration changed. Must be called while
+   * holding the lock.
+   */
+  protected void addToBucket(final P_Bucket bucket, final DelayedTask task, final long expiration) {
+    bucket.add(task);
+    if (bucket.m_expiration != expiration) {
+      bucket.m_expiration = expiration;
+      m_bucketQueue.offer(bucket);
+    }
+  }
+
+  /**
+   * Wheel of buckets, with each bucket covering one tick. All access must be guarded by the lock.
+   */
+  private class P_Wheel {
+
+    private final long m_tickMillis;
+    private final int m_wheelSize;
+    private final long m_interval;
+    private final P_Bucket[] m_buckets;
+
+    private long m_currentTime; // multiple of m_tickMillis
+    private P_Wheel m_overflowWheel; // created on demand
+
+    P_Wheel(final long tickMillis, final int wheelSize, final long startTime) {
+      m_tickMillis = tickMillis;
+      m_wheelSize = wheelSize;
+      m_interval = tickMillis > Long.MAX_VALUE / wheelSize ? Long.MAX_VALUE : tickMillis * wheelSize; // saturated: top wheel
+      m_currentTime = startTime - (startTime % tickMillis);
+      m_buckets = new P_Bucket[wheelSize];
+      for (int i = 0; i < wheelSize; i++) {
+        m_buckets[i] = new P_Bucket();
+      }
+    }
+
+    /**
+     * @return <code>false</code> if the task's deadline already elapsed with respect to the precision of the lowest
+     *         wheel, meaning that the task is to be run.
+     */
+    boolean add(final DelayedTask task, final long deadline) {
+      // compare differences, as the sums may overflow for far deadlines
+      if (deadline - m_currentTime < m_tickMillis) {
+        return false;
+      }
+      if (deadline - m_currentTime < m_interval || m_interval == Long.MAX_VALUE) {
+        final long virtualId = deadline / m_tickMillis;
+        addToBucket(m_buckets[(int) (virtualId % m_wheelSize)], task, virtualId * m_tickMillis);
+        return true;
+      }
+      if (m_overflowWheel == null) {
+        m_overflowWheel = new P_Wheel(m_interval, m_wheelSize, m_currentTime);
+      }
+      return m_overflowWheel.add(task, deadline);
+    }
+
+    void advanceClock(final long time) {
+      if (time - m_currentTime >= m_tickMillis) {
+        m_currentTime = time - (time % m_tickMillis);
+        if (m_overflowWheel != null) {
+          m_overflowWheel.advanceClock(m_currentTime);
+        }
+      }
+    }
+  }
+
+  /**
+   * Doubly linked list of tasks which expire at the same tick. All access except the expiration must be guarded by the
+   * lock.
+   */
+  static class P_Bucket implements Delayed {
+
+    private final DelayedTask m_root = new DelayedTask(null, 0L, 0L); // sentinel
+    private volatile long m_expiration = -1L;
+
+    P_Bucket() {
+      m_root.m_prev = m_root;
+      m_root.m_next = m_root;
+    }
+
+    void add(final DelayedTask task) {
+      final DelayedTask tail = m_root.m_prev;
+      task.m_prev = tail;
+      task.m_next = m_root;
+      task.m_bucket = this;
+      tail.m_next = task;
+      m_root.m_prev = task;
+    }
+
+    void remove(final DelayedTask task) {
+      if (task.m_bucket != this) {
+        return;
+      }
+      task.m_prev.m_next = task.m_next;
+      task.m_next.m_prev = task.m_prev;
+      task.m_prev = null;
+      task.m_next = null;
+      task.m_bucket = null;
+    }
+
+    /**
+     * Removes and returns all tasks, and resets the expiration of this bucket.
+     */
+    List<DelayedTask> flush() {
+      final List<DelayedTask> tasks = new ArrayList<>();
+      DelayedTask task = m_root.m_next;
+      while (task != m_root) {
+        final DelayedTask next = task.m_next;
+        remove(task);
+        tasks.add(task);
+        task = next;
+      }
+      m_expiration = -1L;
+      return tasks;
+    }
+
+    @Override
+    public long getDelay(final TimeUnit unit) {
+      return unit.convert(m_expiration - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(final Delayed other) {
+      return Long.compare(m_expiration, ((P_Bucket) other).m_expiration);
+    }
+  }
+}
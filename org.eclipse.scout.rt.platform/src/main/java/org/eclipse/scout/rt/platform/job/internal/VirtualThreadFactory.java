@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Thread factory for named virtual threads.
+ * <p>
+ * Virtual threads are accessed via method handles because the platform is compiled against a Java release which does
+ * not provide them. Use {@link #isSupported()} to check whether the running JVM supports virtual threads.
+ *
+ * @since 11.0
+ */
+public class VirtualThreadFactory extends NamedThreadFactory {
+
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadFactory.class);
+
+  private static final MethodHandle OF_VIRTUAL;
+  private static final MethodHandle UNSTARTED;
+  private static final boolean SUPPORTED;
+
+  static {
+    MethodHandle ofVirtual = null;
+    MethodHandle unstarted = null;
+    boolean supported = false;
+    try {
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      final Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+      ofVirtual = MethodHandles.publicLookup().findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+      unstarted = MethodHandles.publicLookup().findVirtual(builderClass, "unstarted", MethodType.methodType(Thread.class, Runnable.class));
+
+      // virtual threads are a preview feature in some Java releases, so check that they can actually be created
+      unstarted.invoke(ofVirtual.invoke(), (Runnable) () -> {
+        // NOOP
+      });
+      supported = true;
+    }
+    catch (final Throwable t) { // NOSONAR
+      LOG.debug("Virtual threads are not supported by this JVM", t);
+    }
+    OF_VIRTUAL = ofVirtual;
+    UNSTARTED = unstarted;
+    SUPPORTED = supported;
+  }
+
+  public VirtualThreadFactory(final String threadName) {
+    super(threadName);
+    Assertions.assertTrue(isSupported(), "Virtual threads are not supported by this JVM [java.version={}]", System.getProperty("java.version"));
+  }
+
+  @Override
+  protected Thread createThread(final Runnable runnable) {
+    try {
+      final Thread thread = (Thread) UNSTARTED.invoke(OF_VIRTUAL.invoke(), runnable);
+      thread.setName(getThreadName());
+      return thread;
+    }
+    catch (final Throwable t) { // NOSONAR
+      throw new PlatformException("Failed to create virtual thread", t);
+    }
+  }
+
+  @Override
+  protected void configureThread(final Thread thread) {
+    // virtual threads are always daemon threads and have a fixed priority
+    thread.setUncaughtExceptionHandler(this);
+  }
+
+  /**
+   * @return <code>true</code> if the running JVM supports virtual threads.
+   */
+  public static boolean isSupported() {
+    return SUPPORTED;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.management;
+
+import javax.management.MXBean;
+
+import org.eclipse.scout.rt.platform.job.IJobManager;
+
+/**
+ * Jmx control for the {@link IJobManager}.
+ *
+ * @since 11.0
+ */
+@MXBean
+public interface IJobManagerMonitorMBean {
+
+  /**
+   * @return the number of registered Futures, which are all Futures not finished yet
+   */
+  int getFutureCount();
+
+  /**
+   * @return the number of threads currently waiting for Futures to complete or to finish
+   */
+  int getWaiterCount();
+
+  /**
+   * @return the number of completed waits for Futures to complete or to finish
+   */
+  long getAwaitCount();
+
+  /**
+   * @return the accumulated time in milliseconds of all completed waits
+   */
+  long getAwaitTimeMillis();
+
+  /**
+   * @return the time in milliseconds of the longest completed wait
+   */
+  long getMaxAwaitTimeMillis();
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.management;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.ObjectName;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.CreateImmediately;
+import org.eclipse.scout.rt.platform.context.PlatformIdentifier;
+import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
+import org.eclipse.scout.rt.platform.job.internal.FutureSet;
+import org.eclipse.scout.rt.platform.job.internal.JobManager;
+
+@ApplicationScoped
+@CreateImmediately
+public class JobManagerMonitorMBean implements IJobManagerMonitorMBean {
+
+  /*
+   * JMX registration
+   */
+
+  protected ObjectName jmxObjectName() {
+    return MBeanUtility.toJmxName("org.eclipse.scout.rt.platform", PlatformIdentifier.get(), "JobManager");
+  }
+
+  @PostConstruct
+  protected void postConstruct() {
+    MBeanUtility.register(jmxObjectName(), this);
+  }
+
+  @PreDestroy
+  protected void preDestroy() {
+    MBeanUtility.unregister(jmxObjectName());
+  }
+
+  /*
+   * MBean implementation
+   */
+
+  protected FutureSet getFutureSet() {
+    return BEANS.get(JobManager.class).getFutureSet();
+  }
+
+  @Override
+  public int getFutureCount() {
+    return getFutureSet().size();
+  }
+
+  @Override
+  public int getWaiterCount() {
+    return getFutureSet().getWaiterCount();
+  }
+
+  @Override
+  public long getAwaitCount() {
+    return getFutureSet().getAwaitCount();
+  }
+
+  @Override
+  public long getAwaitTimeMillis() {
+    return getFutureSet().getAwaitTime(TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public long getMaxAwaitTimeMillis() {
+    return getFutureSet().getMaxAwaitTime(TimeUnit.MILLISECONDS);
+  }
+}
@@ -18,7 +18,7 @@ import java.util.Map;
 public abstract class AbstractPropertyObserver implements IPropertyObserver {
 
   @SuppressWarnings("squid:S00116")
-  protected final BasicPropertySupport propertySupport = new BasicPropertySupport(this);
+  protected final BasicPropertySupport propertySupport = new BasicPropertySupport(this, BasicPropertySupport.isCompactStorageEnabled());
 
   @Override
   public void addPropertyChangeListener(PropertyChangeListener listener) {
@@ -26,6 +26,11 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import org.eclipse.scout.rt.platform.IPlatform;
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CompactPropertyStorageProperty;
 import org.eclipse.scout.rt.platform.events.IListenerListWithManagement;
 import org.eclipse.scout.rt.platform.events.ISnapshotCollector;
 import org.eclipse.scout.rt.platform.events.ListenerListRegistry;
@@ -47,7 +52,13 @@ public class BasicPropertySupport implements IListenerListWithManagement {
   public static final long DEFAULT_LONG_VALUE = DEFAULT_INT_VALUE;
   public static final Long DEFAULT_LONG = DEFAULT_LONG_VALUE;
   private static final Boolean DEFAULT_BOOL = Boolean.FALSE;
-  private final Map<String, Object> m_props = new HashMap<>();
+  /**
+   * Value of {@link CompactPropertyStorageProperty} of the platform it was read from. Cached, as it is checked for
+   * every {@link AbstractPropertyObserver} created.
+   */
+  private static volatile P_CompactStorageSetting compactStorageSetting;
+  private final Map<String, Object> m_props;
+  private final CompactPropertyMap m_compactProps;
   private final Object m_source;
   // observer
   private final Object m_listenerLock = new Object();
@@ -57,10 +68,55 @@ public class BasicPropertySupport implements IListenerListWithManagement {
   private List<PropertyChangeEvent> m_propertyEventBuffer;
 
   public BasicPropertySupport(Object sourceBean) {
+    this(sourceBean, false);
+  }
+
+  /**
+   * @param compactStorage
+   *          <code>true</code> to store the properties in a {@link CompactPropertyMap} instead of a {@link HashMap}
+   */
+  public BasicPropertySupport(Object sourceBean, boolean compactStorage) {
     m_source = sourceBean;
+    if (compactStorage) {
+      m_compactProps = new CompactPropertyMap(sourceBean != null ? sourceBean.getClass() : Object.class);
+      m_props = m_compactProps;
+    }
+    else {
+      m_compactProps = null;
+      m_props = new HashMap<>();
+    }
     ListenerListRegistry.globalInstance().registerAsWeakReference(this);
   }
 
+  /**
+   * @return <code>true</code> if compact storage is enabled by {@link CompactPropertyStorageProperty}.
+   *         <code>false</code> if the platform is not started.
+   */
+  public static boolean isCompactStorageEnabled() {
+    IPlatform platform = Platform.peek();
+    if (platform == null || platform.getState() != State.PlatformStarted) {
+      return false;
+    }
+    P_CompactStorageSetting setting = compactStorageSetting;
+    if (setting == null || setting.m_platform != platform) {
+      setting = new P_CompactStorageSetting(platform, CONFIG.getPropertyValue(CompactPropertyStorageProperty.class));
+      compactStorageSetting = setting;
+    }
+    return setting.m_enabled;
+  }
+
+  /**
+   * Discards the cached value of {@link CompactPropertyStorageProperty}. The value is read again when the platform
+   * changes, hence this is only required if the property is changed while the platform is running (e.g. in tests).
+   */
+  public static void resetCompactStorageEnabled() {
+    compactStorageSetting = null;
+  }
+
+  public boolean isCompactStorage() {
+    return m_compactProps != null;
+  }
+
   @Override
   public void createSnapshot(ISnapshotCollector snapshot) {
     synchronized (m_listenerLock) {
@@ -148,28 +204,46 @@ public class BasicPropertySupport implements IListenerListWithManagement {
   }
 
   public boolean setPropertyInt(String name, int i) {
+    if (m_compactProps != null && m_compactProps.containsInt(name, i)) {
+      return false;
+    }
     return setProperty(name, i, DEFAULT_INT);
   }
 
   public int getPropertyInt(String name) {
+    if (m_compactProps != null) {
+      return m_compactProps.getInt(name, 0);
+    }
     Number n = (Number) getProperty(name);
     return n != null ? n.intValue() : 0;
   }
 
   public boolean setPropertyDouble(String name, double d) {
+    if (m_compactProps != null && m_compactProps.containsDouble(name, d)) {
+      return false;
+    }
     return setProperty(name, d, DEFAULT_DOUBLE);
   }
 
   public double getPropertyDouble(String name) {
+    if (m_compactProps != null) {
+      return m_compactProps.getDouble(name, 0);
+    }
     Number n = (Number) getProperty(name);
     return n != null ? n.doubleValue() : 0;
   }
 
   public boolean setPropertyLong(String name, long i) {
+    if (m_compactProps != null && m_compactProps.containsLong(name, i)) {
+      return false;
+    }
     return setProperty(name, i, DEFAULT_LONG);
   }
 
   public long getPropertyLong(String name) {
+    if (m_compactProps != null) {
+      return m_compactProps.getLong(name, DEFAULT_LONG_VALUE);
+    }
     Number n = (Number) getProperty(name);
     return n != null ? n.longValue() : DEFAULT_LONG.longValue();
   }
@@ -587,4 +661,14 @@ public class BasicPropertySupport implements IListenerListWithManagement {
       return CollectionUtility.hasElements(specificListeners);
     }
   }
+
+  private static final class P_CompactStorageSetting {
+    private final IPlatform m_platform;
+    private final boolean m_enabled;
+
+    private P_CompactStorageSetting(IPlatform platform, boolean enabled) {
+      m_platform = platform;
+      m_enabled = enabled;
+    }
+  }
 }
@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.reflect;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memory efficient map of properties used by {@link BasicPropertySupport}.
+ * <p>
+ * All instances created for the same owner class share a {@link P_Layout}, which assigns each property name a slot.
+ * The values are stored in a dense array indexed by slot, hence there is no entry object per property. Values of type
+ * {@link Integer}, {@link Long} and {@link Double} are stored unboxed in a separate primitive array, whose slots are
+ * only assigned to names which are used with such values. Use {@link #getInt(String, int)}, {@link #getLong(String, long)}
+ * and {@link #getDouble(String, double)} to read them without boxing.
+ * <p>
+ * The number of slots of a layout is limited to {@value #MAX_SLOTS}. Further names (e.g. generated ones) are stored in
+ * an overflow {@link HashMap}.
+ * <p>
+ * Same as {@link HashMap}, this map is not thread safe. Its iterators are fail-fast: they throw a
+ * {@link ConcurrentModificationException} if the map is modified during the iteration, other than by the iterator
+ * itself. Unlike {@link HashMap}, every modification counts, including the replacement of a value, as a value may
+ * be stored in two arrays.
+ *
+ * @since 11.0
+ */
+public class CompactPropertyMap extends AbstractMap<String, Object> {
+
+  public static final int MAX_SLOTS = 256;
+
+  private static final Map<Class<?>, P_Layout> LAYOUTS = new ConcurrentHashMap<>();
+  private static final Object[] EMPTY_VALUES = new Object[0];
+  private static final long[] EMPTY_PRIMITIVES = new long[0];
+  /**
+   * Marker for a property set to <code>null</code>, as a <code>null</code> slot is an absent property.
+   */
+  private static final Object NULL = new Object();
+
+  private final P_Layout m_layout;
+  private Object[] m_values = EMPTY_VALUES;
+  private long[] m_primitives = EMPTY_PRIMITIVES;
+  private Map<String, Object> m_overflow;
+  private int m_size;
+  private int m_modCount;
+
+  /**
+   * @param ownerClass
+   *          class of the bean owning the properties, all instances of the same owner class share their layout
+   */
+  public CompactPropertyMap(Class<?> ownerClass) {
+    m_layout = LAYOUTS.computeIfAbsent(ownerClass, k -> new P_Layout());
+  }
+
+  @Override
+  public int size() {
+    return m_size + (m_overflow != null ? m_overflow.size() : 0);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    if (!(key instanceof String)) {
+      return false;
+    }
+    int slot = m_layout.getSlot((String) key);
+    if (slot >= 0) {
+      return slot < m_values.length && m_values[slot] != null;
+    }
+    return m_overflow != null && m_overflow.containsKey(key);
+  }
+
+  @Override
+  public Object get(Object key) {
+    if (!(key instanceof String)) {
+      return null;
+    }
+    int slot = m_layout.getSlot((String) key);
+    if (slot >= 0) {
+      return slot < m_values.length ? valueOf(slot, (String) key) : null;
+    }
+    return m_overflow != null ? m_overflow.get(key) : null;
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    m_modCount++;
+    int slot = m_layout.getOrAddSlot(key);
+    if (slot < 0) {
+      if (m_overflow == null) {
+        m_overflow = new HashMap<>();
+      }
+      return m_overflow.put(key, value);
+    }
+    Object oldValue = slot < m_values.length ? valueOf(slot, key) : null;
+    if (slot >= m_values.length) {
+      m_values = Arrays.copyOf(m_values, Math.max(slot + 1, m_layout.getSlotCount()));
+    }
+    if (m_values[slot] == null) {
+      m_size++;
+    }
+    if (value instanceof Integer) {
+      setPrimitive(slot, key, P_PrimitiveType.INT, ((Integer) value).longValue());
+    }
+    else if (value instanceof Long) {
+      setPrimitive(slot, key, P_PrimitiveType.LONG, (Long) value);
+    }
+    else if (value instanceof Double) {
+      setPrimitive(slot, key, P_PrimitiveType.DOUBLE, Double.doubleToLongBits((Double) value));
+    }
+    else {
+      m_values[slot] = value != null ? value : NULL;
+    }
+    return oldValue;
+  }
+
+  @Override
+  public Object remove(Object key) {
+    if (!(key instanceof String)) {
+      return null;
+    }
+    int slot = m_layout.getSlot((String) key);
+    if (slot >= 0) {
+      if (slot >= m_values.length || m_values[slot] == null) {
+        return null;
+      }
+      Object oldValue = valueOf(slot, (String) key);
+      removeSlot(slot);
+      return oldValue;
+    }
+    if (m_overflow == null || !m_overflow.containsKey(key)) {
+      return null;
+    }
+    m_modCount++;
+    return m_overflow.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    m_modCount++;
+    Arrays.fill(m_values, null);
+    m_size = 0;
+    m_overflow = null;
+  }
+
+  /**
+   * @return the value of the given property as <code>int</code>, without boxing if it is stored unboxed
+   */
+  public int getInt(String name, int defaultValue) {
+    P_PrimitiveType type = getPrimitiveType(name);
+    if (type == P_PrimitiveType.INT) {
+      return (int) m_primitives[m_layout.getPrimitiveSlot(name)];
+    }
+    Number n = (Number) get(name);
+    return n != null ? n.intValue() : defaultValue;
+  }
+
+  /**
+   * @return the value of the given property as <code>long</code>, without boxing if it is stored unboxed
+   */
+  public long getLong(String name, long defaultValue) {
+    P_PrimitiveType type = getPrimitiveType(name);
+    if (type == P_PrimitiveType.INT || type == P_PrimitiveType.LONG) {
+      return m_primitives[m_layout.getPrimitiveSlot(name)];
+    }
+    Number n = (Number) get(name);
+    return n != null ? n.longValue() : defaultValue;
+  }
+
+  /**
+   * @return the value of the given property as <code>double</code>, without boxing if it is stored unboxed
+   */
+  public double getDouble(String name, double defaultValue) {
+    P_PrimitiveType type = getPrimitiveType(name);
+    if (type == P_PrimitiveType.DOUBLE) {
+      return Double.longBitsToDouble(m_primitives[m_layout.getPrimitiveSlot(name)]);
+    }
+    Number n = (Number) get(name);
+    return n != null ? n.doubleValue() : defaultValue;
+  }
+
+  /**
+   * @return <code>true</code> if the given property is set to an {@link Integer} equal to the given value
+   */
+  public boolean containsInt(String name, int value) {
+    return getPrimitiveType(name) == P_PrimitiveType.INT && (int) m_primitives[m_layout.getPrimitiveSlot(name)] == value;
+  }
+
+  /**
+   * @return <code>true</code> if the given property is set to a {@link Long} equal to the given value
+   */
+  public boolean containsLong(String name, long value) {
+    return getPrimitiveType(name) == P_PrimitiveType.LONG && m_primitives[m_layout.getPrimitiveSlot(name)] == value;
+  }
+
+  /**
+   * @return <code>true</code> if the given property is set to a {@link Double} equal to the given value (see
+   *         {@link Double#equals(Object)})
+   */
+  public boolean containsDouble(String name, double value) {
+    return getPrimitiveType(name) == P_PrimitiveType.DOUBLE && m_primitives[m_layout.getPrimitiveSlot(name)] == Double.doubleToLongBits(value);
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return new P_EntrySet();
+  }
+
+  private P_PrimitiveType getPrimitiveType(String name) {
+    int slot = m_layout.getSlot(name);
+    if (slot < 0 || slot >= m_values.length) {
+      return null;
+    }
+    Object o = m_values[slot];
+    return o instanceof P_PrimitiveType ? (P_PrimitiveType) o : null;
+  }
+
+  private void setPrimitive(int slot, String name, P_PrimitiveType type, long bits) {
+    int primitiveSlot = m_layout.getOrAddPrimitiveSlot(name);
+    if (primitiveSlot >= m_primitives.length) {
+      m_primitives = Arrays.copyOf(m_primitives, Math.max(primitiveSlot + 1, m_layout.getPrimitiveSlotCount()));
+    }
+    m_primitives[primitiveSlot] = bits;
+    m_values[slot] = type;
+  }
+
+  private Object valueOf(int slot, String name) {
+    Object o = m_values[slot];
+    if (o == null || o == NULL) {
+      return null;
+    }
+    if (o instanceof P_PrimitiveType) {
+      return ((P_PrimitiveType) o).box(m_primitives[m_layout.getPrimitiveSlot(name)]);
+    }
+    return o;
+  }
+
+  private void removeSlot(int slot) {
+    m_modCount++;
+    m_values[slot] = null;
+    m_size--;
+  }
+
+  /**
+   * Type of a value stored in the primitive array. Also used as marker in the value array.
+   */
+  private enum P_PrimitiveType {
+    INT {
+      @Override
+      Object box(long bits) {
+        return (int) bits;
+      }
+    },
+    LONG {
+      @Override
+      Object box(long bits) {
+        return bits;
+      }
+    },
+    DOUBLE {
+      @Override
+      Object box(long bits) {
+        return Double.longBitsToDouble(bits);
+      }
+    };
+
+    abstract Object box(long bits);
+  }
+
+  /**
+   * Slots of the property names of one owner class. Slots are only added, never removed. Lookups are lock free, new
+   * slots are added under the lock of the layout.
+   */
+  private static final class P_Layout {
+    private final Map<String, Integer> m_slots = new ConcurrentHashMap<>();
+    private final Map<String, Integer> m_primitiveSlots = new ConcurrentHashMap<>();
+    private volatile String[] m_names = new String[0];
+
+    int getSlot(String name) {
+      Integer slot = m_slots.get(name);
+      return slot != null ? slot : -1;
+    }
+
+    int getSlotCount() {
+      return m_names.length;
+    }
+
+    String getName(int slot) {
+      return m_names[slot];
+    }
+
+    /**
+     * @return the slot of the given name or -1 if the maximum number of slots is reached
+     */
+    int getOrAddSlot(String name) {
+      Integer slot = m_slots.get(name);
+      if (slot != null) {
+        return slot;
+      }
+      synchronized (this) {
+        slot = m_slots.get(name);
+        if (slot != null) {
+          return slot;
+        }
+        String[] names = m_names;
+        if (names.length >= MAX_SLOTS) {
+          return -1;
+        }
+        names = Arrays.copyOf(names, names.length + 1);
+        names[names.length - 1] = name;
+        m_names = names;
+        m_slots.put(name, names.length - 1);
+        return names.length - 1;
+      }
+    }
+
+    int getPrimitiveSlot(String name) {
+      return m_primitiveSlots.get(name);
+    }
+
+    int getPrimitiveSlotCount() {
+      return m_primitiveSlots.size();
+    }
+
+    synchronized int getOrAddPrimitiveSlot(String name) {
+      return m_primitiveSlots.computeIfAbsent(name, k -> m_primitiveSlots.size());
+    }
+  }
+
+  private final class P_EntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    public int size() {
+      return CompactPropertyMap.this.size();
+    }
+
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      return new P_EntryIterator();
+    }
+  }
+
+  private final class P_EntryIterator implements Iterator<Entry<String, Object>> {
+    private int m_nextSlot = -1;
+    private int m_currentSlot = -1;
+    private Iterator<Entry<String, Object>> m_overflowIterator;
+    private int m_expectedModCount = m_modCount;
+
+    P_EntryIterator() {
+      advance();
+    }
+
+    private void checkForComodification() {
+      if (m_modCount != m_expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    private void advance() {
+      m_nextSlot++;
+      while (m_nextSlot < m_values.length && m_values[m_nextSlot] == null) {
+        m_nextSlot++;
+      }
+      if (m_nextSlot >= m_values.length && m_overflow != null && m_overflowIterator == null) {
+        m_overflowIterator = m_overflow.entrySet().iterator();
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return m_nextSlot < m_values.length || (m_overflowIterator != null && m_overflowIterator.hasNext());
+    }
+
+    @Override
+    public Entry<String, Object> next() {
+      checkForComodification();
+      if (m_nextSlot < m_values.length) {
+        m_currentSlot = m_nextSlot;
+        String name = m_layout.getName(m_currentSlot);
+        Entry<String, Object> entry = new SimpleImmutableEntry<>(name, valueOf(m_currentSlot, name));
+        advance();
+        return entry;
+      }
+      if (m_overflowIterator != null) {
+        m_currentSlot = -1;
+        return m_overflowIterator.next();
+      }
+      throw new NoSuchElementException();
+    }
+
+    @Override
+    public void remove() {
+      checkForComodification();
+      if (m_currentSlot >= 0) {
+        removeSlot(m_currentSlot);
+        m_currentSlot = -1;
+      }
+      else if (m_overflowIterator != null) {
+        m_overflowIterator.remove();
+        m_modCount++;
+      }
+      else {
+        throw new IllegalStateException();
+      }
+      m_expectedModCount = m_modCount;
+    }
+  }
+}
@@ -11,6 +11,12 @@
 package org.eclipse.scout.rt.platform.reflect;
 
 import java.beans.Introspector;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.security.AccessController;
@@ -19,13 +25,19 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * This utility class is only public for external junit testing reasons, do not use this API.
  */
 public final class FastBeanUtility {
+  private static final Logger LOG = LoggerFactory.getLogger(FastBeanUtility.class);
 
   private FastBeanUtility() {
   }
@@ -126,4 +138,64 @@ public final class FastBeanUtility {
     return methodsList.toArray(new Method[0]);
   }
 
+  /**
+   * @return a function invoking the given read method, generated with {@link LambdaMetafactory}, or <code>null</code>
+   *         if no such function can be generated (e.g. static method or inaccessible class). In the latter case, the
+   *         read method has to be invoked reflectively.
+   */
+  @SuppressWarnings("unchecked")
+  public static Function<Object, Object> createReadAccessor(Method readMethod) {
+    if (readMethod == null || Modifier.isStatic(readMethod.getModifiers())) {
+      return null;
+    }
+    try {
+      Class<?> declaringClass = readMethod.getDeclaringClass();
+      Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+      MethodHandle handle = lookup.unreflect(readMethod);
+      CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+          MethodType.methodType(Function.class),
+          MethodType.methodType(Object.class, Object.class),
+          handle,
+          MethodType.methodType(wrap(readMethod.getReturnType()), declaringClass));
+      return (Function<Object, Object>) site.getTarget().invoke();
+    }
+    catch (Throwable t) { // NOSONAR
+      LOG.debug("Could not generate read accessor for {}, using reflection", readMethod, t);
+      return null;
+    }
+  }
+
+  /**
+   * @return a consumer invoking the given write method, generated with {@link LambdaMetafactory}, or <code>null</code>
+   *         if no such consumer can be generated (e.g. static method or inaccessible class). In the latter case, the
+   *         write method has to be invoked reflectively.
+   */
+  @SuppressWarnings("unchecked")
+  public static BiConsumer<Object, Object> createWriteAccessor(Method writeMethod) {
+    if (writeMethod == null || Modifier.isStatic(writeMethod.getModifiers())) {
+      return null;
+    }
+    try {
+      Class<?> declaringClass = writeMethod.getDeclaringClass();
+      Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+      MethodHandle handle = lookup.unreflect(writeMethod);
+      CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+          MethodType.methodType(BiConsumer.class),
+          MethodType.methodType(void.class, Object.class, Object.class),
+          handle,
+          MethodType.methodType(void.class, declaringClass, wrap(writeMethod.getParameterTypes()[0])));
+      return (BiConsumer<Object, Object>) site.getTarget().invoke();
+    }
+    catch (Throwable t) { // NOSONAR
+      LOG.debug("Could not generate write accessor for {}, using reflection", writeMethod, t);
+      return null;
+    }
+  }
+
+  /**
+   * @return the wrapper type of the given type if it is primitive, otherwise the type itself
+   */
+  static Class<?> wrap(Class<?> type) {
+    return MethodType.methodType(type).wrap().returnType();
+  }
 }
@@ -10,7 +10,11 @@
  */
 package org.eclipse.scout.rt.platform.reflect;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * The java bean FastPropertyDescriptor tries to find a read <b>and</b> write method of the property, otherwise an
@@ -18,6 +22,10 @@ import java.lang.reflect.Method;
  * <p>
  * This lenient implementation creates a FastPropertyDescriptor with an optional getter method and an optional setter
  * method so they exist.
+ * <p>
+ * Property values are read and written by {@link #readValue(Object)} and {@link #writeValue(Object, Object)} using
+ * accessors generated with {@link LambdaMetafactory} upon first use. If no accessor can be generated, the read and
+ * write methods are invoked reflectively.
  */
 public class FastPropertyDescriptor {
 
@@ -26,6 +34,11 @@ public class FastPropertyDescriptor {
   private Class<?> m_propertyType;
   private Method m_readMethod;
   private Method m_writeMethod;
+  private volatile Function<Object, Object> m_readAccessor;
+  private volatile boolean m_readAccessorResolved;
+  private volatile BiConsumer<Object, Object> m_writeAccessor;
+  private volatile Class<?> m_writeAccessorValueType;
+  private volatile boolean m_writeAccessorResolved;
 
   public FastPropertyDescriptor(Class<?> beanClazz, String name, Method readMethod, Method writeMethod) {
     m_beanClass = beanClazz;
@@ -106,6 +119,86 @@ public class FastPropertyDescriptor {
     }
   }
 
+  /**
+   * Reads the value of this property from the given bean. Same as invoking {@link #getReadMethod()} reflectively, but
+   * faster.
+   *
+   * @throws IllegalArgumentException
+   *           if the bean is not an instance of the class declaring the read method
+   * @throws InvocationTargetException
+   *           if the read method throws an exception
+   * @throws NullPointerException
+   *           if this property cannot be read
+   */
+  public Object readValue(Object bean) throws IllegalAccessException, InvocationTargetException {
+    Function<Object, Object> accessor = getReadAccessor();
+    if (accessor == null || !m_readMethod.getDeclaringClass().isInstance(bean)) {
+      return m_readMethod.invoke(bean);
+    }
+    try {
+      return accessor.apply(bean);
+    }
+    catch (Throwable t) { // NOSONAR
+      throw new InvocationTargetException(t);
+    }
+  }
+
+  /**
+   * Writes the value of this property to the given bean. Same as invoking {@link #getWriteMethod()} reflectively, but
+   * faster.
+   *
+   * @throws IllegalArgumentException
+   *           if the bean is not an instance of the class declaring the write method, or if the value cannot be
+   *           converted to the parameter type of the write method
+   * @throws InvocationTargetException
+   *           if the write method throws an exception
+   * @throws NullPointerException
+   *           if this property cannot be written
+   */
+  public void writeValue(Object bean, Object value) throws IllegalAccessException, InvocationTargetException {
+    BiConsumer<Object, Object> accessor = getWriteAccessor();
+    if (accessor == null
+        || !m_writeMethod.getDeclaringClass().isInstance(bean)
+        || !m_writeAccessorValueType.isInstance(value)) {
+      // reflection handles the corner cases: null for primitives, widening conversions and illegal arguments
+      m_writeMethod.invoke(bean, value);
+      return;
+    }
+    try {
+      accessor.accept(bean, value);
+    }
+    catch (Throwable t) { // NOSONAR
+      throw new InvocationTargetException(t);
+    }
+  }
+
+  /**
+   * @return accessor generated for the read method or <code>null</code> if the read method has to be invoked
+   *         reflectively
+   */
+  protected Function<Object, Object> getReadAccessor() {
+    if (!m_readAccessorResolved) {
+      m_readAccessor = FastBeanUtility.createReadAccessor(m_readMethod);
+      m_readAccessorResolved = true;
+    }
+    return m_readAccessor;
+  }
+
+  /**
+   * @return accessor generated for the write method or <code>null</code> if the write method has to be invoked
+   *         reflectively
+   */
+  protected BiConsumer<Object, Object> getWriteAccessor() {
+    if (!m_writeAccessorResolved) {
+      m_writeAccessor = FastBeanUtility.createWriteAccessor(m_writeMethod);
+      if (m_writeAccessor != null) {
+        m_writeAccessorValueType = FastBeanUtility.wrap(m_writeMethod.getParameterTypes()[0]);
+      }
+      m_writeAccessorResolved = true;
+    }
+    return m_writeAccessor;
+  }
+
   @Override
   public int hashCode() {
     int result = 0;
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * Object serializer which writes compact class descriptors: instead of the full descriptor with all field names and
+ * types, only the class name and its <code>serialVersionUID</code> are written. The reading side uses the descriptor
+ * of its local class. Hence, this serializer requires the same classes on both sides, which is the case for the
+ * shared classes of a service tunnel. A differing <code>serialVersionUID</code> is rejected with an
+ * {@link InvalidClassException}.
+ * <p>
+ * Resolved class descriptors are cached by this serializer instance, so that subsequent streams neither load the class
+ * nor check it against the blacklist and the whitelist again. The cache is cleared if the blacklist or the whitelist is
+ * replaced.
+ * <p>
+ * The wire format is not compatible with the one of {@link BasicObjectSerializer}.
+ *
+ * @since 11.0
+ */
+public class CompactObjectSerializer extends BasicObjectSerializer {
+
+  private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+
+  static {
+    for (Class<?> c : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class, void.class}) {
+      PRIMITIVE_TYPES.put(c.getName(), c);
+    }
+  }
+
+  private final ConcurrentMap<String, ObjectStreamClass> m_classDescriptors = new ConcurrentHashMap<>();
+
+  public CompactObjectSerializer(IObjectReplacer objectReplacer) {
+    super(objectReplacer);
+  }
+
+  @Override
+  public IObjectSerializer withBlacklist(Predicate<String> blacklist) {
+    m_classDescriptors.clear();
+    return super.withBlacklist(blacklist);
+  }
+
+  @Override
+  public IObjectSerializer withWhitelist(Predicate<String> whitelist) {
+    m_classDescriptors.clear();
+    return super.withWhitelist(whitelist);
+  }
+
+  @Override
+  public ObjectOutputStream createObjectOutputStream(OutputStream out) throws IOException {
+    return new CompactObjectOutputStream(out, getObjectReplacer());
+  }
+
+  @Override
+  public ObjectInputStream createObjectInputStream(InputStream in) throws IOException {
+    return new CompactObjectInputStream(in, getObjectReplacer(), getBlacklist(), getWhitelist(), m_classDescriptors);
+  }
+
+  /**
+   * @return number of cached class descriptors
+   */
+  public int getClassDescriptorCacheSize() {
+    return m_classDescriptors.size();
+  }
+
+  public static class CompactObjectOutputStream extends ReplacingObjectOutputStream {
+
+    public CompactObjectOutputStream(OutputStream out, IObjectReplacer objectReplacer) throws IOException {
+      super(out, objectReplacer);
+    }
+
+    @Override
+    protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+      writeUTF(desc.getName());
+      writeLong(desc.getSerialVersionUID());
+    }
+  }
+
+  public static class CompactObjectInputStream extends ResolvingObjectInputStream {
+    protected final ConcurrentMap<String, ObjectStreamClass> m_classDescriptors;
+
+    public CompactObjectInputStream(InputStream in, IObjectReplacer objectReplacer, Predicate<String> blacklist, Predicate<String> whitelist, ConcurrentMap<String, ObjectStreamClass> classDescriptors) throws IOException {
+      super(in, objectReplacer, blacklist, whitelist);
+      m_classDescriptors = classDescriptors;
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+      String className = readUTF();
+      long serialVersionUID = readLong();
+      ObjectStreamClass desc = m_classDescriptors.get(className);
+      if (desc == null) {
+        checkClassName(className);
+        desc = ObjectStreamClass.lookupAny(loadClass(className));
+        m_classDescriptors.put(className, desc);
+      }
+      if (desc.getSerialVersionUID() != serialVersionUID) {
+        throw new InvalidClassException(className, "local class incompatible: stream classdesc serialVersionUID = " + serialVersionUID + ", local class serialVersionUID = " + desc.getSerialVersionUID());
+      }
+      return desc;
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass osc) throws IOException, ClassNotFoundException {
+      // descriptors are local ones which were checked in readClassDescriptor
+      Class<?> c = osc.forClass();
+      if (c == null) {
+        return super.resolveClass(osc);
+      }
+      return c;
+    }
+
+    protected Class<?> loadClass(String className) throws ClassNotFoundException {
+      Class<?> c = PRIMITIVE_TYPES.get(className);
+      if (c != null) {
+        return c;
+      }
+      return Class.forName(className, false, SerializationUtility.getClassLoader());
+    }
+  }
+}
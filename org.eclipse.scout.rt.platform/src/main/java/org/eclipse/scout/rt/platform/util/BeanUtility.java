@@ -69,9 +69,8 @@ public final class BeanUtility {
     try {
       FastPropertyDescriptor[] props = getFastPropertyDescriptors(from.getClass(), stopClazz, filter);
       for (FastPropertyDescriptor fromProp : props) {
-        Method readMethod = fromProp.getReadMethod();
-        if (readMethod != null) {
-          Object value = readMethod.invoke(from, (Object[]) null);
+        if (fromProp.getReadMethod() != null) {
+          Object value = fromProp.readValue(from);
           map.put(fromProp.getName(), value);
         }
       }
@@ -97,7 +96,7 @@ public final class BeanUtility {
         if (desc != null && (filter == null || filter.accept(desc))) {
           Method writeMethod = desc.getWriteMethod();
           if (writeMethod != null) {
-            writeMethod.invoke(to, new Object[]{TypeCastUtility.castValue(value, writeMethod.getParameterTypes()[0])});
+            desc.writeValue(to, TypeCastUtility.castValue(value, writeMethod.getParameterTypes()[0]));
           }
         }
       }
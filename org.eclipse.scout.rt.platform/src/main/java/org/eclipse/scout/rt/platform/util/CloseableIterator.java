@@ -11,6 +11,10 @@
 package org.eclipse.scout.rt.platform.util;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Iterator that must be closed.
@@ -22,4 +26,35 @@ public interface CloseableIterator<E> extends Iterator<E>, AutoCloseable {
    */
   @Override
   void close();
+
+  /**
+   * @return sequential {@link Stream} over the remaining elements of this iterator. Closing the stream closes this
+   *         iterator.
+   */
+  default Stream<E> toStream() {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false).onClose(this::close);
+  }
+
+  /**
+   * @return closeable iterator over the elements of the given iterator, which holds no resources. Closing it has no
+   *         effect.
+   */
+  static <E> CloseableIterator<E> of(Iterator<E> iterator) {
+    return new CloseableIterator<E>() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public E next() {
+        return iterator.next();
+      }
+
+      @Override
+      public void close() {
+        // nop
+      }
+    };
+  }
 }
@@ -17,6 +17,7 @@ import java.security.PrivilegedAction;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import javax.security.auth.Subject;
 
@@ -29,6 +30,7 @@ import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.internal.BeanInstanceUtil;
 import org.eclipse.scout.rt.platform.security.SimplePrincipal;
 import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
 import org.junit.After;
@@ -141,6 +143,19 @@ public class AccessControlServiceTest {
     assertSame(p5, p6);
   }
 
+  @Test
+  public void testPermissionsRefreshedAhead() throws InterruptedException {
+    P_RefreshAheadAccessControlService accessControlService = BeanInstanceUtil.createBean(P_RefreshAheadAccessControlService.class);
+    BeanInstanceUtil.initializeBeanInstance(accessControlService);
+
+    IPermissionCollection p1 = accessControlService.getPermissions();
+    Thread.sleep(2 * P_RefreshAheadAccessControlService.REFRESH_AFTER_WRITE_MILLIS);
+    // stale permissions are returned while they are reloaded in the background
+    assertSame(p1, accessControlService.getPermissions());
+    JobTestUtil.waitForCondition(() -> accessControlService.getPermissions() != p1);
+    accessControlService.clearCache();
+  }
+
   @IgnoreBean
   private static class P_SharedAccessControlService extends AbstractAccessControlService<String> {
 
@@ -165,6 +180,18 @@ public class AccessControlServiceTest {
     }
   }
 
+  @IgnoreBean
+  private static class P_RefreshAheadAccessControlService extends P_SharedAccessControlService {
+    private static final long REFRESH_AFTER_WRITE_MILLIS = 50;
+
+    @Override
+    protected ICacheBuilder<String, IPermissionCollection> createCacheBuilder() {
+      return super.createCacheBuilder()
+          .withCacheId(ACCESS_CONTROL_SERVICE_CACHE_ID + ".for.refresh.test")
+          .withRefreshAfterWrite(REFRESH_AFTER_WRITE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+  }
+
   private static class SomePermission1 extends AbstractPermission {
     private static final long serialVersionUID = 1L;
 
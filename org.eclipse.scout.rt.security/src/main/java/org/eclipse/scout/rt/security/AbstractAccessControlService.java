@@ -40,7 +40,9 @@ import org.eclipse.scout.rt.platform.context.RunContext;
  * <tt>'CustomAccessControlService'</tt> and <tt>'CustomServerAccessControlService'</tt>.
  * <p>
  * This class caches permission collections. As default, the cache is transactional and with a time to live duration of
- * one hour. To change any of these properties override {@link #createCacheBuilder()}.
+ * one hour. Permissions older than 50 minutes are reloaded in the background upon their next access, so that users
+ * working continuously do not have to wait for their permissions to be loaded again once they expired. To change any
+ * of these properties override {@link #createCacheBuilder()}.
  *
  * @param <K>
  *          the type of keys maintained the cache
@@ -117,7 +119,8 @@ public abstract class AbstractAccessControlService<K> implements IAccessControlS
         .withClusterEnabled(true)
         .withTransactional(true)
         .withTransactionalFastForward(true)
-        .withTimeToLive(1L, TimeUnit.HOURS, false);
+        .withTimeToLive(1L, TimeUnit.HOURS, false)
+        .withRefreshAfterWrite(50L, TimeUnit.MINUTES);
   }
 
   protected ICacheValueResolver<K, IPermissionCollection> createCacheValueResolver() {
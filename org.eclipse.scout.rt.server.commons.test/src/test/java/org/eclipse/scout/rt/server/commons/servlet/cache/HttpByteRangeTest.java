@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.commons.servlet.cache;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class HttpByteRangeTest {
+
+  @Test
+  public void testNoRange() {
+    assertNull(HttpByteRange.parse(null, 100));
+    assertNull(HttpByteRange.parse("", 100));
+    assertNull(HttpByteRange.parse("items=0-10", 100));
+    assertNull(HttpByteRange.parse("bytes=abc", 100));
+    assertNull(HttpByteRange.parse("bytes=a-b", 100));
+    assertNull(HttpByteRange.parse("bytes=-", 100));
+    assertNull(HttpByteRange.parse("bytes=10-5", 100));
+  }
+
+  @Test
+  public void testMultipleRangesIgnored() {
+    assertNull(HttpByteRange.parse("bytes=0-10,20-30", 100));
+  }
+
+  @Test
+  public void testClosedRange() {
+    HttpByteRange range = HttpByteRange.parse("bytes=10-19", 100);
+    assertTrue(range.isSatisfiable());
+    assertEquals(10, range.getFirst());
+    assertEquals(19, range.getLast());
+    assertEquals(10, range.getLength());
+    assertEquals("bytes 10-19/100", range.toContentRange());
+  }
+
+  @Test
+  public void testClosedRangeExceedingContent() {
+    HttpByteRange range = HttpByteRange.parse("bytes=90-199", 100);
+    assertEquals(90, range.getFirst());
+    assertEquals(99, range.getLast());
+    assertEquals("bytes 90-99/100", range.toContentRange());
+  }
+
+  @Test
+  public void testOpenRange() {
+    HttpByteRange range = HttpByteRange.parse("bytes=50-", 100);
+    assertEquals(50, range.getFirst());
+    assertEquals(99, range.getLast());
+    assertEquals(50, range.getLength());
+  }
+
+  @Test
+  public void testSuffixRange() {
+    HttpByteRange range = HttpByteRange.parse("bytes=-30", 100);
+    assertEquals(70, range.getFirst());
+    assertEquals(99, range.getLast());
+
+    range = HttpByteRange.parse("bytes=-300", 100);
+    assertEquals(0, range.getFirst());
+    assertEquals(99, range.getLast());
+  }
+
+  @Test
+  public void testUnsatisfiable() {
+    HttpByteRange range = HttpByteRange.parse("bytes=100-", 100);
+    assertFalse(range.isSatisfiable());
+    assertEquals(0, range.getLength());
+    assertEquals("bytes */100", range.toContentRange());
+
+    assertFalse(HttpByteRange.parse("bytes=-0", 100).isSatisfiable());
+    assertFalse(HttpByteRange.parse("bytes=-10", 0).isSatisfiable());
+  }
+}
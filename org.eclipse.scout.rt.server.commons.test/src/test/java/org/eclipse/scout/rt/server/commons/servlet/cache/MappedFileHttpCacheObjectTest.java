@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.commons.servlet.cache;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class MappedFileHttpCacheObjectTest {
+
+  private Path m_file;
+
+  @Before
+  public void before() throws IOException {
+    m_file = Files.createTempFile("mapped", ".js");
+    byte[] content = new byte[1000];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    Files.write(m_file, content);
+  }
+
+  @After
+  public void after() throws IOException {
+    Files.deleteIfExists(m_file);
+  }
+
+  @Test
+  public void testContent() throws IOException {
+    MappedFileHttpCacheObject obj = new MappedFileHttpCacheObject(new HttpCacheKey("/a.js"), BinaryResources.create().withFilename("a.js").build(), m_file);
+    assertEquals(1000, obj.getContentLength());
+    assertEquals(-1, obj.getResource().getContentLength());
+
+    ByteBuffer buffer = obj.getContentBuffer();
+    assertTrue(buffer.isReadOnly());
+    assertEquals(1000, buffer.remaining());
+    assertEquals((byte) 999, buffer.get(999));
+
+    // each call returns an independent buffer
+    buffer.position(500);
+    assertEquals(0, obj.getContentBuffer().position());
+  }
+
+  @Test
+  public void testETag() throws IOException {
+    MappedFileHttpCacheObject obj = new MappedFileHttpCacheObject(new HttpCacheKey("/a.js"), BinaryResources.create().withFilename("a.js").build(), m_file);
+    assertNotNull(obj.createETag());
+    assertEquals(obj.createETag(), new MappedFileHttpCacheObject(new HttpCacheKey("/a.js"), BinaryResources.create().withFilename("a.js").build(), m_file).createETag());
+
+    Files.setLastModifiedTime(m_file, FileTime.fromMillis(Files.getLastModifiedTime(m_file).toMillis() - 60000));
+    assertNotEquals(obj.createETag(), new MappedFileHttpCacheObject(new HttpCacheKey("/a.js"), BinaryResources.create().withFilename("a.js").build(), m_file).createETag());
+  }
+
+  @Test
+  public void testHeapContentBuffer() throws IOException {
+    byte[] content = Files.readAllBytes(m_file);
+    HttpCacheObject obj = new HttpCacheObject(new HttpCacheKey("/a.js"), BinaryResources.create().withFilename("a.js").withContent(content).build());
+    assertTrue(obj.isContentOnHeap());
+    ByteBuffer buffer = obj.getContentBuffer();
+    assertTrue(buffer.hasArray());
+    assertSame(content, buffer.array());
+    assertEquals(1000, buffer.remaining());
+  }
+
+  @Test
+  public void testMappedContentIsNotPrecompressed() throws IOException {
+    BinaryResource resource = BinaryResources.create().withFilename("a.js").withContentType("application/javascript").build();
+    MappedFileHttpCacheObject mapped = new MappedFileHttpCacheObject(new HttpCacheKey("/a.js"), resource, m_file);
+    assertFalse(mapped.isContentOnHeap());
+    new HttpResourceCache().precompress(mapped);
+    assertNull(mapped.getGzipContent());
+
+    HttpCacheObject heap = new HttpCacheObject(new HttpCacheKey("/b.js"), BinaryResources.create()
+        .withFilename("b.js")
+        .withContentType("application/javascript")
+        .withContent(new byte[1000])
+        .build());
+    new HttpResourceCache().precompress(heap);
+    assertNotNull(heap.getGzipContent());
+  }
+}
@@ -23,6 +23,7 @@ import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractMapConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringListConfigProperty;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
@@ -162,4 +163,40 @@ public final class ServerCommonsConfigProperties {
       return "URIs to DER (Base64) encoded certificate files that should be trusted. The URI may refer to a local file or a resource on the classpath (use classpath: prefix). The default value is an empty list.";
     }
   }
+
+  public static class HttpResourceCacheMaxSizeProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.resourceCache.maxSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum size in bytes of each HTTP resource cache used to store web resources like HTML, CSS and JS, including precompressed variants. Resources used rarely are evicted first. The default value is 100 MB.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 100L * 1024 * 1024;
+    }
+  }
+
+  public static class HttpResourceCachePrecompressProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.resourceCache.precompress";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if compressible web resources are stored in the HTTP resource cache along with a gzip compressed variant, which is served directly to clients accepting gzip encoding. The default value is true.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.TRUE;
+    }
+  }
 }
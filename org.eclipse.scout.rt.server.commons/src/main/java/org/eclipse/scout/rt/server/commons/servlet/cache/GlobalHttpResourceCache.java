@@ -20,7 +20,8 @@ import org.eclipse.scout.rt.platform.PlatformEvent;
 /**
  * A {@link HttpResourceCache} used for global resources. This class holds a single {@link HttpResourceCache} instance.
  * <br>
- * Resources added to this cache will never be removed until the Scout {@link Platform} stops.
+ * Resources added to this cache are only removed if the cache exceeds its maximum size, or once the Scout
+ * {@link Platform} stops.
  */
 @ApplicationScoped
 public class GlobalHttpResourceCache implements IPlatformListener, IHttpResourceCache {
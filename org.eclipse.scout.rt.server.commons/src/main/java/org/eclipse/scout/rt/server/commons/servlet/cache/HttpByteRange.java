@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.commons.servlet.cache;
+
+/**
+ * A single byte range of a HTTP range request (RFC 7233).
+ * <p>
+ * Only single ranges are supported. A request for multiple ranges is treated like a request without range, meaning
+ * that the whole content is sent, which is permitted by the specification.
+ *
+ * @since 11.0
+ */
+public final class HttpByteRange {
+
+  public static final String RANGE = "Range"; //-NLS-1$
+  public static final String IF_RANGE = "If-Range"; //-NLS-1$
+  public static final String ACCEPT_RANGES = "Accept-Ranges"; //-NLS-1$
+  public static final String CONTENT_RANGE = "Content-Range"; //-NLS-1$
+  public static final String BYTES = "bytes"; //-NLS-1$
+
+  private static final String BYTES_PREFIX = BYTES + "=";
+
+  private final long m_first;
+  private final long m_last;
+  private final long m_contentLength;
+
+  private HttpByteRange(long first, long last, long contentLength) {
+    m_first = first;
+    m_last = last;
+    m_contentLength = contentLength;
+  }
+
+  /**
+   * @param rangeHeader
+   *          value of the {@value #RANGE} header, may be <code>null</code>
+   * @param contentLength
+   *          the length of the whole content
+   * @return the requested range, or <code>null</code> if the header is missing, malformed or requests multiple ranges. A
+   *         range which does not overlap the content is not {@link #isSatisfiable() satisfiable}.
+   */
+  public static HttpByteRange parse(String rangeHeader, long contentLength) {
+    if (rangeHeader == null || contentLength < 0) {
+      return null;
+    }
+    String spec = rangeHeader.trim();
+    if (!spec.regionMatches(true, 0, BYTES_PREFIX, 0, BYTES_PREFIX.length())) {
+      return null;
+    }
+    spec = spec.substring(BYTES_PREFIX.length());
+    int dash = spec.indexOf('-');
+    if (dash < 0 || spec.indexOf(',') >= 0) {
+      return null;
+    }
+    String firstPos = spec.substring(0, dash).trim();
+    String lastPos = spec.substring(dash + 1).trim();
+    try {
+      if (firstPos.isEmpty()) {
+        // suffix range: last n bytes
+        if (lastPos.isEmpty()) {
+          return null;
+        }
+        long suffixLength = Long.parseLong(lastPos);
+        if (suffixLength < 0) {
+          return null;
+        }
+        if (suffixLength == 0 || contentLength == 0) {
+          return unsatisfiable(contentLength);
+        }
+        return new HttpByteRange(Math.max(0, contentLength - suffixLength), contentLength - 1, contentLength);
+      }
+
+      long first = Long.parseLong(firstPos);
+      long last = lastPos.isEmpty() ? Long.MAX_VALUE : Long.parseLong(lastPos);
+      if (first < 0 || last < first) {
+        return null;
+      }
+      if (first >= contentLength) {
+        return unsatisfiable(contentLength);
+      }
+      return new HttpByteRange(first, Math.min(last, contentLength - 1), contentLength);
+    }
+    catch (NumberFormatException e) { // NOSONAR
+      return null;
+    }
+  }
+
+  private static HttpByteRange unsatisfiable(long contentLength) {
+    return new HttpByteRange(-1, -1, contentLength);
+  }
+
+  /**
+   * @return <code>false</code> if the range does not overlap the content, in which case
+   *         {@link javax.servlet.http.HttpServletResponse#SC_REQUESTED_RANGE_NOT_SATISFIABLE} is to be sent.
+   */
+  public boolean isSatisfiable() {
+    return m_first >= 0;
+  }
+
+  /**
+   * @return offset of the first byte of this range
+   */
+  public long getFirst() {
+    return m_first;
+  }
+
+  /**
+   * @return offset of the last byte of this range (inclusive)
+   */
+  public long getLast() {
+    return m_last;
+  }
+
+  /**
+   * @return number of bytes in this range
+   */
+  public long getLength() {
+    return isSatisfiable() ? m_last - m_first + 1 : 0;
+  }
+
+  /**
+   * @return value of the {@value #CONTENT_RANGE} header
+   */
+  public String toContentRange() {
+    if (!isSatisfiable()) {
+      return BYTES + " */" + m_contentLength;
+    }
+    return BYTES + " " + m_first + "-" + m_last + "/" + m_contentLength;
+  }
+
+  @Override
+  public String toString() {
+    return toContentRange();
+  }
+}
@@ -10,7 +10,9 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -29,6 +31,7 @@ public class HttpCacheObject implements Serializable {
   private final HttpCacheKey m_cacheKey;
   private final BinaryResource m_resource;
   private final Set<IHttpResponseInterceptor> m_httpResponseInterceptors = new HashSet<>();
+  private volatile byte[] m_gzipContent;
 
   /**
    * @param cacheKey
@@ -59,6 +62,50 @@ public class HttpCacheObject implements Serializable {
     return m_resource;
   }
 
+  /**
+   * @return the length of the content in bytes, or <code>-1</code> if there is no content
+   */
+  public long getContentLength() {
+    return m_resource.getContentLength();
+  }
+
+  /**
+   * @return a new buffer over the content, positioned at its beginning, or <code>null</code> if there is no content.
+   *         The buffer must not be modified: content held on the heap is wrapped without copying, so that it can be
+   *         written directly from its backing array (see {@link #isContentOnHeap()}).
+   */
+  public ByteBuffer getContentBuffer() throws IOException {
+    byte[] content = m_resource.getContent();
+    if (content == null) {
+      return null;
+    }
+    return ByteBuffer.wrap(content);
+  }
+
+  /**
+   * @return <code>true</code> if the content of this object is held on the heap, <code>false</code> if it is e.g. read
+   *         from a memory-mapped file
+   */
+  public boolean isContentOnHeap() {
+    return true;
+  }
+
+  /**
+   * @return the content of the resource compressed with gzip, or <code>null</code> if no precompressed variant is
+   *         available
+   */
+  public byte[] getGzipContent() {
+    return m_gzipContent;
+  }
+
+  /**
+   * @param gzipContent
+   *          the content of the resource compressed with gzip, or <code>null</code> to remove the precompressed variant
+   */
+  public void setGzipContent(byte[] gzipContent) {
+    m_gzipContent = gzipContent;
+  }
+
   /**
    * @return an ETAG if the resource's {@link #getContentLength()} and {@link #getFingerprint()} are both not -1
    */
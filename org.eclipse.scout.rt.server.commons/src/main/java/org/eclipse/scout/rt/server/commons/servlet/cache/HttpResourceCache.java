@@ -10,34 +10,122 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.cache.ICacheStatistics;
+import org.eclipse.scout.rt.platform.cache.TinyLfuCacheMap;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.HttpResourceCacheMaxSizeProperty;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.HttpResourceCachePrecompressProperty;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A server side cache use to store web resources like HTML, CSS and JS.
+ * <p>
+ * The cache is bounded by the total size of the cached resources (see {@link HttpResourceCacheMaxSizeProperty}).
+ * Rarely used resources are evicted first (see {@link TinyLfuCacheMap}). Lookups do not block.
+ * <p>
+ * Compressible resources are stored along with a gzip compressed variant (see
+ * {@link HttpResourceCachePrecompressProperty}), so that they need not be compressed on every response.
  */
 @Bean
 public class HttpResourceCache implements IHttpResourceCache {
 
   private static final Logger LOG = LoggerFactory.getLogger(HttpResourceCache.class);
 
-  private final Map<HttpCacheKey, HttpCacheObject> m_cache = Collections.synchronizedMap(new HashMap<>());
+  /**
+   * Approximate memory footprint of a cache entry without its content.
+   */
+  private static final int ENTRY_OVERHEAD = 256;
+  private static final int MIN_SIZE_TO_COMPRESS = 256;
+
+  private final Map<HttpCacheKey, HttpCacheObject> m_cache;
+  private final boolean m_precompress;
+  private final Set<String> m_compressibleContentTypes;
+
+  public HttpResourceCache() {
+    m_cache = createCacheMap(CONFIG.getPropertyValue(HttpResourceCacheMaxSizeProperty.class));
+    m_precompress = CONFIG.getPropertyValue(HttpResourceCachePrecompressProperty.class);
+    m_compressibleContentTypes = CollectionUtility.hashSet(StringUtility.split(GzipServletFilter.CONTENT_TYPES, ","));
+  }
+
+  protected Map<HttpCacheKey, HttpCacheObject> createCacheMap(long maxSize) {
+    return new TinyLfuCacheMap<>(maxSize, (key, obj) -> weigh(obj), -1L);
+  }
+
+  /**
+   * @return approximate heap footprint of the given object in bytes
+   */
+  protected int weigh(HttpCacheObject obj) {
+    // content which is not held on the heap (e.g. MappedFileHttpCacheObject) is not weighed
+    long weight = ENTRY_OVERHEAD + Math.max(0, obj.getResource().getContentLength());
+    byte[] gzipContent = obj.getGzipContent();
+    if (gzipContent != null) {
+      weight += gzipContent.length;
+    }
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
 
   @Override
   public boolean put(HttpCacheObject obj) {
     if (!obj.isCachingAllowed()) {
       return false;
     }
+    if (m_precompress) {
+      precompress(obj);
+    }
     m_cache.put(obj.getCacheKey(), obj);
     LOG.debug("Stored object in cache: {}", obj.getCacheKey());
     return true;
   }
 
+  /**
+   * Adds a gzip compressed variant to the given object, if its content type is compressible and the compressed content
+   * is smaller. Objects whose content is not held on the heap (e.g. {@link MappedFileHttpCacheObject}) are not
+   * precompressed, as the compressed variant would be held on the heap.
+   */
+  protected void precompress(HttpCacheObject obj) {
+    long contentLength = obj.getContentLength();
+    if (!obj.isContentOnHeap() || obj.getGzipContent() != null || contentLength < MIN_SIZE_TO_COMPRESS || !isCompressible(obj.getResource().getContentType())) {
+      return;
+    }
+    try {
+      ByteBuffer content = obj.getContentBuffer();
+      if (content == null) {
+        return;
+      }
+      ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      try (GZIPOutputStream out = new GZIPOutputStream(bos)) {
+        Channels.newChannel(out).write(content);
+      }
+      if (bos.size() < contentLength) {
+        obj.setGzipContent(bos.toByteArray());
+      }
+    }
+    catch (IOException e) {
+      LOG.warn("Could not precompress object: {}", obj.getCacheKey(), e);
+    }
+  }
+
+  protected boolean isCompressible(String contentType) {
+    if (contentType == null) {
+      return false;
+    }
+    // Content type may contain the charset parameter separated by ; -> remove it
+    return m_compressibleContentTypes.contains(contentType.split(";")[0]);
+  }
+
   @Override
   public HttpCacheObject get(HttpCacheKey cacheKey) {
     HttpCacheObject obj = m_cache.get(cacheKey);
@@ -57,4 +145,11 @@ public class HttpResourceCache implements IHttpResourceCache {
     LOG.debug("Clear resource cache");
     m_cache.clear();
   }
+
+  /**
+   * @return statistics of this cache, or <code>null</code> if not recorded
+   */
+  public ICacheStatistics getStatistics() {
+    return m_cache instanceof ICacheStatistics ? (ICacheStatistics) m_cache : null;
+  }
 }
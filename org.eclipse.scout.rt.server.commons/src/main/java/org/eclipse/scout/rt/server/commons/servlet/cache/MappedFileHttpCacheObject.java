@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.commons.servlet.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * {@link HttpCacheObject} whose content is not held on the heap, but read from a memory-mapped file. The file is mapped
+ * upon the first access of {@link #getContentBuffer()}; its pages are then shared by all requests and managed by the
+ * operating system.
+ * <p>
+ * The {@link BinaryResource} of this object only provides the meta data (e.g. content type and caching settings) and
+ * has no content. The ETag is derived from the size and the modification time of the file.
+ * <p>
+ * The file must not be modified as long as this object is in use: a file truncated while being mapped causes accesses
+ * to its content to fail.
+ *
+ * @since 11.0
+ */
+public class MappedFileHttpCacheObject extends HttpCacheObject {
+  private static final long serialVersionUID = 1L;
+
+  private final String m_file; // not a Path because not serializable
+  private final long m_contentLength;
+  private final long m_lastModified;
+  private transient volatile MappedByteBuffer m_buffer;
+
+  /**
+   * @param cacheKey
+   *          not null
+   * @param resource
+   *          not null, meta data of the resource
+   * @param file
+   *          not null, the file containing the content, at most {@link Integer#MAX_VALUE} bytes long
+   */
+  public MappedFileHttpCacheObject(HttpCacheKey cacheKey, BinaryResource resource, Path file) throws IOException {
+    super(cacheKey, resource);
+    Assertions.assertNotNull(file);
+    m_file = file.toString();
+    m_contentLength = Files.size(file);
+    Assertions.assertTrue(m_contentLength <= Integer.MAX_VALUE, "File too large to be mapped [file={}, size={}]", file, m_contentLength);
+    m_lastModified = Files.getLastModifiedTime(file).toMillis();
+  }
+
+  public Path getFile() {
+    return Paths.get(m_file);
+  }
+
+  @Override
+  public long getContentLength() {
+    return m_contentLength;
+  }
+
+  @Override
+  public ByteBuffer getContentBuffer() throws IOException {
+    MappedByteBuffer buffer = m_buffer;
+    if (buffer == null) {
+      synchronized (this) {
+        buffer = m_buffer;
+        if (buffer == null) {
+          buffer = map();
+          m_buffer = buffer;
+        }
+      }
+    }
+    return buffer.asReadOnlyBuffer();
+  }
+
+  @Override
+  public boolean isContentOnHeap() {
+    return false;
+  }
+
+  protected MappedByteBuffer map() throws IOException {
+    // the mapping remains valid after the channel is closed
+    try (FileChannel channel = FileChannel.open(getFile(), StandardOpenOption.READ)) {
+      if (channel.size() < m_contentLength) {
+        throw new IOException("File was truncated since it was loaded: " + m_file);
+      }
+      return channel.map(MapMode.READ_ONLY, 0, m_contentLength);
+    }
+  }
+
+  @Override
+  public String createETag() {
+    return "W/\"" + m_contentLength + "-" + Long.toHexString(m_lastModified) + "\"";
+  }
+}
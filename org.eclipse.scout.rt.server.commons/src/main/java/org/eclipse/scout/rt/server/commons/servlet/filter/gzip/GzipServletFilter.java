@@ -12,14 +12,19 @@ package org.eclipse.scout.rt.server.commons.servlet.filter.gzip;
 
 import java.io.IOException;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncListener;
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.FilterConfig;
+import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
@@ -40,6 +45,10 @@ import org.slf4j.LoggerFactory;
  * <li><b>post_pattern:</b> regex of pathInfo that is compressed for POST requests (default value =
  * <code>.{@literal *}/json</code>)
  * </ul>
+ * <p>
+ * Asynchronous requests are supported: if the request was put into asynchronous mode by
+ * {@link ServletRequest#startAsync()}, the response is written when {@link AsyncContext#complete()} is called on the
+ * returned {@link AsyncContext} instead of when the filter chain returns.
  */
 public class GzipServletFilter implements Filter {
   private static final Logger LOG = LoggerFactory.getLogger(GzipServletFilter.class);
@@ -77,27 +86,32 @@ public class GzipServletFilter implements Filter {
             req.getPathInfo());
       }
     }
-    if (requestAcceptsGzipEncoding(req)) {
-      resp = new GzipServletResponseWrapper(resp);
+    if (!requestAcceptsGzipEncoding(req)) {
+      chain.doFilter(req, resp);
+      return;
     }
 
-    chain.doFilter(req, resp);
+    P_AsyncAwareRequestWrapper asyncAwareReq = new P_AsyncAwareRequestWrapper(req, new GzipServletResponseWrapper(resp, this, req));
+    chain.doFilter(asyncAwareReq, asyncAwareReq.getGzipResponse());
 
-    if (resp instanceof GzipServletResponseWrapper) {
-      GzipServletResponseWrapper gzipResp = (GzipServletResponseWrapper) resp;
-      int minLength = minimumLengthToCompress(req);
-      if (!responseNeedsGzipEncoding(req, resp)) {
-        // Disable compression
-        minLength = -1;
-      }
-      boolean compressed = gzipResp.finish(minLength);
-      if (compressed && LOG.isDebugEnabled()) {
-        LOG.debug("GZIP response[size {}%, uncompressed: {}, compressed: {}]: {}",
-            gzipResp.getCompressedLength() * 100 / gzipResp.getUncompressedLength(),
-            gzipResp.getUncompressedLength(),
-            gzipResp.getCompressedLength(),
-            req.getPathInfo());
-      }
+    if (!asyncAwareReq.isAsyncStarted()) {
+      asyncAwareReq.finishResponse();
+    }
+  }
+
+  protected void finish(HttpServletRequest req, GzipServletResponseWrapper gzipResp) throws IOException {
+    int minLength = minimumLengthToCompress(req);
+    if (!responseNeedsGzipEncoding(req, gzipResp)) {
+      // Disable compression
+      minLength = -1;
+    }
+    boolean compressed = gzipResp.finish(minLength);
+    if (compressed && LOG.isDebugEnabled()) {
+      LOG.debug("GZIP response[size {}%, uncompressed: {}, compressed: {}]: {}",
+          gzipResp.getCompressedLength() * 100 / gzipResp.getUncompressedLength(),
+          gzipResp.getUncompressedLength(),
+          gzipResp.getCompressedLength(),
+          req.getPathInfo());
     }
   }
 
@@ -141,4 +155,137 @@ public class GzipServletFilter implements Filter {
   public void destroy() {
     // no resources to destroy
   }
+
+  /**
+   * Request passed down the filter chain if the response is compressed. If the request is put into asynchronous mode,
+   * the {@link GzipServletResponseWrapper} is finished when the {@link AsyncContext} is completed. An
+   * {@link AsyncListener} cannot be used for this, as containers may close the response before notifying listeners.
+   */
+  protected class P_AsyncAwareRequestWrapper extends HttpServletRequestWrapper {
+    private final GzipServletResponseWrapper m_gzipResponse;
+    private final AtomicBoolean m_finished = new AtomicBoolean();
+    private volatile P_AsyncContext m_asyncContext;
+
+    public P_AsyncAwareRequestWrapper(HttpServletRequest req, GzipServletResponseWrapper gzipResponse) {
+      super(req);
+      m_gzipResponse = gzipResponse;
+    }
+
+    public GzipServletResponseWrapper getGzipResponse() {
+      return m_gzipResponse;
+    }
+
+    /**
+     * Writes the buffered content to the wrapped response, only the first call has an effect.
+     */
+    public void finishResponse() throws IOException {
+      if (m_finished.compareAndSet(false, true)) {
+        finish((HttpServletRequest) getRequest(), m_gzipResponse);
+      }
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+      m_asyncContext = new P_AsyncContext(this, super.startAsync());
+      return m_asyncContext;
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+      m_asyncContext = new P_AsyncContext(this, super.startAsync(servletRequest, servletResponse));
+      return m_asyncContext;
+    }
+
+    @Override
+    public AsyncContext getAsyncContext() {
+      P_AsyncContext asyncContext = m_asyncContext;
+      return asyncContext != null ? asyncContext : super.getAsyncContext();
+    }
+  }
+
+  /**
+   * {@link AsyncContext} which finishes the compressed response before completing the request.
+   */
+  protected static class P_AsyncContext implements AsyncContext {
+    private final P_AsyncAwareRequestWrapper m_request;
+    private final AsyncContext m_delegate;
+
+    public P_AsyncContext(P_AsyncAwareRequestWrapper request, AsyncContext delegate) {
+      m_request = request;
+      m_delegate = delegate;
+    }
+
+    @Override
+    public void complete() {
+      try {
+        m_request.finishResponse();
+      }
+      catch (IOException e) {
+        LOG.warn("Could not write response of asynchronous request", e);
+      }
+      finally {
+        m_delegate.complete();
+      }
+    }
+
+    @Override
+    public ServletRequest getRequest() {
+      return m_delegate.getRequest();
+    }
+
+    @Override
+    public ServletResponse getResponse() {
+      return m_delegate.getResponse();
+    }
+
+    @Override
+    public boolean hasOriginalRequestAndResponse() {
+      return m_delegate.hasOriginalRequestAndResponse();
+    }
+
+    @Override
+    public void dispatch() {
+      m_delegate.dispatch();
+    }
+
+    @Override
+    public void dispatch(String path) {
+      m_delegate.dispatch(path);
+    }
+
+    @Override
+    public void dispatch(ServletContext context, String path) {
+      m_delegate.dispatch(context, path);
+    }
+
+    @Override
+    public void start(Runnable run) {
+      m_delegate.start(run);
+    }
+
+    @Override
+    public void addListener(AsyncListener listener) {
+      m_delegate.addListener(listener);
+    }
+
+    @Override
+    public void addListener(AsyncListener listener, ServletRequest servletRequest, ServletResponse servletResponse) {
+      m_delegate.addListener(listener, servletRequest, servletResponse);
+    }
+
+    @Override
+    public <T extends AsyncListener> T createListener(Class<T> clazz) throws ServletException {
+      return m_delegate.createListener(clazz);
+    }
+
+    @Override
+    public void setTimeout(long timeout) {
+      m_delegate.setTimeout(timeout);
+    }
+
+    @Override
+    public long getTimeout() {
+      return m_delegate.getTimeout();
+    }
+  }
 }
@@ -15,6 +15,7 @@ import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 
 import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpServletResponseWrapper;
 
@@ -23,15 +24,31 @@ import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
 
 public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
+  private final GzipServletFilter m_filter;
+  private final HttpServletRequest m_request;
   private BufferedServletOutputStream m_buf;
   private int m_compressedLength = -1;
   private int m_uncompressedLength = -1;
   // one of these two is used
   private ServletOutputStream m_servletOut;
   private PrintWriter m_writer;
+  // true if the content is already encoded by the servlet (e.g. precompressed), so that it is passed through as is
+  private boolean m_passThrough;
 
   public GzipServletResponseWrapper(HttpServletResponse resp) {
+    this(resp, null, null);
+  }
+
+  /**
+   * @param filter
+   *          optional, filter which created this wrapper, used by {@link #isCompressionEnabled(long)}
+   * @param req
+   *          optional, request of the response
+   */
+  public GzipServletResponseWrapper(HttpServletResponse resp, GzipServletFilter filter, HttpServletRequest req) {
     super(resp);
+    m_filter = filter;
+    m_request = req;
   }
 
   protected BufferedServletOutputStream ensureBufferedStream() {
@@ -55,8 +72,73 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     return m_uncompressedLength;
   }
 
+  /**
+   * @return <code>true</code> if the content is already encoded by the servlet and therefore written to the wrapped
+   *         response as is
+   */
+  public boolean isPassThrough() {
+    return m_passThrough;
+  }
+
+  /**
+   * Servlets which compress their content themselves while streaming it (see {@link #isPassThrough()}) use this method
+   * to apply the configuration of the {@link GzipServletFilter}.
+   *
+   * @return <code>true</code> if the filter would compress content of the given uncompressed length with the current
+   *         content type of this response
+   */
+  public boolean isCompressionEnabled(long uncompressedLength) {
+    if (m_filter == null || m_passThrough || m_servletOut != null || m_writer != null) {
+      return false;
+    }
+    if (!m_filter.responseNeedsGzipEncoding(m_request, this)) {
+      return false;
+    }
+    int minLength = m_filter.minimumLengthToCompress(m_request);
+    return minLength >= 0 && uncompressedLength >= minLength;
+  }
+
+  @Override
+  public void setHeader(String name, String value) {
+    checkContentEncoding(name);
+    super.setHeader(name, value);
+  }
+
+  @Override
+  public void addHeader(String name, String value) {
+    checkContentEncoding(name);
+    super.addHeader(name, value);
+  }
+
+  @Override
+  public void setStatus(int sc) {
+    // a partial content must not be compressed, as its range refers to the uncompressed content
+    if (sc == HttpServletResponse.SC_PARTIAL_CONTENT) {
+      enablePassThrough();
+    }
+    super.setStatus(sc);
+  }
+
+  /**
+   * If the servlet sets a content encoding before writing any content, the content is not compressed again.
+   */
+  protected void checkContentEncoding(String headerName) {
+    if (GzipServletFilter.CONTENT_ENCODING.equalsIgnoreCase(headerName)) {
+      enablePassThrough();
+    }
+  }
+
+  protected void enablePassThrough() {
+    if (m_servletOut == null && m_writer == null) {
+      m_passThrough = true;
+    }
+  }
+
   @Override
   public ServletOutputStream getOutputStream() throws IOException {
+    if (m_passThrough) {
+      return super.getOutputStream();
+    }
     if (m_writer != null) {
       throw new IllegalStateException("getWriter was previsouly called, getOutputStream is not available");
     }
@@ -68,6 +150,9 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
   @Override
   public PrintWriter getWriter() throws IOException {
+    if (m_passThrough) {
+      return super.getWriter();
+    }
     if (m_servletOut != null) {
       throw new IllegalStateException("getOutputStream was previsouly called, getWriter is not available");
     }
@@ -79,7 +164,10 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
   @Override
   public void setContentLength(int len) {
-    // ignored
+    if (m_passThrough) {
+      super.setContentLength(len);
+    }
+    // otherwise ignored
   }
 
   @Override
@@ -99,6 +187,9 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
    * @return true if the content was compressed
    */
   public boolean finish(int minimumLengthToCompress) throws IOException {
+    if (m_passThrough) {
+      return false;
+    }
     if (m_writer != null) {
       m_writer.close();
       m_writer = null;
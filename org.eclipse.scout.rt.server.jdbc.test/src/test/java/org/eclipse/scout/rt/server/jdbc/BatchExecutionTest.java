@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Statement;
+
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#isJdbcBatchExecution()} (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class BatchExecutionTest {
+
+  @Test
+  public void testBatchUpdate() {
+    SqlServiceMock sql = new P_BatchSqlServiceMock();
+    int rowCount = sql.update("UPDATE my_table SET s=:{state} where n=:{name}",
+        new NVPair("state", new Integer[]{1, 2, 3}),
+        new NVPair("name", new String[]{"lorem", "ipsum", "dolor"}));
+
+    assertEquals(3, rowCount);
+    assertEquals("Connection.prepareStatement(UPDATE my_table SET s = ? where n = ?)\n"
+        + "PreparedStatement.setObject(1, 1, 4)\n"
+        + "PreparedStatement.setObject(2, lorem, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.setObject(1, 2, 4)\n"
+        + "PreparedStatement.setObject(2, ipsum, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n"
+        + "PreparedStatement.setObject(1, 3, 4)\n"
+        + "PreparedStatement.setObject(2, dolor, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n", sql.getProtocol().toString());
+  }
+
+  @Test
+  public void testNoBatchBinds() {
+    SqlServiceMock sql = new P_BatchSqlServiceMock();
+    sql.update("UPDATE my_table SET s=:state where n=:name", new NVPair("state", 1), new NVPair("name", "lorem"));
+
+    assertEquals("Connection.prepareStatement(UPDATE my_table SET s = ? where n = ?)\n"
+        + "PreparedStatement.setObject(1, 1, 4)\n"
+        + "PreparedStatement.setObject(2, lorem, 12)\n", sql.getProtocol().toString());
+  }
+
+  @Test
+  public void testBatchUpdateCount() {
+    OracleSqlStyle style = new OracleSqlStyle();
+    assertEquals(0, style.getBatchUpdateCount(new int[0]));
+    assertEquals(5, style.getBatchUpdateCount(new int[]{1, 0, 4}));
+    assertEquals(3, style.getBatchUpdateCount(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, 1}));
+    assertEquals(1, style.getBatchUpdateCount(new int[]{Statement.EXECUTE_FAILED, 1}));
+  }
+
+  private static class P_BatchSqlServiceMock extends SqlServiceMock {
+
+    @Override
+    protected boolean getConfiguredJdbcBatchExecution() {
+      return true;
+    }
+
+    @Override
+    protected int getConfiguredJdbcBatchSize() {
+      return 2;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.csv;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.csv.CsvSettings;
+import org.eclipse.scout.rt.server.jdbc.ISqlService;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.invocation.Invocation;
+
+/**
+ * Test for {@link CsvSqlAdapter#importData(CsvSettings)}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CsvSqlAdapterTest {
+
+  private File m_file;
+
+  @Before
+  public void before() throws IOException {
+    m_file = File.createTempFile("CSV_SQL_ADAPTER_TEST", ".csv");
+    Files.write(m_file.toPath(), "a;b\nc;d\ne;f\n".getBytes(StandardCharsets.UTF_8));
+  }
+
+  @After
+  public void after() throws IOException {
+    Files.deleteIfExists(m_file.toPath());
+  }
+
+  @Test
+  public void testImportRowByRow() {
+    ISqlService sqlService = mock(ISqlService.class);
+    when(sqlService.isJdbcBatchExecution()).thenReturn(false);
+
+    new CsvSqlAdapter(sqlService).importData(createSettings());
+
+    List<Object[]> bindBases = getInsertBindBases(sqlService, "INSERT INTO T(GROUP_NR,LINE_NR,X,Y) VALUES (:v0,:v1,:v2,:v3)");
+    assertEquals(3, bindBases.size());
+    assertBind(bindBases.get(0), 2, "v1", 1);
+    assertBind(bindBases.get(0), 3, "v3", "b");
+    assertBind(bindBases.get(2), 0, "v0", 7L);
+    assertBind(bindBases.get(2), 2, "v2", "e");
+  }
+
+  @Test
+  public void testImportInBatches() {
+    ISqlService sqlService = mock(ISqlService.class);
+    when(sqlService.isJdbcBatchExecution()).thenReturn(true);
+    when(sqlService.getJdbcBatchSize()).thenReturn(2);
+
+    new CsvSqlAdapter(sqlService).importData(createSettings());
+
+    // two full batches would need four rows: the last batch with the third row is inserted by flush()
+    List<Object[]> bindBases = getInsertBindBases(sqlService, "INSERT INTO T(GROUP_NR,LINE_NR,X,Y) VALUES (:{v0},:{v1},:{v2},:{v3})");
+    assertEquals(2, bindBases.size());
+
+    Object[] firstBatch = bindBases.get(0);
+    assertEquals(4, firstBatch.length);
+    assertBind(firstBatch, 0, "v0", new Object[]{7L, 7L});
+    assertBind(firstBatch, 1, "v1", new Object[]{1, 2});
+    assertBind(firstBatch, 2, "v2", new Object[]{"a", "c"});
+    assertBind(firstBatch, 3, "v3", new Object[]{"b", "d"});
+
+    Object[] lastBatch = bindBases.get(1);
+    assertEquals(4, lastBatch.length);
+    assertBind(lastBatch, 0, "v0", new Object[]{7L});
+    assertBind(lastBatch, 1, "v1", new Object[]{3});
+    assertBind(lastBatch, 2, "v2", new Object[]{"e"});
+    assertBind(lastBatch, 3, "v3", new Object[]{"f"});
+  }
+
+  @Test
+  public void testImportInBatchesWithoutRows() throws IOException {
+    Files.write(m_file.toPath(), new byte[0]);
+    ISqlService sqlService = mock(ISqlService.class);
+    when(sqlService.isJdbcBatchExecution()).thenReturn(true);
+    when(sqlService.getJdbcBatchSize()).thenReturn(2);
+
+    new CsvSqlAdapter(sqlService).importData(createSettings());
+
+    assertTrue(getInsertBindBases(sqlService, null).isEmpty());
+  }
+
+  protected CsvSettings createSettings() {
+    CsvSettings settings = new CsvSettings();
+    settings.setFile(m_file);
+    settings.setEncoding(StandardCharsets.UTF_8.name());
+    settings.setContentLocale(Locale.US);
+    settings.setColSeparator(';');
+    settings.setTextDelimiter('"');
+    settings.setTableName("T");
+    settings.setGroupKeyColumnName("GROUP_NR");
+    settings.setGroupKeyValue(7L);
+    settings.setLineNumberColumnName("LINE_NR");
+    settings.setCsvColumnNames(Arrays.asList("X", "Y"));
+    settings.setCsvColumnTypes(Arrays.asList("string", "string"));
+    return settings;
+  }
+
+  /**
+   * @return the bind bases of all {@link ISqlService#insert(String, Object...)} invocations in the order of invocation
+   */
+  protected static List<Object[]> getInsertBindBases(ISqlService sqlService, String expectedStatement) {
+    List<Object[]> bindBases = new ArrayList<>();
+    for (Invocation invocation : mockingDetails(sqlService).getInvocations()) {
+      if ("insert".equals(invocation.getMethod().getName())) {
+        assertEquals(expectedStatement, invocation.getRawArguments()[0]);
+        bindBases.add((Object[]) invocation.getRawArguments()[1]);
+      }
+    }
+    return bindBases;
+  }
+
+  protected static void assertBind(Object[] bindBase, int index, String name, Object value) {
+    NVPair pair = (NVPair) bindBase[index];
+    assertEquals(name, pair.getName());
+    if (value instanceof Object[]) {
+      assertArrayEquals((Object[]) value, (Object[]) pair.getValue());
+    }
+    else {
+      assertEquals(value, pair.getValue());
+    }
+  }
+}
@@ -16,10 +16,12 @@ import java.lang.reflect.Proxy;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLWarning;
+import java.util.Arrays;
 
 public class PreparedStatementMock extends VerboseMock implements InvocationHandler/*, java.sql.PreparedStatement*/ {
   private final PreparedStatement m_ps;
   private final Object[][] m_resultData;
+  private int m_batchRowCount;
 
   public PreparedStatementMock(StringBuffer protocol) {
     this(protocol, null);
@@ -38,7 +40,7 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
     String mname = method.getName();
-    if ("executeQuery".equals(mname) || "getResultSet".equals(mname) || mname.matches("set[a-zA-Z0-9]+")) {
+    if ("executeQuery".equals(mname) || "getResultSet".equals(mname) || mname.matches("set[a-zA-Z0-9]+") || mname.matches("[a-zA-Z]+Batch")) {
       log(PreparedStatement.class, mname, args);
     }
     //generic setter
@@ -82,4 +84,19 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   public int executeUpdate() {
     return 0;
   }
+
+  public void addBatch() {
+    m_batchRowCount++;
+  }
+
+  public void clearBatch() {
+    m_batchRowCount = 0;
+  }
+
+  public int[] executeBatch() {
+    int[] updateCounts = new int[m_batchRowCount];
+    Arrays.fill(updateCounts, 1);
+    m_batchRowCount = 0;
+    return updateCounts;
+  }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link PreparedStatementCache} with connection and statement mocks.
+ */
+public class PreparedStatementCacheTest {
+
+  private Set<Object> m_closedStatements;
+
+  @Before
+  public void before() {
+    m_closedStatements = Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+
+  @Test
+  public void testStatementIsCachedOnSecondUse() throws Exception {
+    PreparedStatementCache cache = new PreparedStatementCache(10);
+    Connection conn = createConnection();
+
+    PreparedStatement ps1 = cache.getPreparedStatement(conn, "SELECT 1");
+    cache.releasePreparedStatement(ps1);
+    assertTrue(isClosed(ps1));
+
+    PreparedStatement ps2 = cache.getPreparedStatement(conn, "SELECT 1");
+    assertNotSame(ps1, ps2);
+    cache.releasePreparedStatement(ps2);
+    assertFalse(isClosed(ps2));
+
+    assertSame(ps2, cache.getPreparedStatement(conn, "SELECT 1"));
+    cache.releasePreparedStatement(ps2);
+
+    assertEquals(1, cache.getStatistics().getHitCount());
+    assertEquals(2, cache.getStatistics().getMissCount());
+    assertEquals(1, cache.getStatistics().getWeightedSize());
+
+    cache.release();
+    assertTrue(isClosed(ps2));
+    assertEquals(0, cache.getStatistics().getWeightedSize());
+  }
+
+  @Test
+  public void testStatementInUseIsNotHandedOutTwice() throws Exception {
+    PreparedStatementCache cache = new PreparedStatementCache(10);
+    Connection conn = createConnection();
+    cache.releasePreparedStatement(cache.getPreparedStatement(conn, "SELECT 1"));
+    PreparedStatement cached = cache.getPreparedStatement(conn, "SELECT 1");
+
+    PreparedStatement nested = cache.getPreparedStatement(conn, "SELECT 1");
+    assertNotSame(cached, nested);
+    cache.releasePreparedStatement(nested);
+    assertTrue(isClosed(nested));
+
+    cache.releasePreparedStatement(cached);
+    assertFalse(isClosed(cached));
+  }
+
+  @Test
+  public void testStatementsArePerConnection() throws Exception {
+    PreparedStatementCache cache = new PreparedStatementCache(10);
+    Connection conn1 = createConnection();
+    Connection conn2 = createConnection();
+    for (int i = 0; i < 2; i++) {
+      cache.releasePreparedStatement(cache.getPreparedStatement(conn1, "SELECT 1"));
+    }
+
+    PreparedStatement ps = cache.getPreparedStatement(conn2, "SELECT 1");
+    assertSame(conn2, ps.getConnection());
+    cache.releasePreparedStatement(ps);
+    assertTrue(isClosed(ps));
+  }
+
+  @Test
+  public void testLeastRecentlyUsedStatementIsEvicted() throws Exception {
+    PreparedStatementCache cache = new PreparedStatementCache(1);
+    Connection conn = createConnection();
+    cache.releasePreparedStatement(cache.getPreparedStatement(conn, "SELECT 1"));
+    PreparedStatement ps1 = cache.getPreparedStatement(conn, "SELECT 1");
+    cache.releasePreparedStatement(ps1);
+    assertFalse(isClosed(ps1));
+
+    cache.releasePreparedStatement(cache.getPreparedStatement(conn, "SELECT 2"));
+    assertTrue(isClosed(ps1));
+    assertEquals(1, cache.getStatistics().getEvictionCount());
+    assertEquals(0, cache.getStatistics().getWeightedSize());
+  }
+
+  @Test
+  public void testCallableStatementsAreCachedSeparately() throws Exception {
+    PreparedStatementCache cache = new PreparedStatementCache(10);
+    Connection conn = createConnection();
+    for (int i = 0; i < 2; i++) {
+      cache.releasePreparedStatement(cache.getPreparedStatement(conn, "CALL P()"));
+    }
+
+    CallableStatement cs = cache.getCallableStatement(conn, "CALL P()");
+    cache.releaseCallableStatement(cs);
+    assertTrue(isClosed(cs));
+  }
+
+  private boolean isClosed(Object statement) {
+    return m_closedStatements.contains(statement);
+  }
+
+  private Connection createConnection() {
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (conn, method, args) -> {
+      switch (method.getName()) {
+        case "prepareStatement":
+          return createStatement(PreparedStatement.class, (Connection) conn);
+        case "prepareCall":
+          return createStatement(CallableStatement.class, (Connection) conn);
+        case "hashCode":
+          return System.identityHashCode(conn);
+        case "equals":
+          return conn == args[0];
+        default:
+          return null;
+      }
+    });
+  }
+
+  private Object createStatement(Class<?> type, Connection conn) {
+    return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, (ps, method, args) -> {
+      switch (method.getName()) {
+        case "close":
+          m_closedStatements.add(ps);
+          return null;
+        case "getConnection":
+          return conn;
+        case "hashCode":
+          return System.identityHashCode(ps);
+        case "equals":
+          return ps == args[0];
+        default:
+          return null;
+      }
+    });
+  }
+}
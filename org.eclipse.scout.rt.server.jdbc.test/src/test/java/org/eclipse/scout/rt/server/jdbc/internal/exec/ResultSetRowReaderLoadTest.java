@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures time and allocation of reading result rows (excluding the JDBC driver) with column types resolved per row
+ * and with a {@link ResultSetRowReader} resolving them once per result set.
+ */
+@Category(ResourceIntensiveTest.class)
+@RunWith(PlatformTestRunner.class)
+public class ResultSetRowReaderLoadTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ResultSetRowReaderLoadTest.class);
+
+  private static final int WARMUP_ROW_COUNT = 200_000;
+  private static final int ROW_COUNT = 1_000_000;
+  private static final int[] COLUMN_TYPES = {Types.BIGINT, Types.VARCHAR, Types.DOUBLE, Types.TIMESTAMP};
+
+  private final ISqlStyle m_sqlStyle = new OracleSqlStyle();
+  private final Timestamp m_timestamp = new Timestamp(0);
+
+  @Test
+  public void testColumnTypesPerRow() throws SQLException {
+    runLoad("column types per row", false);
+  }
+
+  @Test
+  public void testResultSetRowReader() throws SQLException {
+    runLoad("result set row reader", true);
+  }
+
+  protected void runLoad(String name, boolean useReader) throws SQLException {
+    readRows(createResultSet(WARMUP_ROW_COUNT), useReader);
+    ResultSet rs = createResultSet(ROW_COUNT);
+    long b0 = getAllocatedBytes();
+    long t0 = System.nanoTime();
+    readRows(rs, useReader);
+    long t1 = System.nanoTime();
+    long b1 = getAllocatedBytes();
+    LOG.info("Result rows {}: {} rows in {} ms ({} ns/row, {} bytes/row)", name, ROW_COUNT, TimeUnit.NANOSECONDS.toMillis(t1 - t0), (t1 - t0) / ROW_COUNT, (b1 - b0) / ROW_COUNT);
+  }
+
+  protected void readRows(ResultSet rs, boolean useReader) throws SQLException {
+    if (useReader) {
+      ResultSetRowReader reader = new ResultSetRowReader(m_sqlStyle, rs);
+      Object[] row = new Object[reader.getColumnCount()];
+      while (rs.next()) {
+        reader.readRow(row);
+      }
+    }
+    else {
+      while (rs.next()) {
+        // former StatementProcessor#processResultRow
+        ResultSetMetaData meta = rs.getMetaData();
+        int colCount = meta.getColumnCount();
+        Object[] row = new Object[colCount];
+        for (int i = 0; i < colCount; i++) {
+          int type = meta.getColumnType(i + 1);
+          row[i] = m_sqlStyle.readBind(rs, meta, type, i + 1);
+        }
+      }
+    }
+  }
+
+  /**
+   * @return allocated bytes of the current thread, or <code>0</code> if not supported by the JVM
+   */
+  protected long getAllocatedBytes() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return 0;
+  }
+
+  protected ResultSet createResultSet(int rowCount) {
+    ResultSetMetaData meta = (ResultSetMetaData) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSetMetaData.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "getColumnCount":
+          return COLUMN_TYPES.length;
+        case "getColumnType":
+          return COLUMN_TYPES[(Integer) args[0] - 1];
+        default:
+          return null;
+      }
+    });
+    int[] row = new int[]{-1};
+    return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "next":
+          return ++row[0] < rowCount;
+        case "getMetaData":
+          return meta;
+        case "wasNull":
+          return false;
+        case "getLong":
+          return (long) row[0];
+        case "getString":
+          return "name";
+        case "getDouble":
+          return 1.5d;
+        case "getTimestamp":
+          return m_timestamp;
+        default:
+          return null;
+      }
+    });
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.server.jdbc.ISelectStreamHandler;
+import org.eclipse.scout.rt.server.jdbc.SqlBind;
+import org.eclipse.scout.rt.server.jdbc.fixture.ConnectionMock;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests {@link ResultSetRowReader} and its use by {@link StatementProcessor#processSelectStreaming}.
+ */
+@RunWith(PlatformTestRunner.class)
+public class ResultSetRowReaderTest {
+
+  private static final Object[][] RESULT_DATA = new Object[][]{
+      {1L, "a"},
+      {2L, null},
+      {3L, "c"}};
+
+  @Test
+  public void testColumnTypesAreResolvedOnce() throws Exception {
+    ResultSetMetaData meta = mock(ResultSetMetaData.class);
+    when(meta.getColumnCount()).thenReturn(2);
+    when(meta.getColumnType(1)).thenReturn(Types.BIGINT);
+    when(meta.getColumnType(2)).thenReturn(Types.VARCHAR);
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getMetaData()).thenReturn(meta);
+    when(rs.getLong(1)).thenReturn(7L, 8L);
+    when(rs.getString(2)).thenReturn("x", "y");
+    ISqlStyle sqlStyle = mock(ISqlStyle.class);
+    when(sqlStyle.readBind(rs, meta, Types.BIGINT, 1)).thenAnswer(invocation -> rs.getLong(1));
+    when(sqlStyle.readBind(rs, meta, Types.VARCHAR, 2)).thenAnswer(invocation -> rs.getString(2));
+
+    ResultSetRowReader reader = new ResultSetRowReader(sqlStyle, rs);
+    assertEquals(2, reader.getColumnCount());
+    assertArrayEquals(new int[]{Types.BIGINT, Types.VARCHAR}, reader.getColumnTypes());
+
+    Object[] buffer = new Object[2];
+    assertSame(buffer, reader.readRow(buffer));
+    assertArrayEquals(new Object[]{7L, "x"}, buffer);
+    assertArrayEquals(new Object[]{8L, "y"}, reader.readRow());
+
+    verify(rs, times(1)).getMetaData();
+    verify(meta, times(1)).getColumnCount();
+    verify(meta, times(1)).getColumnType(1);
+    verify(meta, times(1)).getColumnType(2);
+  }
+
+  @Test
+  public void testSelectStreamingReusesRowBuffer() {
+    final List<Object[]> buffers = new ArrayList<>();
+    final List<Object[]> rows = new ArrayList<>();
+    selectStreaming(new P_AbstractStreamHandler() {
+      @Override
+      public void handleRow(Connection con, PreparedStatement stm, ResultSet rs, int rowIndex, Object[] values, int[] sqlTypes) {
+        buffers.add(values);
+        rows.add(values.clone());
+      }
+    });
+
+    assertEquals(3, rows.size());
+    assertSame(buffers.get(0), buffers.get(1));
+    assertSame(buffers.get(0), buffers.get(2));
+    for (int i = 0; i < RESULT_DATA.length; i++) {
+      assertArrayEquals(RESULT_DATA[i], rows.get(i));
+    }
+  }
+
+  @Test
+  public void testSelectStreamingWithSqlBinds() {
+    final List<List<SqlBind>> rows = new ArrayList<>();
+    selectStreaming(new P_AbstractStreamHandler() {
+      @Override
+      public void handleRow(Connection con, PreparedStatement stm, ResultSet rs, int rowIndex, List<SqlBind> values) {
+        rows.add(values);
+      }
+    });
+
+    assertEquals(3, rows.size());
+    for (int i = 0; i < RESULT_DATA.length; i++) {
+      List<SqlBind> row = rows.get(i);
+      assertEquals(2, row.size());
+      for (int j = 0; j < row.size(); j++) {
+        assertEquals(Types.OTHER, row.get(j).getSqlType());
+        assertEquals(RESULT_DATA[i][j], row.get(j).getValue());
+      }
+    }
+  }
+
+  protected void selectStreaming(ISelectStreamHandler handler) {
+    SqlServiceMock sqlService = new SqlServiceMock();
+    Connection conn = new ConnectionMock(sqlService.getProtocol(), RESULT_DATA).getConnection();
+    new StatementProcessor(sqlService, "SELECT A, B FROM T", new Object[0])
+        .processSelectStreaming(conn, new PreparedStatementCache(1), handler);
+  }
+
+  private abstract static class P_AbstractStreamHandler implements ISelectStreamHandler {
+
+    @Override
+    public void handleRow(Connection con, PreparedStatement stm, ResultSet rs, int rowIndex, List<SqlBind> values) {
+      fail("not expected to be called");
+    }
+
+    @Override
+    public void finished(Connection con, PreparedStatement stm, ResultSet rs, int rowCount) {
+      assertEquals(RESULT_DATA.length, rowCount);
+    }
+  }
+}
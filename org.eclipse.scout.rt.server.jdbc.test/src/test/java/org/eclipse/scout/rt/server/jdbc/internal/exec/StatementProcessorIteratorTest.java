@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlTransactionMember;
+import org.eclipse.scout.rt.server.jdbc.ISelectStreamHandler;
+import org.eclipse.scout.rt.server.jdbc.ISqlService;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests {@link StatementProcessor#processSelectIterator(Connection, org.eclipse.scout.rt.server.jdbc.IStatementCache, int)}
+ * and {@link StatementProcessor#processSelectBeanIterator(Connection, org.eclipse.scout.rt.server.jdbc.IStatementCache, int, Class)}
+ * as well as the default implementations of {@link ISqlService#stream(String, Object...)} and
+ * {@link ISqlService#streamBeans(Class, String, Object...)}.
+ */
+@RunWith(PlatformTestRunner.class)
+public class StatementProcessorIteratorTest {
+
+  private static final Object[][] RESULT_DATA = new Object[][]{
+      {1L, "Alice"},
+      {2L, "Bob"},
+      {3L, null}};
+
+  private SqlServiceMock m_sqlService;
+  private Connection m_conn;
+  private PreparedStatement m_ps;
+  private ResultSet m_rs;
+
+  @Before
+  public void before() throws SQLException {
+    m_sqlService = new SqlServiceMock();
+    ResultSetMetaData meta = mock(ResultSetMetaData.class);
+    when(meta.getColumnCount()).thenReturn(2);
+    when(meta.getColumnType(1)).thenReturn(Types.BIGINT);
+    when(meta.getColumnType(2)).thenReturn(Types.VARCHAR);
+    when(meta.getColumnLabel(1)).thenReturn("PERSON_NR");
+    when(meta.getColumnLabel(2)).thenReturn("NAME");
+
+    final int[] row = {-1};
+    final int[] lastColumn = {0};
+    m_rs = mock(ResultSet.class);
+    when(m_rs.getMetaData()).thenReturn(meta);
+    when(m_rs.next()).thenAnswer(invocation -> ++row[0] < RESULT_DATA.length);
+    when(m_rs.getLong(1)).thenAnswer(invocation -> {
+      lastColumn[0] = 0;
+      return RESULT_DATA[row[0]][0];
+    });
+    when(m_rs.getString(2)).thenAnswer(invocation -> {
+      lastColumn[0] = 1;
+      return RESULT_DATA[row[0]][1];
+    });
+    when(m_rs.wasNull()).thenAnswer(invocation -> RESULT_DATA[row[0]][lastColumn[0]] == null);
+
+    m_ps = mock(PreparedStatement.class);
+    when(m_ps.executeQuery()).thenReturn(m_rs);
+    m_conn = mock(Connection.class);
+    when(m_conn.prepareStatement(anyString())).thenReturn(m_ps);
+  }
+
+  @Test
+  public void testRowsAreFetchedLazily() throws SQLException {
+    try (CloseableIterator<Object[]> it = createProcessor(0).processSelectIterator(m_conn, new PreparedStatementCache(1), 50)) {
+      verify(m_ps, never()).executeQuery();
+      assertTrue(it.hasNext());
+      verify(m_ps).setFetchSize(50);
+      assertArrayEquals(RESULT_DATA[0], it.next());
+      verify(m_rs, times(1)).next();
+      assertArrayEquals(RESULT_DATA[1], it.next());
+      assertArrayEquals(RESULT_DATA[2], it.next());
+      assertFalse(it.hasNext());
+      verify(m_rs).close();
+    }
+    verify(m_rs, times(1)).close();
+  }
+
+  @Test
+  public void testMaxRowCount() throws SQLException {
+    List<Object[]> rows;
+    try (CloseableIterator<Object[]> it = createProcessor(2).processSelectIterator(m_conn, new PreparedStatementCache(1), 0)) {
+      rows = it.toStream().collect(Collectors.toList());
+    }
+    assertEquals(2, rows.size());
+    verify(m_ps, never()).setFetchSize(anyInt());
+    verify(m_rs).close();
+  }
+
+  @Test
+  public void testCloseBeforeEnd() throws SQLException {
+    CloseableIterator<Object[]> it = createProcessor(0).processSelectIterator(m_conn, new PreparedStatementCache(1), 0);
+    assertArrayEquals(RESULT_DATA[0], it.next());
+    it.close();
+    verify(m_rs).close();
+    assertFalse(it.hasNext());
+    it.close();
+    verify(m_rs, times(1)).close();
+  }
+
+  @Test
+  public void testBeans() {
+    List<PersonBean> beans = new ArrayList<>();
+    try (CloseableIterator<PersonBean> it = createProcessor(0).processSelectBeanIterator(m_conn, new PreparedStatementCache(1), 0, PersonBean.class)) {
+      it.forEachRemaining(beans::add);
+    }
+    assertEquals(3, beans.size());
+    for (int i = 0; i < RESULT_DATA.length; i++) {
+      assertEquals(RESULT_DATA[i][0], beans.get(i).getPersonNr());
+      assertEquals(RESULT_DATA[i][1], beans.get(i).getName());
+    }
+  }
+
+  @Test
+  public void testOverriddenResultSetRowIsUsed() {
+    StatementProcessor processor = new StatementProcessor(m_sqlService, "SELECT PERSON_NR, NAME FROM PERSON", new Object[0]) {
+      @SuppressWarnings("deprecation")
+      @Override
+      protected Object[] processResultRow(ResultSet rs) throws SQLException {
+        Object[] row = super.processResultRow(rs);
+        row[1] = "x" + row[1];
+        return row;
+      }
+    };
+    List<Object[]> rows;
+    try (CloseableIterator<Object[]> it = processor.processSelectIterator(m_conn, new PreparedStatementCache(1), 0)) {
+      rows = it.toStream().collect(Collectors.toList());
+    }
+    assertEquals(3, rows.size());
+    for (int i = 0; i < RESULT_DATA.length; i++) {
+      assertEquals(RESULT_DATA[i][0], rows.get(i)[0]);
+      assertEquals("x" + RESULT_DATA[i][1], rows.get(i)[1]);
+    }
+  }
+
+  @Test
+  public void testDefaultStream() {
+    ISqlService sqlService = mock(ISqlService.class);
+    when(sqlService.select(anyString())).thenReturn(RESULT_DATA);
+    when(sqlService.stream(anyString())).thenCallRealMethod();
+
+    List<Object[]> rows;
+    try (CloseableIterator<Object[]> it = sqlService.stream("SELECT PERSON_NR, NAME FROM PERSON")) {
+      rows = it.toStream().collect(Collectors.toList());
+    }
+    assertEquals(3, rows.size());
+    for (int i = 0; i < RESULT_DATA.length; i++) {
+      assertArrayEquals(RESULT_DATA[i], rows.get(i));
+    }
+  }
+
+  @Test
+  public void testDefaultStreamBeans() {
+    ISqlService sqlService = mock(ISqlService.class);
+    doAnswer(invocation -> {
+      ISelectStreamHandler handler = invocation.getArgument(1);
+      for (int i = 0; i < RESULT_DATA.length; i++) {
+        handler.handleRow(m_conn, m_ps, m_rs, i, RESULT_DATA[i].clone(), new int[]{Types.BIGINT, Types.VARCHAR});
+      }
+      handler.finished(m_conn, m_ps, m_rs, RESULT_DATA.length);
+      return null;
+    }).when(sqlService).selectStreaming(anyString(), any(ISelectStreamHandler.class), any());
+    when(sqlService.streamBeans(eq(PersonBean.class), anyString())).thenCallRealMethod();
+
+    List<PersonBean> beans = new ArrayList<>();
+    try (CloseableIterator<PersonBean> it = sqlService.streamBeans(PersonBean.class, "SELECT PERSON_NR, NAME FROM PERSON")) {
+      it.forEachRemaining(beans::add);
+    }
+    assertEquals(3, beans.size());
+    for (int i = 0; i < RESULT_DATA.length; i++) {
+      assertEquals(RESULT_DATA[i][0], beans.get(i).getPersonNr());
+      assertEquals(RESULT_DATA[i][1], beans.get(i).getName());
+    }
+  }
+
+  @Test
+  public void testCursorIsClosedByTransaction() throws SQLException {
+    P_SqlTransactionMember member = new P_SqlTransactionMember(m_sqlService.getTransactionMemberId());
+    ITransaction tx = mock(ITransaction.class);
+    when(tx.getMember(m_sqlService.getTransactionMemberId())).thenReturn(member);
+    ITransaction.CURRENT.set(tx);
+    try {
+      CloseableIterator<Object[]> it = createProcessor(0).processSelectIterator(m_conn, new PreparedStatementCache(1), 0);
+      assertArrayEquals(RESULT_DATA[0], it.next());
+
+      member.rollback();
+      verify(m_rs).close();
+      try {
+        it.hasNext();
+        fail("rows must not be readable after the end of the transaction");
+      }
+      catch (ProcessingException expected) {
+        // expected
+      }
+      it.close();
+      verify(m_rs, times(1)).close();
+    }
+    finally {
+      ITransaction.CURRENT.remove();
+    }
+  }
+
+  protected StatementProcessor createProcessor(int maxRowCount) {
+    return new StatementProcessor(m_sqlService, "SELECT PERSON_NR, NAME FROM PERSON", new Object[0], maxRowCount);
+  }
+
+  private static class P_SqlTransactionMember extends AbstractSqlTransactionMember {
+
+    P_SqlTransactionMember(String transactionMemberId) {
+      super(transactionMemberId);
+    }
+
+    @Override
+    public void rollback() {
+      closeOpenCursors();
+    }
+  }
+
+  public static class PersonBean {
+    private Long m_personNr;
+    private String m_name;
+
+    public Long getPersonNr() {
+      return m_personNr;
+    }
+
+    public void setPersonNr(Long personNr) {
+      m_personNr = personNr;
+    }
+
+    public String getName() {
+      return m_name;
+    }
+
+    public void setName(String name) {
+      m_name = name;
+    }
+  }
+}
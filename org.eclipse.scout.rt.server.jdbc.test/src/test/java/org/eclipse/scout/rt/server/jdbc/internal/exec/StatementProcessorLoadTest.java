@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the overhead of a select (statement parsing and bind processing, excluding the JDBC driver) with and
+ * without {@link StatementTemplateCache}.
+ */
+@Category(ResourceIntensiveTest.class)
+@RunWith(PlatformTestRunner.class)
+public class StatementProcessorLoadTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StatementProcessorLoadTest.class);
+
+  private static final int WARMUP_COUNT = 20_000;
+  private static final int COUNT = 100_000;
+  private static final String STATEMENT = "SELECT P.PERSON_NR, P.NAME, P.FIRST_NAME, P.BIRTHDAY"
+      + " FROM PERSON P"
+      + " WHERE P.COMPANY_NR = :companyNr"
+      + " AND P.NAME LIKE :name || '%'"
+      + " AND P.STATE = :states"
+      + " AND P.BIRTHDAY > :birthday";
+
+  @Test
+  public void testWithTemplateCache() {
+    runLoad("with template cache");
+  }
+
+  @Test
+  public void testWithoutTemplateCache() {
+    List<IBean<?>> beans = BeanTestingHelper.get().registerBeans(new BeanMetaData(StatementTemplateCache.class)
+        .withInitialInstance(new StatementTemplateCache() {
+          @Override
+          public StatementTemplate get(String stm) {
+            return new StatementTemplate(stm);
+          }
+        })
+        .withApplicationScoped(true));
+    try {
+      runLoad("without template cache");
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBeans(beans);
+    }
+  }
+
+  protected void runLoad(String name) {
+    SqlServiceMock sqlService = new SqlServiceMock();
+    sqlService.setResultData(new Object[][]{});
+    for (int i = 0; i < WARMUP_COUNT; i++) {
+      select(sqlService, i);
+    }
+    long t0 = System.nanoTime();
+    for (int i = 0; i < COUNT; i++) {
+      select(sqlService, i);
+      if (i % 1000 == 0) {
+        sqlService.clearProtocol();
+      }
+    }
+    long t1 = System.nanoTime();
+    LOG.info("SQL.select {}: {} selects in {} ms ({} ns/select)", name, COUNT, TimeUnit.NANOSECONDS.toMillis(t1 - t0), (t1 - t0) / COUNT);
+  }
+
+  protected void select(SqlServiceMock sqlService, int i) {
+    sqlService.select(STATEMENT,
+        new NVPair("companyNr", (long) i),
+        new NVPair("name", "Smith"),
+        new NVPair("states", new Long[]{1L, 2L, 3L}),
+        new NVPair("birthday", new Date(0)));
+  }
+}
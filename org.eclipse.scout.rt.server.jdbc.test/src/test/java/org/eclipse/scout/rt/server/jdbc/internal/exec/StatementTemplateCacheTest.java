@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link StatementTemplateCache}
+ */
+@RunWith(PlatformTestRunner.class)
+public class StatementTemplateCacheTest {
+
+  private static final String STATEMENT = "SELECT A, B FROM T WHERE A = :a AND B LIKE :b INTO :x, :y";
+
+  @Test
+  public void testSameTemplateForSameStatement() {
+    StatementTemplateCache cache = new StatementTemplateCache();
+    StatementTemplate template = cache.get(STATEMENT);
+    assertSame(template, cache.get(STATEMENT));
+    assertNotSame(template, cache.get(STATEMENT + " "));
+    assertEquals(1, cache.getStatistics().getHitCount());
+  }
+
+  @Test
+  public void testModelsAreCopies() {
+    StatementTemplate template = new StatementTemplate(STATEMENT);
+    BindModel bindModel1 = template.createBindModel();
+    BindModel bindModel2 = template.createBindModel();
+    assertEquals(2, bindModel1.getIOTokens().length);
+    assertNotSame(bindModel1.getIOTokens()[0], bindModel2.getIOTokens()[0]);
+
+    ValueInputToken token = (ValueInputToken) bindModel1.getIOTokens()[0];
+    assertEquals("A", token.getParsedAttribute());
+    assertEquals("=", token.getParsedOp());
+    token.setReplaceToken("?");
+    assertEquals(":a", bindModel2.getIOTokens()[0].getReplaceToken());
+    assertEquals(":a", template.createBindModel().getIOTokens()[0].getReplaceToken());
+    assertEquals(bindModel2.getFilteredStatement(), template.createBindModel().getFilteredStatement());
+
+    IntoModel intoModel1 = template.createIntoModel();
+    IntoModel intoModel2 = template.createIntoModel();
+    assertEquals(2, intoModel1.getOutputTokens().length);
+    assertEquals(intoModel1.getFilteredStatement(), intoModel2.getFilteredStatement());
+    assertNotSame(intoModel1.getOutputTokens()[0], intoModel2.getOutputTokens()[0]);
+    assertEquals("x", intoModel2.getOutputTokens()[0].getName());
+    assertTrue(intoModel2.getOutputTokens()[0].isSelectInto());
+  }
+
+  @Test
+  public void testStatementProcessorsDoNotShareBinds() {
+    SqlServiceMock sqlService = new SqlServiceMock();
+    String stm = "SELECT A FROM T WHERE A = :a AND B = :b";
+    String plainText1 = new StatementProcessor(sqlService, stm, new Object[]{new NVPair("a", 1), new NVPair("b", new Long[]{10L, 11L})}).createPlainText();
+    String plainText2 = new StatementProcessor(sqlService, stm, new Object[]{new NVPair("a", 2), new NVPair("b", new Long[]{20L, 21L})}).createPlainText();
+    assertTrue(plainText1, plainText1.contains("A = 1"));
+    assertTrue(plainText1, plainText1.contains("10"));
+    assertTrue(plainText2, plainText2.contains("A = 2"));
+    assertTrue(plainText2, plainText2.contains("20"));
+    assertFalse(plainText2, plainText2.contains("10"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testTokenWithoutCopy() {
+    IToken token = new IToken() {
+      @Override
+      public String getParsedToken() {
+        return ":a";
+      }
+
+      @Override
+      public String getReplaceToken() {
+        return ":a";
+      }
+
+      @Override
+      public void setReplaceToken(String s) {
+        // nop
+      }
+
+      @Override
+      public boolean isInput() {
+        return true;
+      }
+
+      @Override
+      public boolean isOutput() {
+        return false;
+      }
+    };
+    new BindModel(new IToken[]{token}).copy();
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests {@link SqlConnectionPool} with connection mocks.
+ */
+@RunWith(PlatformTestRunner.class)
+public class SqlConnectionPoolTest {
+
+  private SqlServiceMock m_service;
+  private P_SqlConnectionPool m_pool;
+
+  @Before
+  public void before() {
+    m_service = new SqlServiceMock();
+    m_pool = new P_SqlConnectionPool();
+  }
+
+  @After
+  public void after() {
+    m_pool.destroy();
+  }
+
+  @Test
+  public void testLeaseAndRelease() throws Exception {
+    m_pool.initialize(m_service, "test", 2, 0, 60000, 60000, 0);
+
+    Connection conn = m_pool.leaseConnection(m_service);
+    assertEquals(1, m_pool.getBusyCount());
+    m_pool.releaseConnection(conn);
+    assertEquals(0, m_pool.getBusyCount());
+    assertEquals(1, m_pool.getIdleCount());
+
+    assertSame(conn, m_pool.leaseConnection(m_service));
+    assertEquals(1, m_pool.m_createCount.get());
+    assertEquals(2, m_pool.getLeaseWaitHistogram().getCount());
+    assertEquals(1, m_pool.getHoldTimeHistogram().getCount());
+    assertEquals(2, m_pool.getUtilizationHistogram().getCount());
+    assertEquals(50, m_pool.getUtilizationHistogram().getMax());
+  }
+
+  @Test
+  public void testClosedConnectionIsNotReused() throws Exception {
+    m_pool.initialize(m_service, "test", 2, 0, 60000, 60000, 0);
+
+    Connection conn = m_pool.leaseConnection(m_service);
+    conn.close();
+    m_pool.releaseConnection(conn);
+    assertEquals(0, m_pool.getIdleCount());
+
+    assertNotSame(conn, m_pool.leaseConnection(m_service));
+    assertEquals(2, m_pool.m_createCount.get());
+  }
+
+  @Test(expected = TimedOutError.class)
+  public void testLeaseTimeout() throws Exception {
+    m_pool.initialize(m_service, "test", 1, 0, 60000, 60000, 100);
+
+    m_pool.leaseConnection(m_service);
+    m_pool.leaseConnection(m_service);
+  }
+
+  @Test
+  public void testWaitersAreServedInFifoOrder() throws Exception {
+    m_pool.initialize(m_service, "test", 1, 0, 60000, 60000, 0);
+    Connection conn = m_pool.leaseConnection(m_service);
+
+    List<String> leaseOrder = new CopyOnWriteArrayList<>();
+    Thread first = startLease("first", leaseOrder);
+    waitFor(() -> m_pool.getWaiterCount() == 1);
+    Thread second = startLease("second", leaseOrder);
+    waitFor(() -> m_pool.getWaiterCount() == 2);
+
+    m_pool.releaseConnection(conn);
+    first.join(10000);
+    second.join(10000);
+    assertEquals(2, leaseOrder.size());
+    assertEquals("first", leaseOrder.get(0));
+    assertEquals("second", leaseOrder.get(1));
+    assertEquals(1, m_pool.m_createCount.get());
+  }
+
+  @Test
+  public void testConnectionIsCreatedOutsideLock() throws Exception {
+    m_pool.initialize(m_service, "test", 2, 0, 60000, 60000, 0);
+    Connection conn = m_pool.leaseConnection(m_service);
+
+    m_pool.m_createLatch = new CountDownLatch(1);
+    List<String> leaseOrder = new CopyOnWriteArrayList<>();
+    Thread creating = startLease("creating", leaseOrder);
+    waitFor(() -> m_pool.m_blockedCreateCount.get() == 1);
+
+    // the pool is not blocked by the slow creation
+    m_pool.releaseConnection(conn);
+    assertSame(conn, m_pool.leaseConnection(m_service));
+    assertTrue(leaseOrder.isEmpty());
+
+    m_pool.m_createLatch.countDown();
+    creating.join(10000);
+    assertEquals(1, leaseOrder.size());
+    assertEquals(2, m_pool.getBusyCount());
+  }
+
+  @Test
+  public void testPreWarm() throws Exception {
+    m_pool.initialize(m_service, "test", 5, 2, 60000, 60000, 0);
+
+    waitFor(() -> m_pool.getIdleCount() == 2);
+    assertEquals(2, m_pool.m_createCount.get());
+
+    m_pool.leaseConnection(m_service);
+    assertEquals(2, m_pool.m_createCount.get());
+  }
+
+  @Test
+  public void testMinIdleIsBoundedByPoolSize() throws Exception {
+    m_pool.initialize(m_service, "test", 1, 3, 60000, 60000, 0);
+
+    waitFor(() -> m_pool.getIdleCount() == 1);
+    Connection conn = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(conn);
+    assertEquals(1, m_pool.m_createCount.get());
+  }
+
+  private Thread startLease(String name, List<String> leaseOrder) {
+    Thread thread = new Thread(() -> {
+      try {
+        m_pool.leaseConnection(m_service);
+        leaseOrder.add(name);
+      }
+      catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    }, name);
+    thread.start();
+    return thread;
+  }
+
+  private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10000;
+    while (!condition.getAsBoolean()) {
+      assertTrue("condition not met in time", System.currentTimeMillis() < deadline);
+      Thread.sleep(10);
+    }
+  }
+
+  private static class P_SqlConnectionPool extends SqlConnectionPool {
+    private final AtomicInteger m_createCount = new AtomicInteger();
+    private final AtomicInteger m_blockedCreateCount = new AtomicInteger();
+    private volatile CountDownLatch m_createLatch;
+
+    @Override
+    protected Connection createConnection(AbstractSqlService service) {
+      m_createCount.incrementAndGet();
+      CountDownLatch latch = m_createLatch;
+      if (latch != null) {
+        m_createLatch = null;
+        m_blockedCreateCount.incrementAndGet();
+        try {
+          assertTrue(latch.await(10, TimeUnit.SECONDS));
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      AtomicBoolean closed = new AtomicBoolean();
+      return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+        switch (method.getName()) {
+          case "close":
+            closed.set(true);
+            return null;
+          case "isClosed":
+            return closed.get();
+          case "hashCode":
+            return System.identityHashCode(proxy);
+          case "equals":
+            return proxy == args[0];
+          case "toString":
+            return "ConnectionMock@" + Integer.toHexString(System.identityHashCode(proxy));
+          default:
+            return null;
+        }
+      });
+    }
+  }
+}
@@ -28,6 +28,7 @@ import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.PlatformEvent;
 import org.eclipse.scout.rt.platform.annotations.ConfigOperation;
 import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
+import org.eclipse.scout.rt.platform.cache.ICacheStatistics;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.IConfigProperty;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
@@ -41,18 +42,24 @@ import org.eclipse.scout.rt.platform.text.TEXTS;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.ITransactionMember;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
 import org.eclipse.scout.rt.platform.util.NumberUtility;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.security.ACCESS;
 import org.eclipse.scout.rt.security.IPermission;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlDirectJdbcConnectionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchExecutionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionLifetimeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolLeaseTimeoutProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolMinIdleProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPropertiesProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcStatementCacheSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcStreamFetchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiInitialContextFactoryProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiProviderUrlProperty;
@@ -61,6 +68,7 @@ import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlPasswordProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlTransactionMemberIdProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlUsernameProperty;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementCacheStatistics;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionBuilder;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
@@ -76,6 +84,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   public static final int DEFAULT_MEMORY_PREFETCH_SIZE = 1024 * 1024; // = 1MB default
 
   private volatile SqlConnectionPool m_pool;
+  private final StatementCacheStatistics m_statementCacheStatistics = new StatementCacheStatistics();
   private final String m_transactionMemberId;
   private final boolean m_directJdbcConnection;
   private final String m_jndiName;
@@ -88,9 +97,14 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final int m_jdbcPoolSize;
   private final long m_jdbcPoolConnectionLifetime;
   private final long m_jdbcPoolConnectionBusyTimeout;
+  private final int m_jdbcPoolMinIdle;
+  private final long m_jdbcPoolLeaseTimeout;
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
+  private final boolean m_jdbcBatchExecution;
+  private final int m_jdbcBatchSize;
+  private final int m_jdbcStreamFetchSize;
   private final int m_maxFetchMemorySize;
   private final ISqlStyle m_sqlStyle;
 
@@ -117,9 +131,14 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jdbcDriverName = getPropertyValue(SqlJdbcDriverNameProperty.class, getConfiguredJdbcDriverName());
     m_jdbcProps = getPropertyValue(SqlJdbcPropertiesProperty.class, getConfiguredJdbcProperties());
     m_queryCacheSize = getPropertyValue(SqlJdbcStatementCacheSizeProperty.class, getConfiguredJdbcStatementCacheSize());
+    m_jdbcBatchExecution = getPropertyValue(SqlJdbcBatchExecutionProperty.class, getConfiguredJdbcBatchExecution());
+    m_jdbcBatchSize = getPropertyValue(SqlJdbcBatchSizeProperty.class, getConfiguredJdbcBatchSize());
+    m_jdbcStreamFetchSize = getPropertyValue(SqlJdbcStreamFetchSizeProperty.class, getConfiguredJdbcStreamFetchSize());
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
+    m_jdbcPoolMinIdle = getPropertyValue(SqlJdbcPoolMinIdleProperty.class, getConfiguredJdbcPoolMinIdle());
+    m_jdbcPoolLeaseTimeout = getPropertyValue(SqlJdbcPoolLeaseTimeoutProperty.class, getConfiguredJdbcPoolLeaseTimeout());
     m_maxFetchMemorySize = DEFAULT_MEMORY_PREFETCH_SIZE;
 
     // load sql style
@@ -248,12 +267,42 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return 21600000L;
   }
 
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(152)
+  protected int getConfiguredJdbcPoolMinIdle() {
+    return 0;
+  }
+
+  @ConfigProperty(ConfigProperty.LONG)
+  @Order(154)
+  protected long getConfiguredJdbcPoolLeaseTimeout() {
+    return 0L;
+  }
+
   @ConfigProperty(ConfigProperty.INTEGER)
   @Order(160)
   protected int getConfiguredJdbcStatementCacheSize() {
     return 25;
   }
 
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(162)
+  protected boolean getConfiguredJdbcBatchExecution() {
+    return false;
+  }
+
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(164)
+  protected int getConfiguredJdbcBatchSize() {
+    return 100;
+  }
+
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(166)
+  protected int getConfiguredJdbcStreamFetchSize() {
+    return 500;
+  }
+
   @ConfigProperty(ConfigProperty.STRING)
   @Order(170)
   protected String getConfiguredJndiName() {
@@ -485,6 +534,28 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_jdbcPoolConnectionBusyTimeout;
   }
 
+  public int getJdbcPoolMinIdle() {
+    return m_jdbcPoolMinIdle;
+  }
+
+  public long getJdbcPoolLeaseTimeout() {
+    return m_jdbcPoolLeaseTimeout;
+  }
+
+  @Override
+  public boolean isJdbcBatchExecution() {
+    return m_jdbcBatchExecution;
+  }
+
+  @Override
+  public int getJdbcBatchSize() {
+    return m_jdbcBatchSize;
+  }
+
+  public int getJdbcStreamFetchSize() {
+    return m_jdbcStreamFetchSize;
+  }
+
   public int getMaxFetchMemorySize() {
     return m_maxFetchMemorySize;
   }
@@ -493,11 +564,18 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   public String getInventory() {
     final SqlConnectionPool pool = m_pool;
     if (pool != null) {
-      return pool.getInventory();
+      return pool.getInventory() + "Statement cache: " + m_statementCacheStatistics + "\n";
     }
     return null;
   }
 
+  /**
+   * @return statistics of the prepared statement caches of all transactions of this service.
+   */
+  public ICacheStatistics getStatementCacheStatistics() {
+    return m_statementCacheStatistics;
+  }
+
   @Override
   public ISqlStyle getSqlStyle() {
     return m_sqlStyle;
@@ -553,7 +631,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
     if (m_pool == null) {
       m_pool = BEANS.get(SqlConnectionPool.class);
-      m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
+      m_pool.initialize(this, getClass().getName(), getJdbcPoolSize(), getJdbcPoolMinIdle(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout(), getJdbcPoolLeaseTimeout());
     }
     return m_pool;
   }
@@ -589,13 +667,14 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   }
 
   /**
-   * @return the statement cache used for this {@link ITransaction} transaction
+   * @return the statement cache used by this service in the current {@link ITransaction} transaction
    */
   protected final IStatementCache getStatementCache() {
     ITransaction tx = Assertions.assertNotNull(ITransaction.CURRENT.get(), "Transaction required");
-    IStatementCache res = (IStatementCache) tx.getMember(PreparedStatementCache.TRANSACTION_MEMBER_ID);
+    String memberId = PreparedStatementCache.TRANSACTION_MEMBER_ID + "." + getTransactionMemberId();
+    IStatementCache res = (IStatementCache) tx.getMember(memberId);
     if (res == null) {
-      res = new PreparedStatementCache(getJdbcStatementCacheSize());
+      res = new PreparedStatementCache(memberId, getJdbcStatementCacheSize(), m_statementCacheStatistics);
       tx.registerMember((ITransactionMember) res);
     }
     return res;
@@ -635,6 +714,16 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     createStatementProcessor(s, bindBases, maxRowCount).processSelectStreaming(getTransaction(), getStatementCache(), handler);
   }
 
+  @Override
+  public CloseableIterator<Object[]> stream(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processSelectIterator(getTransaction(), getStatementCache(), getJdbcStreamFetchSize());
+  }
+
+  @Override
+  public <T> CloseableIterator<T> streamBeans(Class<T> beanType, String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processSelectBeanIterator(getTransaction(), getStatementCache(), getJdbcStreamFetchSize(), beanType);
+  }
+
   @Override
   public int insert(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
@@ -808,6 +897,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
 
     @Override
     public void commitPhase2() {
+      closeOpenCursors();
       try {
         // this is the end of the transaction
         try {
@@ -826,6 +916,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
 
     @Override
     public void rollback() {
+      closeOpenCursors();
       try {
         // this is the end of the transaction
         try {
@@ -846,6 +937,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
 
     @Override
     public void release() {
+      closeOpenCursors();
       releaseConnection(m_conn);
     }
   } // end private class
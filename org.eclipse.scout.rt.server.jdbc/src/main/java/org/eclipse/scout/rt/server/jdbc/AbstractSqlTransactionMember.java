@@ -12,7 +12,12 @@ package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
 import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
 import org.slf4j.Logger;
@@ -23,6 +28,7 @@ public abstract class AbstractSqlTransactionMember extends AbstractTransactionMe
 
   private final Object m_activeStatementsLock = new Object();
   private final HashSet<Statement> m_activeStatements = new HashSet<>();
+  private final Set<AutoCloseable> m_openCursors = Collections.newSetFromMap(new IdentityHashMap<>());
   private boolean m_cancelled;
 
   /** true during completion phase (commit/rollback) */
@@ -70,6 +76,53 @@ public abstract class AbstractSqlTransactionMember extends AbstractTransactionMe
     }
   }
 
+  /**
+   * Registers a cursor spanning multiple calls (e.g. an iterator over the rows of a select statement) in order to be
+   * closed by {@link #closeOpenCursors()} at the end of the transaction.
+   *
+   * @param cursor
+   *          the cursor to be registered
+   */
+  public void registerOpenCursor(AutoCloseable cursor) {
+    synchronized (m_activeStatementsLock) {
+      m_openCursors.add(cursor);
+    }
+  }
+
+  /**
+   * Removes a cursor
+   *
+   * @param cursor
+   *          the cursor to be removed
+   */
+  public void unregisterOpenCursor(AutoCloseable cursor) {
+    synchronized (m_activeStatementsLock) {
+      m_openCursors.remove(cursor);
+    }
+  }
+
+  /**
+   * Closes all cursors still open. To be called before the transaction is committed or rolled back.
+   */
+  protected void closeOpenCursors() {
+    List<AutoCloseable> cursors;
+    synchronized (m_activeStatementsLock) {
+      if (m_openCursors.isEmpty()) {
+        return;
+      }
+      cursors = new ArrayList<>(m_openCursors);
+      m_openCursors.clear();
+    }
+    for (AutoCloseable cursor : cursors) {
+      try {
+        cursor.close();
+      }
+      catch (Exception e) {
+        LOG.warn("failed to close open cursor", e);
+      }
+    }
+  }
+
   @Override
   public void cancel() {
     Iterable<Statement> set;
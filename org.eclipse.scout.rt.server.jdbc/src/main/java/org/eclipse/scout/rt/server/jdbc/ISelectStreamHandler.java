@@ -13,12 +13,31 @@ package org.eclipse.scout.rt.server.jdbc;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.ArrayList;
 import java.util.List;
 
 public interface ISelectStreamHandler {
 
   void handleRow(Connection con, PreparedStatement stm, ResultSet rs, int rowIndex, List<SqlBind> values);
 
+  /**
+   * Called for each row of the result set. The default implementation wraps the values into {@link SqlBind}s and
+   * delegates to {@link #handleRow(Connection, PreparedStatement, ResultSet, int, List)}. Handlers which do not need the
+   * {@link SqlBind}s may override this method to avoid their allocation.
+   *
+   * @param values
+   *          the values of the row. The array is reused for the next row, hence must not be kept by the handler.
+   * @param sqlTypes
+   *          the {@link java.sql.Types} of the columns. The array must not be modified.
+   */
+  default void handleRow(Connection con, PreparedStatement stm, ResultSet rs, int rowIndex, Object[] values, int[] sqlTypes) {
+    List<SqlBind> row = new ArrayList<>(values.length);
+    for (int i = 0; i < values.length; i++) {
+      row.add(new SqlBind(sqlTypes[i], values[i]));
+    }
+    handleRow(con, stm, rs, rowIndex, row);
+  }
+
   void finished(Connection con, PreparedStatement stm, ResultSet rs, int rowCount);
 
 }
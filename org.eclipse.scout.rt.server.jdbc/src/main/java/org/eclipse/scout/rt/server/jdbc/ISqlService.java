@@ -11,11 +11,20 @@
 package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.scout.rt.platform.IPlatform.State;
 import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.job.IJobManager;
 import org.eclipse.scout.rt.platform.service.IService;
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.BeanRowMapper;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 import org.eclipse.scout.rt.server.services.common.clustersync.IClusterSynchronizationService;
 
@@ -238,6 +247,74 @@ public interface ISqlService extends IService {
    */
   void selectStreamingLimited(String s, ISelectStreamHandler handler, int maxRowCount, Object... bindBases);
 
+  /**
+   * Selects rows which are fetched lazily from the database while iterating, so that the memory used does not depend
+   * on the number of rows. Use {@link CloseableIterator#toStream()} to process the rows as a {@link java.util.stream.Stream}.
+   * <p>
+   * The cursor is bound to the current transaction: the iterator must be consumed and closed within the transaction, and
+   * is closed at the latest upon its commit or rollback.
+   * </p>
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   * <p>
+   * The default implementation fetches all rows using {@link #select(String, Object...)} before returning the
+   * iterator.
+   * </p>
+   *
+   * @return iterator over the rows, each row being an array of its column values. Must be closed.
+   * @see #select(String, Object...)
+   */
+  default CloseableIterator<Object[]> stream(String s, Object... bindBases) {
+    return CloseableIterator.of(Arrays.asList(select(s, bindBases)).iterator());
+  }
+
+  /**
+   * Like {@link #stream(String, Object...)}, but maps each row to a new instance of the given bean class. A column is
+   * mapped to the bean property whose name equals the column label ignoring case and underscores (e.g. column
+   * <code>PERSON_NR</code> is mapped to property <code>personNr</code>). Columns without a matching writable property are
+   * ignored.
+   * <p>
+   * The default implementation maps all rows using {@link #selectStreaming(String, ISelectStreamHandler, Object...)}
+   * before returning the iterator.
+   * </p>
+   *
+   * @param beanType
+   *          bean class with a public no-argument constructor
+   * @return iterator over the beans. Must be closed.
+   */
+  default <T> CloseableIterator<T> streamBeans(Class<T> beanType, String s, Object... bindBases) {
+    BeanRowMapper<T> mapper = new BeanRowMapper<>(beanType);
+    List<T> beans = new ArrayList<>();
+    selectStreaming(s, new ISelectStreamHandler() {
+      private ResultSet m_mappedResultSet;
+
+      @Override
+      public void handleRow(Connection con, PreparedStatement stm, ResultSet rs, int rowIndex, List<SqlBind> values) {
+        if (rs != m_mappedResultSet) {
+          try {
+            mapper.setColumnProperties(BeanRowMapper.resolveColumnProperties(rs.getMetaData(), beanType));
+          }
+          catch (SQLException e) {
+            throw new ProcessingException("Failed to resolve the properties of bean '{}'", beanType.getName(), e);
+          }
+          m_mappedResultSet = rs;
+        }
+        Object[] row = new Object[values.size()];
+        for (int i = 0; i < row.length; i++) {
+          row[i] = values.get(i).getValue();
+        }
+        beans.add(mapper.map(row));
+      }
+
+      @Override
+      public void finished(Connection con, PreparedStatement stm, ResultSet rs, int rowCount) {
+        // nop
+      }
+    }, bindBases);
+    return CloseableIterator.of(beans.iterator());
+  }
+
   /**
    * insert rows
    * <p>
@@ -313,6 +390,24 @@ public interface ISqlService extends IService {
 
   String getTransactionMemberId();
 
+  /**
+   * @return <code>true</code> if the rows of batch binds of {@link #insert(String, Object...)},
+   *         {@link #update(String, Object...)} and {@link #delete(String, Object...)} are sent to the database in JDBC
+   *         batches of up to {@link #getJdbcBatchSize()} rows, instead of one statement execution per row. The default
+   *         is <code>false</code>.
+   */
+  default boolean isJdbcBatchExecution() {
+    return false;
+  }
+
+  /**
+   * @return the maximum number of rows sent to the database in one JDBC batch. The default is 100.
+   * @see #isJdbcBatchExecution()
+   */
+  default int getJdbcBatchSize() {
+    return 100;
+  }
+
   /**
    * @return current connection from {@link org.eclipse.scout.rt.platform.transaction.ITransactionMember} that is
    *         registered inside the {@link org.eclipse.scout.rt.platform.transaction.ITransaction}.
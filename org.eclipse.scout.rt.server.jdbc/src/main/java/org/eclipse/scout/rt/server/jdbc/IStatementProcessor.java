@@ -12,6 +12,8 @@ package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
 
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
+
 public interface IStatementProcessor {
 
   Object[][] processSelect(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
@@ -20,6 +22,20 @@ public interface IStatementProcessor {
 
   void processSelectStreaming(Connection conn, IStatementCache cache, ISelectStreamHandler handler);
 
+  /**
+   * @param fetchSize
+   *          hint for the JDBC driver how many rows to fetch at once, <code>0</code> to use the driver's default
+   * @see ISqlService#stream(String, Object...)
+   */
+  CloseableIterator<Object[]> processSelectIterator(Connection conn, IStatementCache cache, int fetchSize);
+
+  /**
+   * @param fetchSize
+   *          hint for the JDBC driver how many rows to fetch at once, <code>0</code> to use the driver's default
+   * @see ISqlService#streamBeans(Class, String, Object...)
+   */
+  <T> CloseableIterator<T> processSelectBeanIterator(Connection conn, IStatementCache cache, int fetchSize, Class<T> beanType);
+
   int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
   boolean processStoredProcedure(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
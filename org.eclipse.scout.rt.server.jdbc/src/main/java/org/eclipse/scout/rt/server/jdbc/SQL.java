@@ -15,6 +15,7 @@ import java.sql.SQLException;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 
 /**
@@ -120,6 +121,22 @@ public final class SQL {
     service.selectIntoLimited(s, maxRowCount, bindBases);
   }
 
+  /**
+   * @see ISqlService#stream(String, Object...)
+   */
+  public static CloseableIterator<Object[]> stream(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.stream(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#streamBeans(Class, String, Object...)
+   */
+  public static <T> CloseableIterator<T> streamBeans(Class<T> beanType, String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.streamBeans(beanType, s, bindBases);
+  }
+
   /**
    * @see ISqlService#insert(String, Object...)
    */
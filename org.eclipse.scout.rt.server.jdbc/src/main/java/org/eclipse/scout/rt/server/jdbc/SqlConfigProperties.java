@@ -217,4 +217,87 @@ public final class SqlConfigProperties {
       return "The maximum number of connections to create. The default pool size is 25.";
     }
   }
+
+  public static class SqlJdbcBatchExecutionProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.batchExecution";
+    }
+
+    @Override
+    public String description() {
+      return "If true, the rows of batch binds of insert, update and delete statements are sent to the database in JDBC batches instead of one statement execution per row. The default value is false.";
+    }
+  }
+
+  public static class SqlJdbcBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.batchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of rows sent to the database in one JDBC batch if 'scout.sql.jdbc.batchExecution' is enabled. The default value is 100.";
+    }
+  }
+
+  public static class SqlJdbcStreamFetchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.streamFetchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Number of rows the JDBC driver is asked to fetch from the database at once when streaming rows of a select statement. The default value is 500.";
+    }
+  }
+
+  public static class SqlJdbcPoolMinIdleProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.minIdle";
+    }
+
+    @Override
+    public String description() {
+      return "The number of idle connections to keep in the pool. These connections are created when the pool is created and replenished in the background. The default value is 0.";
+    }
+  }
+
+  public static class SqlJdbcPoolLeaseTimeoutProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.leaseTimeout";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum time in milliseconds to wait for a connection if all connections of the pool are busy. 0 waits indefinitely. The default value is 0.";
+    }
+  }
+
+  public static class SqlStatementTemplateCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.statementTemplateCacheSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of parsed SQL statement templates kept to avoid parsing the same statement text again. 0 disables the cache. The default value is 1000.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1000;
+    }
+  }
 }
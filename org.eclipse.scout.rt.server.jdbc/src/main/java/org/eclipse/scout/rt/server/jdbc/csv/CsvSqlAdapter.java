@@ -219,6 +219,11 @@ public class CsvSqlAdapter {
           h.exportDataRow(row, w, false);
         }
 
+        @Override
+        public void handleRow(Connection con, PreparedStatement stm, ResultSet rs, int rowIndex, Object[] values, int[] sqlTypes) {
+          h.exportDataRow(values, w, false);
+        }
+
         @Override
         public void finished(Connection con, PreparedStatement stm, ResultSet rs, int rowCount) {
           // do nothing
@@ -286,10 +291,12 @@ public class CsvSqlAdapter {
     }
     buf.deleteCharAt(buf.length() - 1);
     buf.append(") VALUES (");
+    // with JDBC batch execution, rows are inserted in chunks using batch binds
+    boolean batch = m_sqlService.isJdbcBatchExecution();
     int i = 0;
     for (String colName : cols) {
       if (!CsvHelper.IGNORED_COLUMN_NAME.equals(colName)) {
-        buf.append(":v").append(i);
+        buf.append(batch ? ":{v" + i + "}" : ":v" + i);
         buf.append(",");
         i++;
       }
@@ -299,8 +306,9 @@ public class CsvSqlAdapter {
     String stm = buf.toString();
 
     try (FileInputStream in = new FileInputStream(params.getFile()); Reader reader = new BomInputStreamReader(in, params.getEncoding())) {
-      SqlInsertDataConsumer cons = new SqlInsertDataConsumer(stm, params.getGroupKeyValue(), params.getLineNumberColumnName() != null);
+      SqlInsertDataConsumer cons = new SqlInsertDataConsumer(stm, params.getGroupKeyValue(), params.getLineNumberColumnName() != null, batch ? m_sqlService.getJdbcBatchSize() : 1);
       h.importData(cons, reader, false, false, params.getHeaderRowCount(), -1, params.getAllowVariableColumnCount());
+      cons.flush();
     }
     catch (IOException e) {
       throw new ProcessingException(e.getMessage(), e);
@@ -311,11 +319,20 @@ public class CsvSqlAdapter {
     private final String m_statement;
     private final Object m_groupKey;
     private final boolean m_useLineNumberColumnName;
+    private final int m_batchSize;
+    private final List<List<Object>> m_batchRows = new ArrayList<>();
+    private int m_batchFirstLineNr;
+    private int m_batchLastLineNr;
 
-    public SqlInsertDataConsumer(String stm, Object groupKey, boolean useLineNumberColumnName) {
+    /**
+     * @param batchSize
+     *          number of rows inserted at once using batch binds, or <code>1</code> to insert every row on its own.
+     */
+    public SqlInsertDataConsumer(String stm, Object groupKey, boolean useLineNumberColumnName, int batchSize) {
       m_statement = stm;
       m_groupKey = groupKey;
       m_useLineNumberColumnName = useLineNumberColumnName;
+      m_batchSize = batchSize;
     }
 
     @Override
@@ -331,6 +348,10 @@ public class CsvSqlAdapter {
           bindBase.add(new NVPair("v" + i, lineNr));
           i++;
         }
+        if (m_batchSize > 1) {
+          addBatchRow(lineNr, row);
+          return;
+        }
         for (Object aRow : row) {
           bindBase.add(new NVPair("v" + i, aRow));
           i++;
@@ -343,5 +364,54 @@ public class CsvSqlAdapter {
             .withContextInfo("row", row);
       }
     }
+
+    private void addBatchRow(int lineNr, List<Object> row) {
+      if (m_batchRows.isEmpty()) {
+        m_batchFirstLineNr = lineNr;
+      }
+      m_batchLastLineNr = lineNr;
+      List<Object> values = new ArrayList<>();
+      if (m_groupKey != null) {
+        values.add(m_groupKey);
+      }
+      if (m_useLineNumberColumnName) {
+        values.add(lineNr);
+      }
+      values.addAll(row);
+      m_batchRows.add(values);
+      if (m_batchRows.size() >= m_batchSize) {
+        flush();
+      }
+    }
+
+    /**
+     * Inserts the buffered rows using batch binds.
+     */
+    public void flush() {
+      if (m_batchRows.isEmpty()) {
+        return;
+      }
+      int columnCount = 0;
+      for (List<Object> values : m_batchRows) {
+        columnCount = Math.max(columnCount, values.size());
+      }
+      Object[] bindBase = new Object[columnCount];
+      for (int i = 0; i < columnCount; i++) {
+        Object[] column = new Object[m_batchRows.size()];
+        for (int r = 0; r < column.length; r++) {
+          List<Object> values = m_batchRows.get(r);
+          column[r] = i < values.size() ? values.get(i) : null;
+        }
+        bindBase[i] = new NVPair("v" + i, column);
+      }
+      m_batchRows.clear();
+      try {
+        m_sqlService.insert(m_statement, bindBase);
+      }
+      catch (RuntimeException e) {
+        throw new ProcessingException(e.getMessage(), e)
+            .withContextInfo("lineNr", "{}-{}", m_batchFirstLineNr, m_batchLastLineNr);
+      }
+    }
   }
 }
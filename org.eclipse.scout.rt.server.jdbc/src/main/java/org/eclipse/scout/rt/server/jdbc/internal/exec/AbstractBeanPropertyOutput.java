@@ -112,7 +112,7 @@ abstract class AbstractBeanPropertyOutput implements IBindOutput {
             }
             if (IHolder.class.isAssignableFrom(desc.getPropertyType())) {
               @SuppressWarnings("unchecked")
-              IHolder<Object> h = (IHolder<Object>) desc.getReadMethod().invoke(bean);
+              IHolder<Object> h = (IHolder<Object>) desc.readValue(bean);
               if (h != null) {
                 Object castValue = TypeCastUtility.castValue(value, h.getHolderType());
                 h.setValue(castValue);
@@ -120,7 +120,7 @@ abstract class AbstractBeanPropertyOutput implements IBindOutput {
             }
             else {
               Object castValue = TypeCastUtility.castValue(value, desc.getPropertyType());
-              desc.getWriteMethod().invoke(bean, castValue);
+              desc.writeValue(bean, castValue);
             }
           }
         }
@@ -125,7 +125,7 @@ class BeanPropertyInput implements IBindInput {
         Object bean = m_beans[m_batchIndex];
         if (bean != null && m_propertyDesc != null) {
           try {
-            value = m_propertyDesc.getReadMethod().invoke(bean);
+            value = m_propertyDesc.readValue(bean);
           }
           catch (Exception e) {
             throw new ProcessingException("property " + m_propertyName, e);
@@ -160,7 +160,7 @@ class BeanPropertyInput implements IBindInput {
       Object bean = m_beans[i];
       if (bean != null && m_propertyDesc != null) {
         try {
-          m_rawValues[i] = m_propertyDesc.getReadMethod().invoke(bean);
+          m_rawValues[i] = m_propertyDesc.readValue(bean);
         }
         catch (Exception e) {
           throw new IllegalArgumentException("property " + m_propertyName, e);
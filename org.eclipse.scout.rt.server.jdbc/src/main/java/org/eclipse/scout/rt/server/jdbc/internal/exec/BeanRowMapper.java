@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.lang.reflect.Constructor;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
+import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
+
+/**
+ * Maps the rows of a result set to new instances of a bean class. A column is mapped to the writable bean property whose
+ * name equals the column label ignoring case and underscores.
+ *
+ * @since 11.0
+ */
+public class BeanRowMapper<T> {
+
+  private final Class<T> m_beanType;
+  private final Constructor<T> m_constructor;
+  private FastPropertyDescriptor[] m_columnProperties = new FastPropertyDescriptor[0];
+
+  /**
+   * @throws ProcessingException
+   *           if the bean class has no public no-argument constructor
+   */
+  public BeanRowMapper(Class<T> beanType) {
+    m_beanType = beanType;
+    try {
+      m_constructor = beanType.getConstructor();
+    }
+    catch (NoSuchMethodException e) {
+      throw new ProcessingException("Bean class '{}' has no public no-argument constructor", beanType.getName(), e);
+    }
+  }
+
+  public Class<T> getBeanType() {
+    return m_beanType;
+  }
+
+  /**
+   * Sets the properties the columns of the following rows are mapped to.
+   *
+   * @see #resolveColumnProperties(ResultSetMetaData, Class)
+   */
+  public void setColumnProperties(FastPropertyDescriptor[] columnProperties) {
+    m_columnProperties = columnProperties;
+  }
+
+  /**
+   * @return a new bean with the values of the given row
+   */
+  public T map(Object[] row) {
+    try {
+      T bean = m_constructor.newInstance();
+      for (int i = 0; i < m_columnProperties.length; i++) {
+        FastPropertyDescriptor desc = m_columnProperties[i];
+        if (desc != null) {
+          desc.writeValue(bean, TypeCastUtility.castValue(row[i], desc.getPropertyType()));
+        }
+      }
+      return bean;
+    }
+    catch (ReflectiveOperationException e) {
+      throw new ProcessingException("Failed to map row to bean '{}'", m_beanType.getName(), e);
+    }
+  }
+
+  /**
+   * Resolves the writable properties of the given bean class the columns of a result set are mapped to. The column
+   * label is compared with the property name ignoring case and underscores.
+   *
+   * @return the property of each column, <code>null</code> for columns without a matching property
+   */
+  public static FastPropertyDescriptor[] resolveColumnProperties(ResultSetMetaData meta, Class<?> beanType) throws SQLException {
+    Map<String, FastPropertyDescriptor> propertiesByKey = new HashMap<>();
+    for (FastPropertyDescriptor desc : BeanUtility.getFastBeanInfo(beanType, null).getPropertyDescriptors()) {
+      if (desc.getWriteMethod() != null) {
+        propertiesByKey.put(toColumnPropertyKey(desc.getName()), desc);
+      }
+    }
+    FastPropertyDescriptor[] columnProperties = new FastPropertyDescriptor[meta.getColumnCount()];
+    for (int i = 0; i < columnProperties.length; i++) {
+      String label = meta.getColumnLabel(i + 1);
+      if (label != null) {
+        columnProperties[i] = propertiesByKey.get(toColumnPropertyKey(label));
+      }
+    }
+    return columnProperties;
+  }
+
+  private static String toColumnPropertyKey(String name) {
+    return name.replace("_", "").toLowerCase(Locale.ROOT);
+  }
+}
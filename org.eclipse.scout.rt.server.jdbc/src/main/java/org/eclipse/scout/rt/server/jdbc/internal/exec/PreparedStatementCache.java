@@ -14,121 +14,191 @@ import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
-import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
 import org.eclipse.scout.rt.server.jdbc.IStatementCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Transaction scoped cache of prepared statements, with a separate LRU cache per connection.
+ * <p>
+ * The use count of every statement text is tracked in the LRU cache. A statement is kept open once its text was used
+ * {@link #CACHE_USE_COUNT} times, so that statements used only once are closed upon release. A cached statement is
+ * handed out to one user at a time; if it is still in use, a new uncached statement is prepared. Cached statements are
+ * looked up by identity upon release, and closed when the transaction ends.
+ */
 @SuppressWarnings("squid:S1166")
 public class PreparedStatementCache extends AbstractTransactionMember implements IStatementCache {
   private static final Logger LOG = LoggerFactory.getLogger(PreparedStatementCache.class);
 
   public static final String TRANSACTION_MEMBER_ID = "PreparedStatementCache";
 
-  private final ConcurrentExpiringMap<String, Integer> m_countCache;
-  private final ConcurrentExpiringMap<String, PreparedStatement> m_statementCache;
+  /**
+   * Number of uses of a statement text after which its statement is kept in the cache.
+   */
+  public static final int CACHE_USE_COUNT = 2;
+
+  private final int m_statementCacheSize;
+  private final StatementCacheStatistics m_statistics;
+  private final Map<Connection, P_ConnectionCache> m_connectionCaches = new IdentityHashMap<>();
+  private final Map<PreparedStatement, P_Entry> m_cachedStatements = new IdentityHashMap<>();
 
   public PreparedStatementCache(int statementCacheSize) {
-    super(TRANSACTION_MEMBER_ID);
-    m_countCache = new ConcurrentExpiringMap<>(2L, TimeUnit.MINUTES, 200);
-    m_statementCache = new ConcurrentExpiringMap<String, PreparedStatement>(1L, TimeUnit.HOURS, statementCacheSize) {
-      @Override
-      protected void execEntryEvicted(String key, PreparedStatement value) {
-        closePreparedStatement(value);
-      }
-    };
+    this(TRANSACTION_MEMBER_ID, statementCacheSize, new StatementCacheStatistics());
+  }
+
+  /**
+   * @param statementCacheSize
+   *          maximum number of statement texts tracked per connection.
+   * @param statistics
+   *          statistics to record cache accesses to, typically shared by all transactions of a SQL service.
+   */
+  public PreparedStatementCache(String transactionMemberId, int statementCacheSize, StatementCacheStatistics statistics) {
+    super(transactionMemberId);
+    m_statementCacheSize = statementCacheSize;
+    m_statistics = statistics;
+  }
+
+  public StatementCacheStatistics getStatistics() {
+    return m_statistics;
   }
 
-  @SuppressWarnings("resource")
   @Override
   public PreparedStatement getPreparedStatement(Connection conn, String s) throws SQLException {
-    // a statement must be used at least 2 times within 2 minutes in order to be
-    // cached
-    PreparedStatement ps = m_statementCache.get(s);
-    if (ps == null) {
-      ps = conn.prepareStatement(s);
-      Integer count = m_countCache.get(s);
-      count = (count != null ? count : 0) + 1;
-      m_countCache.put(s, count);
-      if (count >= 2) {
-        // second access, cache it
-        m_statementCache.put(s, ps);
-      }
-    }
-    else {
-      ps.clearParameters();
-      ps.clearWarnings();
-    }
-    return ps;
+    return getStatement(conn, s, false);
   }
 
   @Override
   public void releasePreparedStatement(PreparedStatement ps) {
-    // close statement when it is not cached
-    if (ps != null && !m_statementCache.containsValue(ps)) {
-      try {
-        ps.close();
-      }
-      catch (Exception e) {
-        LOG.warn("Exception while closing PreparedStatement", e);
-      }
-    }
+    releaseStatement(ps);
   }
 
-  @SuppressWarnings("resource")
   @Override
   public CallableStatement getCallableStatement(Connection conn, String s) throws SQLException {
-    // a statement must be used at least 2 times within 2 minutes in order to be
-    // cached
-    CallableStatement cs = (CallableStatement) m_statementCache.get(s);
-    if (cs == null) {
-      cs = conn.prepareCall(s);
-      Integer count = m_countCache.get(s);
-      count = (count != null ? count : 0) + 1;
-      m_countCache.put(s, count);
-      if (count >= 2) {
-        // second access, cache it
-        m_statementCache.put(s, cs);
-      }
-    }
-    return cs;
+    return (CallableStatement) getStatement(conn, s, true);
   }
 
   @Override
   public void releaseCallableStatement(CallableStatement cs) {
-    // close statement when it is not cached
-    if (cs != null && !m_statementCache.containsValue(cs)) {
-      try {
-        cs.close();
-      }
-      catch (Exception e) {
-        LOG.warn("Exception while closing CallableStatement", e);
-      }
+    releaseStatement(cs);
+  }
+
+  @SuppressWarnings("resource")
+  protected synchronized PreparedStatement getStatement(Connection conn, String s, boolean callable) throws SQLException {
+    P_ConnectionCache connectionCache = m_connectionCaches.computeIfAbsent(conn, c -> new P_ConnectionCache());
+    Map<String, P_Entry> entries = callable ? connectionCache.m_callableEntries : connectionCache.m_preparedEntries;
+    P_Entry entry = entries.get(s);
+    if (entry != null && entry.m_statement != null && !entry.m_inUse) {
+      m_statistics.recordHit();
+      entry.m_inUse = true;
+      entry.m_statement.clearParameters();
+      entry.m_statement.clearWarnings();
+      return entry.m_statement;
     }
+
+    m_statistics.recordMiss();
+    PreparedStatement ps = callable ? conn.prepareCall(s) : conn.prepareStatement(s);
+    if (entry == null) {
+      entry = new P_Entry();
+      entries.put(s, entry);
+    }
+    entry.m_useCount++;
+    if (entry.m_statement == null && entry.m_useCount >= CACHE_USE_COUNT) {
+      entry.m_statement = ps;
+      entry.m_inUse = true;
+      m_cachedStatements.put(ps, entry);
+      m_statistics.recordSizeChange(1);
+    }
+    return ps;
+  }
+
+  protected synchronized void releaseStatement(PreparedStatement ps) {
+    if (ps == null) {
+      return;
+    }
+    P_Entry entry = m_cachedStatements.get(ps);
+    if (entry != null) {
+      entry.m_inUse = false;
+      return;
+    }
+    // close statement when it is not cached
+    closePreparedStatement(ps);
   }
 
   @Override
   public void release() {
-    for (Iterator<Entry<String, PreparedStatement>> iterator = m_statementCache.entrySet().iterator(); iterator.hasNext();) {
-      Entry<String, PreparedStatement> entry = iterator.next();
-      iterator.remove();
-      closePreparedStatement(entry.getValue());
+    List<PreparedStatement> statements;
+    synchronized (this) {
+      statements = new ArrayList<>(m_cachedStatements.keySet());
+      m_cachedStatements.clear();
+      m_connectionCaches.clear();
+    }
+    m_statistics.recordSizeChange(-statements.size());
+    for (PreparedStatement ps : statements) {
+      closePreparedStatement(ps);
+    }
+  }
+
+  /**
+   * Removes the given entry evicted from a connection cache. Its statement is closed unless it is in use, in which case
+   * it is closed upon release. Must be called while holding the monitor.
+   */
+  private void evict(P_Entry entry) {
+    if (entry.m_statement == null) {
+      return;
+    }
+    m_cachedStatements.remove(entry.m_statement);
+    m_statistics.recordSizeChange(-1);
+    m_statistics.recordEviction();
+    if (!entry.m_inUse) {
+      closePreparedStatement(entry.m_statement);
     }
-    m_countCache.clear();
   }
 
-  private void closePreparedStatement(Object value) {
-    PreparedStatement ps = (PreparedStatement) value;
+  private void closePreparedStatement(PreparedStatement ps) {
     try {
       ps.close();
     }
-    catch (SQLException e) {
-      LOG.warn("disposing prepared statement");
+    catch (SQLException | RuntimeException e) {
+      LOG.warn("Exception while closing PreparedStatement", e);
     }
   }
+
+  /**
+   * Statement texts used on a connection, in LRU order.
+   */
+  private class P_ConnectionCache {
+    private final Map<String, P_Entry> m_preparedEntries = new P_LruMap();
+    private final Map<String, P_Entry> m_callableEntries = new P_LruMap();
+  }
+
+  private class P_LruMap extends LinkedHashMap<String, P_Entry> {
+    private static final long serialVersionUID = 1L;
+
+    P_LruMap() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Entry<String, P_Entry> eldest) {
+      if (size() > m_statementCacheSize) {
+        evict(eldest.getValue());
+        return true;
+      }
+      return false;
+    }
+  }
+
+  private static final class P_Entry {
+    private int m_useCount;
+    private PreparedStatement m_statement; // null until the statement text was used CACHE_USE_COUNT times
+    private boolean m_inUse;
+  }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+
+/**
+ * Reads the rows of a {@link ResultSet} using {@link ISqlStyle#readBind(ResultSet, ResultSetMetaData, int, int)}. The
+ * {@link ResultSetMetaData}, the column count and the column types are resolved once per result set instead of once
+ * per row.
+ *
+ * @since 11.0
+ */
+public class ResultSetRowReader {
+
+  private final ISqlStyle m_sqlStyle;
+  private final ResultSet m_rs;
+  private final ResultSetMetaData m_meta;
+  private final int[] m_columnTypes;
+
+  public ResultSetRowReader(ISqlStyle sqlStyle, ResultSet rs) throws SQLException {
+    m_sqlStyle = sqlStyle;
+    m_rs = rs;
+    m_meta = rs.getMetaData();
+    m_columnTypes = new int[m_meta.getColumnCount()];
+    for (int i = 0; i < m_columnTypes.length; i++) {
+      m_columnTypes[i] = m_meta.getColumnType(i + 1);
+    }
+  }
+
+  public ResultSet getResultSet() {
+    return m_rs;
+  }
+
+  public ResultSetMetaData getMetaData() {
+    return m_meta;
+  }
+
+  public int getColumnCount() {
+    return m_columnTypes.length;
+  }
+
+  /**
+   * @return the {@link java.sql.Types} of the columns. The array is shared and must not be modified.
+   */
+  public int[] getColumnTypes() {
+    return m_columnTypes;
+  }
+
+  /**
+   * Reads the current row into a new array.
+   */
+  public Object[] readRow() throws SQLException {
+    return readRow(new Object[m_columnTypes.length]);
+  }
+
+  /**
+   * Reads the current row into the given buffer, which must have a length of at least {@link #getColumnCount()}.
+   *
+   * @return the given buffer
+   */
+  public Object[] readRow(Object[] row) throws SQLException {
+    for (int i = 0; i < m_columnTypes.length; i++) {
+      row[i] = m_sqlStyle.readBind(m_rs, m_meta, m_columnTypes[i], i + 1);
+    }
+    return row;
+  }
+}
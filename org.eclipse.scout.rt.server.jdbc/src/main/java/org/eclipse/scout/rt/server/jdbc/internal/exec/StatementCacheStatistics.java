@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scout.rt.platform.cache.ICacheStatistics;
+
+/**
+ * Statistics of the {@link PreparedStatementCache}s of all transactions of a SQL service. The weight of a statement is
+ * <code>1</code>, hence the weighted size is the number of statements currently cached.
+ *
+ * @since 11.0
+ */
+public class StatementCacheStatistics implements ICacheStatistics {
+
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_evictionCount = new LongAdder();
+  private final AtomicLong m_size = new AtomicLong();
+
+  protected void recordHit() {
+    m_hitCount.increment();
+  }
+
+  protected void recordMiss() {
+    m_missCount.increment();
+  }
+
+  protected void recordEviction() {
+    m_evictionCount.increment();
+  }
+
+  protected void recordSizeChange(int delta) {
+    m_size.addAndGet(delta);
+  }
+
+  @Override
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  @Override
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  @Override
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
+  @Override
+  public long getEvictionWeight() {
+    return getEvictionCount();
+  }
+
+  @Override
+  public long getWeightedSize() {
+    return m_size.get();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("hits=%d, misses=%d, hitRate=%.3f, evictions=%d, size=%d", getHitCount(), getMissCount(), getHitRate(), getEvictionCount(), getWeightedSize());
+  }
+}
@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.TreeMap;
 import java.util.regex.Pattern;
 
@@ -38,10 +39,12 @@ import org.eclipse.scout.rt.platform.holders.IHolder;
 import org.eclipse.scout.rt.platform.holders.ITableBeanHolder;
 import org.eclipse.scout.rt.platform.holders.NVPair;
 import org.eclipse.scout.rt.platform.holders.TableBeanHolderFilter;
+import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
 import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.ITransactionMember;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
 import org.eclipse.scout.rt.platform.util.TriState;
 import org.eclipse.scout.rt.server.IServerSession;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
@@ -54,9 +57,7 @@ import org.eclipse.scout.rt.server.jdbc.IStatementProcessorMonitor;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
 import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
@@ -72,6 +73,15 @@ import org.slf4j.LoggerFactory;
 public class StatementProcessor implements IStatementProcessor {
   private static final Logger LOG = LoggerFactory.getLogger(StatementProcessor.class);
   private static final Pattern REGEX_DOT = Pattern.compile("[.]");
+  /**
+   * Whether a processor class overrides the deprecated {@link #processResultRow(ResultSet)}.
+   */
+  private static final ClassValue<Boolean> RESULT_SET_ROW_OVERRIDE = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return ConfigurationUtility.isMethodOverwrite(StatementProcessor.class, "processResultRow", new Class[]{ResultSet.class}, type);
+    }
+  };
 
   static {
     if (LOG.isDebugEnabled()) {
@@ -139,10 +149,10 @@ public class StatementProcessor implements IStatementProcessor {
       m_inputList = new ArrayList<>();
       m_outputList = new ArrayList<>();
       //
-      IntoModel intoModel = new IntoParser(m_originalStm).parse();
-      String stmWithoutSelectInto = intoModel.getFilteredStatement();
+      StatementTemplate template = BEANS.get(StatementTemplateCache.class).get(m_originalStm);
+      IntoModel intoModel = template.createIntoModel();
       //
-      m_bindModel = new BindParser(stmWithoutSelectInto).parse();
+      m_bindModel = template.createBindModel();
       m_ioTokens = m_bindModel.getIOTokens();
       //
       int jdbcBindIndex = 1;
@@ -201,16 +211,32 @@ public class StatementProcessor implements IStatementProcessor {
     return m_callerService;
   }
 
+  protected ResultSetRowReader createResultSetRowReader(ResultSet rs) throws SQLException {
+    return new ResultSetRowReader(m_callerService.getSqlStyle(), rs);
+  }
+
+  /**
+   * Reads the current row of the result set. Subclasses overriding this method are still called for every row, but
+   * lose the column metadata that {@link ResultSetRowReader} resolves once per result set.
+   *
+   * @deprecated override {@link #processResultRow(ResultSetRowReader)} instead, the row is available by
+   *             {@link ResultSetRowReader#getResultSet()}
+   */
+  @Deprecated
   protected Object[] processResultRow(ResultSet rs) throws SQLException {
-    ISqlStyle sqlStyle = m_callerService.getSqlStyle();
-    ResultSetMetaData meta = rs.getMetaData();
-    int colCount = meta.getColumnCount();
-    Object[] row = new Object[colCount];
-    for (int i = 0; i < colCount; i++) {
-      int type = meta.getColumnType(i + 1);
-      row[i] = sqlStyle.readBind(rs, meta, type, i + 1);
-    }
-    return row;
+    return processResultRow(createResultSetRowReader(rs));
+  }
+
+  protected Object[] processResultRow(ResultSetRowReader reader) throws SQLException {
+    return reader.readRow();
+  }
+
+  @SuppressWarnings("deprecation")
+  private Object[] readResultRow(ResultSetRowReader reader) throws SQLException {
+    if (RESULT_SET_ROW_OVERRIDE.get(getClass())) {
+      return processResultRow(reader.getResultSet());
+    }
+    return processResultRow(reader);
   }
 
   private int getMaxFetchSize(ResultSet rs) throws SQLException {
@@ -237,12 +263,13 @@ public class StatementProcessor implements IStatementProcessor {
       dynamicFetchSize = initialFetchSize;
     }
     List<Object[]> rows = new ArrayList<>();
+    ResultSetRowReader reader = createResultSetRowReader(rs);
     while (rs.next()) {
       if (isDynamicPrefetch && ++rowCount % dynamicFetchSize == 0 && dynamicFetchSize < getMaxFetchSize(rs)) {
         dynamicFetchSize = Math.min(Math.max(initialFetchSize, rowCount / 2), getMaxFetchSize(rs));
         rs.setFetchSize(dynamicFetchSize);
       }
-      Object[] row = processResultRow(rs);
+      Object[] row = readResultRow(reader);
       rows.add(row);
       if (maxRowCount > 0 && rows.size() >= maxRowCount) {
         break;
@@ -365,7 +392,6 @@ public class StatementProcessor implements IStatementProcessor {
   public void processSelectStreaming(Connection conn, IStatementCache cache, ISelectStreamHandler handler) {
     PreparedStatement ps = null;
     ResultSet rs = null;
-    ISqlStyle sqlStyle = m_callerService.getSqlStyle();
     try {
       int rowCount = 0;
       while (hasNextInputBatch()) {
@@ -378,16 +404,11 @@ public class StatementProcessor implements IStatementProcessor {
         try {
           rs = ps.executeQuery();
 
-          ResultSetMetaData meta = rs.getMetaData();
-          int colCount = meta.getColumnCount();
+          ResultSetRowReader reader = createResultSetRowReader(rs);
+          int[] columnTypes = reader.getColumnTypes();
+          Object[] row = new Object[reader.getColumnCount()]; // reused for all rows
           while (rs.next()) {
-            List<SqlBind> row = new ArrayList<>(colCount);
-            for (int i = 0; i < colCount; i++) {
-              int type = meta.getColumnType(i + 1);
-              Object value = sqlStyle.readBind(rs, meta, type, i + 1);
-              row.add(new SqlBind(type, value));
-            }
-            handler.handleRow(conn, ps, rs, rowCount, row);
+            handler.handleRow(conn, ps, rs, rowCount, reader.readRow(row), columnTypes);
             rowCount++;
             if (m_maxRowCount > 0 && rowCount >= m_maxRowCount) {
               break;
@@ -418,6 +439,16 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @Override
+  public CloseableIterator<Object[]> processSelectIterator(Connection conn, IStatementCache cache, int fetchSize) {
+    return new P_SelectIterator(conn, cache, fetchSize);
+  }
+
+  @Override
+  public <T> CloseableIterator<T> processSelectBeanIterator(Connection conn, IStatementCache cache, int fetchSize, Class<T> beanType) {
+    return new P_BeanSelectIterator<>(conn, cache, fetchSize, beanType);
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -428,6 +459,9 @@ public class StatementProcessor implements IStatementProcessor {
   @SuppressWarnings("resource")
   @Override
   public int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor) {
+    if (isJdbcBatchExecution()) {
+      return processModificationBatched(conn, cache);
+    }
     PreparedStatement ps = null;
     int rowCount = 0;
     try {
@@ -457,6 +491,92 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  /**
+   * @return <code>true</code> if the statement has batch binds whose rows are to be sent to the database in JDBC
+   *         batches.
+   * @see ISqlService#isJdbcBatchExecution()
+   */
+  protected boolean isJdbcBatchExecution() {
+    if (!m_callerService.isJdbcBatchExecution() || m_callerService.getJdbcBatchSize() < 2) {
+      return false;
+    }
+    for (IBindInput input : m_inputList) {
+      if (input.isBatch()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Executes the rows of batch binds using {@link PreparedStatement#addBatch()}. Consecutive rows are sent to the
+   * database in one round-trip, up to the batch size of the caller service. A row resulting in a different statement
+   * text than its predecessor, e.g. due to plain value binds, starts a new batch.
+   */
+  @SuppressWarnings("resource")
+  protected int processModificationBatched(Connection conn, IStatementCache cache) {
+    final int batchSize = m_callerService.getJdbcBatchSize();
+    PreparedStatement ps = null;
+    String batchStm = null;
+    int batchRowCount = 0;
+    int rowCount = 0;
+    try {
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        if (ps != null && !m_currentInputStm.equals(batchStm)) {
+          rowCount = rowCount + executeBatch(ps);
+          batchRowCount = 0;
+          cache.releasePreparedStatement(ps);
+          ps = null;
+        }
+        if (ps == null) {
+          ps = cache.getPreparedStatement(conn, m_currentInputStm);
+          batchStm = m_currentInputStm;
+        }
+        bindBatch(ps);
+        ps.addBatch();
+        batchRowCount++;
+        if (batchRowCount >= batchSize) {
+          rowCount = rowCount + executeBatch(ps);
+          batchRowCount = 0;
+        }
+      }
+      if (batchRowCount > 0) {
+        rowCount = rowCount + executeBatch(ps);
+        batchRowCount = 0;
+      }
+      return rowCount;
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    finally {
+      if (ps != null && batchRowCount > 0) {
+        // do not leave pending rows on a cached statement
+        try {
+          ps.clearBatch();
+        }
+        catch (SQLException | RuntimeException e) {
+          LOG.warn("could not clear batch", e);
+        }
+      }
+      cache.releasePreparedStatement(ps);
+    }
+  }
+
+  private int executeBatch(PreparedStatement ps) throws SQLException {
+    registerActiveStatement(ps);
+    try {
+      return m_callerService.getSqlStyle().getBatchUpdateCount(ps.executeBatch());
+    }
+    finally {
+      unregisterActiveStatement(ps);
+    }
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -1455,25 +1575,39 @@ public class StatementProcessor implements IStatementProcessor {
   }
 
   protected void registerActiveStatement(Statement s) throws SQLException {
-    ITransaction tx = ITransaction.CURRENT.get();
-    if (tx == null) {
-      return;
-    }
-    ITransactionMember member = tx.getMember(getCallerService().getTransactionMemberId());
-    if (member instanceof AbstractSqlTransactionMember) {
-      ((AbstractSqlTransactionMember) member).registerActiveStatement(s);
+    AbstractSqlTransactionMember member = getSqlTransactionMember();
+    if (member != null) {
+      member.registerActiveStatement(s);
     }
   }
 
   protected void unregisterActiveStatement(Statement s) {
+    AbstractSqlTransactionMember member = getSqlTransactionMember();
+    if (member != null) {
+      member.unregisterActiveStatement(s);
+    }
+  }
+
+  protected AbstractSqlTransactionMember getSqlTransactionMember() {
     ITransaction tx = ITransaction.CURRENT.get();
     if (tx == null) {
-      return;
+      return null;
     }
     ITransactionMember member = tx.getMember(getCallerService().getTransactionMemberId());
     if (member instanceof AbstractSqlTransactionMember) {
-      ((AbstractSqlTransactionMember) member).unregisterActiveStatement(s);
+      return (AbstractSqlTransactionMember) member;
     }
+    return null;
+  }
+
+  /**
+   * Resolves the writable properties of the given bean class the columns of a result set are mapped to. The column
+   * label is compared with the property name ignoring case and underscores.
+   *
+   * @return the property of each column, <code>null</code> for columns without a matching property
+   */
+  protected FastPropertyDescriptor[] resolveColumnProperties(ResultSetMetaData meta, Class<?> beanType) throws SQLException {
+    return BeanRowMapper.resolveColumnProperties(meta, beanType);
   }
 
   private void releasePreparedStatementAndResultSet(PreparedStatement ps, IStatementCache cache, ResultSet rs) {
@@ -1487,4 +1621,190 @@ public class StatementProcessor implements IStatementProcessor {
     }
     cache.releasePreparedStatement(ps);
   }
+
+  /**
+   * Iterator over the rows of the statement, which are fetched lazily. The input batches are executed one after the
+   * other, each one once the rows of the previous one are consumed. The iterator is registered as open cursor in the
+   * current transaction, which closes it at the latest upon commit or rollback.
+   */
+  private abstract class P_AbstractSelectIterator<T> implements CloseableIterator<T> {
+    private final Connection m_conn;
+    private final IStatementCache m_cache;
+    private final int m_fetchSize;
+    private final AbstractSqlTransactionMember m_transactionMember;
+    private final AutoCloseable m_transactionCursor = this::closeByTransaction;
+    private PreparedStatement m_ps;
+    private ResultSet m_rs;
+    private ResultSetRowReader m_reader;
+    private int m_defaultFetchSize;
+    private int m_rowCount;
+    private T m_next;
+    private boolean m_closed;
+    private boolean m_closedByTransaction;
+
+    P_AbstractSelectIterator(Connection conn, IStatementCache cache, int fetchSize) {
+      m_conn = conn;
+      m_cache = cache;
+      m_fetchSize = fetchSize;
+      m_transactionMember = getSqlTransactionMember();
+      if (m_transactionMember != null) {
+        m_transactionMember.registerOpenCursor(m_transactionCursor);
+      }
+    }
+
+    protected abstract T readRow(ResultSetRowReader reader) throws SQLException;
+
+    @Override
+    public boolean hasNext() {
+      if (m_next != null) {
+        return true;
+      }
+      if (m_closedByTransaction) {
+        throw new ProcessingException("Rows cannot be read after the end of the transaction")
+            .withContextInfo("statement", createSqlDump(true, false));
+      }
+      if (m_closed) {
+        return false;
+      }
+      try {
+        m_next = fetchNext();
+      }
+      catch (SQLException | RuntimeException e) {
+        close();
+        throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+            .withContextInfo("statement", createSqlDump(true, false));
+      }
+      if (m_next == null) {
+        close();
+        return false;
+      }
+      return true;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T next = m_next;
+      m_next = null;
+      return next;
+    }
+
+    private T fetchNext() throws SQLException {
+      while (m_maxRowCount <= 0 || m_rowCount < m_maxRowCount) {
+        if (m_rs == null) {
+          if (!hasNextInputBatch()) {
+            return null;
+          }
+          executeNextInputBatch();
+        }
+        if (m_rs.next()) {
+          m_rowCount++;
+          return readRow(m_reader);
+        }
+        releaseStatement();
+      }
+      return null;
+    }
+
+    @SuppressWarnings("resource")
+    private void executeNextInputBatch() throws SQLException {
+      nextInputBatch();
+      prepareInputStatementAndBinds();
+      dump();
+      m_ps = m_cache.getPreparedStatement(m_conn, m_currentInputStm);
+      bindBatch(m_ps);
+      if (m_fetchSize > 0) {
+        m_defaultFetchSize = m_ps.getFetchSize();
+        m_ps.setFetchSize(m_fetchSize);
+      }
+      registerActiveStatement(m_ps);
+      m_rs = m_ps.executeQuery();
+      m_reader = createResultSetRowReader(m_rs);
+    }
+
+    private void releaseStatement() {
+      PreparedStatement ps = m_ps;
+      ResultSet rs = m_rs;
+      m_ps = null;
+      m_rs = null;
+      m_reader = null;
+      if (ps == null) {
+        return;
+      }
+      unregisterActiveStatement(ps);
+      if (m_fetchSize > 0) {
+        try {
+          ps.setFetchSize(m_defaultFetchSize); // the statement may be cached
+        }
+        catch (SQLException | RuntimeException e) {
+          LOG.debug("could not reset fetch size", e);
+        }
+      }
+      releasePreparedStatementAndResultSet(ps, m_cache, rs);
+    }
+
+    private void closeByTransaction() {
+      if (!m_closed) {
+        m_closedByTransaction = true;
+        close();
+      }
+    }
+
+    @Override
+    public void close() {
+      if (m_closed) {
+        return;
+      }
+      m_closed = true;
+      m_next = null;
+      try {
+        releaseStatement();
+        finishOutputBatch();
+      }
+      finally {
+        if (m_transactionMember != null) {
+          m_transactionMember.unregisterOpenCursor(m_transactionCursor);
+        }
+      }
+    }
+  }
+
+  private class P_SelectIterator extends P_AbstractSelectIterator<Object[]> {
+
+    P_SelectIterator(Connection conn, IStatementCache cache, int fetchSize) {
+      super(conn, cache, fetchSize);
+    }
+
+    @Override
+    protected Object[] readRow(ResultSetRowReader reader) throws SQLException {
+      return readResultRow(reader);
+    }
+  }
+
+  private class P_BeanSelectIterator<T> extends P_AbstractSelectIterator<T> {
+    private final BeanRowMapper<T> m_mapper;
+    private ResultSetRowReader m_mappedReader;
+
+    P_BeanSelectIterator(Connection conn, IStatementCache cache, int fetchSize, Class<T> beanType) {
+      super(conn, cache, fetchSize);
+      try {
+        m_mapper = new BeanRowMapper<>(beanType);
+      }
+      catch (RuntimeException e) {
+        close();
+        throw e;
+      }
+    }
+
+    @Override
+    protected T readRow(ResultSetRowReader reader) throws SQLException {
+      if (reader != m_mappedReader) {
+        m_mapper.setColumnProperties(resolveColumnProperties(reader.getMetaData(), m_mapper.getBeanType()));
+        m_mappedReader = reader;
+      }
+      return m_mapper.map(readResultRow(reader));
+    }
+  }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
+
+/**
+ * The parsed token structure of a SQL statement text, independent of bind values. The models of a template are never
+ * modified; every {@link StatementProcessor} gets its own copy of them. If a bind token does not support
+ * {@link org.eclipse.scout.rt.server.jdbc.parsers.token.IToken#copy()}, which is checked once when the template is
+ * created, the bind model is parsed again instead.
+ *
+ * @since 11.0
+ */
+public final class StatementTemplate {
+
+  private final IntoModel m_intoModel;
+  private final BindModel m_bindModel;
+  private final boolean m_bindModelCopySupported;
+
+  public StatementTemplate(String stm) {
+    m_intoModel = new IntoParser(stm).parse();
+    m_bindModel = new BindParser(m_intoModel.getFilteredStatement()).parse();
+    m_bindModelCopySupported = isCopySupported(m_bindModel);
+  }
+
+  private static boolean isCopySupported(BindModel bindModel) {
+    try {
+      bindModel.copy();
+      return true;
+    }
+    catch (UnsupportedOperationException e) { // NOSONAR
+      return false;
+    }
+  }
+
+  /**
+   * @return a new copy of the 'select into' model
+   */
+  public IntoModel createIntoModel() {
+    return m_intoModel.copy();
+  }
+
+  /**
+   * @return a new copy of the bind model of the statement without its 'select into' part
+   */
+  public BindModel createBindModel() {
+    if (m_bindModelCopySupported) {
+      return m_bindModel.copy();
+    }
+    return new BindParser(m_intoModel.getFilteredStatement()).parse();
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.cache.ICacheStatistics;
+import org.eclipse.scout.rt.platform.cache.TinyLfuCacheMap;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlStatementTemplateCacheSizeProperty;
+
+/**
+ * Bounded cache of parsed {@link StatementTemplate}s by statement text, so that a statement executed many times is
+ * parsed only once. Statement texts which are only used rarely (e.g. with inlined values) are evicted first (see
+ * {@link TinyLfuCacheMap}).
+ * <p>
+ * The template does not depend on the SQL style, as database specific tokens and bind values are resolved for each
+ * execution.
+ *
+ * @since 11.0
+ */
+@ApplicationScoped
+public class StatementTemplateCache {
+
+  private final Map<String, StatementTemplate> m_templates;
+
+  public StatementTemplateCache() {
+    int maxSize = CONFIG.getPropertyValue(SqlStatementTemplateCacheSizeProperty.class);
+    m_templates = maxSize > 0 ? new TinyLfuCacheMap<>(maxSize) : null;
+  }
+
+  /**
+   * @return the parsed template of the given statement text, never <code>null</code>
+   */
+  public StatementTemplate get(String stm) {
+    if (m_templates == null) {
+      return new StatementTemplate(stm);
+    }
+    StatementTemplate template = m_templates.get(stm);
+    if (template == null) {
+      // concurrent callers may parse the same statement, which is cheaper than blocking them
+      template = new StatementTemplate(stm);
+      m_templates.put(stm, template);
+    }
+    return template;
+  }
+
+  public void clear() {
+    if (m_templates != null) {
+      m_templates.clear();
+    }
+  }
+
+  /**
+   * @return statistics of this cache, or <code>null</code> if the cache is disabled
+   */
+  public ICacheStatistics getStatistics() {
+    return m_templates instanceof ICacheStatistics ? (ICacheStatistics) m_templates : null;
+  }
+}
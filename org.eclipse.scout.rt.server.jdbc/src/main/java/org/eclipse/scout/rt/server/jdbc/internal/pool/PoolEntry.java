@@ -17,5 +17,6 @@ class PoolEntry {
   public Connection conn;
   public long createTime;
   public long leaseBegin;
+  public long idleSince;
   public int leaseCount;
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * Thread-safe histogram with fixed buckets, used to record metrics of the {@link SqlConnectionPool}. Recording a value
+ * is lock-free and does not allocate.
+ * <p>
+ * A value is counted in the first bucket whose upper bound is greater than or equal to the value. Values greater than
+ * the last upper bound are counted in an overflow bucket.
+ *
+ * @since 11.0
+ */
+public final class PoolHistogram {
+
+  /**
+   * Upper bounds suitable for durations in milliseconds.
+   */
+  public static final long[] MILLIS_BOUNDS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000, 60000};
+
+  /**
+   * Upper bounds suitable for percentages.
+   */
+  public static final long[] PERCENT_BOUNDS = {10, 20, 30, 40, 50, 60, 70, 80, 90, 100};
+
+  private final long[] m_upperBounds;
+  private final AtomicLongArray m_counts;
+  private final LongAdder m_sum = new LongAdder();
+  private final AtomicLong m_max = new AtomicLong();
+
+  /**
+   * @param upperBounds
+   *          strictly ascending upper bounds of the buckets.
+   */
+  public PoolHistogram(long... upperBounds) {
+    Assertions.assertTrue(upperBounds.length > 0, "at least one bucket required");
+    for (int i = 1; i < upperBounds.length; i++) {
+      Assertions.assertTrue(upperBounds[i - 1] < upperBounds[i], "upper bounds must be strictly ascending [bounds={}]", Arrays.toString(upperBounds));
+    }
+    m_upperBounds = upperBounds.clone();
+    m_counts = new AtomicLongArray(upperBounds.length + 1);
+  }
+
+  public void record(long value) {
+    int index = Arrays.binarySearch(m_upperBounds, value);
+    if (index < 0) {
+      index = -index - 1;
+    }
+    m_counts.incrementAndGet(index);
+    m_sum.add(value);
+    m_max.accumulateAndGet(value, Math::max);
+  }
+
+  /**
+   * @return copy of the upper bounds of the buckets, excluding the overflow bucket.
+   */
+  public long[] getUpperBounds() {
+    return m_upperBounds.clone();
+  }
+
+  /**
+   * @return the number of values per bucket, with the overflow bucket as last element.
+   */
+  public long[] getBucketCounts() {
+    long[] counts = new long[m_counts.length()];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = m_counts.get(i);
+    }
+    return counts;
+  }
+
+  public long getCount() {
+    long count = 0;
+    for (int i = 0; i < m_counts.length(); i++) {
+      count += m_counts.get(i);
+    }
+    return count;
+  }
+
+  public long getMax() {
+    return m_max.get();
+  }
+
+  public double getMean() {
+    long count = getCount();
+    return count == 0 ? 0d : m_sum.doubleValue() / count;
+  }
+
+  /**
+   * @param percentile
+   *          percentile in the range [0, 100].
+   * @return the upper bound of the bucket containing the given percentile, or the maximum recorded value if it lies in
+   *         the overflow bucket, or <code>0</code> if no value was recorded.
+   */
+  public long getPercentile(double percentile) {
+    long[] counts = getBucketCounts();
+    long total = 0;
+    for (long count : counts) {
+      total += count;
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(total * percentile / 100d));
+    long cumulated = 0;
+    for (int i = 0; i < m_upperBounds.length; i++) {
+      cumulated += counts[i];
+      if (cumulated >= rank) {
+        return Math.min(m_upperBounds[i], getMax());
+      }
+    }
+    return getMax();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("count=%d, mean=%.1f, p50<=%d, p95<=%d, p99<=%d, max=%d", getCount(), getMean(), getPercentile(50), getPercentile(95), getPercentile(99), getMax());
+  }
+}
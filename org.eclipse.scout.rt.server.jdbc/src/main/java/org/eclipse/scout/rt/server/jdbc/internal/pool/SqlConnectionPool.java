@@ -13,19 +13,26 @@ package org.eclipse.scout.rt.server.jdbc.internal.pool;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashSet;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.Set;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,34 +41,84 @@ import org.slf4j.LoggerFactory;
  * System-wide connection pool for pooling connections There is one pool for every ISqlService sub class type If
  * possible, every scout Session is provided with always the same connection it had in the last request this class is
  * thread-safe
+ * <p>
+ * The pool lock is only held to hand out and take back pool entries. Connections are created, tested and validated
+ * outside the lock, with their slot reserved in the meantime, so that a slow database does not block other threads
+ * leasing or releasing connections.
+ * <p>
+ * If no connection is available, callers wait in FIFO order. A released connection is handed over to the longest
+ * waiting caller, and callers arriving later do not overtake waiting callers. If a lease timeout is configured, a
+ * caller gives up with a {@link TimedOutError} once the timeout elapsed.
+ * <p>
+ * If a service and a minimum number of idle connections is given upon {@link #initialize}, the pool is pre-warmed with
+ * that number of connections, and replenished by the managing job. This job also validates connections which have
+ * been idle for a while in the background.
+ * <p>
+ * The pool records histograms of the time waited for a connection, the time connections are held, and the pool
+ * utilization upon lease, see {@link #getInventory()}.
  */
 @Bean
 @SuppressWarnings("squid:S1166")
 public class SqlConnectionPool {
   private static final Logger LOG = LoggerFactory.getLogger(SqlConnectionPool.class);
 
+  /**
+   * Idle connections are validated in the background once they have been idle for this duration.
+   */
+  protected static final long IDLE_VALIDATION_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
   private volatile boolean m_destroyed;
   private final String m_identity = UUID.randomUUID().toString();
 
   /*
    * Instance
    */
-  private final Object m_poolLock = new Object();
-  private final Set<PoolEntry> m_idleEntries = new HashSet<>();
-  private final Set<PoolEntry> m_busyEntries = new HashSet<>();
+  private final ReentrantLock m_poolLock = new ReentrantLock();
+  private final Deque<PoolEntry> m_idleEntries = new ArrayDeque<>(); // most recently released first, guarded by m_poolLock
+  private final Map<Connection, PoolEntry> m_busyEntries = new IdentityHashMap<>(); // guarded by m_poolLock
+  private final Deque<P_Waiter> m_waiters = new ArrayDeque<>(); // FIFO, guarded by m_poolLock
+  private int m_pendingCount; // slots of connections being created or checked outside the lock, guarded by m_poolLock
+  private volatile AbstractSqlService m_service;
   private volatile String m_name;
   private volatile int m_poolSize;
+  private volatile int m_minIdle;
   private volatile long m_connectionLifetime;
   private volatile long m_connectionBusyTimeout;
+  private volatile long m_leaseTimeout;
   private final AtomicBoolean m_initialized = new AtomicBoolean(false);
 
+  private final PoolHistogram m_leaseWaitHistogram = new PoolHistogram(PoolHistogram.MILLIS_BOUNDS);
+  private final PoolHistogram m_holdTimeHistogram = new PoolHistogram(PoolHistogram.MILLIS_BOUNDS);
+  private final PoolHistogram m_utilizationHistogram = new PoolHistogram(PoolHistogram.PERCENT_BOUNDS);
+
   public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
+    initialize(null, name, poolSize, 0, connectionLifetime, connectionBusyTimeout, 0);
+  }
+
+  /**
+   * @param service
+   *          service to create and validate connections in the background, or <code>null</code> to only create
+   *          connections upon lease.
+   * @param minIdle
+   *          the number of idle connections to keep, requires a service.
+   * @param leaseTimeout
+   *          maximum time in milliseconds to wait for a connection, or <code>0</code> to wait indefinitely.
+   */
+  public void initialize(AbstractSqlService service, String name, int poolSize, int minIdle, long connectionLifetime, long connectionBusyTimeout, long leaseTimeout) {
     Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
+    m_service = service;
     m_name = name;
     m_poolSize = poolSize;
+    m_minIdle = Math.min(minIdle, poolSize);
     m_connectionLifetime = connectionLifetime;
     m_connectionBusyTimeout = connectionBusyTimeout;
+    m_leaseTimeout = leaseTimeout;
     startManagePool();
+    if (service != null && m_minIdle > 0) {
+      Jobs.schedule(this::ensureMinIdle, Jobs.newInput()
+          .withName("Pre-warming SQL connection pool for {}", m_name)
+          .withExecutionHint(m_identity));
+    }
   }
 
   /**
@@ -77,139 +134,386 @@ public class SqlConnectionPool {
   }
 
   public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
-    managePool();
-    synchronized (m_poolLock) {
+    final long leaseStart = System.nanoTime();
+    while (true) {
+      P_Waiter waiter = acquire(leaseStart);
+      PoolEntry candidate = waiter.m_entry;
+      if (candidate == null) {
+        // slot reserved: create new connection
+        candidate = createEntry(service);
+        if (!moveCreatedEntryToBusy(candidate)) {
+          closeConnectionAsync(candidate.conn, "destroying SQL connection pool");
+          Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+        }
+      }
+      else if (!testConnection(service, candidate)) {
+        continue;
+      }
+      m_leaseWaitHistogram.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - leaseStart));
+      LOG.debug("lease   {}", candidate.conn);
+      return candidate.conn;
+    }
+  }
+
+  /**
+   * Hands out an idle entry, or reserves a slot to create a new connection, waiting in FIFO order if neither is
+   * possible.
+   *
+   * @return the waiter with either an entry already moved to the busy entries, or a slot reserved.
+   */
+  private P_Waiter acquire(long leaseStart) {
+    final P_Waiter waiter = new P_Waiter();
+    m_poolLock.lock();
+    try {
       Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+      if (m_waiters.isEmpty() && serve(waiter)) {
+        return waiter; // fast path, nobody to overtake
+      }
 
-      PoolEntry candidate = null;
-      while (candidate == null) {
-        // get next available conn
-        for (PoolEntry m_idleEntry : m_idleEntries) {
-          candidate = m_idleEntry;
-          break;
-        }
-        if (candidate == null && m_idleEntries.size() + m_busyEntries.size() < m_poolSize) {
-          // create new connection
-          PoolEntry test = new PoolEntry();
-          test.conn = new SqlConnectionBuilder().createJdbcConnection(service);
-          LOG.info("created jdbc connection {}", test.conn);
-          service.callbackAfterConnectionCreated(test.conn);
-          test.createTime = System.currentTimeMillis();
-          m_idleEntries.add(test);
-          candidate = test;
-        }
-        if (candidate == null) {
-          // wait
-          try {
-            m_poolLock.wait();
+      waiter.m_condition = m_poolLock.newCondition();
+      m_waiters.addLast(waiter);
+      final long leaseTimeout = m_leaseTimeout;
+      try {
+        while (!waiter.isServed()) {
+          if (isDestroyed()) {
+            m_waiters.remove(waiter);
+            Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
           }
-          catch (InterruptedException ie) {
-            Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
-            throw new ThreadInterruptedError("Interrupted while leasing database connection");
+          if (leaseTimeout <= 0) {
+            waiter.m_condition.await();
+            continue;
           }
-        }
-        // test candidate connection
-        if (candidate != null) {
-          try {
-            service.callbackTestConnection(candidate.conn);
-          }
-          catch (Exception e) {
-            // remove candidate from idle pool and close it
-            m_idleEntries.remove(candidate);
-            LOG.warn("closing dirty connection: {}", candidate.conn, e);
-            try {
-              candidate.conn.close();
-            }
-            catch (Exception fatal) {
-              LOG.warn("could not close candidate connection", fatal);
-            }
-            candidate = null;
+          long remainingNanos = TimeUnit.MILLISECONDS.toNanos(leaseTimeout) - (System.nanoTime() - leaseStart);
+          if (remainingNanos <= 0) {
+            m_waiters.remove(waiter);
+            throw new TimedOutError("Timed out waiting for a database connection [pool={}, timeout={}ms, size={}]", m_name, leaseTimeout, m_poolSize);
           }
+          waiter.m_condition.awaitNanos(remainingNanos);
         }
-      }// end while
-       // move to busy pool
-      m_idleEntries.remove(candidate);
-      candidate.leaseBegin = System.currentTimeMillis();
-      candidate.leaseCount++;
-      m_busyEntries.add(candidate);
-      LOG.debug("lease   {}", candidate.conn);
-      return candidate.conn;
+        return waiter;
+      }
+      catch (InterruptedException ie) {
+        m_waiters.remove(waiter);
+        if (waiter.isServed()) {
+          revoke(waiter);
+        }
+        Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+        throw new ThreadInterruptedError("Interrupted while leasing database connection");
+      }
+    }
+    finally {
+      m_poolLock.unlock();
+    }
+  }
+
+  /**
+   * Serves the given waiter with an idle entry, or with a reserved slot if the pool is not exhausted. Must be called
+   * while holding the lock.
+   *
+   * @return <code>true</code> if the waiter was served.
+   */
+  private boolean serve(P_Waiter waiter) {
+    PoolEntry entry = pollIdleEntry();
+    if (entry != null) {
+      moveToBusy(entry);
+      waiter.m_entry = entry;
+      waiter.m_served = true;
+      return true;
+    }
+    if (getTotalCount() < m_poolSize) {
+      m_pendingCount++;
+      waiter.m_served = true;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Serves waiting callers in FIFO order as long as possible. Must be called while holding the lock.
+   */
+  private void dispatch() {
+    while (!m_waiters.isEmpty()) {
+      P_Waiter waiter = m_waiters.peekFirst();
+      if (!serve(waiter)) {
+        return;
+      }
+      m_waiters.pollFirst();
+      waiter.m_condition.signal();
+    }
+  }
+
+  /**
+   * Gives back what the given waiter was served with but did not take. Must be called while holding the lock.
+   */
+  private void revoke(P_Waiter waiter) {
+    if (waiter.m_entry != null) {
+      m_busyEntries.remove(waiter.m_entry.conn);
+      moveToIdle(waiter.m_entry);
+    }
+    else {
+      m_pendingCount--;
+    }
+    dispatch();
+  }
+
+  /**
+   * @return the next idle entry which is not expired, or <code>null</code> if none. Must be called while holding the
+   *         lock.
+   */
+  private PoolEntry pollIdleEntry() {
+    PoolEntry entry;
+    while ((entry = m_idleEntries.pollFirst()) != null) {
+      if (System.currentTimeMillis() - entry.createTime <= m_connectionLifetime) {
+        return entry;
+      }
+      closeConnectionAsync(entry.conn, "expired idle connection");
+    }
+    return null;
+  }
+
+  private void moveToBusy(PoolEntry entry) {
+    entry.leaseBegin = System.currentTimeMillis();
+    entry.leaseCount++;
+    m_busyEntries.put(entry.conn, entry);
+    m_utilizationHistogram.record(m_poolSize > 0 ? m_busyEntries.size() * 100L / m_poolSize : 100L);
+  }
+
+  private void moveToIdle(PoolEntry entry) {
+    entry.leaseBegin = 0;
+    entry.idleSince = System.currentTimeMillis();
+    m_idleEntries.addFirst(entry);
+  }
+
+  /**
+   * @return <code>false</code> if the pool was destroyed in the meantime.
+   */
+  private boolean moveCreatedEntryToBusy(PoolEntry entry) {
+    m_poolLock.lock();
+    try {
+      m_pendingCount--;
+      if (isDestroyed()) {
+        return false;
+      }
+      moveToBusy(entry);
+      return true;
+    }
+    finally {
+      m_poolLock.unlock();
+    }
+  }
+
+  /**
+   * Creates a new connection for a reserved slot. The reservation is given back if the creation fails.
+   */
+  private PoolEntry createEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    boolean success = false;
+    try {
+      PoolEntry entry = new PoolEntry();
+      entry.conn = createConnection(service);
+      LOG.info("created jdbc connection {}", entry.conn);
+      try {
+        service.callbackAfterConnectionCreated(entry.conn);
+      }
+      catch (RuntimeException e) {
+        closeConnectionAsync(entry.conn, "failed to initialize connection");
+        throw e;
+      }
+      entry.createTime = System.currentTimeMillis();
+      success = true;
+      return entry;
+    }
+    finally {
+      if (!success) {
+        releaseReservations(1);
+      }
+    }
+  }
+
+  protected Connection createConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    return new SqlConnectionBuilder().createJdbcConnection(service);
+  }
+
+  private void releaseReservations(int count) {
+    m_poolLock.lock();
+    try {
+      m_pendingCount -= count;
+      dispatch();
+    }
+    finally {
+      m_poolLock.unlock();
+    }
+  }
+
+  /**
+   * Tests the connection of the given busy entry. If the test fails, the connection is removed from the pool and
+   * closed.
+   */
+  private boolean testConnection(AbstractSqlService service, PoolEntry candidate) {
+    try {
+      service.callbackTestConnection(candidate.conn);
+      return true;
+    }
+    catch (Exception e) {
+      // remove candidate from pool and close it
+      LOG.warn("closing dirty connection: {}", candidate.conn, e);
+      m_poolLock.lock();
+      try {
+        m_busyEntries.remove(candidate.conn);
+        dispatch();
+      }
+      finally {
+        m_poolLock.unlock();
+      }
+      try {
+        candidate.conn.close();
+      }
+      catch (Exception fatal) {
+        LOG.warn("could not close candidate connection", fatal);
+      }
+      return false;
     }
   }
 
   public void releaseConnection(Connection conn) {
     LOG.debug("release {}", conn);
-    synchronized (m_poolLock) {
+    PoolEntry candidate;
+    m_poolLock.lock();
+    try {
       Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+      candidate = m_busyEntries.remove(conn);
+      if (candidate != null) {
+        m_holdTimeHistogram.record(System.currentTimeMillis() - candidate.leaseBegin);
+        m_pendingCount++; // keep the slot while checking the connection
+      }
+    }
+    finally {
+      m_poolLock.unlock();
+    }
 
-      PoolEntry candidate = null;
-      for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-        PoolEntry e = (PoolEntry) it.next();
-        if (e.conn == conn) {
-          candidate = e;
-          it.remove();
-          break;
+    boolean clean = candidate != null && isCleanConnection(conn);
+    if (candidate != null) {
+      m_poolLock.lock();
+      try {
+        m_pendingCount--;
+        if (clean && !isDestroyed()) {
+          // back to idle pool
+          moveToIdle(candidate);
         }
+        dispatch();
       }
-      // check close status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.isClosed()) {
-            candidate = null;
-          }
-        }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
-        }
+      finally {
+        m_poolLock.unlock();
       }
-      // check error status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.getWarnings() != null) {
-            /*
-             * connection is normally valid again after clearing the warnings.
-             * Since oracle is not supporting warnings, the subsequent call has no effect!
-             */
-            candidate.conn.clearWarnings();
-          }
-        }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
-        }
+    }
+    if (!clean) {
+      LOG.warn("closing dirty connection: {}", conn);
+      try {
+        conn.close();
       }
-      // all checks passed, candidate is either non-null or null, in the latter
-      // case conn is a dirty connection
-      // back to idle pool
-      if (candidate != null) {
-        // move to idle pool
-        candidate.leaseBegin = 0;
-        m_idleEntries.add(candidate);
-      }
-      else {
-        LOG.warn("closing dirty connection: {}", conn);
-        try {
-          conn.close();
-        }
-        catch (SQLException e) {
-          // ignored
-        }
+      catch (SQLException e) {
+        // ignored
+      }
+    }
+    else if (isDestroyed()) {
+      closeConnectionAsync(conn, "destroying SQL connection pool");
+    }
+  }
+
+  /**
+   * Checks the close and error status of a released connection.
+   */
+  private boolean isCleanConnection(Connection conn) {
+    try {
+      if (conn.isClosed()) {
+        return false;
+      }
+      if (conn.getWarnings() != null) {
+        /*
+         * connection is normally valid again after clearing the warnings.
+         * Since oracle is not supporting warnings, the subsequent call has no effect!
+         */
+        conn.clearWarnings();
       }
-      m_poolLock.notifyAll();
+      return true;
+    }
+    catch (Exception e) {
+      // ignore
+      return false;
+    }
+  }
+
+  /**
+   * @return the number of connections in the pool, including connections being created or checked. Must be called
+   *         while holding the lock.
+   */
+  private int getTotalCount() {
+    return m_idleEntries.size() + m_busyEntries.size() + m_pendingCount;
+  }
+
+  public int getIdleCount() {
+    m_poolLock.lock();
+    try {
+      return m_idleEntries.size();
+    }
+    finally {
+      m_poolLock.unlock();
     }
-    managePool();
+  }
+
+  public int getBusyCount() {
+    m_poolLock.lock();
+    try {
+      return m_busyEntries.size();
+    }
+    finally {
+      m_poolLock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of callers waiting for a connection.
+   */
+  public int getWaiterCount() {
+    m_poolLock.lock();
+    try {
+      return m_waiters.size();
+    }
+    finally {
+      m_poolLock.unlock();
+    }
+  }
+
+  /**
+   * @return histogram of the time in milliseconds callers waited for a connection, including its creation or test.
+   */
+  public PoolHistogram getLeaseWaitHistogram() {
+    return m_leaseWaitHistogram;
+  }
+
+  /**
+   * @return histogram of the time in milliseconds connections were held by callers.
+   */
+  public PoolHistogram getHoldTimeHistogram() {
+    return m_holdTimeHistogram;
+  }
+
+  /**
+   * @return histogram of the percentage of busy connections with respect to the pool size, recorded upon each lease.
+   */
+  public PoolHistogram getUtilizationHistogram() {
+    return m_utilizationHistogram;
   }
 
   public String getInventory() {
     StringBuilder buf = new StringBuilder();
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
-    synchronized (m_poolLock) {
+    m_poolLock.lock();
+    try {
       buf.append("Total connections: ").append(m_busyEntries.size() + m_idleEntries.size());
       buf.append("\n");
       buf.append("Busy: ").append(m_busyEntries.size());
       buf.append("\n");
-      for (PoolEntry e : m_busyEntries) {
+      for (PoolEntry e : m_busyEntries.values()) {
         buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
             .append(fmt.format(new Date(e.leaseBegin)));
         buf.append("\n");
@@ -220,7 +524,20 @@ public class SqlConnectionPool {
         buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
         buf.append("\n");
       }
+      buf.append("Pending: ").append(m_pendingCount);
+      buf.append("\n");
+      buf.append("Waiting: ").append(m_waiters.size());
+      buf.append("\n");
     }
+    finally {
+      m_poolLock.unlock();
+    }
+    buf.append("Lease wait [ms]: ").append(m_leaseWaitHistogram);
+    buf.append("\n");
+    buf.append("Hold time [ms]: ").append(m_holdTimeHistogram);
+    buf.append("\n");
+    buf.append("Utilization [%]: ").append(m_utilizationHistogram);
+    buf.append("\n");
     return buf.toString();
   }
 
@@ -229,36 +546,137 @@ public class SqlConnectionPool {
    */
   private void managePool() {
     try {
-      synchronized (m_poolLock) {
+      List<PoolEntry> entriesToValidate = new ArrayList<>();
+      final AbstractSqlService service = m_service;
+      m_poolLock.lock();
+      try {
         if (isDestroyed()) {
           return;
         }
 
-        // close old idle connections
-        for (Iterator it = m_idleEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.createTime > m_connectionLifetime) {
+        long now = System.currentTimeMillis();
+        for (Iterator<PoolEntry> it = m_idleEntries.iterator(); it.hasNext();) {
+          PoolEntry e = it.next();
+          if (now - e.createTime > m_connectionLifetime) {
+            // close old idle connections
             closeConnectionAsync(e.conn, "expired idle connection");
             e.conn = null;
             it.remove();
           }
+          else if (service != null && now - e.idleSince >= IDLE_VALIDATION_INTERVAL_MILLIS) {
+            // validate long idle connections outside the lock
+            entriesToValidate.add(e);
+            it.remove();
+          }
         }
+        m_pendingCount += entriesToValidate.size();
         // close timed out busy connections
-        for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.leaseBegin > m_connectionBusyTimeout) {
+        for (Iterator<PoolEntry> it = m_busyEntries.values().iterator(); it.hasNext();) {
+          PoolEntry e = it.next();
+          if (now - e.leaseBegin > m_connectionBusyTimeout) {
             closeConnectionAsync(e.conn, "timed out busy connection");
-            e.conn = null;
             it.remove();
           }
         }
+        dispatch();
+      }
+      finally {
+        m_poolLock.unlock();
       }
+
+      validateIdleEntries(service, entriesToValidate);
+      ensureMinIdle();
     }
     catch (Exception t) {
       LOG.warn("Unexpected Problem while managing SQL connection pool", t);
     }
   }
 
+  private void validateIdleEntries(AbstractSqlService service, List<PoolEntry> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    List<PoolEntry> validEntries = new ArrayList<>(entries.size());
+    for (PoolEntry e : entries) {
+      try {
+        service.callbackTestConnection(e.conn);
+        validEntries.add(e);
+      }
+      catch (Exception ex) {
+        LOG.warn("closing invalid idle connection: {}", e.conn, ex);
+        closeConnectionAsync(e.conn, "invalid idle connection");
+      }
+    }
+    m_poolLock.lock();
+    try {
+      m_pendingCount -= entries.size();
+      for (PoolEntry e : validEntries) {
+        if (isDestroyed()) {
+          closeConnectionAsync(e.conn, "destroying SQL connection pool");
+        }
+        else {
+          e.idleSince = System.currentTimeMillis();
+          m_idleEntries.addLast(e); // recently used connections are preferred
+        }
+      }
+      dispatch();
+    }
+    finally {
+      m_poolLock.unlock();
+    }
+  }
+
+  /**
+   * Creates connections until the configured minimum number of idle connections is reached.
+   */
+  private void ensureMinIdle() {
+    final AbstractSqlService service = m_service;
+    if (service == null || m_minIdle <= 0) {
+      return;
+    }
+    int count;
+    m_poolLock.lock();
+    try {
+      if (isDestroyed()) {
+        return;
+      }
+      count = Math.min(m_minIdle - m_idleEntries.size() - m_pendingCount, m_poolSize - getTotalCount());
+      if (count <= 0) {
+        return;
+      }
+      m_pendingCount += count;
+    }
+    finally {
+      m_poolLock.unlock();
+    }
+
+    for (int i = 0; i < count; i++) {
+      PoolEntry entry;
+      try {
+        entry = createEntry(service); // gives back its reservation on failure
+      }
+      catch (Exception | Error e) { // NOSONAR
+        LOG.warn("Failed to create idle SQL connection for {}", m_name, e);
+        releaseReservations(count - i - 1);
+        return;
+      }
+      m_poolLock.lock();
+      try {
+        m_pendingCount--;
+        if (isDestroyed()) {
+          closeConnectionAsync(entry.conn, "destroying SQL connection pool");
+        }
+        else {
+          moveToIdle(entry);
+          dispatch();
+        }
+      }
+      finally {
+        m_poolLock.unlock();
+      }
+    }
+  }
+
   /**
    * Returns whether this SQL pool was destroyed, and cannot be used anymore.
    */
@@ -274,7 +692,8 @@ public class SqlConnectionPool {
       return;
     }
 
-    synchronized (m_poolLock) {
+    m_poolLock.lock();
+    try {
       if (isDestroyed()) {
         return; // double-checked locking
       }
@@ -290,10 +709,19 @@ public class SqlConnectionPool {
       }
       m_idleEntries.clear();
 
-      for (final PoolEntry busyEntry : m_busyEntries) {
+      for (final PoolEntry busyEntry : m_busyEntries.values()) {
         closeConnectionAsync(busyEntry.conn, "destroying SQL connection pool");
       }
       m_busyEntries.clear();
+
+      // wake up waiting callers, which fail because destroyed
+      for (final P_Waiter waiter : m_waiters) {
+        waiter.m_condition.signal();
+      }
+      m_waiters.clear();
+    }
+    finally {
+      m_poolLock.unlock();
     }
   }
 
@@ -310,4 +738,17 @@ public class SqlConnectionPool {
         .withName("Closing SQL connection [name={}, connection={}, reason={}]", m_name, connection, reason)
         .withExecutionHint(m_identity));
   }
+
+  /**
+   * Caller waiting for a connection. All access must be guarded by the lock.
+   */
+  private static final class P_Waiter {
+    private Condition m_condition;
+    private boolean m_served;
+    private PoolEntry m_entry; // null if served with a reserved slot
+
+    private boolean isServed() {
+      return m_served;
+    }
+  }
 }
@@ -46,6 +46,17 @@ public class BindModel {
     return m_ioTokens;
   }
 
+  /**
+   * @return a model with copies of all tokens, which can be modified independently of this model
+   */
+  public BindModel copy() {
+    IToken[] tokens = new IToken[m_allTokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = m_allTokens[i].copy();
+    }
+    return new BindModel(tokens);
+  }
+
   public String getFilteredStatement() {
     StringBuilder b = new StringBuilder();
     for (IToken m_allToken : m_allTokens) {
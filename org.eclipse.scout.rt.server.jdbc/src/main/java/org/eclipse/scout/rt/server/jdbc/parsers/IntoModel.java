@@ -28,4 +28,15 @@ public class IntoModel {
   public String getFilteredStatement() {
     return m_filteredStatement;
   }
+
+  /**
+   * @return a model with copies of all tokens, which can be modified independently of this model
+   */
+  public IntoModel copy() {
+    ValueOutputToken[] tokens = new ValueOutputToken[m_intoTokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = m_intoTokens[i].copy();
+    }
+    return new IntoModel(m_filteredStatement, tokens);
+  }
 }
@@ -93,4 +93,12 @@ public class FunctionInputToken implements IToken {
   public void setPlainSql(boolean b) {
     m_plainSql = b;
   }
+
+  @Override
+  public FunctionInputToken copy() {
+    FunctionInputToken t = new FunctionInputToken(m_parsedToken, m_name, m_args, m_plainValue, m_plainSql);
+    t.m_replaceToken = m_replaceToken;
+    t.m_plainToken = m_plainToken;
+    return t;
+  }
 }
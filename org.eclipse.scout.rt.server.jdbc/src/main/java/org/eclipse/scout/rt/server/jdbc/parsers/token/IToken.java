@@ -21,4 +21,14 @@ public interface IToken {
   boolean isInput();
 
   boolean isOutput();
+
+  /**
+   * @return a token with the same parsed content and state, which can be modified independently of this token. Tokens
+   *         without modifiable state may return themselves.
+   * @throws UnsupportedOperationException
+   *           if this token type does not support copying; StatementTemplate then parses the statement again
+   */
+  default IToken copy() {
+    throw new UnsupportedOperationException("Token type " + getClass().getName() + " does not support copy()");
+  }
 }
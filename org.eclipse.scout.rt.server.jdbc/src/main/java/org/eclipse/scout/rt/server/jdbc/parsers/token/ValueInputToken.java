@@ -44,6 +44,17 @@ public class ValueInputToken implements IToken {
     }
   }
 
+  private ValueInputToken(ValueInputToken template) {
+    m_parsedToken = template.m_parsedToken;
+    m_parsedOp = template.m_parsedOp;
+    m_parsedAttribute = template.m_parsedAttribute;
+    m_replaceToken = template.m_replaceToken;
+    m_name = template.m_name;
+    m_plainValue = template.m_plainValue;
+    m_plainSql = template.m_plainSql;
+    m_batch = template.m_batch;
+  }
+
   @Override
   public boolean isInput() {
     return true;
@@ -118,6 +129,11 @@ public class ValueInputToken implements IToken {
     m_batch = b;
   }
 
+  @Override
+  public ValueInputToken copy() {
+    return new ValueInputToken(this);
+  }
+
   @Override
   public String toString() {
     StringBuilder b = new StringBuilder();
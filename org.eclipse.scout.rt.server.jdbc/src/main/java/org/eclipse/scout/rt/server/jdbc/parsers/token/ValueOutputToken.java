@@ -30,6 +30,14 @@ public class ValueOutputToken implements IToken {
     }
   }
 
+  private ValueOutputToken(ValueOutputToken template) {
+    m_parsedToken = template.m_parsedToken;
+    m_replaceToken = template.m_replaceToken;
+    m_name = template.m_name;
+    m_batch = template.m_batch;
+    m_selectInto = template.m_selectInto;
+  }
+
   @Override
   public boolean isInput() {
     return false;
@@ -76,6 +84,11 @@ public class ValueOutputToken implements IToken {
     m_batch = b;
   }
 
+  @Override
+  public ValueOutputToken copy() {
+    return new ValueOutputToken(this);
+  }
+
   @Override
   public String toString() {
     StringBuilder b = new StringBuilder();
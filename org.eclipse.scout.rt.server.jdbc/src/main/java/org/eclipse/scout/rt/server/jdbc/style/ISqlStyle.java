@@ -17,6 +17,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 import org.eclipse.scout.rt.platform.holders.IHolder;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
@@ -154,6 +155,26 @@ public interface ISqlStyle extends Serializable {
    */
   void registerOutput(CallableStatement cs, int index, Class bindType) throws SQLException;
 
+  /**
+   * Computes the number of affected rows from the update counts returned by {@link PreparedStatement#executeBatch()}.
+   * Drivers may report {@link Statement#SUCCESS_NO_INFO} instead of the actual update count of a row.
+   * <p>
+   * The default sums up the update counts. Rows reported with {@link Statement#SUCCESS_NO_INFO} count as one affected
+   * row, rows reported with {@link Statement#EXECUTE_FAILED} as none.
+   */
+  default int getBatchUpdateCount(int[] updateCounts) {
+    int count = 0;
+    for (int updateCount : updateCounts) {
+      if (updateCount >= 0) {
+        count += updateCount;
+      }
+      else if (updateCount == Statement.SUCCESS_NO_INFO) {
+        count++;
+      }
+    }
+    return count;
+  }
+
   /**
    * test a connection before use<br />
    * Note: this method is called before *every* sql connection pool transaction<br />
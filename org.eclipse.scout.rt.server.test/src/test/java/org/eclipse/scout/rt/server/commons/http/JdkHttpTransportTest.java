@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.commons.http;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Version;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.scout.rt.platform.IgnoreBean;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.shared.http.DefaultHttpTransportManager;
+import org.eclipse.scout.rt.shared.http.IHttpTransportFactory;
+import org.eclipse.scout.rt.shared.http.JdkHttpTransport;
+import org.eclipse.scout.rt.shared.http.JdkHttpTransportFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.api.client.http.AbstractHttpContent;
+import com.google.api.client.http.ByteArrayContent;
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.InputStreamContent;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+
+/**
+ * Test of the Google HTTP Client API together with the {@link JdkHttpTransport}.
+ */
+public class JdkHttpTransportTest {
+  private P_HttpTransportManager m_client;
+  private TestingHttpServer m_server;
+
+  @Before
+  public void before() {
+    m_client = new P_HttpTransportManager();
+    m_server = new TestingHttpServer(TestingHttpPorts.PORT_33008);
+    m_server.start();
+  }
+
+  @After
+  public void after() {
+    m_client.stop();
+    m_server.stop();
+  }
+
+  @Test
+  public void testGet() throws IOException {
+    m_server.withServletGetHandler((req, resp) -> {
+      resp.setContentType("text/plain;charset=UTF-8");
+      resp.setHeader("X-Test", req.getHeader("X-Test"));
+      resp.getOutputStream().print("Hello " + req.getParameter("foo"));
+    });
+
+    HttpRequest req = m_client.getHttpRequestFactory().buildGetRequest(new GenericUrl(m_server.getServletUrl() + "?foo=bar"));
+    req.getHeaders().set("X-Test", "test");
+    HttpResponse resp = req.execute();
+    assertTrue(m_client.getHttpTransport() instanceof JdkHttpTransport);
+    assertEquals(200, resp.getStatusCode());
+    assertEquals(StandardCharsets.UTF_8, resp.getContentCharset());
+    assertEquals("test", resp.getHeaders().getFirstHeaderStringValue("X-Test"));
+    assertEquals("Hello bar", resp.parseAsString());
+  }
+
+  @Test
+  public void testPost() throws IOException {
+    m_server.withServletPostHandler((req, resp) -> {
+      assertEquals("application/octet-stream", req.getContentType());
+      assertEquals(3, req.getContentLength());
+      String arg = IOUtility.readString(req.getInputStream(), StandardCharsets.UTF_8.name(), req.getContentLength());
+      resp.setContentType("text/plain;charset=UTF-8");
+      resp.getOutputStream().print("Post " + arg);
+    });
+
+    HttpResponse resp = post("bar");
+    assertEquals(200, resp.getStatusCode());
+    assertEquals("Post bar", resp.parseAsString());
+  }
+
+  @Test
+  public void testPostStreamed() throws IOException {
+    m_server.withServletPostHandler((req, resp) -> {
+      byte[] body = IOUtility.readBytes(req.getInputStream());
+      resp.setContentType("text/plain;charset=UTF-8");
+      resp.getOutputStream().print(body.length + " " + Arrays.hashCode(body));
+    });
+
+    byte[] content = new byte[1024 * 1024];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    // content length is unknown, hence the body is sent chunked
+    HttpResponse resp = m_client.getHttpRequestFactory()
+        .buildPostRequest(new GenericUrl(m_server.getServletUrl()), new InputStreamContent("application/octet-stream", new ByteArrayInputStream(content)))
+        .execute();
+    assertEquals(200, resp.getStatusCode());
+    assertEquals(content.length + " " + Arrays.hashCode(content), resp.parseAsString());
+  }
+
+  @Test
+  public void testPostLargerThanBodyBuffer() throws IOException {
+    m_server.withServletPostHandler((req, resp) -> {
+      byte[] body = IOUtility.readBytes(req.getInputStream());
+      resp.setContentType("text/plain;charset=UTF-8");
+      resp.getOutputStream().print(body.length + " " + Arrays.hashCode(body));
+    });
+
+    byte[] content = new byte[P_JdkHttpTransport.LARGE_BODY_SIZE];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) (i % 251);
+    }
+    P_JdkHttpTransport transport = new P_JdkHttpTransport(((JdkHttpTransport) m_client.getHttpTransport()).getHttpClient());
+    assertEquals(content.length + " " + Arrays.hashCode(content), transport.postInPieces(m_server.getServletUrl().toString(), content, 1000));
+  }
+
+  @Test(expected = IOException.class)
+  public void testPostContentFailure() throws IOException {
+    m_server.withServletPostHandler((req, resp) -> IOUtility.readBytes(req.getInputStream()));
+
+    m_client.getHttpRequestFactory()
+        .buildPostRequest(new GenericUrl(m_server.getServletUrl()), new AbstractHttpContent("application/octet-stream") {
+          @Override
+          public void writeTo(OutputStream out) throws IOException {
+            out.write(new byte[128 * 1024]);
+            throw new IOException("Test exception - thrown");
+          }
+        })
+        .execute();
+  }
+
+  @Test
+  public void testVersion() throws IOException {
+    m_server.withServletPostHandler((req, resp) -> {
+      IOUtility.readBytes(req.getInputStream());
+      resp.setContentType("text/plain;charset=UTF-8");
+      resp.getOutputStream().print("ok");
+    });
+
+    P_JdkHttpTransport transport = new P_JdkHttpTransport(((JdkHttpTransport) m_client.getHttpTransport()).getHttpClient());
+    assertEquals(Version.HTTP_2, transport.getHttpClient().version());
+    // HTTP/2 requires https (ALPN), requests to plain http URLs use HTTP/1.1
+    assertEquals(Version.HTTP_1_1, transport.post(m_server.getServletUrl().toString(), "bar"));
+  }
+
+  @Test
+  public void testErrorStatus() throws IOException {
+    m_server.withServletPostHandler((req, resp) -> resp.sendError(503));
+
+    HttpResponse resp = post("bar");
+    assertEquals(503, resp.getStatusCode());
+    resp.disconnect();
+  }
+
+  @Test
+  public void testConcurrentRequests() throws Exception {
+    m_server.withServletPostHandler((req, resp) -> {
+      String arg = IOUtility.readString(req.getInputStream(), StandardCharsets.UTF_8.name(), req.getContentLength());
+      resp.setContentType("text/plain;charset=UTF-8");
+      resp.getOutputStream().print(arg);
+    });
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> futures = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        String arg = "request " + i;
+        futures.add(executor.submit((Callable<String>) () -> {
+          HttpResponse resp = post(arg);
+          try (InputStream in = resp.getContent()) {
+            return IOUtility.readString(in, StandardCharsets.UTF_8.name());
+          }
+        }));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        assertEquals("request " + i, futures.get(i).get());
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  protected HttpResponse post(String arg) throws IOException {
+    return m_client.getHttpRequestFactory()
+        .buildPostRequest(new GenericUrl(m_server.getServletUrl()), new ByteArrayContent("application/octet-stream", arg.getBytes(StandardCharsets.UTF_8)))
+        .execute();
+  }
+
+  private static class P_JdkHttpTransport extends JdkHttpTransport {
+    static final int LARGE_BODY_SIZE = 4 * BODY_BUFFER_SIZE + 1;
+
+    P_JdkHttpTransport(HttpClient httpClient) {
+      super(httpClient, null);
+    }
+
+    /**
+     * @return HTTP version of the response
+     */
+    Version post(String url, String arg) throws IOException {
+      byte[] content = arg.getBytes(StandardCharsets.UTF_8);
+      LowLevelHttpRequest req = buildRequest("POST", url);
+      req.setContentType("application/octet-stream");
+      req.setContentLength(content.length);
+      req.setStreamingContent(out -> out.write(content));
+      P_LowLevelHttpResponse resp = (P_LowLevelHttpResponse) req.execute();
+      try {
+        return resp.getVersion();
+      }
+      finally {
+        resp.disconnect();
+      }
+    }
+
+    /**
+     * Posts the content with a known length, written in pieces of the given size.
+     *
+     * @return response body
+     */
+    String postInPieces(String url, byte[] content, int pieceSize) throws IOException {
+      LowLevelHttpRequest req = buildRequest("POST", url);
+      req.setContentType("application/octet-stream");
+      req.setContentLength(content.length);
+      req.setStreamingContent(out -> {
+        for (int off = 0; off < content.length; off += pieceSize) {
+          out.write(content, off, Math.min(pieceSize, content.length - off));
+        }
+      });
+      LowLevelHttpResponse resp = req.execute();
+      try (InputStream in = resp.getContent()) {
+        return IOUtility.readString(in, StandardCharsets.UTF_8.name());
+      }
+    }
+  }
+
+  @IgnoreBean
+  private static class P_HttpTransportManager extends DefaultHttpTransportManager {
+
+    @Override
+    protected Class<? extends IHttpTransportFactory> getHttpTransportFactory() {
+      return JdkHttpTransportFactory.class;
+    }
+
+    public void stop() {
+      removeHttpTransport();
+    }
+  }
+}
@@ -29,5 +29,6 @@ public interface TestingHttpPorts {
   int PORT_33005 = 33005;
   int PORT_33006 = 33006;
   int PORT_33007 = 33007;
+  int PORT_33008 = 33008;
   //add new ports for every new test class
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+import org.eclipse.scout.rt.platform.util.date.UTCDate;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ColumnarObjectMatrix}
+ */
+public class ColumnarObjectMatrixTest {
+
+  private static final int ROW_COUNT = 1000;
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    Object[][] matrix = createMatrix(ROW_COUNT);
+    Object[][] actual = roundTrip(matrix, true);
+    assertEquals(ROW_COUNT, actual.length);
+    for (int r = 0; r < ROW_COUNT; r++) {
+      assertArrayEquals("row " + r, matrix[r], actual[r]);
+    }
+    assertSame(UTCDate.class, actual[0][6].getClass());
+  }
+
+  @Test
+  public void testSmallerThanJavaSerialization() throws Exception {
+    Object[][] matrix = createMatrix(ROW_COUNT);
+    int columnarSize = createObjectSerializer(true).serialize(matrix).length;
+    int defaultSize = createObjectSerializer(false).serialize(matrix).length;
+    assertTrue("columnar size " + columnarSize + " must be less than half of " + defaultSize, columnarSize * 2 < defaultSize);
+  }
+
+  @Test
+  public void testMixedTypesAndNullColumns() throws Exception {
+    Object[][] matrix = new Object[ColumnarObjectMatrix.MIN_ROW_COUNT][];
+    for (int r = 0; r < matrix.length; r++) {
+      matrix[r] = new Object[]{r % 2 == 0 ? (Object) Long.valueOf(r) : "text" + r, null, r % 3 == 0 ? null : Integer.valueOf(-r), r % 2 == 0,
+          new BigDecimal("-123456789012345678901234567890.5").scaleByPowerOfTen(40 - 10 * r)};
+    }
+    Object[][] actual = roundTrip(matrix, true);
+    for (int r = 0; r < matrix.length; r++) {
+      assertArrayEquals("row " + r, matrix[r], actual[r]);
+    }
+  }
+
+  @Test
+  public void testIsApplicable() {
+    assertTrue(ColumnarObjectMatrix.isApplicable(createMatrix(ColumnarObjectMatrix.MIN_ROW_COUNT)));
+    assertFalse(ColumnarObjectMatrix.isApplicable(createMatrix(ColumnarObjectMatrix.MIN_ROW_COUNT - 1)));
+    assertFalse(ColumnarObjectMatrix.isApplicable(new String[ColumnarObjectMatrix.MIN_ROW_COUNT][1]));
+
+    Object[][] ragged = createMatrix(ColumnarObjectMatrix.MIN_ROW_COUNT);
+    ragged[3] = new Object[1];
+    assertFalse(ColumnarObjectMatrix.isApplicable(ragged));
+
+    assertFalse(ColumnarObjectMatrix.isApplicable(new Object[ColumnarObjectMatrix.MIN_ROW_COUNT][ColumnarObjectMatrix.MAX_COLUMN_COUNT + 1]));
+  }
+
+  @Test
+  public void testRejectsExcessiveCounts() throws Exception {
+    assertRejected(InvalidObjectException.class, 1, 16, 1); // old format version
+    assertRejected(InvalidObjectException.class, 2, ColumnarObjectMatrix.MAX_CELL_COUNT + 1, 1);
+    assertRejected(InvalidObjectException.class, 2, 16, ColumnarObjectMatrix.MAX_COLUMN_COUNT + 1);
+    assertRejected(InvalidObjectException.class, 2, ColumnarObjectMatrix.MAX_CELL_COUNT / 2, 3);
+    assertRejected(InvalidObjectException.class, 2, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    assertRejected(InvalidObjectException.class, 2, 16, 0);
+    // string column (type 5) without null values, with a dictionary larger than the number of values
+    assertRejected(InvalidObjectException.class, 2, 16, 1, 5, 0, 0, 17);
+    // string column with a string length beyond the maximum
+    assertRejected(InvalidObjectException.class, 2, 16, 1, 5, 0, 0, 1, Integer.MAX_VALUE);
+    // string column with an invalid dictionary index
+    assertRejected(InvalidObjectException.class, 2, 16, 1, 5, 0, 0, 1, 1, 'a', 1);
+  }
+
+  @Test
+  public void testTruncatedInput() throws Exception {
+    // declared sizes are within the bounds, but the data is missing
+    assertRejected(EOFException.class, 2, ColumnarObjectMatrix.MAX_CELL_COUNT, 1, 1);
+    assertRejected(EOFException.class, 2, 16, 1, 5, 0, 0, 1, 8 * 1024 * 1024);
+  }
+
+  /**
+   * @param values
+   *          written as variable length numbers, except the format version and column types which are bytes
+   */
+  protected void assertRejected(Class<? extends IOException> expectedException, long... values) throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeByte((int) values[0]);
+      for (int i = 1; i < values.length; i++) {
+        if (i == 3) {
+          out.writeByte((int) values[i]); // column type
+        }
+        else if (i == 4 || i == 5) {
+          out.writeByte((int) values[i]); // null bitmap of 16 rows
+        }
+        else {
+          writeVarLong(out, values[i]);
+        }
+      }
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      new ColumnarObjectMatrix().readExternal(in);
+      fail("expected " + expectedException.getSimpleName());
+    }
+    catch (IOException e) {
+      assertSame(expectedException, e.getClass());
+    }
+  }
+
+  protected void writeVarLong(ObjectOutputStream out, long v) throws IOException {
+    while ((v & ~0x7FL) != 0) {
+      out.writeByte((int) ((v & 0x7F) | 0x80));
+      v >>>= 7;
+    }
+    out.writeByte((int) v);
+  }
+
+  @Test
+  public void testDisabledByDefault() throws Exception {
+    Object[][] matrix = createMatrix(ROW_COUNT);
+    byte[] data = createObjectSerializer(false).serialize(matrix);
+    assertFalse(new String(data, StandardCharsets.ISO_8859_1).contains(ColumnarObjectMatrix.class.getName()));
+    // columnar data is always resolved
+    Object[][] actual = createObjectSerializer(false).deserialize(createObjectSerializer(true).serialize(matrix), Object[][].class);
+    assertArrayEquals(matrix[ROW_COUNT - 1], actual[ROW_COUNT - 1]);
+  }
+
+  protected Object[][] createMatrix(int rowCount) {
+    Date date = new Date(1_600_000_000_000L);
+    Object[][] matrix = new Object[rowCount][];
+    for (int r = 0; r < rowCount; r++) {
+      matrix[r] = new Object[]{
+          Long.valueOf(100_000 + r),
+          "Company " + (r % 10),
+          r % 5 == 0 ? null : "Name " + r,
+          new Date(date.getTime() + r * 60_000L),
+          Double.valueOf(r / 4d),
+          new BigDecimal(r).movePointLeft(2),
+          new UTCDate(date.getTime()),
+          r % 7 == 0 ? null : Boolean.valueOf(r % 2 == 0)};
+    }
+    return matrix;
+  }
+
+  protected Object[][] roundTrip(Object[][] matrix, boolean columnarEncoding) throws Exception {
+    IObjectSerializer serializer = createObjectSerializer(columnarEncoding);
+    return serializer.deserialize(serializer.serialize(matrix), Object[][].class);
+  }
+
+  protected IObjectSerializer createObjectSerializer(boolean columnarEncoding) {
+    return SerializationUtility.createObjectSerializer(new ServiceTunnelObjectReplacer(columnarEncoding));
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.eclipse.scout.rt.shared.servicetunnel.fixture.PersonFormData;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link CompactServiceTunnelContentHandler}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CompactServiceTunnelContentHandlerTest {
+
+  @Test
+  public void testRequest() throws Exception {
+    CompactServiceTunnelContentHandler handler = new CompactServiceTunnelContentHandler();
+    handler.initialize();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, createRequest(10));
+    ServiceTunnelRequest request = handler.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals("test", request.getServiceInterfaceClassName());
+    PersonFormData formData = (PersonFormData) request.getArgs()[0];
+    assertEquals("Smith", formData.getName().getValue());
+    assertEquals(Long.valueOf(4711L), formData.getPersonNrProperty().getValue());
+    assertEquals(10, formData.getAddresses().getRowCount());
+    assertEquals("City 2", ((PersonFormData.AddressesRowData) formData.getAddresses().rowAt(7)).getCity());
+  }
+
+  @Test
+  public void testResponse() throws Exception {
+    CompactServiceTunnelContentHandler handler = new CompactServiceTunnelContentHandler();
+    handler.initialize();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, new ServiceTunnelResponse(PersonFormData.create(3)));
+    ServiceTunnelResponse response = handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals(Boolean.TRUE, ((PersonFormData) response.getData()).getActive().getValue());
+  }
+
+  @Test
+  public void testSmallerThanBinary() throws Exception {
+    ServiceTunnelRequest request = createRequest(10);
+    int compactSize = writeRequest(new CompactServiceTunnelContentHandler(), request);
+    int binarySize = writeRequest(new BinaryServiceTunnelContentHandler(), request);
+    assertTrue("compact size " + compactSize + " must be less than " + binarySize, compactSize < binarySize);
+  }
+
+  protected static ServiceTunnelRequest createRequest(int addressCount) {
+    return new ServiceTunnelRequest("test", "store", new Class[]{PersonFormData.class}, new Object[]{PersonFormData.create(addressCount)});
+  }
+
+  protected static int writeRequest(IServiceTunnelContentHandler handler, ServiceTunnelRequest request) throws IOException {
+    handler.initialize();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, request);
+    return bos.size();
+  }
+}
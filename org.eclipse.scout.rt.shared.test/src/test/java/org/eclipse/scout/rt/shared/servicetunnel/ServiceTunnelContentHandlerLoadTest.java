@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.shared.servicetunnel.fixture.PersonFormData;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares size and time of writing and reading a request with form data using different content handlers.
+ */
+@Category(ResourceIntensiveTest.class)
+@RunWith(PlatformTestRunner.class)
+public class ServiceTunnelContentHandlerLoadTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ServiceTunnelContentHandlerLoadTest.class);
+
+  private static final int WARMUP_COUNT = 2_000;
+  private static final int COUNT = 10_000;
+  private static final int ADDRESS_COUNT = 20;
+
+  @Test
+  public void testBinary() throws Exception {
+    runLoad(new BinaryServiceTunnelContentHandler());
+  }
+
+  @Test
+  public void testCompact() throws Exception {
+    runLoad(new CompactServiceTunnelContentHandler());
+  }
+
+  protected void runLoad(IServiceTunnelContentHandler handler) throws Exception {
+    handler.initialize();
+    ServiceTunnelRequest request = new ServiceTunnelRequest("test", "store", new Class[]{PersonFormData.class}, new Object[]{PersonFormData.create(ADDRESS_COUNT)});
+    for (int i = 0; i < WARMUP_COUNT; i++) {
+      roundTrip(handler, request);
+    }
+    int size = 0;
+    long t0 = System.nanoTime();
+    for (int i = 0; i < COUNT; i++) {
+      size = roundTrip(handler, request);
+    }
+    long t1 = System.nanoTime();
+    LOG.info("{}: {} bytes, {} round trips in {} ms ({} us/round trip)", handler.getClass().getSimpleName(), size, COUNT, TimeUnit.NANOSECONDS.toMillis(t1 - t0),
+        TimeUnit.NANOSECONDS.toMicros(t1 - t0) / COUNT);
+  }
+
+  protected int roundTrip(IServiceTunnelContentHandler handler, ServiceTunnelRequest request) throws Exception {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, request);
+    handler.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+    return bos.size();
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.fixture;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractValueFieldData;
+import org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldBeanData;
+import org.eclipse.scout.rt.shared.data.form.properties.AbstractPropertyData;
+
+/**
+ * Form data with value fields of common types and a table field, used to compare service tunnel content handlers.
+ */
+public class PersonFormData extends AbstractFormData {
+  private static final long serialVersionUID = 1L;
+
+  public PersonFormData() {
+  }
+
+  public PersonNrProperty getPersonNrProperty() {
+    return getPropertyByClass(PersonNrProperty.class);
+  }
+
+  public Name getName() {
+    return getFieldByClass(Name.class);
+  }
+
+  public FirstName getFirstName() {
+    return getFieldByClass(FirstName.class);
+  }
+
+  public Birthday getBirthday() {
+    return getFieldByClass(Birthday.class);
+  }
+
+  public Salary getSalary() {
+    return getFieldByClass(Salary.class);
+  }
+
+  public Active getActive() {
+    return getFieldByClass(Active.class);
+  }
+
+  public Addresses getAddresses() {
+    return getFieldByClass(Addresses.class);
+  }
+
+  /**
+   * @return a form data with all values set and the given number of addresses
+   */
+  public static PersonFormData create(int addressCount) {
+    PersonFormData formData = new PersonFormData();
+    formData.getPersonNrProperty().setValue(4711L);
+    formData.getName().setValue("Smith");
+    formData.getFirstName().setValue("John");
+    formData.getBirthday().setValue(new Date(0));
+    formData.getSalary().setValue(new BigDecimal("8500.50"));
+    formData.getActive().setValue(Boolean.TRUE);
+    for (int i = 0; i < addressCount; i++) {
+      AddressesRowData row = formData.getAddresses().addRow();
+      row.setStreet("Street " + i);
+      row.setCity("City " + (i % 5));
+    }
+    return formData;
+  }
+
+  public static class PersonNrProperty extends AbstractPropertyData<Long> {
+    private static final long serialVersionUID = 1L;
+
+    public PersonNrProperty() {
+    }
+  }
+
+  public static class Name extends AbstractValueFieldData<String> {
+    private static final long serialVersionUID = 1L;
+
+    public Name() {
+    }
+  }
+
+  public static class FirstName extends AbstractValueFieldData<String> {
+    private static final long serialVersionUID = 1L;
+
+    public FirstName() {
+    }
+  }
+
+  public static class Birthday extends AbstractValueFieldData<Date> {
+    private static final long serialVersionUID = 1L;
+
+    public Birthday() {
+    }
+  }
+
+  public static class Salary extends AbstractValueFieldData<BigDecimal> {
+    private static final long serialVersionUID = 1L;
+
+    public Salary() {
+    }
+  }
+
+  public static class Active extends AbstractValueFieldData<Boolean> {
+    private static final long serialVersionUID = 1L;
+
+    public Active() {
+    }
+  }
+
+  public static class Addresses extends AbstractTableFieldBeanData {
+    private static final long serialVersionUID = 1L;
+
+    public Addresses() {
+    }
+
+    @Override
+    public AddressesRowData addRow() {
+      return (AddressesRowData) super.addRow();
+    }
+
+    @Override
+    public AddressesRowData createRow() {
+      return new AddressesRowData();
+    }
+
+    @Override
+    public Class<? extends AbstractTableRowData> getRowType() {
+      return AddressesRowData.class;
+    }
+  }
+
+  public static class AddressesRowData extends AbstractTableRowData {
+    private static final long serialVersionUID = 1L;
+
+    private String m_street;
+    private String m_city;
+
+    public AddressesRowData() {
+    }
+
+    public String getStreet() {
+      return m_street;
+    }
+
+    public void setStreet(String street) {
+      m_street = street;
+    }
+
+    public String getCity() {
+      return m_city;
+    }
+
+    public void setCity(String city) {
+      m_city = city;
+    }
+  }
+}
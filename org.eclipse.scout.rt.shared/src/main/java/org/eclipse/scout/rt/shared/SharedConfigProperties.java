@@ -205,6 +205,25 @@ public final class SharedConfigProperties {
     }
   }
 
+  public static class ColumnarServiceTunnelEncodingProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the service tunnel should send tabular data (Object[][] with at least 16 rows) column by column with typed, dictionary and delta encoded values instead of as individual objects. "
+          + "Received tabular data is always decoded, hence this property may be enabled on the client and the server independently. The default value is false.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.columnarEncoding";
+    }
+  }
+
   public static class CreateTunnelToServerBeansProperty extends AbstractBooleanConfigProperty {
 
     @Override
@@ -0,0 +1,524 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.CookieHandler;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.util.StreamingContent;
+
+/**
+ * {@link HttpTransport} based on the {@link HttpClient} of the JDK, which supports HTTP/2. With HTTP/2, concurrent
+ * requests to the same server are multiplexed over a single connection instead of requiring one connection per
+ * request.
+ * <p>
+ * HTTP/2 is only used for <code>https</code> URLs, where it is negotiated by ALPN during the TLS handshake. If the
+ * server does not support HTTP/2, HTTP/1.1 is used. Requests to plain <code>http</code> URLs always use HTTP/1.1: the
+ * {@link HttpClient} would only try an h2c upgrade for requests without a body, hence service calls (POST requests)
+ * would never be multiplexed.
+ * <p>
+ * The request body is streamed: it is written by the thread executing the request into a bounded buffer while the
+ * {@link HttpClient} sends it, without buffering the whole body in memory.
+ * <p>
+ * Cookies are handled by the given {@link CookieHandler} in the thread executing the request (and not in a thread of
+ * the {@link HttpClient}), so that cookie stores depending on the current session work as expected.
+ *
+ * @since 11.0
+ */
+public class JdkHttpTransport extends HttpTransport {
+
+  /**
+   * Headers set by the {@link HttpClient} itself.
+   */
+  private static final Set<String> RESTRICTED_HEADERS = new HashSet<>(Arrays.asList("connection", "content-length", "expect", "host", "upgrade"));
+
+  /**
+   * Size of the buffer between the thread writing the request body and the {@link HttpClient} sending it.
+   */
+  protected static final int BODY_BUFFER_SIZE = 64 * 1024;
+
+  private final HttpClient m_httpClient;
+  private final CookieHandler m_cookieHandler;
+
+  /**
+   * @param cookieHandler
+   *          handler for cookies or <code>null</code> if cookies are not handled
+   */
+  public JdkHttpTransport(HttpClient httpClient, CookieHandler cookieHandler) {
+    m_httpClient = httpClient;
+    m_cookieHandler = cookieHandler;
+  }
+
+  public HttpClient getHttpClient() {
+    return m_httpClient;
+  }
+
+  public CookieHandler getCookieHandler() {
+    return m_cookieHandler;
+  }
+
+  @Override
+  public boolean supportsMethod(String method) {
+    return true;
+  }
+
+  @Override
+  protected LowLevelHttpRequest buildRequest(String method, String url) {
+    return new P_LowLevelHttpRequest(method, URI.create(url));
+  }
+
+  protected class P_LowLevelHttpRequest extends LowLevelHttpRequest {
+    private final String m_method;
+    private final URI m_uri;
+    private final Map<String, List<String>> m_headers = new LinkedHashMap<>();
+    private int m_readTimeout;
+
+    protected P_LowLevelHttpRequest(String method, URI uri) {
+      m_method = method;
+      m_uri = uri;
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+      if (RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+        return;
+      }
+      m_headers.computeIfAbsent(name, k -> new ArrayList<>()).add(value);
+    }
+
+    /**
+     * The connect timeout is a setting of the {@link HttpClient} and therefore ignored.
+     */
+    @Override
+    public void setTimeout(int connectTimeout, int readTimeout) {
+      m_readTimeout = readTimeout;
+    }
+
+    @Override
+    public LowLevelHttpResponse execute() throws IOException {
+      if (getContentType() != null && !containsHeader("Content-Type")) {
+        addHeader("Content-Type", getContentType());
+      }
+      if (getContentEncoding() != null && !containsHeader("Content-Encoding")) {
+        addHeader("Content-Encoding", getContentEncoding());
+      }
+      if (m_cookieHandler != null) {
+        for (Entry<String, List<String>> entry : m_cookieHandler.get(m_uri, m_headers).entrySet()) {
+          for (String value : entry.getValue()) {
+            addHeader(entry.getKey(), value);
+          }
+        }
+      }
+
+      HttpRequest.Builder builder = HttpRequest.newBuilder(m_uri);
+      if (!"https".equalsIgnoreCase(m_uri.getScheme())) {
+        // HTTP/2 requires ALPN (see class comment)
+        builder.version(Version.HTTP_1_1);
+      }
+      if (m_readTimeout > 0) {
+        builder.timeout(Duration.ofMillis(m_readTimeout));
+      }
+      for (Entry<String, List<String>> entry : m_headers.entrySet()) {
+        for (String value : entry.getValue()) {
+          builder.header(entry.getKey(), value);
+        }
+      }
+
+      HttpResponse<InputStream> response;
+      StreamingContent content = getStreamingContent();
+      if (content == null || getContentLength() == 0) {
+        builder.method(m_method, BodyPublishers.noBody());
+        response = awaitResponse(m_httpClient.sendAsync(builder.build(), BodyHandlers.ofInputStream()));
+      }
+      else {
+        response = sendStreaming(builder, content);
+      }
+      if (m_cookieHandler != null) {
+        m_cookieHandler.put(m_uri, response.headers().map());
+      }
+      return new P_LowLevelHttpResponse(response);
+    }
+
+    /**
+     * Sends the request while the content is written to a {@link P_BodyBuffer} by the current thread. The
+     * {@link HttpClient} reads the buffer in one of its own threads.
+     */
+    protected HttpResponse<InputStream> sendStreaming(HttpRequest.Builder builder, StreamingContent content) throws IOException {
+      P_BodyBuffer buffer = new P_BodyBuffer(BODY_BUFFER_SIZE);
+      builder.method(m_method, createBodyPublisher(buffer.getInputStream()));
+      CompletableFuture<HttpResponse<InputStream>> future = m_httpClient.sendAsync(builder.build(), BodyHandlers.ofInputStream());
+      // a writer blocked on a full buffer must not wait forever if the request failed or was answered early
+      future.whenComplete((response, t) -> buffer.abort());
+      try {
+        OutputStream out = buffer.getOutputStream();
+        content.writeTo(out);
+        out.close();
+      }
+      catch (IOException | RuntimeException e) {
+        if (!buffer.isAborted()) {
+          // abort the request instead of sending a truncated body
+          buffer.abort();
+          throw e;
+        }
+        // the buffer was aborted because the request completed, its result is more relevant
+      }
+      return awaitResponse(future);
+    }
+
+    protected HttpResponse<InputStream> awaitResponse(CompletableFuture<HttpResponse<InputStream>> future) throws IOException {
+      try {
+        return future.get();
+      }
+      catch (InterruptedException e) {
+        future.cancel(true);
+        Thread.currentThread().interrupt();
+        InterruptedIOException ioe = new InterruptedIOException("Interrupted while executing " + m_method + " " + m_uri);
+        ioe.initCause(e);
+        throw ioe;
+      }
+      catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof IOException) {
+          throw (IOException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new IOException("Failed to execute " + m_method + " " + m_uri, cause);
+      }
+    }
+
+    protected boolean containsHeader(String name) {
+      return m_headers.keySet().stream().anyMatch(name::equalsIgnoreCase);
+    }
+
+    /**
+     * @return publisher reading the body from the given stream, with a fixed length if the content length is known
+     */
+    protected BodyPublisher createBodyPublisher(InputStream in) {
+      BodyPublisher publisher = BodyPublishers.ofInputStream(() -> in);
+      if (getContentLength() > 0) {
+        return BodyPublishers.fromPublisher(publisher, getContentLength());
+      }
+      return publisher;
+    }
+  }
+
+  /**
+   * Bounded buffer handing the request body over from the thread writing it to the {@link HttpClient} reading it. In
+   * contrast to a pipe, it is not bound to particular threads: the writer only blocks while the buffer is full and the
+   * reader only while it is empty.
+   * <p>
+   * {@link #abort()} discards the buffered content and wakes up both sides: the writer fails and the reader fails as
+   * well, so that the request is not sent with a truncated body.
+   */
+  protected static class P_BodyBuffer {
+    private final byte[] m_buffer;
+    private final ReentrantLock m_lock = new ReentrantLock();
+    private final Condition m_readable = m_lock.newCondition();
+    private final Condition m_writable = m_lock.newCondition();
+    private final OutputStream m_out = new P_BodyOutputStream();
+    private final InputStream m_in = new P_BodyInputStream();
+    private int m_readPos;
+    private int m_size;
+    private boolean m_complete;
+    private boolean m_aborted;
+
+    public P_BodyBuffer(int capacity) {
+      m_buffer = new byte[capacity];
+    }
+
+    /**
+     * @return stream to write the body to, closing it marks the end of the body
+     */
+    public OutputStream getOutputStream() {
+      return m_out;
+    }
+
+    /**
+     * @return stream to read the body from
+     */
+    public InputStream getInputStream() {
+      return m_in;
+    }
+
+    public void abort() {
+      m_lock.lock();
+      try {
+        m_aborted = true;
+        m_size = 0;
+        m_readable.signalAll();
+        m_writable.signalAll();
+      }
+      finally {
+        m_lock.unlock();
+      }
+    }
+
+    public boolean isAborted() {
+      m_lock.lock();
+      try {
+        return m_aborted;
+      }
+      finally {
+        m_lock.unlock();
+      }
+    }
+
+    protected void write(byte[] b, int off, int len) throws IOException {
+      m_lock.lock();
+      try {
+        while (len > 0) {
+          while (!m_aborted && !m_complete && m_size == m_buffer.length) {
+            await(m_writable);
+          }
+          if (m_aborted) {
+            throw new IOException("Request body was aborted");
+          }
+          if (m_complete) {
+            throw new IOException("Stream closed");
+          }
+          int n = Math.min(len, m_buffer.length - m_size);
+          int writePos = (m_readPos + m_size) % m_buffer.length;
+          int first = Math.min(n, m_buffer.length - writePos);
+          System.arraycopy(b, off, m_buffer, writePos, first);
+          System.arraycopy(b, off + first, m_buffer, 0, n - first);
+          m_size += n;
+          off += n;
+          len -= n;
+          m_readable.signal();
+        }
+      }
+      finally {
+        m_lock.unlock();
+      }
+    }
+
+    protected void complete() {
+      m_lock.lock();
+      try {
+        m_complete = true;
+        m_readable.signalAll();
+      }
+      finally {
+        m_lock.unlock();
+      }
+    }
+
+    protected int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      m_lock.lock();
+      try {
+        while (!m_aborted && !m_complete && m_size == 0) {
+          await(m_readable);
+        }
+        if (m_aborted) {
+          throw new IOException("Request body was aborted");
+        }
+        if (m_size == 0) {
+          return -1;
+        }
+        int n = Math.min(len, m_size);
+        int first = Math.min(n, m_buffer.length - m_readPos);
+        System.arraycopy(m_buffer, m_readPos, b, off, first);
+        System.arraycopy(m_buffer, 0, b, off + first, n - first);
+        m_readPos = (m_readPos + n) % m_buffer.length;
+        m_size -= n;
+        m_writable.signal();
+        return n;
+      }
+      finally {
+        m_lock.unlock();
+      }
+    }
+
+    protected void await(Condition condition) throws InterruptedIOException {
+      try {
+        condition.await();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        InterruptedIOException ioe = new InterruptedIOException("Interrupted while transferring the request body");
+        ioe.initCause(e);
+        throw ioe;
+      }
+    }
+
+    protected class P_BodyOutputStream extends OutputStream {
+
+      @Override
+      public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        P_BodyBuffer.this.write(b, off, len);
+      }
+
+      @Override
+      public void close() {
+        complete();
+      }
+    }
+
+    protected class P_BodyInputStream extends InputStream {
+
+      @Override
+      public int read() throws IOException {
+        byte[] b = new byte[1];
+        int n = read(b, 0, 1);
+        return n < 0 ? -1 : b[0] & 0xff;
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        return P_BodyBuffer.this.read(b, off, len);
+      }
+
+      /**
+       * Closing the stream before the end of the body was read aborts the transfer.
+       */
+      @Override
+      public void close() {
+        m_lock.lock();
+        try {
+          if (!m_complete || m_size > 0) {
+            abort();
+          }
+        }
+        finally {
+          m_lock.unlock();
+        }
+      }
+    }
+  }
+
+  protected static class P_LowLevelHttpResponse extends LowLevelHttpResponse {
+    private final HttpResponse<InputStream> m_response;
+    private final List<String> m_headerNames = new ArrayList<>();
+    private final List<String> m_headerValues = new ArrayList<>();
+
+    protected P_LowLevelHttpResponse(HttpResponse<InputStream> response) {
+      m_response = response;
+      for (Entry<String, List<String>> entry : response.headers().map().entrySet()) {
+        if (entry.getKey().startsWith(":")) {
+          continue; // HTTP/2 pseudo header
+        }
+        for (String value : entry.getValue()) {
+          m_headerNames.add(entry.getKey());
+          m_headerValues.add(value);
+        }
+      }
+    }
+
+    /**
+     * @return HTTP version negotiated for this response
+     */
+    public Version getVersion() {
+      return m_response.version();
+    }
+
+    @Override
+    public InputStream getContent() {
+      return m_response.body();
+    }
+
+    @Override
+    public String getContentEncoding() {
+      return m_response.headers().firstValue("Content-Encoding").orElse(null);
+    }
+
+    @Override
+    public long getContentLength() {
+      return m_response.headers().firstValueAsLong("Content-Length").orElse(-1);
+    }
+
+    @Override
+    public String getContentType() {
+      return m_response.headers().firstValue("Content-Type").orElse(null);
+    }
+
+    @Override
+    public String getStatusLine() {
+      return (m_response.version() == Version.HTTP_2 ? "HTTP/2 " : "HTTP/1.1 ") + m_response.statusCode();
+    }
+
+    @Override
+    public int getStatusCode() {
+      return m_response.statusCode();
+    }
+
+    /**
+     * The {@link HttpClient} does not provide the reason phrase.
+     */
+    @Override
+    public String getReasonPhrase() {
+      return null;
+    }
+
+    @Override
+    public int getHeaderCount() {
+      return m_headerNames.size();
+    }
+
+    @Override
+    public String getHeaderName(int index) {
+      return m_headerNames.get(index);
+    }
+
+    @Override
+    public String getHeaderValue(int index) {
+      return m_headerValues.get(index);
+    }
+
+    @Override
+    public void disconnect() throws IOException {
+      m_response.body().close();
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.http;
+
+import java.net.CookieHandler;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Builder;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.shared.http.proxy.ConfigurableProxySelector;
+import org.eclipse.scout.rt.shared.servicetunnel.http.MultiSessionCookieStore;
+
+import com.google.api.client.http.HttpTransport;
+
+/**
+ * Factory to create {@link JdkHttpTransport} instances, which use HTTP/2 if supported by the server.
+ */
+public class JdkHttpTransportFactory implements IHttpTransportFactory {
+
+  @Override
+  public HttpTransport newHttpTransport(IHttpTransportManager manager) {
+    Builder builder = HttpClient.newBuilder()
+        .version(Version.HTTP_2)
+        // redirects are followed by com.google.api.client.http.HttpRequest
+        .followRedirects(Redirect.NEVER);
+
+    installConfigurableProxySelector(builder);
+
+    interceptNewHttpTransport(builder, manager);
+    manager.interceptNewHttpTransport(new JdkHttpTransportBuilder(builder));
+
+    return new JdkHttpTransport(builder.build(), createCookieHandler());
+  }
+
+  /**
+   * Install an instance of the {@link ConfigurableProxySelector} to select proxies.
+   */
+  protected void installConfigurableProxySelector(Builder builder) {
+    builder.proxy(BEANS.get(ConfigurableProxySelector.class));
+  }
+
+  /**
+   * @return a {@link CookieHandler} with a {@link MultiSessionCookieStore} to store cookies by session.
+   */
+  protected CookieHandler createCookieHandler() {
+    return new CookieManager(BEANS.get(MultiSessionCookieStore.class), CookiePolicy.ACCEPT_ALL);
+  }
+
+  /**
+   * Intercept the building of the new {@link HttpTransport}.
+   */
+  protected void interceptNewHttpTransport(Builder builder, IHttpTransportManager manager) {
+    // nop
+  }
+
+  public static class JdkHttpTransportBuilder implements IHttpTransportBuilder {
+    private final Builder m_builder;
+
+    public JdkHttpTransportBuilder(Builder builder) {
+      m_builder = builder;
+    }
+
+    public Builder getBuilder() {
+      return m_builder;
+    }
+  }
+}
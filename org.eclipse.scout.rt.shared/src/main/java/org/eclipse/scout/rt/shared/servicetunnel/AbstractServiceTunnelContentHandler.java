@@ -13,6 +13,7 @@ package org.eclipse.scout.rt.shared.servicetunnel;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
 import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ColumnarServiceTunnelEncodingProperty;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.CompressServiceTunnelRequestProperty;
 
 abstract class AbstractServiceTunnelContentHandler implements IServiceTunnelContentHandler {
@@ -31,7 +32,7 @@ abstract class AbstractServiceTunnelContentHandler implements IServiceTunnelCont
    * @since 3.8.2
    */
   protected IObjectSerializer createObjectSerializer() {
-    return SerializationUtility.createObjectSerializer(new ServiceTunnelObjectReplacer());
+    return SerializationUtility.createObjectSerializer(new ServiceTunnelObjectReplacer(CONFIG.getPropertyValue(ColumnarServiceTunnelEncodingProperty.class)));
   }
 
   protected Boolean isSendCompressed() {
@@ -0,0 +1,536 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.util.date.UTCDate;
+
+/**
+ * Columnar wire representation of a rectangular <code>Object[][]</code> (e.g. the result of a SQL select), used by
+ * {@link ServiceTunnelObjectReplacer} if enabled.
+ * <p>
+ * Instead of writing each cell as an object with its own header, the values of a column are written as one block
+ * according to the type shared by all non-null values of the column:
+ * <ul>
+ * <li>{@link Long} and {@link Integer} values as delta to the previous value, in a variable length encoding.</li>
+ * <li>{@link String} values as a dictionary of the distinct values and an index per cell.</li>
+ * <li>{@link Date} values (except {@link UTCDate}) like {@link StaticDate}, i.e. as local date and time independent of
+ * the time zone, delta encoded in milliseconds. {@link UTCDate} values as delta encoded milliseconds.</li>
+ * <li>{@link BigDecimal} values as scale and unscaled value.</li>
+ * <li>{@link Double} and {@link Boolean} values as primitives.</li>
+ * <li>Values of all other columns as objects.</li>
+ * </ul>
+ * Null values are marked in a bitmap per column.
+ * <p>
+ * As the data is read from untrusted input, all counts and lengths are bounded (see {@link #MAX_CELL_COUNT}) and
+ * arrays are only allocated in proportion to the data which was actually read.
+ *
+ * @since 11.0
+ */
+public class ColumnarObjectMatrix implements Externalizable {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Minimum number of rows for which the columnar representation is used. Below, the overhead of the column headers
+   * outweighs the per-cell savings.
+   */
+  public static final int MIN_ROW_COUNT = 16;
+
+  /**
+   * Maximum number of columns.
+   */
+  public static final int MAX_COLUMN_COUNT = 4096;
+
+  /**
+   * Maximum number of cells (rows * columns).
+   */
+  public static final int MAX_CELL_COUNT = 20_000_000;
+
+  private static final int MAX_STRING_BYTES = 16 * 1024 * 1024;
+  private static final int MAX_BIG_INTEGER_BYTES = 4096;
+  private static final int READ_CHUNK_SIZE = 64 * 1024;
+
+  private static final byte FORMAT_VERSION = 2;
+
+  private static final byte COLUMN_NULL = 0;
+  private static final byte COLUMN_LONG = 1;
+  private static final byte COLUMN_INTEGER = 2;
+  private static final byte COLUMN_DOUBLE = 3;
+  private static final byte COLUMN_BOOLEAN = 4;
+  private static final byte COLUMN_STRING = 5;
+  private static final byte COLUMN_DATE = 6;
+  private static final byte COLUMN_OBJECT = 7;
+  private static final byte COLUMN_UTC_DATE = 8;
+  private static final byte COLUMN_BIG_DECIMAL = 9;
+
+  private Object[][] m_matrix;
+
+  /**
+   * Constructor for deserialization only.
+   */
+  public ColumnarObjectMatrix() {
+  }
+
+  public ColumnarObjectMatrix(Object[][] matrix) {
+    m_matrix = matrix;
+  }
+
+  public Object[][] getMatrix() {
+    return m_matrix;
+  }
+
+  /**
+   * @return <code>true</code> if the given matrix has at least {@link #MIN_ROW_COUNT} rows of type <code>Object[]</code>,
+   *         all of the same length, and does not exceed {@link #MAX_COLUMN_COUNT} and {@link #MAX_CELL_COUNT}.
+   */
+  public static boolean isApplicable(Object[][] matrix) {
+    if (matrix == null || matrix.getClass() != Object[][].class || matrix.length < MIN_ROW_COUNT) {
+      return false;
+    }
+    Object[] first = matrix[0];
+    if (first == null || first.length == 0 || first.length > MAX_COLUMN_COUNT || (long) matrix.length * first.length > MAX_CELL_COUNT) {
+      return false;
+    }
+    for (Object[] row : matrix) {
+      if (row == null || row.getClass() != Object[].class || row.length != first.length) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void writeExternal(ObjectOutput out) throws IOException {
+    int rowCount = m_matrix.length;
+    int columnCount = rowCount > 0 ? m_matrix[0].length : 0;
+    out.writeByte(FORMAT_VERSION);
+    writeVarInt(out, rowCount);
+    writeVarInt(out, columnCount);
+    ZoneRules zoneRules = ZoneId.systemDefault().getRules();
+    for (int col = 0; col < columnCount; col++) {
+      byte type = getColumnType(col);
+      out.writeByte(type);
+      // also written for null columns, so that the reader never allocates rows without having read data for them
+      writeNullBitmap(out, col);
+      if (type == COLUMN_NULL) {
+        continue;
+      }
+      switch (type) {
+        case COLUMN_LONG:
+        case COLUMN_INTEGER: {
+          long prev = 0;
+          for (Object[] row : m_matrix) {
+            if (row[col] != null) {
+              long v = ((Number) row[col]).longValue();
+              writeVarLong(out, zigZag(v - prev));
+              prev = v;
+            }
+          }
+          break;
+        }
+        case COLUMN_DOUBLE: {
+          for (Object[] row : m_matrix) {
+            if (row[col] != null) {
+              out.writeDouble((Double) row[col]);
+            }
+          }
+          break;
+        }
+        case COLUMN_BOOLEAN: {
+          for (Object[] row : m_matrix) {
+            if (row[col] != null) {
+              out.writeBoolean((Boolean) row[col]);
+            }
+          }
+          break;
+        }
+        case COLUMN_STRING: {
+          writeStringColumn(out, col);
+          break;
+        }
+        case COLUMN_DATE: {
+          long prev = 0;
+          for (Object[] row : m_matrix) {
+            if (row[col] != null) {
+              long v = toLocalMillis((Date) row[col], zoneRules);
+              writeVarLong(out, zigZag(v - prev));
+              prev = v;
+            }
+          }
+          break;
+        }
+        case COLUMN_UTC_DATE: {
+          long prev = 0;
+          for (Object[] row : m_matrix) {
+            if (row[col] != null) {
+              long v = ((Date) row[col]).getTime();
+              writeVarLong(out, zigZag(v - prev));
+              prev = v;
+            }
+          }
+          break;
+        }
+        case COLUMN_BIG_DECIMAL: {
+          for (Object[] row : m_matrix) {
+            if (row[col] != null) {
+              BigDecimal v = (BigDecimal) row[col];
+              writeVarInt(out, (int) zigZag(v.scale()));
+              byte[] unscaled = v.unscaledValue().toByteArray();
+              writeVarInt(out, unscaled.length);
+              out.write(unscaled);
+            }
+          }
+          break;
+        }
+        default: {
+          for (Object[] row : m_matrix) {
+            if (row[col] != null) {
+              out.writeObject(row[col]);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Override
+  public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+    byte version = in.readByte();
+    if (version != FORMAT_VERSION) {
+      throw new InvalidObjectException("Unsupported format version " + version);
+    }
+    int rowCount = readCount(in, MAX_CELL_COUNT);
+    int columnCount = readCount(in, MAX_COLUMN_COUNT);
+    if ((long) rowCount * columnCount > MAX_CELL_COUNT || (columnCount == 0 && rowCount > 0)) {
+      throw new InvalidObjectException("Invalid matrix size " + rowCount + "x" + columnCount);
+    }
+    // the values of a column are only allocated after its null bitmap was read, the rows after all columns were read
+    Object[][] columns = new Object[columnCount][];
+    ZoneId zone = ZoneId.systemDefault();
+    for (int col = 0; col < columnCount; col++) {
+      byte type = in.readByte();
+      byte[] nullBitmap = readBytes(in, (rowCount + 7) / 8);
+      if (type == COLUMN_NULL) {
+        continue;
+      }
+      Object[] values = new Object[rowCount];
+      columns[col] = values;
+      switch (type) {
+        case COLUMN_LONG:
+        case COLUMN_INTEGER: {
+          long prev = 0;
+          for (int r = 0; r < rowCount; r++) {
+            if (!isNull(nullBitmap, r)) {
+              prev += unZigZag(readVarLong(in));
+              values[r] = type == COLUMN_LONG ? Long.valueOf(prev) : Integer.valueOf((int) prev);
+            }
+          }
+          break;
+        }
+        case COLUMN_DOUBLE: {
+          for (int r = 0; r < rowCount; r++) {
+            if (!isNull(nullBitmap, r)) {
+              values[r] = in.readDouble();
+            }
+          }
+          break;
+        }
+        case COLUMN_BOOLEAN: {
+          for (int r = 0; r < rowCount; r++) {
+            if (!isNull(nullBitmap, r)) {
+              values[r] = in.readBoolean();
+            }
+          }
+          break;
+        }
+        case COLUMN_STRING: {
+          readStringColumn(in, values, nullBitmap);
+          break;
+        }
+        case COLUMN_DATE: {
+          long prev = 0;
+          for (int r = 0; r < rowCount; r++) {
+            if (!isNull(nullBitmap, r)) {
+              prev += unZigZag(readVarLong(in));
+              values[r] = fromLocalMillis(prev, zone);
+            }
+          }
+          break;
+        }
+        case COLUMN_UTC_DATE: {
+          long prev = 0;
+          for (int r = 0; r < rowCount; r++) {
+            if (!isNull(nullBitmap, r)) {
+              prev += unZigZag(readVarLong(in));
+              values[r] = new UTCDate(prev);
+            }
+          }
+          break;
+        }
+        case COLUMN_BIG_DECIMAL: {
+          for (int r = 0; r < rowCount; r++) {
+            if (!isNull(nullBitmap, r)) {
+              int scale = (int) unZigZag(readVarInt(in) & 0xFFFFFFFFL);
+              byte[] unscaled = readBytes(in, readCount(in, MAX_BIG_INTEGER_BYTES));
+              if (unscaled.length == 0) {
+                throw new InvalidObjectException("Empty unscaled value");
+              }
+              values[r] = new BigDecimal(new BigInteger(unscaled), scale);
+            }
+          }
+          break;
+        }
+        case COLUMN_OBJECT: {
+          for (int r = 0; r < rowCount; r++) {
+            if (!isNull(nullBitmap, r)) {
+              values[r] = in.readObject();
+            }
+          }
+          break;
+        }
+        default:
+          throw new InvalidObjectException("Unknown column type " + type);
+      }
+    }
+    Object[][] matrix = new Object[rowCount][];
+    for (int r = 0; r < rowCount; r++) {
+      Object[] row = new Object[columnCount];
+      for (int col = 0; col < columnCount; col++) {
+        if (columns[col] != null) {
+          row[col] = columns[col][r];
+        }
+      }
+      matrix[r] = row;
+    }
+    m_matrix = matrix;
+  }
+
+  /**
+   * @return the type shared by all non-null values of the given column
+   */
+  protected byte getColumnType(int col) {
+    Class<?> valueClass = null;
+    for (Object[] row : m_matrix) {
+      Object value = row[col];
+      if (value == null) {
+        continue;
+      }
+      Class<?> c = value instanceof Date && !(value instanceof UTCDate) ? Date.class : value.getClass();
+      if (valueClass == null) {
+        valueClass = c;
+      }
+      else if (valueClass != c) {
+        return COLUMN_OBJECT;
+      }
+    }
+    if (valueClass == null) {
+      return COLUMN_NULL;
+    }
+    if (valueClass == Long.class) {
+      return COLUMN_LONG;
+    }
+    if (valueClass == Integer.class) {
+      return COLUMN_INTEGER;
+    }
+    if (valueClass == Double.class) {
+      return COLUMN_DOUBLE;
+    }
+    if (valueClass == Boolean.class) {
+      return COLUMN_BOOLEAN;
+    }
+    if (valueClass == String.class) {
+      return COLUMN_STRING;
+    }
+    if (valueClass == Date.class) {
+      return COLUMN_DATE;
+    }
+    if (valueClass == UTCDate.class) {
+      return COLUMN_UTC_DATE;
+    }
+    if (valueClass == BigDecimal.class) {
+      return COLUMN_BIG_DECIMAL;
+    }
+    return COLUMN_OBJECT;
+  }
+
+  private void writeStringColumn(ObjectOutput out, int col) throws IOException {
+    Map<String, Integer> dictionary = new HashMap<>();
+    int[] indexes = new int[m_matrix.length];
+    String[] values = new String[m_matrix.length];
+    int valueCount = 0;
+    for (int r = 0; r < m_matrix.length; r++) {
+      String value = (String) m_matrix[r][col];
+      if (value != null) {
+        Integer index = dictionary.get(value);
+        if (index == null) {
+          index = dictionary.size();
+          dictionary.put(value, index);
+          values[index] = value;
+        }
+        indexes[valueCount++] = index;
+      }
+    }
+    writeVarInt(out, dictionary.size());
+    for (int i = 0; i < dictionary.size(); i++) {
+      byte[] bytes = values[i].getBytes(StandardCharsets.UTF_8);
+      writeVarInt(out, bytes.length);
+      out.write(bytes);
+    }
+    for (int i = 0; i < valueCount; i++) {
+      writeVarInt(out, indexes[i]);
+    }
+  }
+
+  private void writeNullBitmap(ObjectOutput out, int col) throws IOException {
+    int bits = 0;
+    int bitCount = 0;
+    for (Object[] row : m_matrix) {
+      if (row[col] == null) {
+        bits |= 1 << bitCount;
+      }
+      if (++bitCount == 8) {
+        out.writeByte(bits);
+        bits = 0;
+        bitCount = 0;
+      }
+    }
+    if (bitCount > 0) {
+      out.writeByte(bits);
+    }
+  }
+
+  private static void readStringColumn(ObjectInput in, Object[] values, byte[] nullBitmap) throws IOException {
+    int valueCount = 0;
+    for (int r = 0; r < values.length; r++) {
+      if (!isNull(nullBitmap, r)) {
+        valueCount++;
+      }
+    }
+    // each dictionary entry is used at least once and needs at least one byte, hence grow the dictionary while reading
+    int dictionarySize = readCount(in, valueCount);
+    List<String> dictionary = new ArrayList<>(Math.min(dictionarySize, 1024));
+    for (int i = 0; i < dictionarySize; i++) {
+      dictionary.add(new String(readBytes(in, readCount(in, MAX_STRING_BYTES)), StandardCharsets.UTF_8));
+    }
+    for (int r = 0; r < values.length; r++) {
+      if (!isNull(nullBitmap, r)) {
+        int index = readVarInt(in);
+        if (index < 0 || index >= dictionarySize) {
+          throw new InvalidObjectException("Invalid dictionary index " + index);
+        }
+        values[r] = dictionary.get(index);
+      }
+    }
+  }
+
+  private static boolean isNull(byte[] nullBitmap, int row) {
+    return (nullBitmap[row >>> 3] & (1 << (row & 7))) != 0;
+  }
+
+  /**
+   * Reads the given number of bytes, allocating at most {@link #READ_CHUNK_SIZE} bytes ahead of the data read.
+   */
+  private static byte[] readBytes(ObjectInput in, int length) throws IOException {
+    if (length <= READ_CHUNK_SIZE) {
+      byte[] bytes = new byte[length];
+      in.readFully(bytes);
+      return bytes;
+    }
+    byte[] bytes = new byte[READ_CHUNK_SIZE];
+    int pos = 0;
+    while (pos < length) {
+      if (pos == bytes.length) {
+        bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+      }
+      int n = Math.min(bytes.length, length) - pos;
+      in.readFully(bytes, pos, n);
+      pos += n;
+    }
+    return bytes;
+  }
+
+  /**
+   * Same semantics as {@link StaticDate}: the local date and time of the sender is restored in the time zone of the
+   * receiver.
+   */
+  private static long toLocalMillis(Date d, ZoneRules zoneRules) {
+    long millis = d.getTime();
+    return millis + zoneRules.getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds() * 1000L;
+  }
+
+  private static Date fromLocalMillis(long localMillis, ZoneId zone) {
+    LocalDateTime local = LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000L), (int) Math.floorMod(localMillis, 1000L) * 1_000_000, ZoneOffset.UTC);
+    return Date.from(local.atZone(zone).toInstant());
+  }
+
+  private static long zigZag(long v) {
+    return (v << 1) ^ (v >> 63);
+  }
+
+  private static long unZigZag(long v) {
+    return (v >>> 1) ^ -(v & 1);
+  }
+
+  private static void writeVarInt(ObjectOutput out, int v) throws IOException {
+    writeVarLong(out, v & 0xFFFFFFFFL);
+  }
+
+  private static int readVarInt(ObjectInput in) throws IOException {
+    return (int) readVarLong(in);
+  }
+
+  private static int readCount(ObjectInput in, int max) throws IOException {
+    long count = readVarLong(in);
+    if (count < 0 || count > max) {
+      throw new InvalidObjectException("Invalid count " + count + " (max " + max + ")");
+    }
+    return (int) count;
+  }
+
+  private static void writeVarLong(ObjectOutput out, long v) throws IOException {
+    while ((v & ~0x7FL) != 0) {
+      out.writeByte((int) ((v & 0x7F) | 0x80));
+      v >>>= 7;
+    }
+    out.writeByte((int) v);
+  }
+
+  private static long readVarLong(ObjectInput in) throws IOException {
+    long v = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = in.readUnsignedByte();
+      v |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return v;
+      }
+    }
+    throw new InvalidObjectException("Malformed variable length number");
+  }
+}
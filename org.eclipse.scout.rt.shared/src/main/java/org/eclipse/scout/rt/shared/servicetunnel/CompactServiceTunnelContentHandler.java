@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.serialization.CompactObjectSerializer;
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ColumnarServiceTunnelEncodingProperty;
+
+/**
+ * Binary content handler which uses a {@link CompactObjectSerializer}: class descriptors are written as class name and
+ * <code>serialVersionUID</code> only, and resolved class descriptors are cached for the lifetime of this handler, i.e.
+ * per service tunnel. This reduces the size and the deserialization time of messages with many distinct classes, like
+ * form data trees. The blacklist and whitelist of the serializer are checked as for the
+ * {@link BinaryServiceTunnelContentHandler}.
+ * <p>
+ * Client and server must use the same content handler and the same versions of the transferred classes.
+ * <p>
+ * This implementation can by used by an application by subclassing this class with an {@link Order} lower than the
+ * one of {@link BinaryServiceTunnelContentHandler}, both on the client and the server.
+ *
+ * @since 11.0
+ */
+@Order(5020)
+public class CompactServiceTunnelContentHandler extends BinaryServiceTunnelContentHandler {
+
+  private static final String CONTENT_TYPE = "application/x-scout-compact";
+
+  @Override
+  public String getContentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  protected IObjectSerializer createObjectSerializer() {
+    return new CompactObjectSerializer(new ServiceTunnelObjectReplacer(CONFIG.getPropertyValue(ColumnarServiceTunnelEncodingProperty.class)));
+  }
+}
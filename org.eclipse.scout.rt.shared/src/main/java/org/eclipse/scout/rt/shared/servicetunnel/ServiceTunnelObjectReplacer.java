@@ -24,14 +24,34 @@ import org.eclipse.scout.rt.platform.util.date.UTCDate;
  * , which is timezone independent.</li>
  * <li><b>Permissions</b> {@link Permissions} objects are replaced by a {@link LenientPermissionsWrapper}, which does
  * not break deserialization if a {@link Permission} class is not available on the other side of a service tunnel.</li>
+ * <li><b>Tables</b> if columnar encoding is enabled, rectangular <code>Object[][]</code> matrices are replaced by a
+ * {@link ColumnarObjectMatrix}, which writes the values column by column instead of as individual objects. Such
+ * matrices are always resolved, regardless of whether columnar encoding is enabled.</li>
  * </ul>
  *
  * @since 3.8.2
  */
 public class ServiceTunnelObjectReplacer implements IObjectReplacer {
 
+  private final boolean m_columnarEncoding;
+
+  public ServiceTunnelObjectReplacer() {
+    this(false);
+  }
+
+  /**
+   * @param columnarEncoding
+   *          <code>true</code> to replace <code>Object[][]</code> matrices by a {@link ColumnarObjectMatrix}
+   */
+  public ServiceTunnelObjectReplacer(boolean columnarEncoding) {
+    m_columnarEncoding = columnarEncoding;
+  }
+
   @Override
   public Object replaceObject(Object obj) {
+    if (m_columnarEncoding && obj instanceof Object[][] && ColumnarObjectMatrix.isApplicable((Object[][]) obj)) {
+      return new ColumnarObjectMatrix((Object[][]) obj);
+    }
     if (obj instanceof Date && !(obj instanceof UTCDate)) {
       return new StaticDate((Date) obj);
     }
@@ -49,6 +69,9 @@ public class ServiceTunnelObjectReplacer implements IObjectReplacer {
     if (obj instanceof LenientPermissionsWrapper) {
       return ((LenientPermissionsWrapper) obj).getPermissions();
     }
+    if (obj instanceof ColumnarObjectMatrix) {
+      return ((ColumnarObjectMatrix) obj).getMatrix();
+    }
     return obj;
   }
 }
@@ -11,9 +11,11 @@
 package org.eclipse.scout.rt.shared.servicetunnel.http;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractIntegerConfigProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsPerRouteProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsTotalProperty;
+import org.eclipse.scout.rt.shared.http.JdkHttpTransportFactory;
 
 public final class HttpServiceTunnelConfigurationProperties {
 
@@ -70,4 +72,33 @@ public final class HttpServiceTunnelConfigurationProperties {
           BEANS.get(ApacheHttpTransportMaxConnectionsTotalProperty.class).getKey());
     }
   }
+
+  /**
+   * <p>
+   * Configuration property to use HTTP/2 for the HTTP service tunnel.
+   * </p>
+   *
+   * @see JdkHttpTransportFactory
+   */
+  public static class HttpServiceTunnelTransportHttp2Property extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.http2";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Specifies if the HTTP service tunnel uses HTTP/2 by means of '%s'.\n"
+          + "With HTTP/2 concurrent service calls share a single connection to the server. HTTP/2 requires an https URL, as it is negotiated by ALPN during the TLS handshake. "
+          + "Plain http URLs and servers not supporting HTTP/2 use HTTP/1.1.\n"
+          + "The connection limits of the Apache HTTP client do not apply. The default value is false.", JdkHttpTransportFactory.class.getName());
+    }
+  }
 }
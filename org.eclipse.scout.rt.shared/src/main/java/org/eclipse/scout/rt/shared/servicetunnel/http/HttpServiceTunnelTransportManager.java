@@ -15,15 +15,29 @@ import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.shared.http.AbstractHttpTransportManager;
 import org.eclipse.scout.rt.shared.http.ApacheHttpTransportFactory.ApacheHttpTransportBuilder;
 import org.eclipse.scout.rt.shared.http.IHttpTransportBuilder;
+import org.eclipse.scout.rt.shared.http.IHttpTransportFactory;
 import org.eclipse.scout.rt.shared.http.IHttpTransportManager;
+import org.eclipse.scout.rt.shared.http.JdkHttpTransportFactory;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelTransportHttp2Property;
 import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelTransportMaxConnectionsPerRouteProperty;
 import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelTransportMaxConnectionsTotalProperty;
 
 /**
  * {@link IHttpTransportManager} for {@link HttpServiceTunnel}.
+ * <p>
+ * If {@link HttpServiceTunnelTransportHttp2Property} is enabled, the {@link JdkHttpTransportFactory} is used, so that
+ * concurrent service calls are multiplexed over HTTP/2 connections.
  */
 public class HttpServiceTunnelTransportManager extends AbstractHttpTransportManager {
 
+  @Override
+  protected Class<? extends IHttpTransportFactory> getHttpTransportFactory() {
+    if (CONFIG.getPropertyValue(HttpServiceTunnelTransportHttp2Property.class)) {
+      return JdkHttpTransportFactory.class;
+    }
+    return super.getHttpTransportFactory();
+  }
+
   @Override
   public void interceptNewHttpTransport(IHttpTransportBuilder builder0) {
     super.interceptNewHttpTransport(builder0);
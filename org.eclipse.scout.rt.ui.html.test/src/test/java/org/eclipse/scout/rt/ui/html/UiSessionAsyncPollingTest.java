@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.ui.html.json.JsonRequest;
+import org.eclipse.scout.rt.ui.html.json.fixtures.UiSessionMock;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests {@link UiSession#waitForBackgroundJobsAsync(JsonRequest, int)}.
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class UiSessionAsyncPollingTest {
+
+  private UiSessionMock m_uiSession;
+
+  @Before
+  public void before() {
+    m_uiSession = new UiSessionMock();
+    m_uiSession.setCurrentJsonResponseInternal(m_uiSession.createJsonResponse());
+  }
+
+  @Test
+  public void testTimeout() throws Exception {
+    CompletableFuture<Boolean> poller = m_uiSession.waitForBackgroundJobsAsync(createPollRequest(), 1);
+    assertFalse(poller.isDone());
+    assertTrue(poller.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testSignalWithData() throws Exception {
+    CompletableFuture<Boolean> poller = m_uiSession.waitForBackgroundJobsAsync(createPollRequest(), 60);
+    m_uiSession.currentJsonResponse().addActionEvent(m_uiSession.getUiSessionId(), "test");
+    m_uiSession.signalPoller();
+    assertTrue(poller.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testSignalWithoutData() {
+    CompletableFuture<Boolean> poller = m_uiSession.waitForBackgroundJobsAsync(createPollRequest(), 60);
+    m_uiSession.signalPoller();
+    assertFalse(poller.isDone()); // nothing to respond, keeps waiting
+    poller.cancel(false);
+  }
+
+  @Test
+  public void testSignalBeforePoll() throws Exception {
+    m_uiSession.currentJsonResponse().addActionEvent(m_uiSession.getUiSessionId(), "test");
+    m_uiSession.signalPoller();
+    CompletableFuture<Boolean> poller = m_uiSession.waitForBackgroundJobsAsync(createPollRequest(), 60);
+    assertTrue(poller.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testSupersededByNextPoll() throws Exception {
+    CompletableFuture<Boolean> poller1 = m_uiSession.waitForBackgroundJobsAsync(createPollRequest(), 60);
+    CompletableFuture<Boolean> poller2 = m_uiSession.waitForBackgroundJobsAsync(createPollRequest(), 60);
+    assertFalse(poller1.get(5, TimeUnit.SECONDS));
+    assertFalse(poller2.isDone());
+
+    // signal only completes the current poller
+    m_uiSession.currentJsonResponse().addActionEvent(m_uiSession.getUiSessionId(), "test");
+    m_uiSession.signalPoller();
+    assertTrue(poller2.get(5, TimeUnit.SECONDS));
+  }
+
+  protected JsonRequest createPollRequest() {
+    JSONObject json = new JSONObject();
+    json.put(JsonRequest.PROP_POLL, true);
+    return new JsonRequest(json);
+  }
+}
@@ -10,9 +10,14 @@
  */
 package org.eclipse.scout.rt.ui.html.cache;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpResourceCache;
@@ -92,4 +97,73 @@ public class HttpResourceCacheTest {
     Assert.assertNull(obj2);
   }
 
+  @Test
+  public void testPutPrecompressed() throws Exception {
+    byte[] content = ("<html>" + StringUtility.repeat("<p>Lorem ipsum dolor sit amet</p>", 100) + "</html>").getBytes(StandardCharsets.UTF_8);
+    BinaryResource res = BinaryResources.create()
+        .withFilename("a.html")
+        .withContent(content)
+        .withCachingAllowed(true)
+        .build();
+    HttpCacheObject obj = new HttpCacheObject(new HttpCacheKey("/"), res);
+    Assert.assertTrue(rc.put(obj));
+
+    byte[] gzipContent = rc.get(new HttpCacheKey("/")).getGzipContent();
+    Assert.assertNotNull(gzipContent);
+    Assert.assertTrue(gzipContent.length < content.length);
+    Assert.assertArrayEquals(content, IOUtility.uncompressGzip(gzipContent));
+  }
+
+  @Test
+  public void testPutSmallNotPrecompressed() throws Exception {
+    BinaryResource res = BinaryResources.create()
+        .withFilename("a.html")
+        .withContent("<html></html>".getBytes(StandardCharsets.UTF_8))
+        .withCachingAllowed(true)
+        .build();
+    HttpCacheObject obj = new HttpCacheObject(new HttpCacheKey("/"), res);
+    Assert.assertTrue(rc.put(obj));
+    Assert.assertNull(rc.get(new HttpCacheKey("/")).getGzipContent());
+  }
+
+  @Test
+  public void testPutBinaryNotPrecompressed() {
+    BinaryResource res = BinaryResources.create()
+        .withFilename("a.png")
+        .withContent(new byte[1024])
+        .withCachingAllowed(true)
+        .build();
+    HttpCacheObject obj = new HttpCacheObject(new HttpCacheKey("/a.png"), res);
+    Assert.assertTrue(rc.put(obj));
+    Assert.assertNull(rc.get(new HttpCacheKey("/a.png")).getGzipContent());
+  }
+
+  @Test
+  public void testBoundedSize() {
+    HttpResourceCache cache = new HttpResourceCache() {
+      @Override
+      protected Map<HttpCacheKey, HttpCacheObject> createCacheMap(long maxSize) {
+        return super.createCacheMap(100 * 1024);
+      }
+    };
+    for (int i = 0; i < 50; i++) {
+      BinaryResource res = BinaryResources.create()
+          .withFilename("a" + i + ".png")
+          .withContent(new byte[10 * 1024])
+          .withCachingAllowed(true)
+          .build();
+      Assert.assertTrue(cache.put(new HttpCacheObject(new HttpCacheKey("/a" + i + ".png"), res)));
+    }
+
+    int cached = 0;
+    for (int i = 0; i < 50; i++) {
+      if (cache.get(new HttpCacheKey("/a" + i + ".png")) != null) {
+        cached++;
+      }
+    }
+    Assert.assertTrue(cached > 0);
+    Assert.assertTrue(cached < 10);
+    Assert.assertTrue(cache.getStatistics().getEvictionCount() > 40);
+    Assert.assertTrue(cache.getStatistics().getWeightedSize() <= 100 * 1024);
+  }
 }
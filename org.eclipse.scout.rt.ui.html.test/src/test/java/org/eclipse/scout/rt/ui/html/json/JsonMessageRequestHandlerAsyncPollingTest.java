@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.platform.IgnoreBean;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests {@link JsonMessageRequestHandler#handleAsyncPollRequest(IUiSession, JsonRequest, HttpServletRequest,
+ * HttpServletResponse)} behind a {@link GzipServletFilter}.
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class JsonMessageRequestHandlerAsyncPollingTest {
+
+  @Test
+  public void testAsyncPollThroughGzipFilter() throws Exception {
+    JSONObject json = createResponse(20);
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponse resp = mock(HttpServletResponse.class);
+    when(resp.getOutputStream()).thenReturn(out);
+    when(resp.getCharacterEncoding()).thenReturn(StandardCharsets.UTF_8.name());
+
+    // async context completed by the job sending the poll response
+    CountDownLatch completed = new CountDownLatch(1);
+    AtomicReference<ServletRequest> asyncRequest = new AtomicReference<>();
+    AtomicReference<ServletResponse> asyncResponse = new AtomicReference<>();
+    AsyncContext asyncContext = mock(AsyncContext.class);
+    when(asyncContext.getRequest()).thenAnswer(invocation -> asyncRequest.get());
+    when(asyncContext.getResponse()).thenAnswer(invocation -> asyncResponse.get());
+    doAnswer(invocation -> {
+      completed.countDown();
+      return null;
+    }).when(asyncContext).complete();
+
+    HttpServletRequest req = mock(HttpServletRequest.class);
+    when(req.getMethod()).thenReturn("POST");
+    when(req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn("gzip, deflate");
+    when(req.isAsyncStarted()).thenAnswer(invocation -> asyncRequest.get() != null);
+    when(req.startAsync(any(), any())).thenAnswer(invocation -> {
+      asyncResponse.set(invocation.getArgument(1));
+      asyncRequest.set(invocation.getArgument(0));
+      return asyncContext;
+    });
+
+    IUiSession uiSession = mock(IUiSession.class);
+    when(uiSession.getLastAccessedTime()).thenReturn(System.currentTimeMillis());
+    when(uiSession.waitForBackgroundJobsAsync(any(), anyInt())).thenReturn(CompletableFuture.completedFuture(true));
+
+    P_JsonMessageRequestHandler handler = new P_JsonMessageRequestHandler(json);
+    createGzipFilter().doFilter(req, resp, (request, response) -> handler.handleAsyncPollRequest(uiSession, createPollRequest(), (HttpServletRequest) request, (HttpServletResponse) response));
+    // the filter chain returned before the response was written
+    assertEquals(0, out.getContent().length);
+
+    assertTrue(completed.await(10, TimeUnit.SECONDS));
+    verify(resp).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.getContent()))) {
+      assertEquals(json.toString(), new String(IOUtility.readBytes(in), StandardCharsets.UTF_8));
+    }
+  }
+
+  protected GzipServletFilter createGzipFilter() throws Exception {
+    GzipServletFilter filter = new GzipServletFilter() {
+      @Override
+      protected boolean responseNeedsGzipEncoding(HttpServletRequest req, HttpServletResponse resp) {
+        return true;
+      }
+    };
+    filter.init(mock(FilterConfig.class));
+    return filter;
+  }
+
+  protected JsonRequest createPollRequest() {
+    JSONObject json = new JSONObject();
+    json.put(JsonRequest.PROP_POLL, true);
+    return new JsonRequest(json);
+  }
+
+  protected JSONObject createResponse(int rowCount) {
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < rowCount; i++) {
+      rows.put(new JSONObject().put("id", "row" + i));
+    }
+    JSONObject json = new JSONObject();
+    json.put("#", 1L);
+    json.put("rows", rows);
+    return json;
+  }
+
+  @IgnoreBean
+  private static class P_JsonMessageRequestHandler extends JsonMessageRequestHandler {
+    private final JSONObject m_response;
+
+    P_JsonMessageRequestHandler(JSONObject response) {
+      m_response = response;
+    }
+
+    @Override
+    protected void handlePollResponse(IUiSession uiSession, JsonRequest jsonRequest, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) throws IOException {
+      writeJsonResponse(httpServletResponse, m_response);
+    }
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import javax.servlet.FilterConfig;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
+import org.eclipse.scout.rt.server.commons.servlet.IHttpServletRoundtrip;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletResponseWrapper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+
+/**
+ * Tests {@link JsonRequestHelper#writeResponse(javax.servlet.ServletResponse, JSONObject)}.
+ */
+@RunWith(PlatformTestRunner.class)
+public class JsonRequestHelperTest {
+
+  @Test
+  public void testWriteSmallResponse() throws Exception {
+    JSONObject json = createResponse(10);
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponse resp = createResponse(out);
+
+    writeResponse(json, resp, "gzip, deflate");
+
+    byte[] content = out.getContent();
+    Mockito.verify(resp).setContentLength(content.length);
+    Mockito.verify(resp, Mockito.never()).setHeader(Mockito.eq(GzipServletFilter.CONTENT_ENCODING), Mockito.anyString());
+    assertEquals(json.toString(), new String(content, StandardCharsets.UTF_8));
+
+    // the buffer is reused by the next response of the same thread
+    JSONObject json2 = createResponse(2);
+    BufferedServletOutputStream out2 = new BufferedServletOutputStream();
+    writeResponse(json2, createResponse(out2), null);
+    assertEquals(json2.toString(), new String(out2.getContent(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testWriteLargeResponse() throws Exception {
+    JSONObject json = createResponse(5000);
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponse resp = createResponse(out);
+
+    writeResponse(json, resp, null);
+
+    Mockito.verify(resp, Mockito.never()).setContentLength(Mockito.anyInt());
+    Mockito.verify(resp, Mockito.never()).setHeader(Mockito.eq(GzipServletFilter.CONTENT_ENCODING), Mockito.anyString());
+    assertEquals(json.toString(), new String(out.getContent(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testWriteLargeResponseGzip() throws Exception {
+    JSONObject json = createResponse(5000);
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponse resp = createResponse(out);
+
+    writeResponse(json, createGzipResponseWrapper(resp, true), "gzip, deflate");
+
+    Mockito.verify(resp).setHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    byte[] content = out.getContent();
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+      assertEquals(json.toString(), new String(IOUtility.readBytes(in), StandardCharsets.UTF_8));
+    }
+    assertTrue(content.length < json.toString().length() / 2);
+  }
+
+  /**
+   * Without {@link GzipServletFilter}, the response is not compressed even if the client accepts it.
+   */
+  @Test
+  public void testWriteLargeResponseGzipWithoutFilter() throws Exception {
+    JSONObject json = createResponse(5000);
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponse resp = createResponse(out);
+
+    writeResponse(json, resp, "gzip, deflate");
+
+    Mockito.verify(resp, Mockito.never()).setHeader(Mockito.eq(GzipServletFilter.CONTENT_ENCODING), Mockito.anyString());
+    assertEquals(json.toString(), new String(out.getContent(), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * If the {@link GzipServletFilter} would not compress the response (e.g. because of its content type), the response
+   * is not compressed while streaming, but left to the filter.
+   */
+  @Test
+  public void testWriteLargeResponseGzipDisabledByFilter() throws Exception {
+    JSONObject json = createResponse(5000);
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponse resp = createResponse(out);
+    GzipServletResponseWrapper gzipResp = createGzipResponseWrapper(resp, false);
+
+    writeResponse(json, gzipResp, "gzip, deflate");
+
+    Mockito.verify(resp, Mockito.never()).setHeader(Mockito.eq(GzipServletFilter.CONTENT_ENCODING), Mockito.anyString());
+    assertFalse(gzipResp.isPassThrough());
+    assertFalse(gzipResp.finish(-1));
+    assertEquals(json.toString(), new String(out.getContent(), StandardCharsets.UTF_8));
+  }
+
+  protected GzipServletResponseWrapper createGzipResponseWrapper(HttpServletResponse resp, boolean compress) throws Exception {
+    GzipServletFilter filter = new GzipServletFilter() {
+      @Override
+      protected boolean responseNeedsGzipEncoding(HttpServletRequest req, HttpServletResponse response) {
+        return compress;
+      }
+    };
+    filter.init(Mockito.mock(FilterConfig.class));
+    HttpServletRequest req = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(req.getMethod()).thenReturn("POST");
+    return new GzipServletResponseWrapper(resp, filter, req);
+  }
+
+  protected void writeResponse(JSONObject json, HttpServletResponse resp, String acceptEncoding) throws IOException {
+    HttpServletRequest req = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn(acceptEncoding);
+    RunContexts.copyCurrent()
+        .withThreadLocal(IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_REQUEST, req)
+        .run(() -> BEANS.get(JsonRequestHelper.class).writeResponse(resp, json));
+  }
+
+  protected HttpServletResponse createResponse(BufferedServletOutputStream out) throws IOException {
+    HttpServletResponse resp = Mockito.mock(HttpServletResponse.class);
+    Mockito.when(resp.getOutputStream()).thenReturn(out);
+    return resp;
+  }
+
+  protected JSONObject createResponse(int rowCount) {
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < rowCount; i++) {
+      JSONObject row = new JSONObject();
+      row.put("id", "row" + i);
+      row.put("cells", new JSONArray().put("Text " + i).put(i).put(i % 2 == 0));
+      rows.put(row);
+    }
+    JSONObject json = new JSONObject();
+    json.put("#", 1L);
+    json.put("rows", rows);
+    return json;
+  }
+}
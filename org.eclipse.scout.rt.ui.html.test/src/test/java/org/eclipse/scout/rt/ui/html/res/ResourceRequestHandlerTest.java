@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.res;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpByteRange;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.cache.MappedFileHttpCacheObject;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ResourceRequestHandlerTest {
+
+  private static final String CONTENT = "0123456789abcdefghij";
+
+  private HttpServletRequest m_req;
+  private HttpServletResponse m_resp;
+  private BufferedServletOutputStream m_out;
+
+  @Before
+  public void before() throws IOException {
+    m_req = mock(HttpServletRequest.class);
+    when(m_req.getMethod()).thenReturn("GET");
+    m_resp = mock(HttpServletResponse.class);
+    m_out = new BufferedServletOutputStream();
+    when(m_resp.getOutputStream()).thenReturn(m_out);
+  }
+
+  @Test
+  public void testWriteWholeResource() throws IOException {
+    new ResourceRequestHandler().writeResourceToResponse(m_req, m_resp, createCacheObject());
+
+    verify(m_resp).setHeader(HttpByteRange.ACCEPT_RANGES, HttpByteRange.BYTES);
+    verify(m_resp, never()).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+    verify(m_resp, atLeastOnce()).setContentLength(CONTENT.length());
+    assertEquals(CONTENT, new String(m_out.getContent(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testWriteRange() throws IOException {
+    when(m_req.getHeader(HttpByteRange.RANGE)).thenReturn("bytes=5-9");
+    new ResourceRequestHandler().writeResourceToResponse(m_req, m_resp, createCacheObject());
+
+    verify(m_resp).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+    verify(m_resp).setHeader(HttpByteRange.CONTENT_RANGE, "bytes 5-9/20");
+    verify(m_resp).setContentLength(5);
+    assertEquals("56789", new String(m_out.getContent(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testWriteRangeNotSatisfiable() throws IOException {
+    when(m_req.getHeader(HttpByteRange.RANGE)).thenReturn("bytes=20-");
+    new ResourceRequestHandler().writeResourceToResponse(m_req, m_resp, createCacheObject());
+
+    verify(m_resp).setHeader(HttpByteRange.CONTENT_RANGE, "bytes */20");
+    verify(m_resp).sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+    assertEquals(0, m_out.getContent().length);
+  }
+
+  @Test
+  public void testWriteRangeIfRangeNotMatching() throws IOException {
+    when(m_req.getHeader(HttpByteRange.RANGE)).thenReturn("bytes=5-9");
+    when(m_req.getHeader(HttpByteRange.IF_RANGE)).thenReturn("\"other\"");
+    new ResourceRequestHandler().writeResourceToResponse(m_req, m_resp, createCacheObject());
+
+    verify(m_resp, never()).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+    assertEquals(CONTENT, new String(m_out.getContent(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testWriteMappedFileRange() throws IOException {
+    Path file = Files.createTempFile("resource", ".js");
+    try {
+      Files.write(file, CONTENT.getBytes(StandardCharsets.UTF_8));
+      BinaryResource metaData = BinaryResources.create().withFilename("a.js").build();
+      when(m_req.getHeader(HttpByteRange.RANGE)).thenReturn("bytes=-4");
+      new ResourceRequestHandler().writeResourceToResponse(m_req, m_resp, new MappedFileHttpCacheObject(new HttpCacheKey("/a.js"), metaData, file));
+
+      verify(m_resp).setHeader(HttpByteRange.CONTENT_RANGE, "bytes 16-19/20");
+      verify(m_resp).setContentLength(4);
+      assertEquals("ghij", new String(m_out.getContent(), StandardCharsets.UTF_8));
+    }
+    finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  protected HttpCacheObject createCacheObject() {
+    BinaryResource res = BinaryResources.create()
+        .withFilename("a.txt")
+        .withContent(CONTENT.getBytes(StandardCharsets.UTF_8))
+        .build();
+    return new HttpCacheObject(new HttpCacheKey("/a.txt"), res);
+  }
+}
@@ -13,6 +13,7 @@ package org.eclipse.scout.rt.ui.html;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.ReentrantLock;
 
 import javax.security.auth.Subject;
@@ -206,6 +207,14 @@ public interface IUiSession {
    */
   void waitForBackgroundJobs(JsonRequest jsonRequest, int pollWaitSeconds) throws InterruptedException;
 
+  /**
+   * Non-blocking variant of {@link #waitForBackgroundJobs(JsonRequest, int)}. The returned future completes with
+   * <code>true</code> once a model job started by a background job has terminated, the wait time has elapsed or the UI
+   * session is disposed, i.e. when a response should be sent back to the UI. It completes with <code>false</code> if
+   * the poll request was superseded by another poll request, i.e. when no response should be sent.
+   */
+  CompletableFuture<Boolean> waitForBackgroundJobsAsync(JsonRequest jsonRequest, int pollWaitSeconds);
+
   /**
    * Sends a "localeChanged" event to the UI. All locale-relevant data (number formats, texts map etc.) is sent along.
    */
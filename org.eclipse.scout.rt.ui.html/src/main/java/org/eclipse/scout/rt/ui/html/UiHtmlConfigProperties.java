@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
@@ -119,6 +120,27 @@ public final class UiHtmlConfigProperties {
     }
   }
 
+  public static class AsyncPollingProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Specifies if polling requests wait for background jobs asynchronously (Servlet async processing) instead of blocking a container thread for up to '%s' seconds.\n"
+          + "Requires the UI servlet and all filters in front of it to be declared with 'async-supported'. Otherwise, polling requests fall back to blocking.\n"
+          + "The default value is false.", BEANS.get(BackgroundPollingIntervalProperty.class).getKey());
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.asyncPolling";
+    }
+  }
+
   public static class UiModelJobsAwaitTimeoutProperty extends AbstractPositiveLongConfigProperty {
 
     @Override
@@ -156,4 +178,24 @@ public final class UiHtmlConfigProperties {
       return 30;
     }
   }
+
+  public static class MappedResourceMinSizeProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.ui.mappedResourceMinSize";
+    }
+
+    @Override
+    public String description() {
+      return "Minimum size in bytes of a web resource file to be served from a memory-mapped file instead of being loaded into the heap. "
+          + "Only applies to web resources located in the file system (not in a JAR) and not in development mode.\n"
+          + "The value 0 disables memory-mapping. By default this property is set to 256 KB.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 256L * 1024;
+    }
+  }
 }
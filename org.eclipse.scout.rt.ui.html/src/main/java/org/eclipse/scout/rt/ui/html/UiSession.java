@@ -19,6 +19,7 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -145,6 +146,7 @@ public class UiSession implements IUiSession {
   private volatile IRegistrationHandle m_uiDataAvailableListener;
   private volatile long m_lastAccessedTime;
   private volatile RunMonitor m_pollerMonitor;
+  private volatile CompletableFuture<Boolean> m_asyncPoller;
   private volatile boolean m_persistent;
 
   public UiSession() {
@@ -1185,11 +1187,17 @@ public class UiSession implements IUiSession {
     // If another poller is currently blocking, interrupt it. This ensures that max. 1 polling
     // request is waiting for background jobs at the same time (relevant when the UI reconnects
     // after being offline).
+    CompletableFuture<Boolean> asyncPoller;
     synchronized (m_pollerQueueLock) {
       if (m_pollerMonitor != null) {
         m_pollerMonitor.cancel(true);
       }
       m_pollerMonitor = RunMonitor.CURRENT.get();
+      asyncPoller = m_asyncPoller;
+      m_asyncPoller = null;
+    }
+    if (asyncPoller != null) {
+      asyncPoller.complete(Boolean.FALSE);
     }
 
     if (isAlreadyProcessed(jsonRequest)) {
@@ -1236,15 +1244,75 @@ public class UiSession implements IUiSession {
     LOG.trace("Background job terminated. Continue request processing...");
   }
 
+  @Override
+  public CompletableFuture<Boolean> waitForBackgroundJobsAsync(JsonRequest jsonRequest, final int pollWaitSeconds) {
+    // Same as for blocking pollers: max. 1 polling request is waiting for background jobs at the same time.
+    final CompletableFuture<Boolean> asyncPoller = new CompletableFuture<>();
+    CompletableFuture<Boolean> previousAsyncPoller;
+    synchronized (m_pollerQueueLock) {
+      if (m_pollerMonitor != null) {
+        m_pollerMonitor.cancel(true);
+      }
+      previousAsyncPoller = m_asyncPoller;
+      m_asyncPoller = asyncPoller;
+    }
+    if (previousAsyncPoller != null) {
+      previousAsyncPoller.complete(Boolean.FALSE);
+    }
+    asyncPoller.whenComplete((respond, e) -> {
+      synchronized (m_pollerQueueLock) {
+        if (m_asyncPoller == asyncPoller) {
+          m_asyncPoller = null;
+        }
+      }
+    });
+
+    // The poller is registered before checking the state, so that a concurrent signal cannot get lost.
+    if (isAlreadyProcessed(jsonRequest) || m_disposed) {
+      asyncPoller.complete(Boolean.TRUE);
+      return asyncPoller;
+    }
+    if (m_pollerQueue.poll() != null) {
+      // Signaled while no poller was waiting
+      completeAsyncPollerIfDataAvailable(asyncPoller);
+    }
+
+    LOG.trace("Wait asynchronously for max. {} seconds until background job terminates or wait timeout occurs...", pollWaitSeconds);
+    return asyncPoller.completeOnTimeout(Boolean.TRUE, pollWaitSeconds, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Completes the given asynchronous poller if the UI session is disposed or the current JSON response is not empty.
+   * Otherwise, the poller keeps waiting until the next signal or its timeout, like a blocking poller going back to
+   * sleep.
+   */
+  protected void completeAsyncPollerIfDataAvailable(CompletableFuture<Boolean> asyncPoller) {
+    JsonResponse currentJsonResponse = m_currentJsonResponse;
+    if (m_disposed || currentJsonResponse == null || !currentJsonResponse.isEmpty()) {
+      asyncPoller.complete(Boolean.TRUE);
+    }
+    else {
+      LOG.trace("Background job terminated, but there is nothing to respond. Asynchronous poller keeps waiting.");
+    }
+  }
+
   /**
    * Signals the 'poll-request' to return to the UI. This method never blocks.
    * <p>
    * Internally, a notification token is put into the poller-queue. If a thread is waiting, it will wake up. If no
    * thread is waiting, the token remains in the queue, and the next thread that polls the queue will get the token
    * immediately. If the queue is full (i.e. there is already a token in the queue), this method does nothing.
+   * <p>
+   * If an asynchronous poller is waiting ({@link #waitForBackgroundJobsAsync(JsonRequest, int)}), it is completed
+   * directly instead.
    */
   @SuppressWarnings("findbugs:RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
   protected void signalPoller() {
+    CompletableFuture<Boolean> asyncPoller = m_asyncPoller;
+    if (asyncPoller != null && !asyncPoller.isDone()) {
+      completeAsyncPollerIfDataAvailable(asyncPoller);
+      return;
+    }
     m_pollerQueue.offer(m_notificationToken);
   }
 
@@ -11,8 +11,13 @@
 package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -24,9 +29,11 @@ import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.ApplicationVersionProperty;
+import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.PlatformError;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.resource.MimeType;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
@@ -35,6 +42,7 @@ import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.HttpSessionHelper;
 import org.eclipse.scout.rt.ui.html.ISessionStore;
 import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.AsyncPollingProperty;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingIntervalProperty;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.MaxUserIdleTimeProperty;
 import org.eclipse.scout.rt.ui.html.UiServlet;
@@ -52,6 +60,17 @@ import org.slf4j.LoggerFactory;
 public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
   private static final Logger LOG = LoggerFactory.getLogger(JsonMessageRequestHandler.class);
 
+  /**
+   * Additional delay in milliseconds before responding to an asynchronous poll request, to allow some sort of
+   * "coalescing background job result" (same as for blocking poll requests).
+   */
+  private static final long ASYNC_POLLING_DELAY = 100;
+  /**
+   * Margin in seconds added to the poll wait time for the container's async timeout, which is only a safety net.
+   */
+  private static final long ASYNC_POLLING_TIMEOUT_MARGIN = 30;
+
+  private final boolean m_asyncPolling = CONFIG.getPropertyValue(AsyncPollingProperty.class).booleanValue();
   private final int m_pollingInterval = CONFIG.getPropertyValue(BackgroundPollingIntervalProperty.class).intValue();
   private final int m_maxUserIdleTime = CONFIG.getPropertyValue(MaxUserIdleTimeProperty.class).intValue();
 
@@ -171,39 +190,64 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
         throw new IllegalStateException("Unexpected request type: " + jsonRequest.getRequestType());
     }
 
-    // GUI requests for the same session must be processed consecutively, therefore acquire "UI session lock"
     if (jsonRequest.getRequestType() == RequestType.POLL_REQUEST) {
+      if (isAsyncPolling(httpServletRequest)) {
+        // Wait without blocking the current thread, the response is sent by a job later on
+        handleAsyncPollRequest(uiSession, jsonRequest, httpServletRequest, httpServletResponse);
+        return;
+      }
       // Block for a certain time
       boolean success = handlePollRequest(uiSession, jsonRequest);
       if (!success) {
         return; // Interrupted while waiting -> return immediately without sending a response
       }
-      // Special case: Poll requests should only *try* to acquire the lock. If the lock is currently acquired
-      // by some other thread, there is no reason to wait for it, because the other thread will already send
-      // the entire JSON response to the UI. Waiting for too long here could cause the UI session to time out,
-      // because the poller-induced "heart beat" mechanism would stop. Therefore, if the lock cannot be acquired,
-      // an empty response is sent back to the UI.
-      if (!uiSession.uiSessionLock().tryLock()) {
-        writeJsonResponse(httpServletResponse, m_jsonRequestHelper.createEmptyResponse());
-        return;
-      }
+      handlePollResponse(uiSession, jsonRequest, httpServletRequest, httpServletResponse);
+      return;
     }
-    else {
-      uiSession.uiSessionLock().lock(); // NOSONAR
+
+    // GUI requests for the same session must be processed consecutively, therefore acquire "UI session lock"
+    uiSession.uiSessionLock().lock(); // NOSONAR
+    try {
+      handleEventsOrUiSessionDisposed(httpServletRequest, httpServletResponse, uiSession, jsonRequest);
+    }
+    finally {
+      uiSession.uiSessionLock().unlock();
+    }
+  }
+
+  /**
+   * Sends the response of a poll request, after having waited for background jobs.
+   */
+  protected void handlePollResponse(IUiSession uiSession, JsonRequest jsonRequest, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) throws IOException {
+    // Special case: Poll requests should only *try* to acquire the lock. If the lock is currently acquired
+    // by some other thread, there is no reason to wait for it, because the other thread will already send
+    // the entire JSON response to the UI. Waiting for too long here could cause the UI session to time out,
+    // because the poller-induced "heart beat" mechanism would stop. Therefore, if the lock cannot be acquired,
+    // an empty response is sent back to the UI.
+    if (!uiSession.uiSessionLock().tryLock()) {
+      writeJsonResponse(httpServletResponse, m_jsonRequestHelper.createEmptyResponse());
+      return;
     }
     try {
-      if (uiSession.isDisposed()) {
-        handleUiSessionDisposed(httpServletResponse, uiSession, jsonRequest);
-      }
-      else {
-        handleEvents(httpServletRequest, httpServletResponse, uiSession, jsonRequest);
-      }
+      handleEventsOrUiSessionDisposed(httpServletRequest, httpServletResponse, uiSession, jsonRequest);
     }
     finally {
       uiSession.uiSessionLock().unlock();
     }
   }
 
+  /**
+   * Must be called while holding the UI session lock.
+   */
+  protected void handleEventsOrUiSessionDisposed(HttpServletRequest req, HttpServletResponse resp, IUiSession uiSession, JsonRequest jsonReq) throws IOException {
+    if (uiSession.isDisposed()) {
+      handleUiSessionDisposed(resp, uiSession, jsonReq);
+    }
+    else {
+      handleEvents(req, resp, uiSession, jsonReq);
+    }
+  }
+
   protected void handleEvents(HttpServletRequest req, HttpServletResponse resp, IUiSession uiSession, JsonRequest jsonReq) throws IOException {
     JSONObject jsonResp = uiSession.processJsonRequest(req, resp, jsonReq);
     if (jsonResp == null) {
@@ -264,13 +308,8 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
    * @return <code>true</code> if the request is still valid after polling and response should be sent back to the UI.
    *         <code>false</code> when the polling was interrupted and the processing should be stopped immediately.
    */
-  @SuppressWarnings("UnnecessaryLocalVariable")
   protected boolean handlePollRequest(IUiSession uiSession, JsonRequest jsonRequest) {
-    int curIdle = (int) ((System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L);
-    int maxIdle = m_maxUserIdleTime;
-    // Default don't wait longer than the container timeout for security reasons. However, the minimum is _not_ 0,
-    // because that might trigger many very short polling calls until the ui session is really disposed.
-    int pollWait = Math.max(Math.min(maxIdle - curIdle, m_pollingInterval), 3);
+    int pollWait = getPollWaitSeconds(uiSession);
     LOG.debug("Polling begin for {} seconds", pollWait);
     // Blocks the current thread until:
     // - a model job terminates
@@ -291,6 +330,81 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
     return true;
   }
 
+  /**
+   * @return the number of seconds a poll request waits for background jobs
+   */
+  @SuppressWarnings("UnnecessaryLocalVariable")
+  protected int getPollWaitSeconds(IUiSession uiSession) {
+    int curIdle = (int) ((System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L);
+    int maxIdle = m_maxUserIdleTime;
+    // Default don't wait longer than the container timeout for security reasons. However, the minimum is _not_ 0,
+    // because that might trigger many very short polling calls until the ui session is really disposed.
+    return Math.max(Math.min(maxIdle - curIdle, m_pollingInterval), 3);
+  }
+
+  /**
+   * @return <code>true</code> if poll requests should wait for background jobs asynchronously, see
+   *         {@link AsyncPollingProperty}. Otherwise, they block the current thread.
+   */
+  protected boolean isAsyncPolling(HttpServletRequest req) {
+    return m_asyncPolling && req.isAsyncSupported();
+  }
+
+  /**
+   * Puts the poll request into asynchronous mode and releases the current thread. Once background jobs provided data
+   * for the UI (or the poll wait time elapsed), the response is sent by a job running in a copy of the current
+   * {@link RunContext}. Processing is the same as for blocking poll requests, so sequence numbers and the response
+   * history are maintained as usual.
+   */
+  protected void handleAsyncPollRequest(IUiSession uiSession, JsonRequest jsonRequest, HttpServletRequest req, HttpServletResponse resp) {
+    int pollWait = getPollWaitSeconds(uiSession);
+    LOG.debug("Async polling begin for {} seconds", pollWait);
+    final long startNanos = System.nanoTime();
+    final RunContext runContext = RunContexts.copyCurrent();
+
+    final AsyncContext asyncContext = req.startAsync(req, resp);
+    asyncContext.setTimeout(TimeUnit.SECONDS.toMillis(pollWait + ASYNC_POLLING_TIMEOUT_MARGIN));
+    final P_AsyncPollRequest asyncPollRequest = new P_AsyncPollRequest(asyncContext);
+    asyncContext.addListener(asyncPollRequest);
+
+    uiSession.waitForBackgroundJobsAsync(jsonRequest, pollWait).thenAccept(respond -> {
+      if (!respond) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("Async polling SUPERSEDED after {} ms (ignoring response)", StringUtility.formatNanos(System.nanoTime() - startNanos));
+        }
+        asyncPollRequest.complete();
+        return;
+      }
+      Jobs.schedule(() -> resumeAsyncPollRequest(uiSession, jsonRequest, asyncPollRequest, startNanos), Jobs.newInput()
+          .withName("Resuming poll request [uiSessionId={}]", uiSession.getUiSessionId())
+          .withRunContext(runContext.copy())
+          .withExecutionTrigger(Jobs.newExecutionTrigger()
+              .withStartIn(uiSession.isDisposed() ? 0 : ASYNC_POLLING_DELAY, TimeUnit.MILLISECONDS)));
+    });
+  }
+
+  protected void resumeAsyncPollRequest(IUiSession uiSession, JsonRequest jsonRequest, P_AsyncPollRequest asyncPollRequest, long startNanos) throws IOException {
+    HttpServletResponse resp = asyncPollRequest.getResponse();
+    try {
+      if (asyncPollRequest.isCompleted()) {
+        // Timed out or failed in the container, data remains in the current JSON response for the next poll request
+        LOG.debug("Async polling request already completed by the container (ignoring response)");
+        return;
+      }
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("Async polling end after {} ms", StringUtility.formatNanos(System.nanoTime() - startNanos));
+      }
+      handlePollResponse(uiSession, jsonRequest, asyncPollRequest.getRequest(), resp);
+    }
+    catch (Exception | PlatformError e) {
+      LOG.error("Unexpected error while processing JSON request", e);
+      writeJsonResponse(resp, m_jsonRequestHelper.createUnrecoverableFailureResponse());
+    }
+    finally {
+      asyncPollRequest.complete();
+    }
+  }
+
   protected void handleSessionTimeout(HttpServletResponse resp, JsonRequest jsonReq) throws IOException {
     LOG.info("Request cannot be processed due to UI session timeout [id={}]", jsonReq.getUiSessionId());
     writeJsonResponse(resp, m_jsonRequestHelper.createSessionTimeoutResponse());
@@ -403,4 +517,57 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
   protected void writeJsonResponse(ServletResponse servletResponse, JSONObject jsonObject) throws IOException {
     m_jsonRequestHelper.writeResponse(servletResponse, jsonObject);
   }
+
+  /**
+   * Poll request in asynchronous mode, completed either by the job sending the response or by the container (timeout
+   * or error).
+   */
+  protected static class P_AsyncPollRequest implements AsyncListener {
+    private final AsyncContext m_asyncContext;
+    private final AtomicBoolean m_completed = new AtomicBoolean();
+
+    public P_AsyncPollRequest(AsyncContext asyncContext) {
+      m_asyncContext = asyncContext;
+    }
+
+    public HttpServletRequest getRequest() {
+      return (HttpServletRequest) m_asyncContext.getRequest();
+    }
+
+    public HttpServletResponse getResponse() {
+      return (HttpServletResponse) m_asyncContext.getResponse();
+    }
+
+    public boolean isCompleted() {
+      return m_completed.get();
+    }
+
+    public void complete() {
+      if (m_completed.compareAndSet(false, true)) {
+        m_asyncContext.complete();
+      }
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      m_completed.set(true);
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      LOG.info("Async polling request timed out in the container");
+      complete();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      LOG.debug("Async polling request failed", event.getThrowable());
+      complete();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // nop
+    }
+  }
 }
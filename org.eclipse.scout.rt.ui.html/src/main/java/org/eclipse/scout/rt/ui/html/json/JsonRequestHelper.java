@@ -12,13 +12,19 @@ package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
+import javax.servlet.ServletResponseWrapper;
+import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
@@ -26,6 +32,8 @@ import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption.IRestorer;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletResponseWrapper;
 import org.eclipse.scout.rt.ui.html.UiException;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -41,6 +49,12 @@ public class JsonRequestHelper {
 
   private static final Logger LOG = LoggerFactory.getLogger(JsonRequestHelper.class);
 
+  /**
+   * Size of the buffer in bytes. Responses fitting into the buffer are written at once (with a content length),
+   * larger responses are streamed.
+   */
+  private static final int RESPONSE_BUFFER_SIZE = 32 * 1024;
+
   /**
    * @return {@link JSONObject} to indicate that an unrecoverable failure occurred.
    */
@@ -144,11 +158,11 @@ public class JsonRequestHelper {
 
   /**
    * Writes the given {@link JSONObject} into the given {@link ServletResponse}.
+   * <p>
+   * The JSON is encoded directly into the response, without creating a string of the whole response first. Responses
+   * larger than the response buffer are streamed, and compressed incrementally if the client accepts a gzip encoding.
    */
   public void writeResponse(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
-    String jsonText = jsonResponse.toString();
-    final byte[] data = jsonText.getBytes(StandardCharsets.UTF_8);
-    servletResponse.setContentLength(data.length);
     if (servletResponse.getContentType() == null) {
       servletResponse.setContentType("application/json");
     }
@@ -157,25 +171,29 @@ public class JsonRequestHelper {
     // Clear the current thread's interruption status before writing the response to the output stream.
     // Otherwise, the stream gets silently corrupted, which makes the client to loose the connection.
     IRestorer interruption = ThreadInterruption.clear();
+    final P_JsonResponseOutputStream out = new P_JsonResponseOutputStream(servletResponse);
     try {
-      servletResponse.getOutputStream().write(data);
+      Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+      jsonResponse.write(writer);
+      writer.close();
     }
     catch (final EOFException e) { // NOSONAR
       final StringBuilder sb = new StringBuilder("EOF - Client disconnected, cannot write response");
       if (LOG.isDebugEnabled()) {
-        sb.append(": ").append(jsonText);
+        sb.append(": ").append(jsonResponse);
       }
       else {
-        sb.append(" (").append(data.length).append(" bytes)");
+        sb.append(" (").append(out.getByteCount()).append(" bytes written)");
       }
       LOG.warn(sb.toString());
       return;
     }
     finally {
+      out.release();
       interruption.restore();
     }
     if (LOG.isTraceEnabled()) {
-      LOG.trace("Returned: {}", formatJsonForLogging(jsonText));
+      LOG.trace("Returned: {}", formatJsonForLogging(jsonResponse.toString()));
     }
     else if (LOG.isDebugEnabled()) {
       LOG.debug("Returned: {}", formatJsonResponseForLogging(jsonResponse));
@@ -296,4 +314,139 @@ public class JsonRequestHelper {
     }
     return "[" + CollectionUtility.format(types) + "]";
   }
+
+  /**
+   * Output stream which buffers the response up to {@link #RESPONSE_BUFFER_SIZE} bytes. If the whole response fits into
+   * the buffer, it is written at once with a content length on {@link #close()}, so that a {@link GzipServletFilter}
+   * decides about its compression as usual. Otherwise, the response is streamed and compressed incrementally, if the
+   * {@link GzipServletFilter} is installed for this request and would compress the response (see
+   * {@link GzipServletResponseWrapper#isCompressionEnabled(long)}). The content encoding is set before the servlet
+   * output stream is accessed, so that the filter passes the compressed content through.
+   * <p>
+   * The buffer is reused by subsequent responses written by the same thread.
+   */
+  protected static class P_JsonResponseOutputStream extends OutputStream {
+    private static final ThreadLocal<byte[]> BUFFER = new ThreadLocal<>();
+
+    private final ServletResponse m_response;
+    private byte[] m_buf;
+    private int m_count;
+    private long m_byteCount;
+    private OutputStream m_out;
+
+    public P_JsonResponseOutputStream(ServletResponse response) {
+      m_response = response;
+      m_buf = BUFFER.get();
+      if (m_buf == null) {
+        m_buf = new byte[RESPONSE_BUFFER_SIZE];
+      }
+      else {
+        // not available to other responses written by this thread until released
+        BUFFER.remove();
+      }
+    }
+
+    /**
+     * @return number of uncompressed bytes written so far
+     */
+    public long getByteCount() {
+      return m_byteCount;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      m_byteCount += len;
+      if (m_out == null) {
+        if (m_count + len <= m_buf.length) {
+          System.arraycopy(b, off, m_buf, m_count, len);
+          m_count += len;
+          return;
+        }
+        startStreaming();
+      }
+      m_out.write(b, off, len);
+    }
+
+    protected void startStreaming() throws IOException {
+      GzipServletResponseWrapper gzipResponse = findGzipResponseWrapper();
+      if (gzipResponse != null && gzipResponse.isCompressionEnabled(m_byteCount)) {
+        HttpServletResponse httpResponse = m_response instanceof HttpServletResponse ? (HttpServletResponse) m_response : gzipResponse;
+        httpResponse.setHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+        m_out = new P_GzipOutputStream(m_response.getOutputStream());
+      }
+      else {
+        m_out = m_response.getOutputStream();
+      }
+      m_out.write(m_buf, 0, m_count);
+      m_count = 0;
+    }
+
+    /**
+     * @return the {@link GzipServletResponseWrapper} of the {@link GzipServletFilter} wrapping the response, or
+     *         <code>null</code> if the filter does not compress the response
+     */
+    protected GzipServletResponseWrapper findGzipResponseWrapper() {
+      ServletResponse response = m_response;
+      while (response instanceof ServletResponseWrapper) {
+        if (response instanceof GzipServletResponseWrapper) {
+          return (GzipServletResponseWrapper) response;
+        }
+        response = ((ServletResponseWrapper) response).getResponse();
+      }
+      return null;
+    }
+
+    @Override
+    public void flush() {
+      // nop, the response is flushed by the container (or on close when streaming)
+    }
+
+    /**
+     * Writes the buffered response, or finishes the streamed response. The servlet output stream is not closed.
+     */
+    @Override
+    public void close() throws IOException {
+      if (m_out == null) {
+        m_response.setContentLength(m_count);
+        m_response.getOutputStream().write(m_buf, 0, m_count);
+        return;
+      }
+      if (m_out instanceof P_GzipOutputStream) {
+        ((P_GzipOutputStream) m_out).finish();
+      }
+      m_out.flush();
+    }
+
+    /**
+     * Releases the native resources of the deflater, if any, and returns the buffer for reuse.
+     */
+    public void release() {
+      if (m_out instanceof P_GzipOutputStream) {
+        ((P_GzipOutputStream) m_out).release();
+      }
+      if (m_buf != null) {
+        BUFFER.set(m_buf);
+        m_buf = null;
+      }
+    }
+  }
+
+  /**
+   * {@link GZIPOutputStream} which allows to release its deflater without closing the underlying stream.
+   */
+  protected static class P_GzipOutputStream extends GZIPOutputStream {
+
+    public P_GzipOutputStream(OutputStream out) throws IOException {
+      super(out, RESPONSE_BUFFER_SIZE);
+    }
+
+    public void release() {
+      def.end();
+    }
+  }
 }
@@ -11,6 +11,9 @@
 package org.eclipse.scout.rt.ui.html.res;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.Collections;
 import java.util.List;
 
@@ -24,10 +27,12 @@ import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.server.commons.servlet.UrlHints;
 import org.eclipse.scout.rt.server.commons.servlet.cache.GlobalHttpResourceCache;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpByteRange;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
 import org.eclipse.scout.rt.server.commons.servlet.cache.IHttpResourceCache;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
 import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.UiServlet;
 import org.eclipse.scout.rt.ui.html.res.loader.IResourceLoader;
@@ -80,16 +85,99 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
 
   protected void writeResourceToResponse(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject cachedObject) throws IOException {
     BinaryResource binaryResource = cachedObject.getResource();
-    setHttpResponseHeaders(resp, binaryResource);
+    HttpByteRange range = resolveByteRange(req, cachedObject);
+    if (range != null && !range.isSatisfiable()) {
+      resp.setHeader(HttpByteRange.CONTENT_RANGE, range.toContentRange());
+      resp.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+      return;
+    }
+
+    ByteBuffer content;
+    byte[] gzipContent = cachedObject.getGzipContent();
+    if (range == null && gzipContent != null && acceptsPrecompressedContent(req)) {
+      // set content encoding first, so that the content is not compressed again by the GzipServletFilter
+      resp.setHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+      resp.addHeader("Vary", GzipServletFilter.ACCEPT_ENCODING);
+      setHttpResponseHeaders(resp, binaryResource);
+      content = ByteBuffer.wrap(gzipContent);
+    }
+    else {
+      setHttpResponseHeaders(resp, binaryResource);
+      content = cachedObject.getContentBuffer();
+      if (range != null) {
+        resp.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        resp.setHeader(HttpByteRange.CONTENT_RANGE, range.toContentRange());
+        content.position((int) range.getFirst());
+        content.limit((int) range.getLast() + 1);
+      }
+    }
+    resp.setHeader(HttpByteRange.ACCEPT_RANGES, HttpByteRange.BYTES);
+    resp.setContentLength(content.remaining());
 
     // Apply response interceptors
     cachedObject.applyHttpResponseInterceptors(req, resp);
 
     if (!"HEAD".equals(req.getMethod())) {
-      resp.getOutputStream().write(binaryResource.getContent());
+      writeContent(resp, content);
+    }
+  }
+
+  /**
+   * Writes the remaining bytes of the given buffer to the response. Buffers not residing on the heap (e.g. memory-mapped
+   * files) are transferred through a channel without being copied into a byte array first.
+   */
+  protected void writeContent(HttpServletResponse resp, ByteBuffer content) throws IOException {
+    if (content.hasArray()) {
+      resp.getOutputStream().write(content.array(), content.arrayOffset() + content.position(), content.remaining());
+      return;
+    }
+    WritableByteChannel channel = Channels.newChannel(resp.getOutputStream());
+    while (content.hasRemaining()) {
+      channel.write(content);
+    }
+  }
+
+  /**
+   * @return the byte range requested by the client, or <code>null</code> if the whole content is to be sent
+   */
+  protected HttpByteRange resolveByteRange(HttpServletRequest req, HttpCacheObject cachedObject) {
+    String rangeHeader = req.getHeader(HttpByteRange.RANGE);
+    if (rangeHeader == null || !"GET".equals(req.getMethod())) {
+      return null;
+    }
+    // If-Range: the range is only sent if the resource did not change, otherwise the whole resource is sent
+    String ifRange = req.getHeader(HttpByteRange.IF_RANGE);
+    if (ifRange != null && !isIfRangeMatching(req, ifRange, cachedObject)) {
+      return null;
+    }
+    return HttpByteRange.parse(rangeHeader, cachedObject.getContentLength());
+  }
+
+  protected boolean isIfRangeMatching(HttpServletRequest req, String ifRange, HttpCacheObject cachedObject) {
+    if (ifRange.startsWith("W/") || ifRange.startsWith("\"")) {
+      // entity tag: requires a strong comparison, which never matches the weak ETags created by HttpCacheObject
+      String etag = cachedObject.createETag();
+      return etag != null && !etag.startsWith("W/") && etag.equals(ifRange);
+    }
+    long lastModified = cachedObject.getResource().getLastModified();
+    try {
+      long ifRangeDate = req.getDateHeader(HttpByteRange.IF_RANGE);
+      // HTTP dates have a precision of seconds
+      return lastModified > 0 && ifRangeDate >= 0 && lastModified / 1000 == ifRangeDate / 1000;
+    }
+    catch (IllegalArgumentException e) { // NOSONAR
+      return false;
     }
   }
 
+  /**
+   * @return <code>true</code> if the precompressed variant of a cached resource may be sent to the client
+   */
+  protected boolean acceptsPrecompressedContent(HttpServletRequest req) {
+    String acceptEncoding = req.getHeader(GzipServletFilter.ACCEPT_ENCODING);
+    return acceptEncoding != null && acceptEncoding.contains(GzipServletFilter.GZIP) && UrlHints.isCompressHint(req);
+  }
+
   /**
    * Clear global cache (only allowed in development mode). This allows to work with ?cache=true and clears the cache
    * only when required --> rebuilds script/less files.
@@ -155,8 +243,10 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
    * Sets HTTP response header fields: content-length, content-type (incl. optional charset).
    */
   protected void setHttpResponseHeaders(HttpServletResponse resp, BinaryResource resource) {
-    // content-length
-    resp.setContentLength(resource.getContentLength());
+    // content-length (resources whose content is not held on the heap have no content)
+    if (resource.getContentLength() >= 0) {
+      resp.setContentLength(resource.getContentLength());
+    }
 
     // charset
     String charset = resource.getCharset();
@@ -11,30 +11,73 @@
 package org.eclipse.scout.rt.ui.html.res.loader;
 
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.resource.BinaryResources;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.ImmutablePair;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.cache.MappedFileHttpCacheObject;
 import org.eclipse.scout.rt.shared.ui.webresource.WebResourceDescriptor;
 import org.eclipse.scout.rt.shared.ui.webresource.WebResources;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.MappedResourceMinSizeProperty;
 
+/**
+ * Loads web resources (scripts, stylesheets, images, fonts etc.).
+ * <p>
+ * Large web resources located in the file system are served from memory-mapped files (see
+ * {@link MappedResourceMinSizeProperty} and {@link MappedFileHttpCacheObject}), so that they do not occupy the heap.
+ */
 public class WebResourceLoader extends AbstractResourceLoader {
 
   private final boolean m_minify;
   private final boolean m_cacheEnabled;
   private final String m_theme;
+  private final long m_mappedResourceMinSize;
 
   public WebResourceLoader(boolean minify, boolean cacheEnabled, String theme) {
     m_minify = minify;
     m_cacheEnabled = cacheEnabled;
     m_theme = theme;
+    // files may be changed during development, which must not happen while they are mapped
+    m_mappedResourceMinSize = Platform.get().inDevelopmentMode() ? 0L : CONFIG.getPropertyValue(MappedResourceMinSizeProperty.class);
+  }
+
+  @Override
+  public HttpCacheObject loadResource(HttpCacheKey cacheKey) throws IOException {
+    String pathInfo = cacheKey.getResourcePath();
+    Optional<ImmutablePair<WebResourceDescriptor, Integer>> res = lookupResource(pathInfo);
+    if (!res.isPresent()) {
+      return null;
+    }
+    Path file = toMappableFile(res.get().getLeft().getUrl());
+    if (file == null) {
+      BinaryResource content = toBinaryResources(res.get())
+          .withFilename(pathInfo)
+          .build();
+      return new HttpCacheObject(cacheKey, content);
+    }
+    BinaryResource metaData = BinaryResources.create()
+        .withFilename(pathInfo)
+        .withCharset(StandardCharsets.UTF_8)
+        .withLastModified(Files.getLastModifiedTime(file).toMillis())
+        .withCachingAllowed(m_cacheEnabled)
+        .withCacheMaxAge(res.get().getRight())
+        .build();
+    return new MappedFileHttpCacheObject(cacheKey, metaData, file);
   }
 
   @Override
@@ -61,6 +104,23 @@ public class WebResourceLoader extends AbstractResourceLoader {
             .map(descriptor -> new ImmutablePair<>(descriptor, HttpCacheControl.MAX_AGE_4_HOURS)));
   }
 
+  /**
+   * @return the file of the given resource URL if it is to be served memory-mapped, <code>null</code> otherwise
+   */
+  protected Path toMappableFile(URL url) {
+    if (m_mappedResourceMinSize <= 0 || !"file".equals(url.getProtocol())) {
+      return null;
+    }
+    try {
+      Path file = Paths.get(url.toURI());
+      long size = Files.size(file);
+      return size >= m_mappedResourceMinSize && size <= Integer.MAX_VALUE ? file : null;
+    }
+    catch (URISyntaxException | IOException | IllegalArgumentException e) { // NOSONAR
+      return null;
+    }
+  }
+
   protected BinaryResources toBinaryResources(ImmutablePair<WebResourceDescriptor, Integer> res) {
     URL url = res.getLeft().getUrl();
     try {